@@ -366,6 +366,20 @@ public class AtomixClusterBuilder implements Builder<AtomixCluster> {
     return this;
   }
 
+  /**
+   * Enables or disables flush consolidation on messaging connections.
+   *
+   * <p>When enabled, messages written to a connection within the same event loop iteration are
+   * flushed to the socket together instead of one by one.
+   *
+   * @param flushConsolidationEnabled true to enable flush consolidation
+   * @return the cluster builder
+   */
+  public AtomixClusterBuilder withFlushConsolidation(final boolean flushConsolidationEnabled) {
+    config.getMessagingConfig().setFlushConsolidationEnabled(flushConsolidationEnabled);
+    return this;
+  }
+
   /**
    * Sets the reachability broadcast interval.
    *
@@ -27,6 +27,7 @@ public class MessagingConfig implements Config {
   private Integer port;
   private int connectionPoolSize = 8;
   private Duration connectTimeout = Duration.ofSeconds(10);
+  private boolean flushConsolidationEnabled = false;
 
   /**
    * Returns the local interfaces to which to bind the node.
@@ -107,4 +108,27 @@ public class MessagingConfig implements Config {
     this.connectTimeout = connectTimeout;
     return this;
   }
+
+  /**
+   * Returns whether writes on a connection are consolidated into a single flush per event loop
+   * iteration.
+   *
+   * @return true if flush consolidation is enabled, false otherwise
+   */
+  public boolean isFlushConsolidationEnabled() {
+    return flushConsolidationEnabled;
+  }
+
+  /**
+   * Sets whether writes on a connection are consolidated into a single flush per event loop
+   * iteration. When enabled, messages written during the same event loop iteration are flushed
+   * together, trading a small amount of latency for fewer syscalls under high fan-out.
+   *
+   * @param flushConsolidationEnabled true to enable flush consolidation
+   * @return the messaging configuration
+   */
+  public MessagingConfig setFlushConsolidationEnabled(final boolean flushConsolidationEnabled) {
+    this.flushConsolidationEnabled = flushConsolidationEnabled;
+    return this;
+  }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+
+/**
+ * Writes protocol messages to a Netty channel.
+ *
+ * <p>If flush consolidation is enabled, messages are written to the channel without flushing and a
+ * single flush is scheduled on the channel's event loop. All messages written before that flush
+ * task runs are flushed to the socket together, such that the number of syscalls grows with the
+ * number of event loop iterations instead of the number of messages. Since only complete protocol
+ * messages are written, a flush never splits a message frame. To bound the latency of a single
+ * message under constant load, the channel is flushed eagerly once {@link #MAX_PENDING_MESSAGES}
+ * messages are pending.
+ */
+final class ChannelWriter {
+
+  static final int MAX_PENDING_MESSAGES = 256;
+
+  private final Channel channel;
+  private final EventLoop eventLoop;
+  private final boolean consolidateFlushes;
+  private final MessagingMetrics metrics;
+
+  // only accessed from the channel's event loop
+  private int pendingMessages;
+  private boolean flushScheduled;
+
+  ChannelWriter(
+      final Channel channel, final boolean consolidateFlushes, final MessagingMetrics metrics) {
+    this.channel = channel;
+    this.consolidateFlushes = consolidateFlushes;
+    this.metrics = metrics;
+    eventLoop = channel.eventLoop();
+  }
+
+  /**
+   * Writes the given message to the channel.
+   *
+   * @param message the message to write
+   * @return a future which is completed once the message was written to the socket
+   */
+  ChannelFuture write(final ProtocolMessage message) {
+    final ChannelPromise promise = channel.newPromise();
+    write(message, promise);
+    return promise;
+  }
+
+  /**
+   * Writes the given message to the channel and notifies the given promise.
+   *
+   * @param message the message to write
+   * @param promise the promise to notify once the message was written to the socket
+   */
+  void write(final ProtocolMessage message, final ChannelPromise promise) {
+    if (!consolidateFlushes) {
+      channel.writeAndFlush(message, promise);
+    } else if (eventLoop.inEventLoop()) {
+      writeAndScheduleFlush(message, promise);
+    } else {
+      eventLoop.execute(() -> writeAndScheduleFlush(message, promise));
+    }
+  }
+
+  private void writeAndScheduleFlush(final ProtocolMessage message, final ChannelPromise promise) {
+    channel.write(message, promise);
+    pendingMessages++;
+
+    if (pendingMessages >= MAX_PENDING_MESSAGES) {
+      flush();
+    } else if (!flushScheduled) {
+      flushScheduled = true;
+      eventLoop.execute(this::flushScheduled);
+    }
+  }
+
+  private void flushScheduled() {
+    flushScheduled = false;
+    if (pendingMessages > 0) {
+      flush();
+    }
+  }
+
+  private void flush() {
+    metrics.observeMessagesPerFlush(pendingMessages);
+    pendingMessages = 0;
+    channel.flush();
+  }
+}
@@ -86,6 +86,7 @@ public class NettyMessagingService implements ManagedMessagingService {
   private final Map<Channel, RemoteClientConnection> connections = Maps.newConcurrentMap();
   private final AtomicLong messageIdGenerator = new AtomicLong(0);
   private final ChannelPool channelPool;
+  private final MessagingMetrics metrics = new MessagingMetrics();
   private EventLoopGroup serverGroup;
   private EventLoopGroup clientGroup;
   private Class<? extends ServerChannel> serverChannelClass;
@@ -476,7 +477,8 @@ public class NettyMessagingService implements ManagedMessagingService {
     RemoteClientConnection connection = connections.get(channel);
     if (connection == null) {
       connection =
-          connections.computeIfAbsent(channel, c -> new RemoteClientConnection(timeoutExecutor, c));
+          connections.computeIfAbsent(
+              channel, c -> new RemoteClientConnection(timeoutExecutor, newChannelWriter(c)));
       channel
           .closeFuture()
           .addListener(
@@ -490,6 +492,10 @@ public class NettyMessagingService implements ManagedMessagingService {
     return connection;
   }
 
+  private ChannelWriter newChannelWriter(final Channel channel) {
+    return new ChannelWriter(channel, config.isFlushConsolidationEnabled(), metrics);
+  }
+
   /**
    * Opens a new Netty channel to the given address.
    *
@@ -782,7 +788,8 @@ public class NettyMessagingService implements ManagedMessagingService {
                 writeProtocolVersion(context, protocolVersion);
                 activateProtocolVersion(
                     context,
-                    new RemoteServerConnection(handlers, context.channel()),
+                    new RemoteServerConnection(
+                        handlers, context.channel(), newChannelWriter(context.channel())),
                     protocolVersion);
               });
     }
@@ -16,25 +16,25 @@
  */
 package io.atomix.cluster.messaging.impl;
 
-import io.netty.channel.Channel;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ScheduledExecutorService;
 
 /** Client-side Netty remote connection. */
 final class RemoteClientConnection extends AbstractClientConnection {
-  private final Channel channel;
+  private final ChannelWriter writer;
 
-  RemoteClientConnection(final ScheduledExecutorService executorService, final Channel channel) {
+  RemoteClientConnection(
+      final ScheduledExecutorService executorService, final ChannelWriter writer) {
     super(executorService);
-    this.channel = channel;
+    this.writer = writer;
   }
 
   @Override
   public CompletableFuture<Void> sendAsync(final ProtocolRequest message) {
     final CompletableFuture<Void> future = new CompletableFuture<>();
-    channel
-        .writeAndFlush(message)
+    writer
+        .write(message)
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
@@ -51,8 +51,8 @@ final class RemoteClientConnection extends AbstractClientConnection {
       final ProtocolRequest message, final Duration timeout) {
     final CompletableFuture<byte[]> future = new CompletableFuture<>();
     final Callback callback = new Callback(message.id(), message.subject(), timeout, future);
-    channel
-        .writeAndFlush(message)
+    writer
+        .write(message)
         .addListener(
             channelFuture -> {
               if (!channelFuture.isSuccess()) {
@@ -24,10 +24,13 @@ final class RemoteServerConnection extends AbstractServerConnection {
   private static final byte[] EMPTY_PAYLOAD = new byte[0];
 
   private final Channel channel;
+  private final ChannelWriter writer;
 
-  RemoteServerConnection(final HandlerRegistry handlers, final Channel channel) {
+  RemoteServerConnection(
+      final HandlerRegistry handlers, final Channel channel, final ChannelWriter writer) {
     super(handlers);
     this.channel = channel;
+    this.writer = writer;
   }
 
   @Override
@@ -37,6 +40,6 @@ final class RemoteServerConnection extends AbstractServerConnection {
       final Optional<byte[]> payload) {
     final ProtocolReply response =
         new ProtocolReply(message.id(), payload.orElse(EMPTY_PAYLOAD), status);
-    channel.writeAndFlush(response, channel.voidPromise());
+    writer.write(response, channel.voidPromise());
   }
 }
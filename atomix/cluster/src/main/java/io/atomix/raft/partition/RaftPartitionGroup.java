@@ -469,6 +469,31 @@ public class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Set the maximum rate (in bytes per second) at which compacted segments are deleted
+     *
+     * @param segmentDeletionRate the maximum rate in bytes per second, or 0 for no limit
+     * @return the Raft partition group builder
+     */
+    public Builder withSegmentDeletionRate(final long segmentDeletionRate) {
+      config.getStorageConfig().setSegmentDeletionRate(segmentDeletionRate);
+      return this;
+    }
+
+    /**
+     * Sets the path to the directory to which sealed and committed log segments are moved. Each
+     * partition uses its own sub directory, as in the data directory.
+     *
+     * @param coldDir the path to the cold storage directory, or null to not move segments
+     * @return the Raft partition group builder
+     */
+    public Builder withColdDirectory(final File coldDir) {
+      config
+          .getStorageConfig()
+          .setColdDirectory(coldDir != null ? coldDir.getAbsolutePath() : null);
+      return this;
+    }
+
     /**
      * Sets whether to flush logs to disk on commit.
      *
@@ -42,6 +42,8 @@ public class RaftStorageConfig {
   private long segmentSize = DEFAULT_MAX_SEGMENT_SIZE;
   private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
+  private long segmentDeletionRate = 0;
+  private String coldDirectory;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory =
@@ -192,4 +194,45 @@ public class RaftStorageConfig {
     this.freeDiskSpace = freeDiskSpace;
     return this;
   }
+
+  /**
+   * Returns the maximum rate at which compacted segments are deleted in the background
+   *
+   * @return the maximum rate in bytes per second, or 0 if it is not limited
+   */
+  public long getSegmentDeletionRate() {
+    return segmentDeletionRate;
+  }
+
+  /**
+   * Sets the maximum rate at which compacted segments are deleted in the background
+   *
+   * @param segmentDeletionRate the maximum rate in bytes per second, or 0 for no limit
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setSegmentDeletionRate(final long segmentDeletionRate) {
+    this.segmentDeletionRate = segmentDeletionRate;
+    return this;
+  }
+
+  /**
+   * Returns the directory to which sealed and committed log segments are moved
+   *
+   * @return the cold storage directory, or null if segments are not moved
+   */
+  public String getColdDirectory() {
+    return coldDirectory;
+  }
+
+  /**
+   * Sets the directory to which sealed and committed log segments are moved
+   *
+   * @param coldDirectory the cold storage directory, or null to keep all segments in the data
+   *     directory
+   * @return the Raft storage configuration
+   */
+  public RaftStorageConfig setColdDirectory(final String coldDirectory) {
+    this.coldDirectory = coldDirectory;
+    return this;
+  }
 }
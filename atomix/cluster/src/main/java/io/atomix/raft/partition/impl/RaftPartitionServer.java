@@ -42,6 +42,7 @@ import io.atomix.utils.logging.LoggerContext;
 import io.atomix.utils.serializer.Serializer;
 import io.zeebe.snapshots.raft.PersistedSnapshotStore;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
+import java.io.File;
 import java.io.IOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -203,6 +204,10 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
     server.getContext().getLogCompactor().setCompactableIndex(index);
   }
 
+  public void setOffloadBound(final long index) {
+    server.getContext().getLog().setOffloadBound(index);
+  }
+
   public RaftLogReader openReader(final long index, final Mode mode) {
     return server.getContext().getLog().openReader(index, mode);
   }
@@ -248,9 +253,18 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
 
   /** Deletes the server. */
   public void delete() {
+    deleteDirectory(partition.dataDirectory());
+
+    final File coldDirectory = getColdDirectory(config.getStorageConfig());
+    if (coldDirectory != null && coldDirectory.exists()) {
+      deleteDirectory(coldDirectory);
+    }
+  }
+
+  private void deleteDirectory(final File directory) {
     try {
       Files.walkFileTree(
-          partition.dataDirectory().toPath(),
+          directory.toPath(),
           new SimpleFileVisitor<Path>() {
             @Override
             public FileVisitResult visitFile(final Path file, final BasicFileAttributes attrs)
@@ -314,12 +328,23 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer> {
         .withMaxEntrySize((int) storageConfig.getMaxEntrySize().bytes())
         .withFlushExplicitly(storageConfig.shouldFlushExplicitly())
         .withFreeDiskSpace(storageConfig.getFreeDiskSpace())
+        .withSegmentDeletionRate(storageConfig.getSegmentDeletionRate())
+        .withColdDirectory(getColdDirectory(storageConfig))
         .withNamespace(RaftNamespaces.RAFT_STORAGE)
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexFactory(journalIndexFactory)
         .build();
   }
 
+  private File getColdDirectory(final RaftStorageConfig storageConfig) {
+    if (storageConfig.getColdDirectory() == null) {
+      return null;
+    }
+
+    final File partitionsDirectory = new File(storageConfig.getColdDirectory(), "partitions");
+    return new File(partitionsDirectory, String.valueOf(partition.id().id()));
+  }
+
   private RaftServerCommunicator createServerProtocol() {
     return new RaftServerCommunicator(
         partition.name(), Serializer.using(RaftNamespaces.RAFT_PROTOCOL), clusterCommunicator);
@@ -68,6 +68,8 @@ public final class RaftStorage {
   private final int maxEntrySize;
   private final int maxEntriesPerSegment;
   private final long freeDiskSpace;
+  private final long segmentDeletionRate;
+  private final File coldDirectory;
   private final boolean flushExplicitly;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
@@ -83,6 +85,8 @@ public final class RaftStorage {
       final int maxEntrySize,
       final int maxEntriesPerSegment,
       final long freeDiskSpace,
+      final long segmentDeletionRate,
+      final File coldDirectory,
       final boolean flushExplicitly,
       final boolean retainStaleSnapshots,
       final StorageStatistics storageStatistics,
@@ -96,6 +100,8 @@ public final class RaftStorage {
     this.maxEntrySize = maxEntrySize;
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.freeDiskSpace = freeDiskSpace;
+    this.segmentDeletionRate = segmentDeletionRate;
+    this.coldDirectory = coldDirectory;
     this.flushExplicitly = flushExplicitly;
     this.retainStaleSnapshots = retainStaleSnapshots;
     statistics = storageStatistics;
@@ -178,6 +184,24 @@ public final class RaftStorage {
     return freeDiskSpace;
   }
 
+  /**
+   * Returns the maximum rate at which compacted segments are deleted in the background.
+   *
+   * @return the maximum rate in bytes per second, or 0 if it is not limited
+   */
+  public long segmentDeletionRate() {
+    return segmentDeletionRate;
+  }
+
+  /**
+   * Returns the directory to which sealed and committed log segments are moved in the background.
+   *
+   * @return the cold storage directory, or null if segments are not moved
+   */
+  public File coldDirectory() {
+    return coldDirectory;
+  }
+
   /**
    * Returns the Raft storage statistics.
    *
@@ -219,6 +243,11 @@ public final class RaftStorage {
 
   /** Deletes file in the storage directory that match the given predicate. */
   private void deleteFiles(final Predicate<File> predicate) {
+    deleteFiles(directory, predicate);
+  }
+
+  /** Deletes file in the given directory that match the given predicate. */
+  private void deleteFiles(final File directory, final Predicate<File> predicate) {
     directory.mkdirs();
 
     // Iterate through all files in the storage directory.
@@ -294,6 +323,8 @@ public final class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntrySize(maxEntrySize)
         .withFreeDiskSpace(freeDiskSpace)
+        .withSegmentDeletionRate(segmentDeletionRate)
+        .withColdDirectory(coldDirectory)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
         .withFlushExplicitly(flushExplicitly)
         .withJournalIndexFactory(journalIndexFactory)
@@ -309,6 +340,9 @@ public final class RaftStorage {
    */
   public void deleteLog() {
     deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    if (coldDirectory != null) {
+      deleteFiles(coldDirectory, f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    }
   }
 
   @Override
@@ -389,6 +423,8 @@ public final class RaftStorage {
     private int maxEntrySize = DEFAULT_MAX_ENTRY_SIZE;
     private int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
+    private long segmentDeletionRate = 0;
+    private File coldDirectory;
     private boolean flushExplicitly = DEFAULT_FLUSH_EXPLICITLY;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
     private StorageStatistics storageStatistics;
@@ -540,6 +576,33 @@ public final class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the maximum rate at which compacted segments are deleted in the background, such that
+     * deleting many segments at once does not saturate the disk.
+     *
+     * @param segmentDeletionRate the maximum rate in bytes per second, or 0 for no limit
+     * @return the Raft log builder
+     */
+    public Builder withSegmentDeletionRate(final long segmentDeletionRate) {
+      checkArgument(segmentDeletionRate >= 0, "segmentDeletionRate must not be negative");
+      this.segmentDeletionRate = segmentDeletionRate;
+      return this;
+    }
+
+    /**
+     * Sets the directory to which sealed and committed log segments are moved in the background,
+     * such that they can be kept on cheaper storage until they are compacted. The most recent
+     * sealed segment is always kept in the storage directory.
+     *
+     * @param coldDirectory the cold storage directory, or null to keep all segments in the storage
+     *     directory
+     * @return the Raft log builder
+     */
+    public Builder withColdDirectory(final File coldDirectory) {
+      this.coldDirectory = coldDirectory;
+      return this;
+    }
+
     /**
      * Sets whether to flush logs to disk to guarantee correctness. If true, followers will flush on
      * every append, and the leader will flush on commit.
@@ -623,6 +686,8 @@ public final class RaftStorage {
           maxEntrySize,
           maxEntriesPerSegment,
           freeDiskSpace,
+          segmentDeletionRate,
+          coldDirectory,
           flushExplicitly,
           retainStaleSnapshots,
           Optional.ofNullable(storageStatistics).orElse(new StorageStatistics(directory)),
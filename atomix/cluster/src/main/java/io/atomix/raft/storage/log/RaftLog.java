@@ -98,6 +98,16 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
     journal.compact(index);
   }
 
+  /**
+   * Sets the index below which segments may be moved to the cold storage directory, if one is
+   * configured.
+   *
+   * @param index the index below which entries may be offloaded
+   */
+  public void setOffloadBound(final long index) {
+    journal.setOffloadBound(index);
+  }
+
   /**
    * Returns the Raft log commit index.
    *
@@ -235,6 +245,30 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Sets the maximum rate at which compacted segments are deleted in the background.
+     *
+     * @param segmentDeletionRate the maximum rate in bytes per second, or 0 for no limit
+     * @return The storage builder.
+     * @throws IllegalArgumentException if the {@code segmentDeletionRate} is negative
+     */
+    public Builder withSegmentDeletionRate(final long segmentDeletionRate) {
+      journalBuilder.withSegmentDeletionRate(segmentDeletionRate);
+      return this;
+    }
+
+    /**
+     * Sets the directory to which sealed and committed segments are moved in the background.
+     *
+     * @param coldDirectory the cold storage directory, or null to keep all segments in the log
+     *     directory
+     * @return The storage builder.
+     */
+    public Builder withColdDirectory(final File coldDirectory) {
+      journalBuilder.withColdDirectory(coldDirectory);
+      return this;
+    }
+
     /**
      * Sets the maximum number of allows entries per segment, returning the builder for method
      * chaining.
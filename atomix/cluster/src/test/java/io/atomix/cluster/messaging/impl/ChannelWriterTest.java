@@ -0,0 +1,111 @@
+/*
+ * Copyright © 2020 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.cluster.messaging.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.net.Address;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ChannelWriterTest {
+
+  private static final Address ADDRESS = Address.from("localhost", 26502);
+
+  private EmbeddedChannel channel;
+
+  @Before
+  public void setUp() {
+    channel = new EmbeddedChannel();
+  }
+
+  @After
+  public void tearDown() {
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void shouldFlushEveryMessageIfConsolidationIsDisabled() {
+    // given
+    final ChannelWriter writer = new ChannelWriter(channel, false, new MessagingMetrics());
+
+    // when
+    final ChannelFuture future = writer.write(newRequest(1));
+
+    // then
+    assertThat(future.isSuccess()).isTrue();
+    assertThat(channel.outboundMessages()).hasSize(1);
+  }
+
+  @Test
+  public void shouldConsolidateWritesIntoSingleFlush() {
+    // given
+    final ChannelWriter writer = new ChannelWriter(channel, true, new MessagingMetrics());
+
+    // when
+    final ChannelFuture first = writer.write(newRequest(1));
+    final ChannelFuture second = writer.write(newRequest(2));
+    final ChannelFuture third = writer.write(newRequest(3));
+
+    // then
+    assertThat(channel.outboundMessages()).isEmpty();
+    assertThat(first.isDone()).isFalse();
+
+    channel.runPendingTasks();
+    assertThat(channel.outboundMessages())
+        .extracting(message -> ((ProtocolRequest) message).id())
+        .containsExactly(1L, 2L, 3L);
+    assertThat(first.isSuccess()).isTrue();
+    assertThat(second.isSuccess()).isTrue();
+    assertThat(third.isSuccess()).isTrue();
+  }
+
+  @Test
+  public void shouldFlushEagerlyWhenTooManyMessagesArePending() {
+    // given
+    final ChannelWriter writer = new ChannelWriter(channel, true, new MessagingMetrics());
+
+    // when
+    for (int i = 0; i < ChannelWriter.MAX_PENDING_MESSAGES; i++) {
+      writer.write(newRequest(i));
+    }
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(ChannelWriter.MAX_PENDING_MESSAGES);
+  }
+
+  @Test
+  public void shouldScheduleNewFlushAfterPreviousFlush() {
+    // given
+    final ChannelWriter writer = new ChannelWriter(channel, true, new MessagingMetrics());
+    writer.write(newRequest(1));
+    channel.runPendingTasks();
+
+    // when
+    writer.write(newRequest(2));
+    channel.runPendingTasks();
+
+    // then
+    assertThat(channel.outboundMessages()).hasSize(2);
+  }
+
+  private ProtocolRequest newRequest(final long id) {
+    return new ProtocolRequest(id, ADDRESS, "subject", new byte[0]);
+  }
+}
@@ -32,8 +32,11 @@ import io.atomix.cluster.messaging.MessagingConfig;
 import io.atomix.utils.net.Address;
 import io.zeebe.test.util.socket.SocketUtil;
 import java.net.ConnectException;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -424,4 +427,40 @@ public class NettyMessagingServiceTest {
     response = nettyv12.sendAndReceive(addressv22, subject, payload).get(10, TimeUnit.SECONDS);
     assertArrayEquals(payload, response);
   }
+
+  @Test
+  public void shouldSendAndReceiveWithFlushConsolidation() throws Exception {
+    // given
+    final Address clientAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    final Address serverAddress = Address.from(SocketUtil.getNextAddress().getPort());
+    final MessagingConfig config = new MessagingConfig().setFlushConsolidationEnabled(true);
+    final ManagedMessagingService client =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", clientAddress, config).start().join();
+    final ManagedMessagingService server =
+        (ManagedMessagingService)
+            new NettyMessagingService("test", serverAddress, config).start().join();
+    final String subject = nextSubject();
+    server.registerHandler(subject, (address, bytes) -> CompletableFuture.completedFuture(bytes));
+
+    try {
+      // when
+      final List<CompletableFuture<byte[]>> responses = new ArrayList<>();
+      for (int i = 0; i < 1_000; i++) {
+        responses.add(client.sendAndReceive(serverAddress, subject, intToBytes(i)));
+      }
+
+      // then
+      for (int i = 0; i < responses.size(); i++) {
+        assertArrayEquals(intToBytes(i), responses.get(i).get(10, TimeUnit.SECONDS));
+      }
+    } finally {
+      client.stop().join();
+      server.stop().join();
+    }
+  }
+
+  private static byte[] intToBytes(final int value) {
+    return ByteBuffer.allocate(Integer.BYTES).putInt(value).array();
+  }
 }
@@ -41,7 +41,7 @@ public class JournalSegment<E> implements AutoCloseable {
   private final int maxEntrySize;
   private final JournalIndex index;
   private final Namespace namespace;
-  private final JournalWriter<E> writer;
+  private volatile JournalWriter<E> writer;
   private final Set<JournalReader<E>> readers = Sets.newConcurrentHashSet();
   private boolean open = true;
 
@@ -52,13 +52,31 @@ public class JournalSegment<E> implements AutoCloseable {
       final int maxEntrySize,
       final Namespace namespace,
       final JournalIndex journalIndex) {
+    this(file, descriptor, storageLevel, maxEntrySize, namespace, journalIndex, false);
+  }
+
+  /**
+   * Creates a segment which, if {@code lazy} is set, only opens its writer on first access. Opening
+   * the writer scans the whole segment to rebuild its index, which can be skipped for segments
+   * that are rarely read.
+   */
+  JournalSegment(
+      final JournalSegmentFile file,
+      final JournalSegmentDescriptor descriptor,
+      final StorageLevel storageLevel,
+      final int maxEntrySize,
+      final Namespace namespace,
+      final JournalIndex journalIndex,
+      final boolean lazy) {
     this.file = file;
     this.descriptor = descriptor;
     this.storageLevel = storageLevel;
     this.maxEntrySize = maxEntrySize;
     index = journalIndex;
     this.namespace = namespace;
-    writer = createWriter(file, storageLevel, maxEntrySize, namespace);
+    if (!lazy) {
+      writer = createWriter(file, storageLevel, maxEntrySize, namespace);
+    }
   }
 
   /**
@@ -94,7 +112,7 @@ public class JournalSegment<E> implements AutoCloseable {
    * @return The last index in the segment.
    */
   public long lastIndex() {
-    return writer.getLastIndex();
+    return getOrCreateWriter().getLastIndex();
   }
 
   /**
@@ -130,7 +148,7 @@ public class JournalSegment<E> implements AutoCloseable {
    * @return The segment length.
    */
   public long length() {
-    return writer.getNextIndex() - index();
+    return getOrCreateWriter().getNextIndex() - index();
   }
 
   /**
@@ -140,7 +158,7 @@ public class JournalSegment<E> implements AutoCloseable {
    */
   public JournalWriter<E> writer() {
     checkOpen();
-    return writer;
+    return getOrCreateWriter();
   }
 
   /**
@@ -160,6 +178,20 @@ public class JournalSegment<E> implements AutoCloseable {
     return reader;
   }
 
+  private JournalWriter<E> getOrCreateWriter() {
+    JournalWriter<E> currentWriter = writer;
+    if (currentWriter == null) {
+      synchronized (this) {
+        currentWriter = writer;
+        if (currentWriter == null) {
+          currentWriter = createWriter(file, storageLevel, maxEntrySize, namespace);
+          writer = currentWriter;
+        }
+      }
+    }
+    return currentWriter;
+  }
+
   private JournalWriter<E> createWriter(
       final JournalSegmentFile file,
       final StorageLevel storageLevel,
@@ -181,6 +213,15 @@ public class JournalSegment<E> implements AutoCloseable {
     readers.remove(reader);
   }
 
+  /**
+   * Returns a boolean indicating whether the segment has open readers.
+   *
+   * @return indicates whether the segment has open readers
+   */
+  boolean hasReaders() {
+    return !readers.isEmpty();
+  }
+
   /** Checks whether the segment is open. */
   private void checkOpen() {
     checkState(open, "Segment not open");
@@ -198,7 +239,10 @@ public class JournalSegment<E> implements AutoCloseable {
   /** Closes the segment. */
   @Override
   public void close() {
-    writer.close();
+    final JournalWriter<E> currentWriter = writer;
+    if (currentWriter != null) {
+      currentWriter.close();
+    }
     readers.forEach(JournalReader::close);
     open = false;
   }
@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.storage.journal;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+import io.atomix.storage.statistics.JournalMetrics;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Closes and deletes compacted segments in the background, such that the compacting thread is not
+ * blocked by unmapping and unlinking possibly large segment files. The deletions can be rate
+ * limited to spread the I/O load.
+ *
+ * <p>A segment file is renamed before its deletion is queued, such that a new segment with the same
+ * id can be created right away. Renamed files which were not deleted before the journal was closed
+ * are cleaned up via {@link #deleteLeftovers(String, File)} when the journal is opened again.
+ */
+final class JournalSegmentDeleter implements AutoCloseable {
+  private static final String DELETED_SUFFIX = ".deleted";
+  private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final String name;
+  private final long bytesPerSecond;
+  private final JournalMetrics journalMetrics;
+  private final Map<JournalSegment<?>, Path> pendingDeletions = new LinkedHashMap<>();
+
+  private ScheduledExecutorService executor;
+  private long nextDeletionNanos;
+  private boolean closed;
+
+  /**
+   * @param name the name of the journal
+   * @param bytesPerSecond the maximum number of bytes to delete per second, or 0 for no limit
+   * @param journalMetrics the metrics of the journal
+   */
+  JournalSegmentDeleter(
+      final String name, final long bytesPerSecond, final JournalMetrics journalMetrics) {
+    this.name = name;
+    this.bytesPerSecond = bytesPerSecond;
+    this.journalMetrics = journalMetrics;
+    nextDeletionNanos = System.nanoTime();
+  }
+
+  /**
+   * Deletes the segment files of the given journal which were renamed for deletion, but not deleted
+   * before the journal was closed.
+   */
+  static void deleteLeftovers(final String name, final File directory) {
+    final File[] files =
+        directory.listFiles(
+            file ->
+                file.isFile()
+                    && file.getName().endsWith(DELETED_SUFFIX)
+                    && JournalSegmentFile.isSegmentFile(
+                        name, file.getName().replace(DELETED_SUFFIX, "")));
+    if (files == null) {
+      return;
+    }
+
+    for (final File file : files) {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (final IOException e) {
+        LoggerFactory.getLogger(JournalSegmentDeleter.class)
+            .warn("{} - Failed to delete leftover segment file {}", name, file, e);
+      }
+    }
+  }
+
+  /**
+   * Closes and deletes the given segment, which must already be removed from the journal.
+   *
+   * @param segment the segment to delete
+   * @return the number of bytes which are reclaimed by deleting the segment
+   */
+  synchronized long delete(final JournalSegment<?> segment) {
+    final Path path = segment.file().file().toPath();
+    final long size = segment.file().file().length();
+    final Path deletedPath = path.resolveSibling(path.getFileName() + DELETED_SUFFIX);
+
+    if (closed) {
+      deleteNow(segment, path);
+      return size;
+    }
+
+    try {
+      Files.move(path, deletedPath);
+    } catch (final IOException e) {
+      log.warn("{} - Failed to rename segment {}, deleting it right away", name, segment, e);
+      deleteNow(segment, path);
+      return size;
+    }
+
+    final long nowNanos = System.nanoTime();
+    // compare the difference only, as the nano time may overflow
+    final long delayNanos = Math.max(0, nextDeletionNanos - nowNanos);
+    if (bytesPerSecond > 0) {
+      nextDeletionNanos = nowNanos + delayNanos + size * NANOS_PER_SECOND / bytesPerSecond;
+    }
+
+    pendingDeletions.put(segment, deletedPath);
+    getExecutor().schedule(() -> deletePending(segment), delayNanos, TimeUnit.NANOSECONDS);
+    return size;
+  }
+
+  /** Deletes all queued segments right away. */
+  @Override
+  public void close() {
+    final Map<JournalSegment<?>, Path> remainingDeletions;
+    synchronized (this) {
+      closed = true;
+      if (executor != null) {
+        executor.shutdownNow();
+        executor = null;
+      }
+      remainingDeletions = new LinkedHashMap<>(pendingDeletions);
+      pendingDeletions.clear();
+    }
+
+    remainingDeletions.forEach(this::deleteNow);
+  }
+
+  private ScheduledExecutorService getExecutor() {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadScheduledExecutor(
+              namedThreads("raft-segment-deleter-" + name, log));
+    }
+    return executor;
+  }
+
+  private void deletePending(final JournalSegment<?> segment) {
+    final Path path;
+    synchronized (this) {
+      path = pendingDeletions.remove(segment);
+    }
+
+    if (path != null) {
+      deleteNow(segment, path);
+    }
+  }
+
+  private void deleteNow(final JournalSegment<?> segment, final Path path) {
+    log.trace("Deleting segment: {}", segment);
+    final long startNanos = System.nanoTime();
+    try {
+      segment.close();
+      Files.deleteIfExists(path);
+    } catch (final IOException | RuntimeException e) {
+      log.warn("{} - Failed to delete segment {}", name, segment, e);
+    }
+    journalMetrics.observeSegmentDeletion(System.nanoTime() - startNanos);
+  }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.atomix.storage.journal;
+
+import static io.atomix.utils.concurrent.Threads.namedThreads;
+
+import io.atomix.storage.statistics.JournalMetrics;
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiPredicate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copies sealed segments to a cold directory in the background, such that they can be removed
+ * from the primary directory while they are still readable.
+ *
+ * <p>A segment is first copied to a temporary file in the cold directory, which is then handed to
+ * the journal. The journal decides whether the segment can still be replaced, i.e. it was not
+ * compacted or truncated in the meantime, and moves the copy to its final name. Copies which are
+ * rejected are deleted right away; copies which were not handed over before the journal was closed
+ * are cleaned up via {@link #deleteLeftovers(String, File)} when the journal is opened again.
+ */
+final class JournalSegmentOffloader<E> implements AutoCloseable {
+  private static final String OFFLOADING_SUFFIX = ".offloading";
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+  private final String name;
+  private final File coldDirectory;
+  private final JournalMetrics journalMetrics;
+  private final BiPredicate<JournalSegment<E>, Path> replaceSegment;
+  private final Set<JournalSegment<E>> pendingOffloads = new HashSet<>();
+
+  private ExecutorService executor;
+  private boolean closed;
+
+  /**
+   * @param name the name of the journal
+   * @param coldDirectory the directory to which segments are offloaded
+   * @param journalMetrics the metrics of the journal
+   * @param replaceSegment called with the segment and its copy once it is completely written;
+   *     returns false if the copy was not taken over and can be deleted
+   */
+  JournalSegmentOffloader(
+      final String name,
+      final File coldDirectory,
+      final JournalMetrics journalMetrics,
+      final BiPredicate<JournalSegment<E>, Path> replaceSegment) {
+    this.name = name;
+    this.coldDirectory = coldDirectory;
+    this.journalMetrics = journalMetrics;
+    this.replaceSegment = replaceSegment;
+  }
+
+  /**
+   * Deletes the copies of segments of the given journal which were not completely offloaded before
+   * the journal was closed.
+   */
+  static void deleteLeftovers(final String name, final File coldDirectory) {
+    final File[] files =
+        coldDirectory.listFiles(
+            file ->
+                file.isFile()
+                    && file.getName().endsWith(OFFLOADING_SUFFIX)
+                    && JournalSegmentFile.isSegmentFile(
+                        name, file.getName().replace(OFFLOADING_SUFFIX, "")));
+    if (files == null) {
+      return;
+    }
+
+    for (final File file : files) {
+      try {
+        Files.deleteIfExists(file.toPath());
+      } catch (final IOException e) {
+        LoggerFactory.getLogger(JournalSegmentOffloader.class)
+            .warn("{} - Failed to delete leftover offloaded segment file {}", name, file, e);
+      }
+    }
+  }
+
+  /**
+   * Returns a boolean indicating whether the given segment is already stored in the cold
+   * directory.
+   *
+   * @param segment the segment to check
+   * @return indicates whether the segment is offloaded
+   */
+  boolean isOffloaded(final JournalSegment<?> segment) {
+    return coldDirectory.equals(segment.file().file().getParentFile());
+  }
+
+  /**
+   * Queues the given segment to be offloaded, unless it is already queued. The segment must be
+   * sealed, i.e. it will not be written to anymore.
+   *
+   * @param segment the segment to offload
+   */
+  synchronized void offload(final JournalSegment<E> segment) {
+    if (closed || !pendingOffloads.add(segment)) {
+      return;
+    }
+
+    getExecutor().execute(() -> offloadPending(segment));
+  }
+
+  @Override
+  public synchronized void close() {
+    closed = true;
+    pendingOffloads.clear();
+    if (executor != null) {
+      executor.shutdownNow();
+      executor = null;
+    }
+  }
+
+  private ExecutorService getExecutor() {
+    if (executor == null) {
+      executor =
+          Executors.newSingleThreadExecutor(namedThreads("raft-segment-offloader-" + name, log));
+    }
+    return executor;
+  }
+
+  private void offloadPending(final JournalSegment<E> segment) {
+    synchronized (this) {
+      if (!pendingOffloads.contains(segment)) {
+        return;
+      }
+    }
+
+    final long startNanos = System.nanoTime();
+    final Path source = segment.file().file().toPath();
+    final Path copy = coldDirectory.toPath().resolve(source.getFileName() + OFFLOADING_SUFFIX);
+    try {
+      log.trace("Offloading segment: {}", segment);
+      Files.copy(source, copy, StandardCopyOption.REPLACE_EXISTING);
+      try (final FileChannel channel = FileChannel.open(copy, StandardOpenOption.WRITE)) {
+        channel.force(true);
+      }
+
+      if (replaceSegment.test(segment, copy)) {
+        journalMetrics.observeSegmentOffload(System.nanoTime() - startNanos);
+      } else {
+        log.debug("{} - Segment {} was removed while offloading it", name, segment);
+      }
+    } catch (final IOException | RuntimeException e) {
+      // the segment may have been compacted concurrently, in which case its file is already gone
+      log.debug("{} - Failed to offload segment {}", name, segment, e);
+    } finally {
+      deleteCopy(copy);
+      synchronized (this) {
+        pendingOffloads.remove(segment);
+      }
+    }
+  }
+
+  private void deleteCopy(final Path copy) {
+    try {
+      Files.deleteIfExists(copy);
+    } catch (final IOException e) {
+      log.warn("{} - Failed to delete offloaded segment copy {}", name, copy, e);
+    }
+  }
+}
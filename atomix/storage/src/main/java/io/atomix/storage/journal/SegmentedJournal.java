@@ -32,9 +32,14 @@ import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
@@ -65,6 +70,11 @@ public class SegmentedJournal<E> implements Journal<E> {
   private volatile JournalSegment<E> currentSegment;
   private volatile boolean open = true;
   private final long minFreeDiskSpace;
+  private final JournalSegmentDeleter segmentDeleter;
+  private final File coldDirectory;
+  private final JournalSegmentOffloader<E> segmentOffloader;
+  private final List<JournalSegment<E>> retiredSegments = new ArrayList<>();
+  private long offloadBound;
 
   public SegmentedJournal(
       final String name,
@@ -75,7 +85,9 @@ public class SegmentedJournal<E> implements Journal<E> {
       final int maxEntrySize,
       final int maxEntriesPerSegment,
       final Supplier<JournalIndex> journalIndexFactory,
-      final long minFreeSpace) {
+      final long minFreeSpace,
+      final long segmentDeletionRate,
+      final File coldDirectory) {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
@@ -89,6 +101,13 @@ public class SegmentedJournal<E> implements Journal<E> {
             ? () -> new SparseJournalIndex(DEFAULT_INDEX_DENSITY)
             : journalIndexFactory;
     minFreeDiskSpace = minFreeSpace;
+    segmentDeleter = new JournalSegmentDeleter(name, segmentDeletionRate, journalMetrics);
+    this.coldDirectory = coldDirectory;
+    segmentOffloader =
+        coldDirectory != null
+            ? new JournalSegmentOffloader<>(
+                name, coldDirectory, journalMetrics, this::replaceOffloadedSegment)
+            : null;
     open();
     writer = openWriter();
   }
@@ -128,6 +147,19 @@ public class SegmentedJournal<E> implements Journal<E> {
     return directory;
   }
 
+  /**
+   * Returns the cold storage directory.
+   *
+   * <p>Sealed segments which are committed, except for the most recent one, are moved from the
+   * storage directory to the cold storage directory in the background. They remain readable from
+   * there until they are compacted.
+   *
+   * @return The cold storage directory, or null if segments are not offloaded.
+   */
+  public File coldDirectory() {
+    return coldDirectory;
+  }
+
   /**
    * Returns the storage level.
    *
@@ -227,7 +259,10 @@ public class SegmentedJournal<E> implements Journal<E> {
   }
 
   @Override
-  public void close() {
+  public synchronized void close() {
+    if (segmentOffloader != null) {
+      segmentOffloader.close();
+    }
     segments
         .values()
         .forEach(
@@ -235,6 +270,9 @@ public class SegmentedJournal<E> implements Journal<E> {
               log.debug("Closing segment: {}", segment);
               segment.close();
             });
+    segmentDeleter.close();
+    retiredSegments.forEach(JournalSegment::close);
+    retiredSegments.clear();
     currentSegment = null;
     open = false;
   }
@@ -323,7 +361,7 @@ public class SegmentedJournal<E> implements Journal<E> {
    * @param index the starting index of the journal
    * @return the first segment
    */
-  JournalSegment<E> resetSegments(final long index) {
+  synchronized JournalSegment<E> resetSegments(final long index) {
     assertOpen();
 
     // If the index already equals the first segment index, skip the reset.
@@ -397,6 +435,7 @@ public class SegmentedJournal<E> implements Journal<E> {
 
     segments.put(descriptor.index(), currentSegment);
     journalMetrics.incSegmentCount();
+    offloadSealedSegments();
     return currentSegment;
   }
 
@@ -493,15 +532,28 @@ public class SegmentedJournal<E> implements Journal<E> {
         segmentFile, descriptor, storageLevel, maxEntrySize, namespace, journalIndexFactory.get());
   }
 
-  /** Loads a segment. */
-  private JournalSegment<E> loadSegment(final long segmentId) {
-    final File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, segmentId);
+  /** Loads a segment. Offloaded segments are loaded lazily, as they are rarely read. */
+  private JournalSegment<E> loadSegment(final File segmentFile) {
     final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
     try (final FileChannel channel = openChannel(segmentFile)) {
       channel.read(buffer);
       buffer.flip();
       final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
-      final JournalSegment<E> segment = newSegment(new JournalSegmentFile(segmentFile), descriptor);
+      final JournalSegmentFile file = new JournalSegmentFile(segmentFile);
+      final JournalSegment<E> segment;
+      if (isColdSegmentFile(segmentFile)) {
+        segment =
+            new JournalSegment<>(
+                file,
+                descriptor,
+                storageLevel,
+                maxEntrySize,
+                namespace,
+                journalIndexFactory.get(),
+                true);
+      } else {
+        segment = newSegment(file, descriptor);
+      }
       log.debug("Loaded disk segment: {} ({})", descriptor.id(), segmentFile.getName());
       return segment;
     } catch (final IOException e) {
@@ -509,6 +561,10 @@ public class SegmentedJournal<E> implements Journal<E> {
     }
   }
 
+  private boolean isColdSegmentFile(final File segmentFile) {
+    return coldDirectory != null && coldDirectory.equals(segmentFile.getParentFile());
+  }
+
   private FileChannel openChannel(final File file) {
     try {
       return FileChannel.open(
@@ -529,42 +585,33 @@ public class SegmentedJournal<E> implements Journal<E> {
   protected Collection<JournalSegment<E>> loadSegments() {
     // Ensure log directories are created.
     directory.mkdirs();
+    JournalSegmentDeleter.deleteLeftovers(name, directory);
 
     final TreeMap<Long, JournalSegment<E>> segments = new TreeMap<>();
-
-    // Iterate through all files in the log directory.
-    for (final File file : directory.listFiles(File::isFile)) {
-
-      // If the file looks like a segment file, attempt to load the segment.
-      if (JournalSegmentFile.isSegmentFile(name, file)) {
-        final JournalSegmentFile segmentFile = new JournalSegmentFile(file);
-        final ByteBuffer buffer = ByteBuffer.allocate(JournalSegmentDescriptor.BYTES);
-        try (final FileChannel channel = openChannel(file)) {
-          channel.read(buffer);
-          buffer.flip();
-        } catch (final IOException e) {
-          throw new StorageException(e);
-        }
-
-        final JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
-
-        // Load the segment.
-        final JournalSegment<E> segment = loadSegment(descriptor.id());
-
-        // Add the segment to the segments list.
-        log.debug(
-            "Found segment: {} ({})", segment.descriptor().id(), segmentFile.file().getName());
-        segments.put(segment.index(), segment);
-      }
+    loadSegments(directory, segments);
+
+    // Offloaded segments are loaded after the others, such that a segment which was offloaded
+    // right before the journal was closed, but whose original file was not yet deleted, is not
+    // loaded twice.
+    if (coldDirectory != null) {
+      coldDirectory.mkdirs();
+      JournalSegmentDeleter.deleteLeftovers(name, coldDirectory);
+      JournalSegmentOffloader.deleteLeftovers(name, coldDirectory);
+      loadSegments(coldDirectory, segments);
     }
 
-    // Verify that all the segments in the log align with one another.
+    // Verify that all the segments in the log align with one another. The last index of an
+    // offloaded segment is only known after scanning it, which would defeat loading it lazily.
+    // Offloaded segments are sealed, and the segments are ordered by their descriptor indexes, so
+    // the segment following an offloaded one is not checked.
     JournalSegment<E> previousSegment = null;
     boolean corrupted = false;
     final Iterator<Map.Entry<Long, JournalSegment<E>>> iterator = segments.entrySet().iterator();
     while (iterator.hasNext()) {
       final JournalSegment<E> segment = iterator.next().getValue();
-      if (previousSegment != null && previousSegment.lastIndex() != segment.index() - 1) {
+      if (previousSegment != null
+          && !isColdSegmentFile(previousSegment.file().file())
+          && previousSegment.lastIndex() != segment.index() - 1) {
         log.warn(
             "Journal is inconsistent. {} is not aligned with prior segment {}",
             segment.file().file(),
@@ -582,6 +629,125 @@ public class SegmentedJournal<E> implements Journal<E> {
     return segments.values();
   }
 
+  private void loadSegments(
+      final File segmentDirectory, final TreeMap<Long, JournalSegment<E>> segments) {
+    // Iterate through all files in the log directory.
+    for (final File file : segmentDirectory.listFiles(File::isFile)) {
+
+      // If the file looks like a segment file, attempt to load the segment.
+      if (JournalSegmentFile.isSegmentFile(name, file)) {
+        final JournalSegment<E> segment = loadSegment(file);
+
+        if (segments.containsKey(segment.index())) {
+          log.debug("Deleting duplicate segment: {} ({})", segment.descriptor().id(), file);
+          segment.close();
+          segment.delete();
+          continue;
+        }
+
+        // Add the segment to the segments list.
+        log.debug("Found segment: {} ({})", segment.descriptor().id(), file.getName());
+        segments.put(segment.index(), segment);
+      }
+    }
+  }
+
+  /**
+   * Sets the index below which segments may be moved to the cold storage directory. Segments which
+   * contain entries at or above it are still expected to be read, e.g. to process them, and are
+   * kept in the journal directory. Until a bound is set, no segment is offloaded.
+   *
+   * @param index the index below which entries may be offloaded
+   */
+  public synchronized void setOffloadBound(final long index) {
+    offloadBound = index;
+    if (open) {
+      offloadSealedSegments();
+    }
+  }
+
+  /**
+   * Queues the sealed segments which are committed and below the offload bound, except for the
+   * most recent sealed segment, to be moved to the cold storage directory. The most recent sealed
+   * segment is kept, as readers which follow the head of the log are likely to still read from it.
+   */
+  private void offloadSealedSegments() {
+    if (segmentOffloader == null) {
+      return;
+    }
+
+    closeRetiredSegments();
+    final Map.Entry<Long, JournalSegment<E>> lastSealedSegment =
+        segments.lowerEntry(currentSegment.index());
+    if (lastSealedSegment == null) {
+      return;
+    }
+
+    for (final JournalSegment<E> segment : segments.headMap(lastSealedSegment.getKey()).values()) {
+      if (segmentOffloader.isOffloaded(segment)) {
+        continue;
+      }
+
+      if (segment.lastIndex() > commitIndex || segment.lastIndex() >= offloadBound) {
+        break;
+      }
+
+      segmentOffloader.offload(segment);
+    }
+  }
+
+  /**
+   * Replaces the given segment with its copy in the cold storage directory, unless the segment was
+   * removed in the meantime. Readers of the replaced segment can finish reading it, as its file is
+   * only unlinked; the segment is closed once it has no readers anymore.
+   *
+   * @param segment the segment to replace
+   * @param copy the complete copy of the segment in the cold storage directory
+   * @return true if the segment was replaced, false if the copy was not used
+   */
+  private synchronized boolean replaceOffloadedSegment(
+      final JournalSegment<E> segment, final Path copy) {
+    if (!open || segments.get(segment.index()) != segment) {
+      return false;
+    }
+
+    final File offloadedFile =
+        JournalSegmentFile.createSegmentFile(name, coldDirectory, segment.id());
+    try {
+      Files.move(
+          copy,
+          offloadedFile.toPath(),
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new StorageException(e);
+    }
+
+    segments.put(segment.index(), loadSegment(offloadedFile));
+    retiredSegments.add(segment);
+    try {
+      Files.delete(segment.file().file().toPath());
+    } catch (final IOException e) {
+      log.warn("{} - Failed to delete offloaded segment {}", name, segment, e);
+    }
+
+    log.debug("{} - Offloaded segment {} to {}", name, segment, offloadedFile);
+    return true;
+  }
+
+  /** Closes the segments which were replaced by their offloaded copy and have no more readers. */
+  private void closeRetiredSegments() {
+    retiredSegments.removeIf(
+        segment -> {
+          if (segment.hasReaders()) {
+            return false;
+          }
+
+          segment.close();
+          return true;
+        });
+  }
+
   /**
    * Resets journal readers to the given head.
    *
@@ -645,22 +811,27 @@ public class SegmentedJournal<E> implements Journal<E> {
    *
    * @param index The index up to which to compact the journal.
    */
-  public void compact(final long index) {
+  public synchronized void compact(final long index) {
     final Map.Entry<Long, JournalSegment<E>> segmentEntry = segments.floorEntry(index);
     if (segmentEntry != null) {
       final SortedMap<Long, JournalSegment<E>> compactSegments =
           segments.headMap(segmentEntry.getValue().index());
       if (!compactSegments.isEmpty()) {
         log.debug("{} - Compacting {} segment(s)", name, compactSegments.size());
-        for (final JournalSegment segment : compactSegments.values()) {
-          log.trace("Deleting segment: {}", segment);
+        final List<JournalSegment<E>> deletedSegments = new ArrayList<>(compactSegments.values());
+        for (final JournalSegment<E> segment : deletedSegments) {
           segment.compactIndex(index);
-          segment.close();
-          segment.delete();
           journalMetrics.decSegmentCount();
         }
         compactSegments.clear();
         resetHead(segmentEntry.getValue().index());
+
+        // the segments are not reachable anymore, such that they can be deleted in the background
+        long reclaimedBytes = 0;
+        for (final JournalSegment<E> segment : deletedSegments) {
+          reclaimedBytes += segmentDeleter.delete(segment);
+        }
+        journalMetrics.observeCompactionReclaimedBytes(reclaimedBytes);
       }
     }
   }
@@ -703,6 +874,8 @@ public class SegmentedJournal<E> implements Journal<E> {
 
     private Supplier<JournalIndex> journalIndexFactory;
     private long freeDiskSpace = DEFAULT_MIN_FREE_DISK_SPACE;
+    private long segmentDeletionRate = 0;
+    private File coldDirectory;
 
     protected Builder() {}
 
@@ -816,6 +989,33 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets the maximum rate at which compacted segments are deleted in the background. By default,
+     * the deletion is not rate limited.
+     *
+     * @param segmentDeletionRate the maximum rate in bytes per second, or 0 for no limit
+     * @return the storage builder
+     * @throws IllegalArgumentException if the {@code segmentDeletionRate} is negative
+     */
+    public Builder<E> withSegmentDeletionRate(final long segmentDeletionRate) {
+      checkArgument(segmentDeletionRate >= 0, "segmentDeletionRate must not be negative");
+      this.segmentDeletionRate = segmentDeletionRate;
+      return this;
+    }
+
+    /**
+     * Sets the cold storage directory, to which sealed and committed segments are moved in the
+     * background. By default, segments are not moved.
+     *
+     * @param coldDirectory the cold storage directory, or null to keep all segments in the storage
+     *     directory
+     * @return the storage builder
+     */
+    public Builder<E> withColdDirectory(final File coldDirectory) {
+      this.coldDirectory = coldDirectory;
+      return this;
+    }
+
     /**
      * Sets the maximum number of allows entries per segment, returning the builder for method
      * chaining.
@@ -859,7 +1059,9 @@ public class SegmentedJournal<E> implements Journal<E> {
           maxEntrySize,
           maxEntriesPerSegment,
           journalIndexFactory,
-          freeDiskSpace);
+          freeDiskSpace,
+          segmentDeletionRate,
+          coldDirectory);
     }
   }
 }
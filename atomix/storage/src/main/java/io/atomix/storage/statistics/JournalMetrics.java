@@ -47,6 +47,31 @@ public class JournalMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Histogram SEGMENT_DELETION_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_deletion_time")
+          .help("Time spent to close and delete a compacted segment in the background")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram SEGMENT_OFFLOAD_TIME =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("segment_offload_time")
+          .help("Time spent to copy a sealed segment to the cold directory in the background")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Histogram COMPACTION_RECLAIMED_BYTES =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("compaction_reclaimed_bytes")
+          .help("Size of the segments which are deleted per compaction")
+          .labelNames(PARTITION_LABEL)
+          .exponentialBuckets(1024 * 1024, 4, 8)
+          .register();
+
   private static final Gauge SEGMENT_COUNT =
       Gauge.build()
           .namespace(NAMESPACE)
@@ -80,6 +105,18 @@ public class JournalMetrics {
     SEGMENT_TRUNCATE_TIME.labels(logName).time(segmentTruncation);
   }
 
+  public void observeSegmentDeletion(final long durationNanos) {
+    SEGMENT_DELETION_TIME.labels(logName).observe(durationNanos / 1_000_000_000d);
+  }
+
+  public void observeSegmentOffload(final long durationNanos) {
+    SEGMENT_OFFLOAD_TIME.labels(logName).observe(durationNanos / 1_000_000_000d);
+  }
+
+  public void observeCompactionReclaimedBytes(final long bytes) {
+    COMPACTION_RECLAIMED_BYTES.labels(logName).observe(bytes);
+  }
+
   public void observeJournalOpenDuration(final long durationMillis) {
     JOURNAL_OPEN_DURATION.labels(logName).set(durationMillis);
   }
@@ -28,9 +28,11 @@ import io.atomix.storage.journal.index.SparseJournalIndex;
 import io.atomix.utils.serializer.FallbackNamespace;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.NamespaceImpl;
+import io.zeebe.test.util.TestUtil;
 import java.io.File;
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
@@ -87,10 +89,15 @@ public abstract class AbstractJournalTest {
   }
 
   protected SegmentedJournal<TestEntry> createJournal() throws IOException {
+    return createJournal(null);
+  }
+
+  protected SegmentedJournal<TestEntry> createJournal(final File coldFolder) {
     final SparseJournalIndex index = new SparseJournalIndex(5);
     return SegmentedJournal.<TestEntry>builder()
         .withName("test")
         .withDirectory(folder)
+        .withColdDirectory(coldFolder)
         .withNamespace(NAMESPACE)
         .withStorageLevel(storageLevel())
         .withMaxSegmentSize(maxSegmentSize)
@@ -423,6 +430,107 @@ public abstract class AbstractJournalTest {
     assertEquals(entriesPerSegment * 5 + 1, committedReader.next().index());
   }
 
+  @Test
+  public void shouldDeleteCompactedSegments() throws IOException {
+    // given
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= entriesPerSegment * 5; i++) {
+      writer.append(ENTRY);
+    }
+    writer.commit(entriesPerSegment * 5);
+
+    // when
+    journal.compact(entriesPerSegment * 3 + 1);
+    final int remainingSegments = journal.segments().size();
+    journal.close();
+
+    // then
+    final String[] files = folder.list();
+    assertEquals(remainingSegments, files.length);
+    for (final String file : files) {
+      assertTrue(JournalSegmentFile.isSegmentFile("test", file));
+    }
+
+    journal = createJournal();
+    assertEquals(entriesPerSegment * 3 + 1, journal.openReader(1, Mode.ALL).getFirstIndex());
+  }
+
+  @Test
+  public void shouldDeleteLeftoverSegmentsOnOpen() throws IOException {
+    // given
+    journal.close();
+    final File leftover = new File(folder, "test-0.log.deleted");
+    assertTrue(leftover.createNewFile());
+
+    // when
+    journal = createJournal();
+
+    // then
+    assertFalse(leftover.exists());
+  }
+
+  @Test
+  public void shouldReadOffloadedSegments() throws IOException {
+    // given
+    journal.close();
+    final File coldFolder = temporaryFolder.newFolder("cold");
+    journal = createJournal(coldFolder);
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= entriesPerSegment * 4; i++) {
+      writer.append(ENTRY);
+    }
+    writer.commit(entriesPerSegment * 4);
+    journal.setOffloadBound(entriesPerSegment * 4 + 1);
+
+    // when - rolling over to the next segment offloads all committed but the last sealed segment
+    writer.append(ENTRY);
+    TestUtil.waitUntil(() -> countSegmentFiles(coldFolder) == 3 && countSegmentFiles(folder) == 2);
+
+    // then
+    assertAllEntriesReadable(entriesPerSegment * 4 + 1);
+
+    journal.close();
+    journal = createJournal(coldFolder);
+    assertEquals(5, journal.segments().size());
+    assertAllEntriesReadable(entriesPerSegment * 4 + 1);
+  }
+
+  @Test
+  public void shouldNotOffloadSegmentsAtOrAboveOffloadBound() throws IOException {
+    // given
+    journal.close();
+    final File coldFolder = temporaryFolder.newFolder("cold");
+    journal = createJournal(coldFolder);
+    final JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= entriesPerSegment * 4; i++) {
+      writer.append(ENTRY);
+    }
+    writer.commit(entriesPerSegment * 4);
+    writer.append(ENTRY);
+
+    // when - only the first segment is completely below the bound
+    journal.setOffloadBound(entriesPerSegment + 1);
+
+    // then
+    TestUtil.waitUntil(() -> countSegmentFiles(coldFolder) == 1 && countSegmentFiles(folder) == 4);
+    assertAllEntriesReadable(entriesPerSegment * 4 + 1);
+  }
+
+  @Test
+  public void shouldDeleteLeftoverOffloadedSegmentsOnOpen() throws IOException {
+    // given
+    journal.close();
+    final File coldFolder = temporaryFolder.newFolder("cold");
+    final File leftover = new File(coldFolder, "test-1.log.offloading");
+    assertTrue(leftover.createNewFile());
+
+    // when
+    journal = createJournal(coldFolder);
+
+    // then
+    assertFalse(leftover.exists());
+  }
+
   @Test
   public void shouldNotReadTruncatedEntries() throws IOException {
     // given
@@ -490,4 +598,20 @@ public abstract class AbstractJournalTest {
     journal.close();
     temporaryFolder.delete();
   }
+
+  private long countSegmentFiles(final File directory) {
+    return Arrays.stream(directory.list())
+        .filter(file -> JournalSegmentFile.isSegmentFile("test", file))
+        .count();
+  }
+
+  private void assertAllEntriesReadable(final long lastIndex) {
+    try (final JournalReader<TestEntry> reader = journal.openReader(1, Mode.ALL)) {
+      for (long index = 1; index <= lastIndex; index++) {
+        assertTrue(reader.hasNext());
+        assertEquals(index, reader.next().index());
+      }
+      assertFalse(reader.hasNext());
+    }
+  }
 }
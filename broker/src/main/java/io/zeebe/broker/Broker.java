@@ -20,6 +20,7 @@ import io.zeebe.broker.clustering.atomix.AtomixFactory;
 import io.zeebe.broker.clustering.topology.TopologyManagerImpl;
 import io.zeebe.broker.clustering.topology.TopologyPartitionListenerImpl;
 import io.zeebe.broker.engine.impl.DeploymentDistributorImpl;
+import io.zeebe.broker.engine.impl.JobStreamService;
 import io.zeebe.broker.engine.impl.LongPollingJobNotification;
 import io.zeebe.broker.engine.impl.PartitionCommandSenderImpl;
 import io.zeebe.broker.engine.impl.SubscriptionApiCommandMessageHandlerService;
@@ -49,6 +50,7 @@ import io.zeebe.broker.system.partitions.impl.AtomixPartitionMessagingService;
 import io.zeebe.broker.system.partitions.impl.PartitionTransitionImpl;
 import io.zeebe.broker.system.partitions.impl.steps.ExporterDirectorPartitionStep;
 import io.zeebe.broker.system.partitions.impl.steps.FollowerPostStoragePartitionStep;
+import io.zeebe.broker.system.partitions.impl.steps.FollowerReplayPartitionStep;
 import io.zeebe.broker.system.partitions.impl.steps.LeaderPostStoragePartitionStep;
 import io.zeebe.broker.system.partitions.impl.steps.LogDeletionPartitionStep;
 import io.zeebe.broker.system.partitions.impl.steps.LogStreamPartitionStep;
@@ -112,6 +114,15 @@ public final class Broker implements AutoCloseable {
           new StateControllerPartitionStep(),
           new LogDeletionPartitionStep(),
           new FollowerPostStoragePartitionStep());
+  private static final List<PartitionStep> HOT_STANDBY_FOLLOWER_STEPS =
+      List.of(
+          new LogStreamPartitionStep(),
+          new RaftLogReaderPartitionStep(),
+          new SnapshotReplicationPartitionStep(),
+          new StateControllerPartitionStep(),
+          new LogDeletionPartitionStep(),
+          new FollowerPostStoragePartitionStep(),
+          new FollowerReplayPartitionStep());
   private final SystemContext brokerContext;
   private final List<PartitionListener> partitionListeners;
   private boolean isClosed = false;
@@ -120,6 +131,7 @@ public final class Broker implements AutoCloseable {
   private TopologyManagerImpl topologyManager;
   private LeaderManagementRequestHandler managementRequestHandler;
   private CommandApiService commandHandler;
+  private JobStreamService jobStreamService;
   private ActorScheduler scheduler;
   private CloseProcess closeProcess;
   private EmbeddedGatewayService embeddedGatewayService;
@@ -206,6 +218,7 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("membership and replication protocol", () -> atomixCreateStep(brokerCfg));
     startContext.addStep(
         "command api transport", () -> commandApiTransportStep(clusterCfg, localBroker));
+    startContext.addStep("job streams", () -> jobStreamsStep(localBroker));
     startContext.addStep(
         "command api handler", () -> commandApiHandlerStep(brokerCfg, localBroker));
     startContext.addStep("subscription api", () -> subscriptionAPIStep(localBroker));
@@ -224,8 +237,7 @@ public final class Broker implements AutoCloseable {
     startContext.addStep("disk space monitor", () -> diskSpaceMonitorStep(brokerCfg.getData()));
     startContext.addStep(
         "leader management request handler", () -> managementRequestStep(localBroker));
-    startContext.addStep(
-        "zeebe partitions", () -> partitionsStep(brokerCfg, clusterCfg, localBroker));
+    startContext.addStep("zeebe partitions", () -> partitionsStep(brokerCfg, localBroker));
     startContext.addStep("register diskspace usage listeners", () -> addDiskSpaceUsageListeners());
     startContext.addStep("upgrade manager", this::addBrokerAdminService);
 
@@ -243,6 +255,7 @@ public final class Broker implements AutoCloseable {
   private AutoCloseable actorSchedulerStep() {
     scheduler = brokerContext.getScheduler();
     scheduler.start();
+    springBrokerBridge.registerActorSchedulerSupplier(() -> scheduler);
     return () ->
         scheduler.stop().get(brokerContext.getStepTimeout().toMillis(), TimeUnit.MILLISECONDS);
   }
@@ -302,13 +315,25 @@ public final class Broker implements AutoCloseable {
       limiter = PartitionAwareRequestLimiter.newLimiter(backpressureCfg);
     }
 
-    commandHandler = new CommandApiService(serverTransport, localBroker, limiter);
+    commandHandler =
+        new CommandApiService(
+            serverTransport,
+            jobStreamService.wrapServerOutput(serverTransport),
+            localBroker,
+            limiter);
     partitionListeners.add(commandHandler);
     scheduleActor(commandHandler);
     diskSpaceUsageListeners.add(commandHandler);
     return commandHandler;
   }
 
+  private AutoCloseable jobStreamsStep(final BrokerInfo localBroker) {
+    jobStreamService = new JobStreamService(localBroker, atomix);
+    partitionListeners.add(jobStreamService);
+    scheduleActor(jobStreamService);
+    return jobStreamService;
+  }
+
   private AutoCloseable subscriptionAPIStep(final BrokerInfo localBroker) {
     final SubscriptionApiCommandMessageHandlerService messageHandlerService =
         new SubscriptionApiCommandMessageHandlerService(localBroker, atomix);
@@ -365,8 +390,7 @@ public final class Broker implements AutoCloseable {
     return managementRequestHandler;
   }
 
-  private AutoCloseable partitionsStep(
-      final BrokerCfg brokerCfg, final ClusterCfg clusterCfg, final BrokerInfo localBroker)
+  private AutoCloseable partitionsStep(final BrokerCfg brokerCfg, final BrokerInfo localBroker)
       throws Exception {
     final RaftPartitionGroup partitionGroup =
         (RaftPartitionGroup)
@@ -403,10 +427,20 @@ public final class Broker implements AutoCloseable {
                     commandHandler,
                     partitionIndexes.get(partitionId),
                     snapshotStoreSupplier,
-                    createFactory(topologyManager, clusterCfg, atomix, managementRequestHandler),
+                    createFactory(
+                        topologyManager,
+                        brokerCfg,
+                        atomix,
+                        managementRequestHandler,
+                        jobStreamService),
                     buildExporterRepository(brokerCfg));
             final PartitionTransitionImpl transitionBehavior =
-                new PartitionTransitionImpl(context, LEADER_STEPS, FOLLOWER_STEPS);
+                new PartitionTransitionImpl(
+                    context,
+                    LEADER_STEPS,
+                    brokerCfg.getExperimental().isEnableHotStandby()
+                        ? HOT_STANDBY_FOLLOWER_STEPS
+                        : FOLLOWER_STEPS);
             final ZeebePartition zeebePartition = new ZeebePartition(context, transitionBehavior);
             scheduleActor(zeebePartition);
             zeebePartition.addFailureListener(
@@ -442,11 +476,14 @@ public final class Broker implements AutoCloseable {
 
   private TypedRecordProcessorsFactory createFactory(
       final TopologyManagerImpl topologyManager,
-      final ClusterCfg clusterCfg,
+      final BrokerCfg brokerCfg,
       final Atomix atomix,
-      final LeaderManagementRequestHandler requestHandler) {
+      final LeaderManagementRequestHandler requestHandler,
+      final JobStreamService jobStreamService) {
+    final ClusterCfg clusterCfg = brokerCfg.getCluster();
     return (ActorControl actor, ZeebeState zeebeState, ProcessingContext processingContext) -> {
       final LogStream stream = processingContext.getLogStream();
+      final int partitionId = stream.getPartitionId();
 
       final TopologyPartitionListenerImpl partitionListener =
           new TopologyPartitionListenerImpl(actor);
@@ -465,7 +502,10 @@ public final class Broker implements AutoCloseable {
           requestHandler.getPushDeploymentRequestHandler();
 
       final LongPollingJobNotification jobsAvailableNotification =
-          new LongPollingJobNotification(atomix.getEventService());
+          new LongPollingJobNotification(
+              atomix.getEventService(),
+              partitionId,
+              brokerCfg.getExperimental().isEnableLegacyJobsAvailableNotification());
 
       return EngineProcessors.createEngineProcessors(
           processingContext,
@@ -473,7 +513,11 @@ public final class Broker implements AutoCloseable {
           subscriptionCommandSender,
           deploymentDistributor,
           deploymentRequestHandler,
-          jobsAvailableNotification::onJobsAvailable);
+          jobType ->
+              jobStreamService.pushOrElse(
+                  partitionId,
+                  jobType,
+                  () -> jobsAvailableNotification.onJobsAvailable(jobType)));
     };
   }
 
@@ -9,6 +9,7 @@ package io.zeebe.broker;
 
 import io.zeebe.broker.system.management.BrokerAdminService;
 import io.zeebe.broker.system.monitoring.BrokerHealthCheckService;
+import io.zeebe.util.sched.ActorScheduler;
 import java.util.Optional;
 import java.util.function.Supplier;
 import org.springframework.stereotype.Component;
@@ -22,6 +23,7 @@ public class SpringBrokerBridge {
 
   private Supplier<BrokerHealthCheckService> healthCheckServiceSupplier;
   private Supplier<BrokerAdminService> adminServiceSupplier;
+  private Supplier<ActorScheduler> actorSchedulerSupplier;
 
   public void registerBrokerHealthCheckServiceSupplier(
       final Supplier<BrokerHealthCheckService> healthCheckServiceSupplier) {
@@ -40,4 +42,12 @@ public class SpringBrokerBridge {
   public Optional<BrokerAdminService> getAdminService() {
     return Optional.ofNullable(adminServiceSupplier).map(Supplier::get);
   }
+
+  public void registerActorSchedulerSupplier(final Supplier<ActorScheduler> schedulerSupplier) {
+    actorSchedulerSupplier = schedulerSupplier;
+  }
+
+  public Optional<ActorScheduler> getActorScheduler() {
+    return Optional.ofNullable(actorSchedulerSupplier).map(Supplier::get);
+  }
 }
@@ -76,6 +76,7 @@ public final class AtomixFactory {
                     networkCfg.getInternalApi().getAdvertisedHost(),
                     networkCfg.getInternalApi().getAdvertisedPort()))
             .withMembershipProvider(discoveryProvider);
+    atomixBuilder.withFlushConsolidation(clusterCfg.isFlushConsolidationEnabled());
 
     final DataCfg dataConfiguration = configuration.getData();
     final String rootDirectory = dataConfiguration.getDirectories().get(0);
@@ -112,7 +113,13 @@ public final class AtomixFactory {
             .withStorageLevel(dataCfg.getAtomixStorageLevel())
             .withEntryValidator(new ZeebeEntryValidator())
             .withFlushExplicitly(!experimentalCfg.isDisableExplicitRaftFlush())
-            .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark());
+            .withFreeDiskSpace(dataCfg.getFreeDiskSpaceReplicationWatermark())
+            .withSegmentDeletionRate(dataCfg.getLogSegmentDeletionRateInBytes());
+
+    if (dataCfg.getLogColdDirectory() != null) {
+      partitionGroupBuilder.withColdDirectory(
+          new File(dataCfg.getLogColdDirectory(), AtomixFactory.GROUP_NAME));
+    }
 
     // by default, the Atomix max entry size is 1 MB
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
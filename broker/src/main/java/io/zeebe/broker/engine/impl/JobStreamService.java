@@ -0,0 +1,289 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.engine.impl;
+
+import io.atomix.cluster.ClusterMembershipEvent;
+import io.atomix.cluster.ClusterMembershipEvent.Type;
+import io.atomix.cluster.ClusterMembershipEventListener;
+import io.atomix.cluster.MemberId;
+import io.atomix.core.Atomix;
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.PartitionListener;
+import io.zeebe.logstreams.log.LogStream;
+import io.zeebe.logstreams.log.LogStreamRecordWriter;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.BrokerInfo;
+import io.zeebe.protocol.impl.encoding.JobStreamPush;
+import io.zeebe.protocol.impl.encoding.JobStreamRequest;
+import io.zeebe.protocol.impl.record.RecordMetadata;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
+import io.zeebe.transport.ServerOutput;
+import io.zeebe.util.buffer.BufferUtil;
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Pushes jobs to the job streams which the gateways register for their pending activate jobs
+ * requests.
+ *
+ * <p>When jobs of a type become available on a partition which this broker leads, the next stream
+ * of this type is taken and a job batch ACTIVATE command is written on its behalf, with its worker,
+ * timeout, variables and credits. The response of the command is not sent over the command API,
+ * but pushed to the gateway which registered the stream. The stream is used up by the push; the
+ * gateway registers it again if it still has credits left.
+ *
+ * <p>If there is no stream for the type, the gateways are notified instead, such that they can poll
+ * for the jobs.
+ */
+public final class JobStreamService extends Actor
+    implements PartitionListener, ClusterMembershipEventListener {
+
+  /** The request stream id of the commands which are written on behalf of a job stream. */
+  public static final int PUSH_REQUEST_STREAM_ID = -1;
+
+  private static final String JOB_STREAMS_TOPIC = "jobStreams";
+  private static final String JOB_STREAM_PUSH_TOPIC = "jobStreamPush";
+  private static final Logger LOG = Loggers.SYSTEM_LOGGER;
+
+  private final Int2ObjectHashMap<LogStreamRecordWriter> leaderPartitions =
+      new Int2ObjectHashMap<>();
+  // jobType -> streams, in the order of their registration
+  private final Map<String, LinkedList<JobStream>> streamsByType = new HashMap<>();
+  private final Long2ObjectHashMap<PendingPush> pendingPushes = new Long2ObjectHashMap<>();
+  private final RecordMetadata pushMetadata = new RecordMetadata();
+  private final Atomix atomix;
+  private final String actorName;
+  private long nextPushId;
+
+  public JobStreamService(final BrokerInfo localBroker, final Atomix atomix) {
+    this.atomix = atomix;
+    actorName = buildActorName(localBroker.getNodeId(), "JobStreams");
+  }
+
+  @Override
+  public String getName() {
+    return actorName;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    atomix
+        .getCommunicationService()
+        .subscribe(JOB_STREAMS_TOPIC, this::onJobStreamRequest, actor::run);
+    atomix.getMembershipService().addListener(this);
+  }
+
+  @Override
+  protected void onActorClosing() {
+    atomix.getCommunicationService().unsubscribe(JOB_STREAMS_TOPIC);
+    atomix.getMembershipService().removeListener(this);
+  }
+
+  @Override
+  public ActorFuture<Void> onBecomingFollower(final int partitionId, final long term) {
+    return actor.call(
+        () -> {
+          leaderPartitions.remove(partitionId);
+          // the commands are processed by the new leader, which can't respond to them
+          pendingPushes.values().removeIf(push -> push.partitionId == partitionId);
+          return null;
+        });
+  }
+
+  @Override
+  public ActorFuture<Void> onBecomingLeader(
+      final int partitionId, final long term, final LogStream logStream) {
+    final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+    actor.submit(
+        () ->
+            logStream
+                .newLogStreamRecordWriter()
+                .onComplete(
+                    (recordWriter, error) -> {
+                      if (error == null) {
+                        leaderPartitions.put(partitionId, recordWriter);
+                        future.complete(null);
+                      } else {
+                        LOG.error(
+                            "Unexpected error on retrieving write buffer for partition {}",
+                            partitionId,
+                            error);
+                        future.completeExceptionally(error);
+                      }
+                    }));
+    return future;
+  }
+
+  @Override
+  public void event(final ClusterMembershipEvent event) {
+    if (event.type() == Type.MEMBER_REMOVED) {
+      final MemberId memberId = event.subject().id();
+      actor.run(() -> removeStreams(memberId));
+    }
+  }
+
+  /**
+   * Activates jobs of the given type on behalf of the next job stream of this type. If this broker
+   * is not the leader of the partition, or there is no stream of this type, the given fallback is
+   * run instead.
+   *
+   * @param partitionId the partition on which the jobs became available
+   * @param jobType the type of the jobs
+   * @param notifyGateways notifies the gateways that the jobs are available
+   */
+  public void pushOrElse(
+      final int partitionId, final String jobType, final Runnable notifyGateways) {
+    actor.run(
+        () -> {
+          final LogStreamRecordWriter writer = leaderPartitions.get(partitionId);
+          final LinkedList<JobStream> streams = streamsByType.get(jobType);
+          if (writer == null || streams == null) {
+            notifyGateways.run();
+            return;
+          }
+
+          final JobStream stream = streams.poll();
+          if (streams.isEmpty()) {
+            streamsByType.remove(jobType);
+          }
+
+          final long pushId = nextPushId++;
+          if (writePush(writer, pushId, stream)) {
+            pendingPushes.put(pushId, new PendingPush(partitionId, stream));
+          } else {
+            LOG.debug(
+                "Failed to activate jobs of type {} for stream {} of {}, notify gateways instead",
+                jobType,
+                stream.streamId,
+                stream.gateway);
+            streamsByType.computeIfAbsent(jobType, type -> new LinkedList<>()).addFirst(stream);
+            notifyGateways.run();
+          }
+        });
+  }
+
+  /**
+   * Wraps the output of the command responses, such that the responses to commands which were
+   * written on behalf of a job stream are pushed to the gateway of the stream.
+   *
+   * @param output the output of all other responses
+   * @return the wrapped output
+   */
+  public ServerOutput wrapServerOutput(final ServerOutput output) {
+    return response -> {
+      if (response.getPartitionId() != PUSH_REQUEST_STREAM_ID) {
+        output.sendResponse(response);
+        return;
+      }
+
+      // the response is reused after this call, so it needs to be copied
+      final var bytes = new byte[response.getLength()];
+      response.write(new UnsafeBuffer(bytes), 0);
+      final long pushId = response.getRequestId();
+
+      actor.run(() -> forwardPush(pushId, bytes));
+    };
+  }
+
+  private boolean writePush(
+      final LogStreamRecordWriter writer, final long pushId, final JobStream stream) {
+    pushMetadata.reset();
+    pushMetadata
+        .recordType(RecordType.COMMAND)
+        .valueType(ValueType.JOB_BATCH)
+        .intent(JobBatchIntent.ACTIVATE)
+        .requestStreamId(PUSH_REQUEST_STREAM_ID)
+        .requestId(pushId)
+        .protocolVersion(Protocol.PROTOCOL_VERSION);
+
+    writer.reset();
+    final long position =
+        writer
+            .keyNull()
+            .metadataWriter(pushMetadata)
+            .valueWriter(stream.request.getJobBatch())
+            .tryWrite();
+    return position >= 0;
+  }
+
+  private void forwardPush(final long pushId, final byte[] response) {
+    final PendingPush push = pendingPushes.remove(pushId);
+    if (push == null) {
+      LOG.trace("Expected to push the response of {}, but the push is unknown", pushId);
+      return;
+    }
+
+    final JobStreamPush message =
+        new JobStreamPush()
+            .setStreamId(push.stream.streamId)
+            .setResponse(BufferUtil.wrapArray(response));
+    final var bytes = new byte[message.getLength()];
+    message.write(new UnsafeBuffer(bytes), 0);
+
+    atomix.getCommunicationService().unicast(JOB_STREAM_PUSH_TOPIC, bytes, push.stream.gateway);
+  }
+
+  private void onJobStreamRequest(final MemberId gateway, final byte[] bytes) {
+    final JobStreamRequest request = new JobStreamRequest();
+    request.wrap(BufferUtil.wrapArray(bytes));
+
+    final String jobType = request.getJobBatch().getType();
+    final LinkedList<JobStream> streams =
+        streamsByType.computeIfAbsent(jobType, type -> new LinkedList<>());
+    streams.removeIf(stream -> stream.isIdentifiedBy(gateway, request.getStreamId()));
+
+    if (request.getCredits() > 0) {
+      streams.add(new JobStream(gateway, request));
+    }
+    if (streams.isEmpty()) {
+      streamsByType.remove(jobType);
+    }
+  }
+
+  private void removeStreams(final MemberId gateway) {
+    streamsByType.values().forEach(streams -> streams.removeIf(s -> s.gateway.equals(gateway)));
+    streamsByType.values().removeIf(LinkedList::isEmpty);
+    pendingPushes.values().removeIf(push -> push.stream.gateway.equals(gateway));
+  }
+
+  private static final class JobStream {
+    private final MemberId gateway;
+    private final long streamId;
+    private final JobStreamRequest request;
+
+    private JobStream(final MemberId gateway, final JobStreamRequest request) {
+      this.gateway = gateway;
+      streamId = request.getStreamId();
+      this.request = request;
+    }
+
+    private boolean isIdentifiedBy(final MemberId gateway, final long streamId) {
+      return this.streamId == streamId && this.gateway.equals(gateway);
+    }
+  }
+
+  private static final class PendingPush {
+    private final int partitionId;
+    private final JobStream stream;
+
+    private PendingPush(final int partitionId, final JobStream stream) {
+      this.partitionId = partitionId;
+      this.stream = stream;
+    }
+  }
+}
@@ -9,15 +9,38 @@ package io.zeebe.broker.engine.impl;
 
 import io.atomix.cluster.messaging.ClusterEventService;
 
+/**
+ * Notifies the gateways that jobs of a type became available on this partition. The notification
+ * carries the partition id as well, such that the gateways can activate the jobs directly on this
+ * partition instead of polling all partitions.
+ *
+ * <p>The payload is a {@code String[]} of {@code [partitionId, jobType]}.
+ *
+ * <p>Gateways of the previous version only subscribe to the legacy topic, with only the job type as
+ * payload, and poll all partitions on it. The notification is broadcast on the legacy topic only if
+ * this is enabled, e.g. while these gateways are upgraded. Current gateways ignore the legacy
+ * topic.
+ */
 public final class LongPollingJobNotification {
-  private static final String TOPIC = "jobsAvailable";
+  private static final String TOPIC = "partitionJobsAvailable";
+  private static final String LEGACY_TOPIC = "jobsAvailable";
   private final ClusterEventService eventService;
+  private final String partitionId;
+  private final boolean notifyLegacyGateways;
 
-  public LongPollingJobNotification(final ClusterEventService eventService) {
+  public LongPollingJobNotification(
+      final ClusterEventService eventService,
+      final int partitionId,
+      final boolean notifyLegacyGateways) {
     this.eventService = eventService;
+    this.partitionId = Integer.toString(partitionId);
+    this.notifyLegacyGateways = notifyLegacyGateways;
   }
 
   public void onJobsAvailable(final String jobType) {
-    eventService.broadcast(TOPIC, jobType);
+    eventService.broadcast(TOPIC, new String[] {partitionId, jobType});
+    if (notifyLegacyGateways) {
+      eventService.broadcast(LEGACY_TOPIC, jobType);
+    }
   }
 }
@@ -8,9 +8,20 @@
 package io.zeebe.broker.exporter.metrics;
 
 import io.prometheus.client.Histogram;
+import java.util.HashMap;
+import java.util.Map;
 
 public class ExecutionLatencyMetrics {
 
+  /**
+   * The maximum of distinct job types and BPMN process ids which are used as label values per
+   * partition. Further values are observed under {@link #OTHER_LABEL_VALUE}, to bound the number of
+   * time series.
+   */
+  static final int MAX_LABEL_VALUES = 100;
+
+  static final String OTHER_LABEL_VALUE = "other";
+
   private static final Histogram WORKFLOW_INSTANCE_EXECUTION =
       Histogram.build()
           .namespace("zeebe")
@@ -35,6 +46,26 @@ public class ExecutionLatencyMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Histogram WORKFLOW_EXECUTION =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("workflow_execution_time")
+          .help("The execution time of processing a complete workflow instance per BPMN process id")
+          .labelNames("partition", "bpmnProcessId")
+          .register();
+
+  private static final Histogram JOB_EXECUTION_TIME =
+      Histogram.build()
+          .namespace("zeebe")
+          .name("job_execution_time")
+          .help("The time from the activation until the completion of a job per job type")
+          .labelNames("partition", "jobType")
+          .register();
+
+  // the children are cached to not allocate the label values on every observation
+  private final Map<String, Histogram.Child> workflowExecutionByProcessId = new HashMap<>();
+  private final Map<String, Histogram.Child> jobExecutionTimeByType = new HashMap<>();
+
   public void observeWorkflowInstanceExecutionTime(
       final int partitionId, final long creationTimeMs, final long completionTimeMs) {
     WORKFLOW_INSTANCE_EXECUTION
@@ -56,6 +87,40 @@ public class ExecutionLatencyMetrics {
         .observe(latencyInSeconds(creationTimeMs, activationTimeMs));
   }
 
+  public void observeWorkflowExecutionTime(
+      final int partitionId,
+      final String bpmnProcessId,
+      final long creationTimeMs,
+      final long completionTimeMs) {
+    getChild(WORKFLOW_EXECUTION, workflowExecutionByProcessId, partitionId, bpmnProcessId)
+        .observe(latencyInSeconds(creationTimeMs, completionTimeMs));
+  }
+
+  public void observeJobExecutionTime(
+      final int partitionId,
+      final String jobType,
+      final long activationTimeMs,
+      final long completionTimeMs) {
+    getChild(JOB_EXECUTION_TIME, jobExecutionTimeByType, partitionId, jobType)
+        .observe(latencyInSeconds(activationTimeMs, completionTimeMs));
+  }
+
+  private static Histogram.Child getChild(
+      final Histogram histogram,
+      final Map<String, Histogram.Child> children,
+      final int partitionId,
+      final String labelValue) {
+    final var child = children.get(labelValue);
+    if (child != null) {
+      return child;
+    }
+
+    final var limitedLabelValue =
+        children.size() < MAX_LABEL_VALUES ? labelValue : OTHER_LABEL_VALUE;
+    return children.computeIfAbsent(
+        limitedLabelValue, value -> histogram.labels(Integer.toString(partitionId), value));
+  }
+
   /**
    * Takes start and end time in milliseconds and calculates the difference (latency) in seconds.
    *
@@ -9,6 +9,7 @@ package io.zeebe.broker.exporter.metrics;
 
 import io.zeebe.broker.system.configuration.ExporterCfg;
 import io.zeebe.exporter.api.Exporter;
+import io.zeebe.exporter.api.context.Context;
 import io.zeebe.exporter.api.context.Controller;
 import io.zeebe.protocol.record.Record;
 import io.zeebe.protocol.record.RecordType;
@@ -16,43 +17,61 @@ import io.zeebe.protocol.record.ValueType;
 import io.zeebe.protocol.record.intent.JobIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
 import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.protocol.record.value.JobRecordValue;
 import io.zeebe.protocol.record.value.WorkflowInstanceRecordValue;
 import java.time.Duration;
-import java.util.NavigableMap;
-import java.util.TreeMap;
-import org.agrona.collections.Long2LongHashMap;
 
 public class MetricsExporter implements Exporter {
 
-  public static final Duration TIME_TO_LIVE = Duration.ofSeconds(10);
-  private final ExecutionLatencyMetrics executionLatencyMetrics;
-  private final Long2LongHashMap jobKeyToCreationTimeMap;
-  private final Long2LongHashMap workflowInstanceKeyToCreationTimeMap;
+  private static final Duration BUCKET_WIDTH = Duration.ofSeconds(1);
 
-  private final NavigableMap<Long, Long> creationTimeToJobKeyNavigableMap;
-  private final NavigableMap<Long, Long> creationTimeToWorkflowInstanceKeyNavigableMap;
+  private final ExecutionLatencyMetrics executionLatencyMetrics;
+  private TtlKeyCache jobKeyToCreationTime;
+  private TtlKeyCache jobKeyToActivationTime;
+  private TtlKeyCache workflowInstanceKeyToCreationTime;
 
   private Controller controller;
 
   public MetricsExporter() {
     executionLatencyMetrics = new ExecutionLatencyMetrics();
-    jobKeyToCreationTimeMap = new Long2LongHashMap(-1);
-    workflowInstanceKeyToCreationTimeMap = new Long2LongHashMap(-1);
-    creationTimeToJobKeyNavigableMap = new TreeMap<>();
-    creationTimeToWorkflowInstanceKeyNavigableMap = new TreeMap<>();
+  }
+
+  @Override
+  public void configure(final Context context) {
+    final MetricsExporterConfiguration configuration =
+        context.getConfiguration().instantiate(MetricsExporterConfiguration.class);
+    if (configuration.getTimeToLive() <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected timeToLive to be greater than 0, but was %d",
+              configuration.getTimeToLive()));
+    }
+    if (configuration.getMaxEntries() <= 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected maxEntries to be greater than 0, but was %d",
+              configuration.getMaxEntries()));
+    }
+
+    final Duration timeToLive = Duration.ofSeconds(configuration.getTimeToLive());
+    final int maxEntries = configuration.getMaxEntries();
+    jobKeyToCreationTime = new TtlKeyCache(timeToLive, BUCKET_WIDTH, maxEntries);
+    jobKeyToActivationTime = new TtlKeyCache(timeToLive, BUCKET_WIDTH, maxEntries);
+    workflowInstanceKeyToCreationTime = new TtlKeyCache(timeToLive, BUCKET_WIDTH, maxEntries);
   }
 
   @Override
   public void open(final Controller controller) {
     this.controller = controller;
 
-    controller.scheduleTask(TIME_TO_LIVE, this::cleanUp);
+    controller.scheduleTask(BUCKET_WIDTH, this::cleanUp);
   }
 
   @Override
   public void close() {
-    jobKeyToCreationTimeMap.clear();
-    workflowInstanceKeyToCreationTimeMap.clear();
+    jobKeyToCreationTime.clear();
+    jobKeyToActivationTime.clear();
+    workflowInstanceKeyToCreationTime.clear();
   }
 
   @Override
@@ -81,62 +100,57 @@ public class MetricsExporter implements Exporter {
 
     if (currentIntent == WorkflowInstanceIntent.ELEMENT_ACTIVATING
         && isWorkflowInstanceRecord(record)) {
-      storeWorkflowInstanceCreation(record.getTimestamp(), recordKey);
+      workflowInstanceKeyToCreationTime.put(recordKey, record.getTimestamp());
     } else if (currentIntent == WorkflowInstanceIntent.ELEMENT_COMPLETED
         && isWorkflowInstanceRecord(record)) {
-      final var creationTime = workflowInstanceKeyToCreationTimeMap.remove(recordKey);
-      executionLatencyMetrics.observeWorkflowInstanceExecutionTime(
-          partitionId, creationTime, record.getTimestamp());
+      final var creationTime = workflowInstanceKeyToCreationTime.remove(recordKey);
+      if (creationTime != TtlKeyCache.MISSING_TIMESTAMP) {
+        final var recordValue = (WorkflowInstanceRecordValue) record.getValue();
+        executionLatencyMetrics.observeWorkflowInstanceExecutionTime(
+            partitionId, creationTime, record.getTimestamp());
+        executionLatencyMetrics.observeWorkflowExecutionTime(
+            partitionId, recordValue.getBpmnProcessId(), creationTime, record.getTimestamp());
+      }
     }
   }
 
-  private void storeWorkflowInstanceCreation(final long creationTime, final long recordKey) {
-    workflowInstanceKeyToCreationTimeMap.put(recordKey, creationTime);
-    creationTimeToWorkflowInstanceKeyNavigableMap.put(creationTime, recordKey);
-  }
-
   private void handleJobRecord(
       final Record<?> record, final int partitionId, final long recordKey) {
     final var currentIntent = record.getIntent();
 
     if (currentIntent == JobIntent.CREATED) {
-      storeJobCreation(record.getTimestamp(), recordKey);
+      jobKeyToCreationTime.put(recordKey, record.getTimestamp());
     } else if (currentIntent == JobIntent.ACTIVATED) {
-      final var creationTime = jobKeyToCreationTimeMap.get(recordKey);
-      executionLatencyMetrics.observeJobActivationTime(
-          partitionId, creationTime, record.getTimestamp());
+      final var creationTime = jobKeyToCreationTime.get(recordKey);
+      if (creationTime != TtlKeyCache.MISSING_TIMESTAMP) {
+        executionLatencyMetrics.observeJobActivationTime(
+            partitionId, creationTime, record.getTimestamp());
+      }
+      jobKeyToActivationTime.put(recordKey, record.getTimestamp());
     } else if (currentIntent == JobIntent.COMPLETED) {
-      final var creationTime = jobKeyToCreationTimeMap.remove(recordKey);
-      executionLatencyMetrics.observeJobLifeTime(partitionId, creationTime, record.getTimestamp());
+      final var creationTime = jobKeyToCreationTime.remove(recordKey);
+      if (creationTime != TtlKeyCache.MISSING_TIMESTAMP) {
+        executionLatencyMetrics.observeJobLifeTime(
+            partitionId, creationTime, record.getTimestamp());
+      }
+
+      final var activationTime = jobKeyToActivationTime.remove(recordKey);
+      if (activationTime != TtlKeyCache.MISSING_TIMESTAMP) {
+        final var recordValue = (JobRecordValue) record.getValue();
+        executionLatencyMetrics.observeJobExecutionTime(
+            partitionId, recordValue.getType(), activationTime, record.getTimestamp());
+      }
     }
   }
 
-  private void storeJobCreation(final long creationTime, final long recordKey) {
-    jobKeyToCreationTimeMap.put(recordKey, creationTime);
-    creationTimeToJobKeyNavigableMap.put(creationTime, recordKey);
-  }
-
   private void cleanUp() {
     final var currentTimeMillis = System.currentTimeMillis();
 
-    final var deadTime = currentTimeMillis - TIME_TO_LIVE.toMillis();
-    clearMaps(deadTime, creationTimeToJobKeyNavigableMap, jobKeyToCreationTimeMap);
-    clearMaps(
-        deadTime,
-        creationTimeToWorkflowInstanceKeyNavigableMap,
-        workflowInstanceKeyToCreationTimeMap);
-  }
-
-  private void clearMaps(
-      final long deadTime,
-      final NavigableMap<Long, Long> timeToKeyMap,
-      final Long2LongHashMap keyToTimestampMap) {
-    final var outOfScopeInstances = timeToKeyMap.headMap(deadTime);
+    jobKeyToCreationTime.expire(currentTimeMillis);
+    jobKeyToActivationTime.expire(currentTimeMillis);
+    workflowInstanceKeyToCreationTime.expire(currentTimeMillis);
 
-    for (final Long key : outOfScopeInstances.values()) {
-      keyToTimestampMap.remove(key);
-    }
-    outOfScopeInstances.clear();
+    controller.scheduleTask(BUCKET_WIDTH, this::cleanUp);
   }
 
   public static ExporterCfg defaultConfig() {
@@ -153,4 +167,35 @@ public class MetricsExporter implements Exporter {
     final var recordValue = (WorkflowInstanceRecordValue) record.getValue();
     return BpmnElementType.PROCESS == recordValue.getBpmnElementType();
   }
+
+  public static class MetricsExporterConfiguration {
+
+    /**
+     * Time in seconds for which the creation and activation times are remembered. Instances and
+     * jobs which take longer to complete are not observed.
+     */
+    private long timeToLive = Duration.ofMinutes(1).toSeconds();
+
+    /**
+     * Maximum number of creation or activation times which are remembered, per kind and partition.
+     * If it is exceeded, the oldest times are forgotten before their time to live is over.
+     */
+    private int maxEntries = 100_000;
+
+    public long getTimeToLive() {
+      return timeToLive;
+    }
+
+    public void setTimeToLive(final long timeToLive) {
+      this.timeToLive = timeToLive;
+    }
+
+    public int getMaxEntries() {
+      return maxEntries;
+    }
+
+    public void setMaxEntries(final int maxEntries) {
+      this.maxEntries = maxEntries;
+    }
+  }
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.metrics;
+
+import java.time.Duration;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.LongHashSet;
+import org.agrona.collections.LongHashSet.LongIterator;
+
+/**
+ * Remembers a timestamp per key and forgets keys which are older than the time to live. The keys
+ * are grouped into a ring of buckets by their timestamp, such that expiring only has to drop whole
+ * buckets instead of traversing an ordered index of all timestamps. Since the entries are kept in
+ * primitive collections and the ring is fixed in size, neither storing nor expiring allocates.
+ *
+ * <p>The number of keys is bounded by the given maximum: if a new key exceeds it, the oldest
+ * buckets are dropped before their time to live is over.
+ */
+final class TtlKeyCache {
+
+  static final long MISSING_TIMESTAMP = -1;
+  private static final long NO_EPOCH = -1;
+
+  private final Long2LongHashMap keyToTimestamp = new Long2LongHashMap(MISSING_TIMESTAMP);
+  private final LongHashSet[] buckets;
+  private final long[] bucketEpochs;
+  private final long bucketWidthMs;
+  private final long timeToLiveMs;
+  private final int maxEntries;
+
+  TtlKeyCache(final Duration timeToLive, final Duration bucketWidth, final int maxEntries) {
+    timeToLiveMs = timeToLive.toMillis();
+    this.maxEntries = maxEntries;
+    bucketWidthMs = bucketWidth.toMillis();
+
+    // one more bucket than needed to cover the time to live, for the bucket which is filled now
+    final int bucketCount = (int) ((timeToLiveMs + bucketWidthMs - 1) / bucketWidthMs) + 1;
+    buckets = new LongHashSet[bucketCount];
+    bucketEpochs = new long[bucketCount];
+    for (int i = 0; i < bucketCount; i++) {
+      buckets[i] = new LongHashSet();
+      bucketEpochs[i] = NO_EPOCH;
+    }
+  }
+
+  void put(final long key, final long timestamp) {
+    final long previousTimestamp = keyToTimestamp.put(key, timestamp);
+    if (previousTimestamp != MISSING_TIMESTAMP) {
+      bucketOf(previousTimestamp).remove(key);
+    }
+
+    final long epoch = timestamp / bucketWidthMs;
+    final int index = indexOf(epoch);
+    if (bucketEpochs[index] < epoch) {
+      // the bucket still holds keys of an older round of the ring, which are expired by now
+      expireBucket(index);
+      bucketEpochs[index] = epoch;
+    }
+    // keys which are older than the bucket's epoch are expired together with the bucket
+    buckets[index].add(key);
+
+    while (keyToTimestamp.size() > maxEntries) {
+      expireOldestBucket();
+    }
+  }
+
+  long get(final long key) {
+    return keyToTimestamp.get(key);
+  }
+
+  long remove(final long key) {
+    final long timestamp = keyToTimestamp.remove(key);
+    if (timestamp != MISSING_TIMESTAMP) {
+      bucketOf(timestamp).remove(key);
+    }
+    return timestamp;
+  }
+
+  int size() {
+    return keyToTimestamp.size();
+  }
+
+  void expire(final long currentTimeMs) {
+    final long deadTime = currentTimeMs - timeToLiveMs;
+    for (int index = 0; index < buckets.length; index++) {
+      final long epoch = bucketEpochs[index];
+      if (epoch != NO_EPOCH && (epoch + 1) * bucketWidthMs <= deadTime) {
+        expireBucket(index);
+        bucketEpochs[index] = NO_EPOCH;
+      }
+    }
+  }
+
+  void clear() {
+    keyToTimestamp.clear();
+    for (int index = 0; index < buckets.length; index++) {
+      buckets[index].clear();
+      bucketEpochs[index] = NO_EPOCH;
+    }
+  }
+
+  private void expireOldestBucket() {
+    int oldestIndex = -1;
+    for (int index = 0; index < buckets.length; index++) {
+      final long epoch = bucketEpochs[index];
+      if (epoch != NO_EPOCH && (oldestIndex < 0 || epoch < bucketEpochs[oldestIndex])) {
+        oldestIndex = index;
+      }
+    }
+
+    expireBucket(oldestIndex);
+    bucketEpochs[oldestIndex] = NO_EPOCH;
+  }
+
+  private void expireBucket(final int index) {
+    final LongHashSet bucket = buckets[index];
+    final LongIterator keys = bucket.iterator();
+    while (keys.hasNext()) {
+      keyToTimestamp.remove(keys.nextValue());
+    }
+    bucket.clear();
+  }
+
+  private LongHashSet bucketOf(final long timestamp) {
+    return buckets[indexOf(timestamp / bucketWidthMs)];
+  }
+
+  private int indexOf(final long epoch) {
+    return (int) (epoch % buckets.length);
+  }
+}
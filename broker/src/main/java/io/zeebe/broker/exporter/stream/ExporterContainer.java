@@ -118,7 +118,7 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  boolean acceptRecord(final RecordMetadata metadata) {
     final Context.RecordFilter filter = context.getFilter();
     return filter.acceptType(metadata.getRecordType())
         && filter.acceptValue(metadata.getValueType());
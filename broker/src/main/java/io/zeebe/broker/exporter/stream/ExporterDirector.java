@@ -41,6 +41,8 @@ import org.slf4j.Logger;
 
 public final class ExporterDirector extends Actor {
 
+  public static final String IO_SUBSYSTEM = "exporter";
+
   private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
       "Expected to export record '{}' successfully, but exception was thrown.";
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
@@ -90,6 +92,16 @@ public final class ExporterDirector extends Actor {
     return name;
   }
 
+  @Override
+  public int getAffinity() {
+    return logStream.getPartitionId();
+  }
+
+  @Override
+  public String getIoSubsystem() {
+    return IO_SUBSYSTEM;
+  }
+
   @Override
   protected void onActorStarting() {
     final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
@@ -324,16 +336,28 @@ public final class ExporterDirector extends Actor {
     void wrap(final LoggedEvent rawEvent) {
       rawEvent.readMetadata(rawMetadata);
 
-      final UnifiedRecordValue recordValue =
-          recordValues.readRecordValue(rawEvent, rawMetadata.getValueType());
-
-      shouldExport = recordValue != null;
+      final ValueType valueType = rawMetadata.getValueType();
+      shouldExport = recordValues.hasRecordValue(valueType);
       if (shouldExport) {
+        // the exporters which filter out the record only need its position to update their
+        // skip position, so the value is only decoded if at least one exporter accepts it
+        final UnifiedRecordValue recordValue =
+            isAcceptedByAnyExporter() ? recordValues.readRecordValue(rawEvent, valueType) : null;
+
         typedEvent.wrap(rawEvent, rawMetadata, recordValue);
         exporterIndex = 0;
       }
     }
 
+    private boolean isAcceptedByAnyExporter() {
+      for (int i = 0; i < containers.size(); i++) {
+        if (containers.get(i).acceptRecord(rawMetadata)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
     public boolean export() {
       if (!shouldExport) {
         return true;
@@ -9,13 +9,17 @@ package io.zeebe.broker.logstreams;
 
 import io.atomix.raft.partition.impl.RaftPartitionServer;
 import io.zeebe.broker.Loggers;
+import io.zeebe.logstreams.storage.atomix.ZeebeIndexMapping;
 import java.util.concurrent.CompletableFuture;
 
 public final class AtomixLogCompactor implements LogCompactor {
   private final RaftPartitionServer partitionServer;
+  private final ZeebeIndexMapping indexMapping;
 
-  public AtomixLogCompactor(final RaftPartitionServer partitionServer) {
+  public AtomixLogCompactor(
+      final RaftPartitionServer partitionServer, final ZeebeIndexMapping indexMapping) {
     this.partitionServer = partitionServer;
+    this.indexMapping = indexMapping;
   }
 
   /**
@@ -31,4 +35,19 @@ public final class AtomixLogCompactor implements LogCompactor {
     partitionServer.setCompactableIndex(compactionBound);
     return partitionServer.snapshot();
   }
+
+  /**
+   * Sets the offload bound of the Atomix log to the index of the entry which contains the given
+   * position, such that only entries before it are moved to the cold storage directory.
+   *
+   * @param processedPosition the processed position of the latest snapshot
+   */
+  @Override
+  public void offloadLog(final long processedPosition) {
+    final long offloadBound = indexMapping.lookupPosition(processedPosition);
+    if (offloadBound > 0) {
+      Loggers.DELETION_SERVICE.debug("Offloading Atomix log up to index {}", offloadBound);
+      partitionServer.setOffloadBound(offloadBound);
+    }
+  }
 }
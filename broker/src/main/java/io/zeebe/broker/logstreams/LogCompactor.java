@@ -12,4 +12,12 @@ import java.util.concurrent.CompletableFuture;
 @FunctionalInterface
 public interface LogCompactor {
   CompletableFuture<Void> compactLog(final long compactionBound);
+
+  /**
+   * Allows the log entries which were processed before the given position to be moved to the cold
+   * storage directory, if one is configured.
+   *
+   * @param processedPosition the processed position of the latest snapshot
+   */
+  default void offloadLog(final long processedPosition) {}
 }
@@ -8,6 +8,7 @@
 package io.zeebe.broker.logstreams;
 
 import io.zeebe.broker.Loggers;
+import io.zeebe.snapshots.broker.impl.FileBasedSnapshotMetadata;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
 import io.zeebe.snapshots.raft.PersistedSnapshotStore;
@@ -56,6 +57,12 @@ public final class LogDeletionService extends Actor implements PersistedSnapshot
         .compactLog(compactionBound)
         .exceptionally(error -> logCompactionError(compactionBound, error))
         .join();
+
+    // the compaction bound is based on the lowest of the processed and exported position; entries
+    // up to the processed position are only read by exporters and lagging followers anymore
+    FileBasedSnapshotMetadata.ofFileName(persistedSnapshot.getId())
+        .map(FileBasedSnapshotMetadata::getProcessedPosition)
+        .ifPresent(logCompactor::offloadLog);
   }
 
   private Void logCompactionError(final long compactionBound, final Throwable error) {
@@ -9,6 +9,7 @@ package io.zeebe.broker.logstreams.state;
 
 import io.zeebe.broker.exporter.stream.ExportersState;
 import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.LastProcessedPositionState;
 
 public class StatePositionSupplier {
   public static long getHighestExportedPosition(final ZeebeDb zeebeDb) {
@@ -19,4 +20,9 @@ public class StatePositionSupplier {
       return Long.MAX_VALUE;
     }
   }
+
+  @SuppressWarnings("unchecked")
+  public static long getLastProcessedPosition(final ZeebeDb zeebeDb) {
+    return new LastProcessedPositionState(zeebeDb, zeebeDb.createContext()).getPosition();
+  }
 }
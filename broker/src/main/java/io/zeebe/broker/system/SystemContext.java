@@ -15,6 +15,7 @@ import io.zeebe.broker.system.configuration.ClusterCfg;
 import io.zeebe.broker.system.configuration.DataCfg;
 import io.zeebe.broker.system.configuration.ThreadsCfg;
 import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 import java.util.Collections;
@@ -134,12 +135,19 @@ public final class SystemContext {
     final int cpuThreads = cfg.getCpuThreadCount();
     final int ioThreads = cfg.getIoThreadCount();
 
-    return ActorScheduler.newActorScheduler()
-        .setActorClock(clock)
-        .setCpuBoundActorThreadCount(cpuThreads)
-        .setIoBoundActorThreadCount(ioThreads)
-        .setSchedulerName(brokerId)
-        .build();
+    final ActorSchedulerBuilder builder =
+        ActorScheduler.newActorScheduler()
+            .setActorClock(clock)
+            .setCpuBoundActorThreadCount(cpuThreads)
+            .setIoBoundActorThreadCount(ioThreads)
+            .setIoBoundActorMaxThreadCount(cfg.getMaxIoThreadCount())
+            .setSchedulerName(brokerId)
+            .setMetricsEnabled(cfg.isActorMetricsEnabled())
+            .setActorNameLoggingEnabled(cfg.isActorNameLoggingEnabled())
+            .setAffinityEnabled(cfg.isActorAffinityEnabled());
+    cfg.getIoSubsystemConcurrency().forEach(builder::setIoSubsystemConcurrency);
+
+    return builder.build();
   }
 
   public ActorScheduler getScheduler() {
@@ -23,6 +23,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   public static final int DEFAULT_REPLICATION_FACTOR = 1;
   public static final int DEFAULT_CLUSTER_SIZE = 1;
   public static final String DEFAULT_CLUSTER_NAME = "zeebe-cluster";
+  public static final boolean DEFAULT_FLUSH_CONSOLIDATION_ENABLED = false;
 
   private List<String> initialContactPoints = DEFAULT_CONTACT_POINTS;
 
@@ -33,6 +34,7 @@ public final class ClusterCfg implements ConfigurationEntry {
   private int clusterSize = DEFAULT_CLUSTER_SIZE;
   private String clusterName = DEFAULT_CLUSTER_NAME;
   private MembershipCfg membership = new MembershipCfg();
+  private boolean flushConsolidationEnabled = DEFAULT_FLUSH_CONSOLIDATION_ENABLED;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -106,6 +108,14 @@ public final class ClusterCfg implements ConfigurationEntry {
     this.membership = membership;
   }
 
+  public boolean isFlushConsolidationEnabled() {
+    return flushConsolidationEnabled;
+  }
+
+  public void setFlushConsolidationEnabled(final boolean flushConsolidationEnabled) {
+    this.flushConsolidationEnabled = flushConsolidationEnabled;
+  }
+
   @Override
   public String toString() {
     return "ClusterCfg{"
@@ -126,6 +136,8 @@ public final class ClusterCfg implements ConfigurationEntry {
         + '\''
         + ", membership="
         + membership
+        + ", flushConsolidationEnabled="
+        + flushConsolidationEnabled
         + '}';
   }
 }
@@ -37,6 +37,10 @@ public final class DataCfg implements ConfigurationEntry {
 
   private DataSize logSegmentSize = DEFAULT_DATA_SIZE;
 
+  private DataSize logSegmentDeletionRate = DataSize.ofBytes(0);
+
+  private String logColdDirectory;
+
   private Duration snapshotPeriod = Duration.ofMinutes(15);
 
   private int logIndexDensity = 100;
@@ -51,6 +55,9 @@ public final class DataCfg implements ConfigurationEntry {
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
     directories.replaceAll(d -> ConfigurationUtil.toAbsolutePath(d, brokerBase));
+    if (logColdDirectory != null) {
+      logColdDirectory = ConfigurationUtil.toAbsolutePath(logColdDirectory, brokerBase);
+    }
     if (!diskUsageMonitoringEnabled) {
       LOG.info(
           "Disk usage watermarks are disabled, setting all watermarks to {}",
@@ -81,6 +88,27 @@ public final class DataCfg implements ConfigurationEntry {
     this.logSegmentSize = logSegmentSize;
   }
 
+  public long getLogSegmentDeletionRateInBytes() {
+    return Optional.ofNullable(logSegmentDeletionRate).orElse(DataSize.ofBytes(0)).toBytes();
+  }
+
+  public DataSize getLogSegmentDeletionRate() {
+    return logSegmentDeletionRate;
+  }
+
+  public void setLogSegmentDeletionRate(final DataSize logSegmentDeletionRate) {
+    this.logSegmentDeletionRate = logSegmentDeletionRate;
+  }
+
+  public String getLogColdDirectory() {
+    return logColdDirectory;
+  }
+
+  public void setLogColdDirectory(final String logColdDirectory) {
+    this.logColdDirectory =
+        logColdDirectory == null || logColdDirectory.isBlank() ? null : logColdDirectory.trim();
+  }
+
   public Duration getSnapshotPeriod() {
     return snapshotPeriod;
   }
@@ -166,6 +194,10 @@ public final class DataCfg implements ConfigurationEntry {
         + directories
         + ", logSegmentSize="
         + logSegmentSize
+        + ", logSegmentDeletionRate="
+        + logSegmentDeletionRate
+        + ", logColdDirectory="
+        + logColdDirectory
         + ", snapshotPeriod="
         + snapshotPeriod
         + ", logIndexDensity="
@@ -21,11 +21,18 @@ public class ExperimentalCfg {
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
   private static final boolean DEFAULT_DETECT_REPROCESSING_INCONSISTENCY = false;
+  private static final boolean DEFAULT_ENABLE_HOT_STANDBY = false;
+  private static final int DEFAULT_WORKFLOW_CACHE_CAPACITY = 1_000;
+  private static final boolean DEFAULT_ENABLE_LEGACY_JOBS_AVAILABLE_NOTIFICATION = false;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
   private boolean detectReprocessingInconsistency = DEFAULT_DETECT_REPROCESSING_INCONSISTENCY;
+  private boolean enableHotStandby = DEFAULT_ENABLE_HOT_STANDBY;
+  private int workflowCacheCapacity = DEFAULT_WORKFLOW_CACHE_CAPACITY;
+  private boolean enableLegacyJobsAvailableNotification =
+      DEFAULT_ENABLE_LEGACY_JOBS_AVAILABLE_NOTIFICATION;
 
   public int getMaxAppendsPerFollower() {
     return maxAppendsPerFollower;
@@ -63,6 +70,31 @@ public class ExperimentalCfg {
     this.detectReprocessingInconsistency = detectReprocessingInconsistency;
   }
 
+  public boolean isEnableHotStandby() {
+    return enableHotStandby;
+  }
+
+  public void setEnableHotStandby(final boolean enableHotStandby) {
+    this.enableHotStandby = enableHotStandby;
+  }
+
+  public int getWorkflowCacheCapacity() {
+    return workflowCacheCapacity;
+  }
+
+  public void setWorkflowCacheCapacity(final int workflowCacheCapacity) {
+    this.workflowCacheCapacity = workflowCacheCapacity;
+  }
+
+  public boolean isEnableLegacyJobsAvailableNotification() {
+    return enableLegacyJobsAvailableNotification;
+  }
+
+  public void setEnableLegacyJobsAvailableNotification(
+      final boolean enableLegacyJobsAvailableNotification) {
+    this.enableLegacyJobsAvailableNotification = enableLegacyJobsAvailableNotification;
+  }
+
   @Override
   public String toString() {
     return "ExperimentalCfg{"
@@ -74,6 +106,12 @@ public class ExperimentalCfg {
         + disableExplicitRaftFlush
         + ", detectReprocessingInconsistency="
         + detectReprocessingInconsistency
+        + ", enableHotStandby="
+        + enableHotStandby
+        + ", workflowCacheCapacity="
+        + workflowCacheCapacity
+        + ", enableLegacyJobsAvailableNotification="
+        + enableLegacyJobsAvailableNotification
         + '}';
   }
 }
@@ -7,9 +7,17 @@
  */
 package io.zeebe.broker.system.configuration;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public final class ThreadsCfg implements ConfigurationEntry {
   private int cpuThreadCount = 2;
   private int ioThreadCount = 2;
+  private int maxIoThreadCount = 2;
+  private Map<String, Integer> ioSubsystemConcurrency = new HashMap<>();
+  private boolean actorMetricsEnabled = false;
+  private boolean actorNameLoggingEnabled = true;
+  private boolean actorAffinityEnabled = false;
 
   public int getCpuThreadCount() {
     return cpuThreadCount;
@@ -27,6 +35,46 @@ public final class ThreadsCfg implements ConfigurationEntry {
     ioThreadCount = ioThreads;
   }
 
+  public int getMaxIoThreadCount() {
+    return maxIoThreadCount;
+  }
+
+  public void setMaxIoThreadCount(final int maxIoThreadCount) {
+    this.maxIoThreadCount = maxIoThreadCount;
+  }
+
+  public Map<String, Integer> getIoSubsystemConcurrency() {
+    return ioSubsystemConcurrency;
+  }
+
+  public void setIoSubsystemConcurrency(final Map<String, Integer> ioSubsystemConcurrency) {
+    this.ioSubsystemConcurrency = ioSubsystemConcurrency;
+  }
+
+  public boolean isActorMetricsEnabled() {
+    return actorMetricsEnabled;
+  }
+
+  public void setActorMetricsEnabled(final boolean actorMetricsEnabled) {
+    this.actorMetricsEnabled = actorMetricsEnabled;
+  }
+
+  public boolean isActorNameLoggingEnabled() {
+    return actorNameLoggingEnabled;
+  }
+
+  public void setActorNameLoggingEnabled(final boolean actorNameLoggingEnabled) {
+    this.actorNameLoggingEnabled = actorNameLoggingEnabled;
+  }
+
+  public boolean isActorAffinityEnabled() {
+    return actorAffinityEnabled;
+  }
+
+  public void setActorAffinityEnabled(final boolean actorAffinityEnabled) {
+    this.actorAffinityEnabled = actorAffinityEnabled;
+  }
+
   @Override
   public String toString() {
     return "ThreadsCfg{"
@@ -34,6 +82,16 @@ public final class ThreadsCfg implements ConfigurationEntry {
         + cpuThreadCount
         + ", ioThreadCount="
         + ioThreadCount
+        + ", maxIoThreadCount="
+        + maxIoThreadCount
+        + ", ioSubsystemConcurrency="
+        + ioSubsystemConcurrency
+        + ", actorMetricsEnabled="
+        + actorMetricsEnabled
+        + ", actorNameLoggingEnabled="
+        + actorNameLoggingEnabled
+        + ", actorAffinityEnabled="
+        + actorAffinityEnabled
         + '}';
   }
 }
@@ -8,6 +8,8 @@
 package io.zeebe.broker.system.configuration.backpressure;
 
 import io.zeebe.broker.system.configuration.ConfigurationEntry;
+import java.util.HashMap;
+import java.util.Map;
 
 public final class BackpressureCfg implements ConfigurationEntry {
 
@@ -19,6 +21,7 @@ public final class BackpressureCfg implements ConfigurationEntry {
   private final VegasCfg vegas = new VegasCfg();
   private final GradientCfg gradient = new GradientCfg();
   private final Gradient2Cfg gradient2 = new Gradient2Cfg();
+  private Map<String, CommandClassCfg> classes = new HashMap<>();
 
   public boolean isEnabled() {
     return enabled;
@@ -65,6 +68,14 @@ public final class BackpressureCfg implements ConfigurationEntry {
     return gradient2;
   }
 
+  public Map<String, CommandClassCfg> getClasses() {
+    return classes;
+  }
+
+  public void setClasses(final Map<String, CommandClassCfg> classes) {
+    this.classes = classes;
+  }
+
   @Override
   public String toString() {
     return "BackpressureCfg{"
@@ -85,6 +96,8 @@ public final class BackpressureCfg implements ConfigurationEntry {
         + gradient
         + ", gradient2="
         + gradient2
+        + ", classes="
+        + classes
         + '}';
   }
 
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.configuration.backpressure;
+
+import static io.zeebe.broker.system.configuration.ConfigurationUtil.checkPositive;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A class of commands which gets a weighted share of the backpressure limit. Commands are assigned
+ * either by value type (e.g. {@code MESSAGE}) or by value type and intent (e.g. {@code
+ * JOB:COMPLETE}).
+ */
+public class CommandClassCfg {
+
+  private int weight = 1;
+  private List<String> valueTypes = new ArrayList<>();
+  private List<String> intents = new ArrayList<>();
+
+  public int getWeight() {
+    return weight;
+  }
+
+  public void setWeight(final int weight) {
+    checkPositive(weight, "weight");
+    this.weight = weight;
+  }
+
+  public List<String> getValueTypes() {
+    return valueTypes;
+  }
+
+  public void setValueTypes(final List<String> valueTypes) {
+    this.valueTypes = valueTypes;
+  }
+
+  public List<String> getIntents() {
+    return intents;
+  }
+
+  public void setIntents(final List<String> intents) {
+    this.intents = intents;
+  }
+
+  @Override
+  public String toString() {
+    return "CommandClassCfg{"
+        + "weight="
+        + weight
+        + ", valueTypes="
+        + valueTypes
+        + ", intents="
+        + intents
+        + '}';
+  }
+}
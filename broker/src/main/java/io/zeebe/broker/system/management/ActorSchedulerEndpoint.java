@@ -0,0 +1,33 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.management;
+
+import io.zeebe.broker.SpringBrokerBridge;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorThreadStatus;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** Lists which actor each actor thread is currently executing, to find actors which block. */
+@Component
+@Endpoint(id = "actors")
+public class ActorSchedulerEndpoint {
+
+  @Autowired private SpringBrokerBridge springBrokerBridge;
+
+  @ReadOperation
+  public List<ActorThreadStatus> threadStatuses() {
+    return springBrokerBridge
+        .getActorScheduler()
+        .map(ActorScheduler::getThreadStatuses)
+        .orElse(List.of());
+  }
+}
@@ -30,6 +30,15 @@ public interface BrokerAdminService {
    */
   void prepareForUpgrade();
 
+  /**
+   * Enables or disables the latency metrics of the single processing phases, such as reading,
+   * processing or committing a record. These metrics are disabled by default, since they add a
+   * small overhead to the processing of each record.
+   *
+   * @param enabled true to enable the metrics, false to disable them
+   */
+  void setProcessingPhaseMetricsEnabled(boolean enabled);
+
   /**
    * Returns {@link PartitionStatus} of all partitions running on this broker.
    *
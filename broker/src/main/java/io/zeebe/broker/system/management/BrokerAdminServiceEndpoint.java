@@ -30,6 +30,8 @@ public class BrokerAdminServiceEndpoint {
     operations.put("resumeProcessing", this::resumeProcessing);
     operations.put("takeSnapshot", this::takeSnapshot);
     operations.put("prepareUpgrade", this::prepareUpgrade);
+    operations.put("enablePhaseMetrics", () -> setProcessingPhaseMetricsEnabled(true));
+    operations.put("disablePhaseMetrics", () -> setProcessingPhaseMetricsEnabled(false));
   }
 
   @WriteOperation
@@ -63,6 +65,13 @@ public class BrokerAdminServiceEndpoint {
     return partitionStatus();
   }
 
+  private Map<Integer, PartitionStatus> setProcessingPhaseMetricsEnabled(final boolean enabled) {
+    springBrokerBridge
+        .getAdminService()
+        .ifPresent(adminService -> adminService.setProcessingPhaseMetricsEnabled(enabled));
+    return partitionStatus();
+  }
+
   @ReadOperation
   public Map<Integer, PartitionStatus> partitionStatus() {
     return springBrokerBridge
@@ -9,6 +9,7 @@ package io.zeebe.broker.system.management;
 
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.system.partitions.ZeebePartition;
+import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.StreamProcessor;
 import io.zeebe.snapshots.broker.impl.FileBasedSnapshotMetadata;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
@@ -57,6 +58,12 @@ public class BrokerAdminServiceImpl extends Actor implements BrokerAdminService
     actor.call(this::prepareAllPartitionsForSafeUpgrade);
   }
 
+  @Override
+  public void setProcessingPhaseMetricsEnabled(final boolean enabled) {
+    LOG.info("{} processing phase metrics on all partitions.", enabled ? "Enabling" : "Disabling");
+    StreamProcessorMetrics.setPhaseMetricsEnabled(enabled);
+  }
+
   @Override
   public Map<Integer, PartitionStatus> getPartitionStatus() {
     final CompletableFuture<Map<Integer, PartitionStatus>> future = new CompletableFuture<>();
@@ -60,6 +60,7 @@ public class PartitionContext {
   private ZeebeDb zeebeDb;
   private boolean diskSpaceAvailable;
   private boolean isProcessingPaused;
+  private boolean runtimeReplayed;
   private ActorControl actor;
   private ScheduledTimer metricsTimer;
   private ExporterDirector exporterDirector;
@@ -271,6 +272,19 @@ public class PartitionContext {
     isProcessingPaused = processingPaused;
   }
 
+  /**
+   * @return true if the runtime state was last written by a hot-standby follower, which only
+   *     replayed committed records, such that it can be reused instead of recovering the state from
+   *     the latest snapshot
+   */
+  public boolean isRuntimeReplayed() {
+    return runtimeReplayed;
+  }
+
+  public void setRuntimeReplayed(final boolean runtimeReplayed) {
+    this.runtimeReplayed = runtimeReplayed;
+  }
+
   public boolean shouldProcess() {
     return isDiskSpaceAvailable() && !isProcessingPaused();
   }
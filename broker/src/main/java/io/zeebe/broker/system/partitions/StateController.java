@@ -27,6 +27,13 @@ public interface StateController extends AutoCloseable {
   /** Recovers the state from the latest snapshot. */
   void recover() throws Exception;
 
+  /**
+   * Reuses the state of the runtime directory if it is not behind the latest snapshot, e.g. because
+   * it was kept up to date by replaying the log as a follower. Otherwise it recovers the state from
+   * the latest snapshot, see {@link #recover()}.
+   */
+  void recoverFromRuntime() throws Exception;
+
   /**
    * Opens the database from the latest snapshot.
    *
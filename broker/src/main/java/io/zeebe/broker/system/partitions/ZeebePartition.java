@@ -189,6 +189,11 @@ public final class ZeebePartition extends Actor
     return actorName;
   }
 
+  @Override
+  public int getAffinity() {
+    return context.getPartitionId();
+  }
+
   @Override
   public void onActorStarting() {
     context.setAtomixLogStorage(
@@ -23,6 +23,7 @@ import org.slf4j.Logger;
 public final class AsyncSnapshotDirector extends Actor {
 
   public static final Duration MINIMUM_SNAPSHOT_PERIOD = Duration.ofMinutes(1);
+  public static final String IO_SUBSYSTEM = "snapshot";
 
   private static final Logger LOG = Loggers.SNAPSHOT_LOGGER;
   private static final String LOG_MSG_WAIT_UNTIL_COMMITTED =
@@ -66,6 +67,16 @@ public final class AsyncSnapshotDirector extends Actor {
     return actorName;
   }
 
+  @Override
+  public int getAffinity() {
+    return logStream.getPartitionId();
+  }
+
+  @Override
+  public String getIoSubsystem() {
+    return IO_SUBSYSTEM;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.setSchedulingHints(SchedulingHints.ioBound());
@@ -27,6 +27,7 @@ public class PartitionTransitionImpl implements PartitionTransition {
   private final List<PartitionStep> leaderSteps;
   private final List<PartitionStep> followerSteps;
   private final List<PartitionStep> openedSteps = new ArrayList<>();
+  private final PartitionTransitionMetrics metrics;
   private CompletableActorFuture<Void> currentTransition = CompletableActorFuture.completed(null);
 
   public PartitionTransitionImpl(
@@ -36,6 +37,7 @@ public class PartitionTransitionImpl implements PartitionTransition {
     this.context = context;
     this.leaderSteps = leaderSteps;
     this.followerSteps = followerSteps;
+    metrics = new PartitionTransitionMetrics(context.getPartitionId());
   }
 
   @Override
@@ -71,11 +73,12 @@ public class PartitionTransitionImpl implements PartitionTransition {
 
   private void transition(
       final CompletableActorFuture<Void> future, final List<PartitionStep> steps) {
+    final long transitionStart = System.currentTimeMillis();
     closePartition()
         .onComplete(
             (nothing, err) -> {
               if (err == null) {
-                installPartition(future, new ArrayList<>(steps));
+                installPartition(future, new ArrayList<>(steps), transitionStart);
               } else {
                 future.completeExceptionally(err);
               }
@@ -83,17 +86,23 @@ public class PartitionTransitionImpl implements PartitionTransition {
   }
 
   private void installPartition(
-      final CompletableActorFuture<Void> future, final List<PartitionStep> steps) {
+      final CompletableActorFuture<Void> future,
+      final List<PartitionStep> steps,
+      final long transitionStart) {
     if (steps.isEmpty()) {
+      final long transitionDuration = System.currentTimeMillis() - transitionStart;
+      metrics.observeTransitionDuration(transitionDuration);
       LOG.debug(
-          "Partition {} transition complete, installed {} resources!",
+          "Partition {} transition complete, installed {} resources in {} ms!",
           context.getPartitionId(),
-          openedSteps.size());
+          openedSteps.size(),
+          transitionDuration);
       future.complete(null);
       return;
     }
 
     final PartitionStep step = steps.remove(0);
+    final long stepStart = System.currentTimeMillis();
     step.open(context)
         .onComplete(
             (value, err) -> {
@@ -101,8 +110,15 @@ public class PartitionTransitionImpl implements PartitionTransition {
                 LOG.error("Expected to open step '{}' but failed with", step.getName(), err);
                 future.completeExceptionally(err);
               } else {
+                final long stepDuration = System.currentTimeMillis() - stepStart;
+                metrics.observeStepOpenDuration(step.getName(), stepDuration);
+                LOG.debug(
+                    "Partition {} opened step '{}' in {} ms",
+                    context.getPartitionId(),
+                    step.getName(),
+                    stepDuration);
                 openedSteps.add(step);
-                installPartition(future, steps);
+                installPartition(future, steps, transitionStart);
               }
             });
   }
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl;
+
+import io.prometheus.client.Gauge;
+
+/** Metrics of the steps which are opened when a partition transitions to a new role */
+public class PartitionTransitionMetrics {
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL_NAME = "partition";
+  private static final String STEP_NAME_LABEL_NAME = "stepName";
+
+  private static final Gauge STEP_OPEN_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME, STEP_NAME_LABEL_NAME)
+          .help("Time in milliseconds to open each step of the last partition transition")
+          .name("partition_transition_step_latency")
+          .register();
+
+  private static final Gauge TRANSITION_DURATION =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .labelNames(PARTITION_LABEL_NAME)
+          .help("Time in milliseconds to complete the last partition transition")
+          .name("partition_transition_latency")
+          .register();
+
+  private final String partitionId;
+
+  public PartitionTransitionMetrics(final int partitionId) {
+    this.partitionId = String.valueOf(partitionId);
+  }
+
+  public void observeStepOpenDuration(final String stepName, final long durationMillis) {
+    STEP_OPEN_DURATION.labels(partitionId, stepName).set(durationMillis);
+  }
+
+  public void observeTransitionDuration(final long durationMillis) {
+    TRANSITION_DURATION.labels(partitionId).set(durationMillis);
+  }
+}
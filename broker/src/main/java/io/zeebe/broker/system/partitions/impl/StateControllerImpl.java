@@ -14,6 +14,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.logstreams.impl.Loggers;
 import io.zeebe.snapshots.broker.ConstructableSnapshotStore;
+import io.zeebe.snapshots.broker.impl.FileBasedSnapshotMetadata;
 import io.zeebe.snapshots.raft.PersistedSnapshot;
 import io.zeebe.snapshots.raft.PersistedSnapshotListener;
 import io.zeebe.snapshots.raft.ReceivableSnapshotStore;
@@ -43,6 +44,7 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
   private final Path runtimeDirectory;
   private final ZeebeDbFactory zeebeDbFactory;
   private final ToLongFunction<ZeebeDb> exporterPositionSupplier;
+  private final ToLongFunction<ZeebeDb> processedPositionSupplier;
   private final AtomixRecordEntrySupplier entrySupplier;
 
   private final SnapshotReplicationMetrics metrics;
@@ -59,12 +61,14 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
       final Path runtimeDirectory,
       final SnapshotReplication replication,
       final AtomixRecordEntrySupplier entrySupplier,
-      final ToLongFunction<ZeebeDb> exporterPositionSupplier) {
+      final ToLongFunction<ZeebeDb> exporterPositionSupplier,
+      final ToLongFunction<ZeebeDb> processedPositionSupplier) {
     this.constructableSnapshotStore = constructableSnapshotStore;
     this.receivableSnapshotStore = receivableSnapshotStore;
     this.runtimeDirectory = runtimeDirectory;
     this.zeebeDbFactory = zeebeDbFactory;
     this.exporterPositionSupplier = exporterPositionSupplier;
+    this.processedPositionSupplier = processedPositionSupplier;
     this.entrySupplier = entrySupplier;
     this.replication = replication;
     metrics = new SnapshotReplicationMetrics(Integer.toString(partitionId));
@@ -136,6 +140,16 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     }
   }
 
+  @Override
+  public void recoverFromRuntime() throws Exception {
+    if (Files.exists(runtimeDirectory) && isRuntimeReusable()) {
+      return;
+    }
+
+    close();
+    recover();
+  }
+
   @Override
   public ZeebeDb openDb() {
     if (db == null) {
@@ -160,6 +174,62 @@ public class StateControllerImpl implements StateController, PersistedSnapshotLi
     }
   }
 
+  private boolean isRuntimeReusable() {
+    final long processedPosition;
+    final long exportedPosition;
+    try {
+      final ZeebeDb zeebeDb = openDb();
+      processedPosition = processedPositionSupplier.applyAsLong(zeebeDb);
+      exportedPosition = exporterPositionSupplier.applyAsLong(zeebeDb);
+    } catch (final Exception e) {
+      LOG.warn(
+          "Failed to open runtime state from '{}', recover from snapshot instead.",
+          runtimeDirectory,
+          e);
+      return false;
+    }
+
+    final var optLatestSnapshot = constructableSnapshotStore.getLatestSnapshot();
+    if (optLatestSnapshot.isPresent()) {
+      final var snapshot = optLatestSnapshot.get();
+      final var optMetadata = FileBasedSnapshotMetadata.ofFileName(snapshot.getId());
+      if (optMetadata.isEmpty()) {
+        LOG.debug(
+            "Expected to reuse runtime state, but failed to read the positions of snapshot {}",
+            snapshot.getId());
+        return false;
+      }
+
+      final var metadata = optMetadata.get();
+      if (processedPosition < metadata.getProcessedPosition()) {
+        LOG.debug(
+            "Expected to reuse runtime state, but its processed position {} is behind the processed position {} of the latest snapshot",
+            processedPosition,
+            metadata.getProcessedPosition());
+        return false;
+      }
+
+      // the log is compacted up to the snapshot position, such that the exporters of the runtime
+      // can only continue if they are not behind it
+      final long snapshotPosition =
+          Math.min(metadata.getProcessedPosition(), metadata.getExportedPosition());
+      if (exportedPosition < snapshotPosition) {
+        LOG.debug(
+            "Expected to reuse runtime state, but its exported position {} is behind the position {} up to which the log may be compacted",
+            exportedPosition,
+            snapshotPosition);
+        return false;
+      }
+    }
+
+    LOG.debug(
+        "Reuse runtime state from '{}' at processed position {} and exported position {}.",
+        runtimeDirectory,
+        processedPosition,
+        exportedPosition);
+    return true;
+  }
+
   boolean isDbOpened() {
     return db != null;
   }
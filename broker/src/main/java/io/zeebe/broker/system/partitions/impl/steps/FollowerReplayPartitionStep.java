@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.system.partitions.impl.steps;
+
+import io.zeebe.broker.Loggers;
+import io.zeebe.broker.system.partitions.PartitionContext;
+import io.zeebe.broker.system.partitions.PartitionStep;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.processing.streamprocessor.StreamProcessor;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.util.sched.ActorControl;
+import io.zeebe.util.sched.future.ActorFuture;
+import io.zeebe.util.sched.future.CompletableActorFuture;
+
+/**
+ * Keeps the state of a hot-standby follower up to date by replaying the committed records into its
+ * own runtime state. On becoming leader, this state is reused instead of recovering from the latest
+ * snapshot, see {@link ZeebeDbPartitionStep}.
+ */
+public class FollowerReplayPartitionStep implements PartitionStep {
+
+  @Override
+  public ActorFuture<Void> open(final PartitionContext context) {
+    final ZeebeDb zeebeDb;
+    try {
+      if (context.isRuntimeReplayed()) {
+        context.getSnapshotController().recoverFromRuntime();
+      } else {
+        context.getSnapshotController().recover();
+      }
+      zeebeDb = context.getSnapshotController().openDb();
+    } catch (final Exception e) {
+      Loggers.SYSTEM_LOGGER.error("Failed to recover from snapshot", e);
+
+      return CompletableActorFuture.completedExceptionally(
+          new IllegalStateException(
+              String.format(
+                  "Unexpected error occurred while recovering snapshot controller during follower partition install for partition %d",
+                  context.getPartitionId()),
+              e));
+    }
+
+    context.setZeebeDb(zeebeDb);
+    final StreamProcessor streamProcessor = createStreamProcessor(context);
+    final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+
+    streamProcessor
+        .openAsync()
+        .onComplete(
+            (nothing, err) -> {
+              if (err == null) {
+                context.setStreamProcessor(streamProcessor);
+
+                if (!context.shouldProcess()) {
+                  streamProcessor.pauseProcessing();
+                }
+                future.complete(null);
+              } else {
+                context.setZeebeDb(null);
+                future.completeExceptionally(err);
+              }
+            });
+
+    return future;
+  }
+
+  @Override
+  public ActorFuture<Void> close(final PartitionContext context) {
+    final StreamProcessor streamProcessor = context.getStreamProcessor();
+    final CompletableActorFuture<Void> future = new CompletableActorFuture<>();
+
+    streamProcessor
+        .closeAsync()
+        .onComplete(
+            (nothing, err) -> {
+              // if the replay failed, e.g. because the log was reset, the state is outdated
+              context.setRuntimeReplayed(err == null && !streamProcessor.isFailed());
+              context.setStreamProcessor(null);
+              // ZeebeDb is closed in the StateController's close()
+              context.setZeebeDb(null);
+
+              if (err == null) {
+                future.complete(null);
+              } else {
+                future.completeExceptionally(err);
+              }
+            });
+
+    return future;
+  }
+
+  @Override
+  public String getName() {
+    return "FollowerReplay";
+  }
+
+  private StreamProcessor createStreamProcessor(final PartitionContext state) {
+    return StreamProcessor.builder()
+        .logStream(state.getLogStream())
+        .actorScheduler(state.getScheduler())
+        .zeebeDb(state.getZeebeDb())
+        .nodeId(state.getNodeId())
+        .commandResponseWriter(state.getCommandApiService().newCommandResponseWriter())
+        .replayOnly(true)
+        .streamProcessorFactory(
+            processingContext -> {
+              final ActorControl actor = processingContext.getActor();
+              final ZeebeState zeebeState = processingContext.getZeebeState();
+              return state
+                  .getTypedRecordProcessorsFactory()
+                  .createTypedStreamProcessor(actor, zeebeState, processingContext);
+            })
+        .build();
+  }
+}
@@ -19,7 +19,8 @@ public class LogDeletionPartitionStep implements PartitionStep {
   @Override
   public ActorFuture<Void> open(final PartitionContext context) {
     final LogCompactor logCompactor =
-        new AtomixLogCompactor(context.getRaftPartition().getServer());
+        new AtomixLogCompactor(
+            context.getRaftPartition().getServer(), context.getZeebeIndexMapping());
     final LogDeletionService deletionService =
         new LogDeletionService(
             context.getNodeId(),
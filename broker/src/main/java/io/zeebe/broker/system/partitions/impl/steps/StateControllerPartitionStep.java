@@ -39,7 +39,8 @@ public class StateControllerPartitionStep implements PartitionStep {
             context.getSnapshotReplication(),
             new AtomixRecordEntrySupplierImpl(
                 context.getZeebeIndexMapping(), context.getRaftLogReader()),
-            StatePositionSupplier::getHighestExportedPosition);
+            StatePositionSupplier::getHighestExportedPosition,
+            StatePositionSupplier::getLastProcessedPosition);
 
     context.setSnapshotController(stateController);
     return CompletableActorFuture.completed(null);
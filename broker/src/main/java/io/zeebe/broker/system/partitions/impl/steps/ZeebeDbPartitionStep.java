@@ -25,7 +25,14 @@ public class ZeebeDbPartitionStep implements PartitionStep {
 
     final ZeebeDb zeebeDb;
     try {
-      context.getSnapshotController().recover();
+      final boolean runtimeReplayed = context.isRuntimeReplayed();
+      // the leader changes the runtime state, so it can't be reused afterwards
+      context.setRuntimeReplayed(false);
+      if (runtimeReplayed) {
+        context.getSnapshotController().recoverFromRuntime();
+      } else {
+        context.getSnapshotController().recover();
+      }
       zeebeDb = context.getSnapshotController().openDb();
     } catch (final Exception e) {
       Loggers.SYSTEM_LOGGER.error("Failed to recover from snapshot", e);
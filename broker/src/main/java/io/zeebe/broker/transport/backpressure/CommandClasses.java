@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.transport.backpressure;
+
+import io.zeebe.broker.system.configuration.backpressure.CommandClassCfg;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.agrona.collections.Object2IntHashMap;
+
+/**
+ * Groups commands into classes which share the inflight limit of a partition according to their
+ * weights. Commands which are not assigned to any configured class belong to the {@link
+ * #DEFAULT_CLASS}, whose weight can be configured by a class with the same name.
+ */
+public final class CommandClasses {
+
+  public static final String DEFAULT_CLASS = "default";
+  static final int DEFAULT_CLASS_ID = 0;
+  private static final int DEFAULT_WEIGHT = 1;
+  private static final String INTENT_SEPARATOR = ":";
+
+  private final Object2IntHashMap<Intent> classByIntent =
+      new Object2IntHashMap<>(DEFAULT_CLASS_ID);
+  private final List<String> names = new ArrayList<>();
+  private final List<Integer> weights = new ArrayList<>();
+  private int totalWeight;
+
+  private CommandClasses() {
+    names.add(DEFAULT_CLASS);
+    weights.add(DEFAULT_WEIGHT);
+    totalWeight = DEFAULT_WEIGHT;
+  }
+
+  public static CommandClasses single() {
+    return new CommandClasses();
+  }
+
+  public static CommandClasses of(final Map<String, CommandClassCfg> classes) {
+    final CommandClasses commandClasses = new CommandClasses();
+    for (final Entry<String, CommandClassCfg> entry : classes.entrySet()) {
+      commandClasses.addClass(entry.getKey(), entry.getValue());
+    }
+    return commandClasses;
+  }
+
+  private void addClass(final String name, final CommandClassCfg cfg) {
+    final int classId;
+    if (DEFAULT_CLASS.equals(name)) {
+      classId = DEFAULT_CLASS_ID;
+      totalWeight -= weights.get(DEFAULT_CLASS_ID);
+      weights.set(DEFAULT_CLASS_ID, cfg.getWeight());
+    } else {
+      classId = names.size();
+      names.add(name);
+      weights.add(cfg.getWeight());
+    }
+    totalWeight += cfg.getWeight();
+
+    for (final String valueType : cfg.getValueTypes()) {
+      final ValueType type = ValueType.valueOf(valueType.toUpperCase());
+      for (short value = 0; value < Intent.NULL_VAL; value++) {
+        final Intent intent = Intent.fromProtocolValue(type, value);
+        if (intent != Intent.UNKNOWN) {
+          assign(name, classId, intent);
+        }
+      }
+    }
+
+    for (final String command : cfg.getIntents()) {
+      final String[] parts = command.toUpperCase().split(INTENT_SEPARATOR);
+      if (parts.length != 2) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected intent of command class '%s' to be of the form VALUE_TYPE:INTENT, but found '%s'",
+                name, command));
+      }
+      assign(name, classId, Intent.fromProtocolValue(ValueType.valueOf(parts[0]), parts[1]));
+    }
+  }
+
+  private void assign(final String name, final int classId, final Intent intent) {
+    final int previous = classByIntent.put(intent, classId);
+    if (previous != classByIntent.missingValue() && previous != classId) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected intent %s to belong to a single command class, but it is assigned to '%s' and '%s'",
+              intent, names.get(previous), name));
+    }
+  }
+
+  int classOf(final Intent intent) {
+    return classByIntent.getValue(intent);
+  }
+
+  int size() {
+    return names.size();
+  }
+
+  String name(final int classId) {
+    return names.get(classId);
+  }
+
+  /**
+   * @return the number of inflight requests which are reserved for the given class, which is its
+   *     weighted share of the limit but at least one
+   */
+  int share(final int classId, final int limit) {
+    return Math.max(1, (int) ((long) limit * weights.get(classId) / totalWeight));
+  }
+}
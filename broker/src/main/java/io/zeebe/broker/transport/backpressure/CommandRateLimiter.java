@@ -12,60 +12,113 @@ import io.zeebe.broker.Loggers;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.protocol.record.intent.JobIntent;
 import java.util.EnumSet;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * Limits the inflight commands of a partition. The limit is shared between the configured {@link
+ * CommandClasses}: a class can always use its weighted share of the limit, and it may borrow
+ * capacity beyond it only if that capacity is not reserved by the unused shares of the other
+ * classes. Hence, a class which floods the partition can't starve the others.
+ */
 public final class CommandRateLimiter extends AbstractLimiter<Intent>
     implements RequestLimiter<Intent> {
 
   private static final Set<? extends Intent> WHITE_LISTED_COMMANDS =
       EnumSet.of(JobIntent.COMPLETE, JobIntent.FAIL);
-  private final Map<ListenerId, Listener> responseListeners = new ConcurrentHashMap<>();
+  private final Int2ObjectHashMap<Long2ObjectHashMap<ClassifiedListener>> responseListeners =
+      new Int2ObjectHashMap<>();
+  private final CommandClasses commandClasses;
+  private final int[] inflightByClass;
   private final int partitionId;
   private final BackpressureMetrics metrics = new BackpressureMetrics();
 
   protected CommandRateLimiter(final CommandRateLimiterBuilder builder, final int partitionId) {
     super(builder);
     this.partitionId = partitionId;
+    commandClasses = builder.commandClasses;
+    inflightByClass = new int[commandClasses.size()];
     metrics.setInflight(partitionId, 0);
     metrics.setNewLimit(partitionId, getLimit());
+    for (int classId = 0; classId < commandClasses.size(); classId++) {
+      metrics.setClassInflight(partitionId, commandClasses.name(classId), 0);
+    }
+    updateClassLimits(getLimit());
   }
 
   @Override
   public Optional<Listener> acquire(final Intent intent) {
-    if (getInflight() >= getLimit() && !WHITE_LISTED_COMMANDS.contains(intent)) {
+    if (!canAcquire(intent, commandClasses.classOf(intent))) {
       return createRejectedListener();
     }
     final Listener listener = createListener();
     return Optional.of(listener);
   }
 
-  private void registerListener(final int streamId, final long requestId, final Listener listener) {
+  private boolean canAcquire(final Intent intent, final int commandClass) {
+    final int limit = getLimit();
+    return inflightByClass[commandClass] < commandClasses.share(commandClass, limit)
+        || getInflight() + unusedSharesOfOtherClasses(commandClass, limit) < limit
+        || WHITE_LISTED_COMMANDS.contains(intent);
+  }
+
+  private int unusedSharesOfOtherClasses(final int commandClass, final int limit) {
+    int unused = 0;
+    for (int classId = 0; classId < commandClasses.size(); classId++) {
+      if (classId != commandClass) {
+        unused += Math.max(0, commandClasses.share(classId, limit) - inflightByClass[classId]);
+      }
+    }
+    return unused;
+  }
+
+  private void registerListener(
+      final int streamId, final long requestId, final ClassifiedListener listener) {
     // assumes the pair <streamId, requestId> is unique.
-    responseListeners.put(new ListenerId(streamId, requestId), listener);
+    Long2ObjectHashMap<ClassifiedListener> listeners = responseListeners.get(streamId);
+    if (listeners == null) {
+      listeners = new Long2ObjectHashMap<>();
+      responseListeners.put(streamId, listeners);
+    }
+    listeners.put(requestId, listener);
+  }
+
+  private ClassifiedListener removeListener(final int streamId, final long requestId) {
+    final Long2ObjectHashMap<ClassifiedListener> listeners = responseListeners.get(streamId);
+    if (listeners == null) {
+      return null;
+    }
+    final ClassifiedListener listener = listeners.remove(requestId);
+    if (listener != null) {
+      inflightByClass[listener.commandClass]--;
+      metrics.decClassInflight(partitionId, commandClasses.name(listener.commandClass));
+    }
+    return listener;
   }
 
   @Override
-  public boolean tryAcquire(final int streamId, final long requestId, final Intent context) {
-    final Optional<Listener> acquired = acquire(context);
-    return acquired
-        .map(
-            listener -> {
-              registerListener(streamId, requestId, listener);
-              metrics.incInflight(partitionId);
-              return true;
-            })
-        .orElse(false);
+  public synchronized boolean tryAcquire(
+      final int streamId, final long requestId, final Intent context) {
+    final int commandClass = commandClasses.classOf(context);
+    if (!canAcquire(context, commandClass)) {
+      metrics.droppedInClass(partitionId, commandClasses.name(commandClass));
+      return false;
+    }
+
+    registerListener(streamId, requestId, new ClassifiedListener(createListener(), commandClass));
+    inflightByClass[commandClass]++;
+    metrics.incInflight(partitionId);
+    metrics.incClassInflight(partitionId, commandClasses.name(commandClass));
+    return true;
   }
 
   @Override
-  public void onResponse(final int streamId, final long requestId) {
-    final Listener listener = responseListeners.remove(new ListenerId(streamId, requestId));
+  public synchronized void onResponse(final int streamId, final long requestId) {
+    final ClassifiedListener listener = removeListener(streamId, requestId);
     if (listener != null) {
-      listener.onSuccess();
+      listener.delegate.onSuccess();
       metrics.decInflight(partitionId);
     } else {
       // Ignore this message, if it happens immediately after failover. It can happen when a request
@@ -78,10 +131,10 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
   }
 
   @Override
-  public void onIgnore(final int streamId, final long requestId) {
-    final Listener listener = responseListeners.remove(new ListenerId(streamId, requestId));
+  public synchronized void onIgnore(final int streamId, final long requestId) {
+    final ClassifiedListener listener = removeListener(streamId, requestId);
     if (listener != null) {
-      listener.onIgnore();
+      listener.delegate.onIgnore();
       metrics.decInflight(partitionId);
     }
   }
@@ -91,10 +144,30 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
     return getInflight();
   }
 
+  synchronized int getInflightCount(final String commandClass) {
+    for (int classId = 0; classId < commandClasses.size(); classId++) {
+      if (commandClasses.name(classId).equals(commandClass)) {
+        return inflightByClass[classId];
+      }
+    }
+    return 0;
+  }
+
   @Override
   protected void onNewLimit(final int newLimit) {
     super.onNewLimit(newLimit);
     metrics.setNewLimit(partitionId, newLimit);
+    updateClassLimits(newLimit);
+  }
+
+  private void updateClassLimits(final int limit) {
+    // the limit is updated by the super constructor, before the classes are set
+    if (commandClasses != null) {
+      for (int classId = 0; classId < commandClasses.size(); classId++) {
+        metrics.setClassLimit(
+            partitionId, commandClasses.name(classId), commandClasses.share(classId, limit));
+      }
+    }
   }
 
   public static CommandRateLimiterBuilder builder() {
@@ -104,6 +177,13 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
   public static class CommandRateLimiterBuilder
       extends AbstractLimiter.Builder<CommandRateLimiterBuilder> {
 
+    private CommandClasses commandClasses = CommandClasses.single();
+
+    public CommandRateLimiterBuilder commandClasses(final CommandClasses commandClasses) {
+      this.commandClasses = commandClasses;
+      return this;
+    }
+
     @Override
     protected CommandRateLimiterBuilder self() {
       return this;
@@ -114,30 +194,13 @@ public final class CommandRateLimiter extends AbstractLimiter<Intent>
     }
   }
 
-  static class ListenerId {
-    private final int streamId;
-    private final long requestId;
-
-    ListenerId(final int streamId, final long requestId) {
-      this.streamId = streamId;
-      this.requestId = requestId;
-    }
+  private static final class ClassifiedListener {
+    private final Listener delegate;
+    private final int commandClass;
 
-    @Override
-    public int hashCode() {
-      return Objects.hash(streamId, requestId);
-    }
-
-    @Override
-    public boolean equals(final Object o) {
-      if (this == o) {
-        return true;
-      }
-      if (o == null || getClass() != o.getClass()) {
-        return false;
-      }
-      final ListenerId that = (ListenerId) o;
-      return streamId == that.streamId && requestId == that.requestId;
+    private ClassifiedListener(final Listener delegate, final int commandClass) {
+      this.delegate = delegate;
+      this.commandClass = commandClass;
     }
   }
 }
@@ -41,8 +41,14 @@ public final class PartitionAwareRequestLimiter {
     limiterSupplier = i -> new NoopRequestLimiter<>();
   }
 
-  private PartitionAwareRequestLimiter(final Supplier<Limit> limitSupplier) {
-    limiterSupplier = i -> CommandRateLimiter.builder().limit(limitSupplier.get()).build(i);
+  private PartitionAwareRequestLimiter(
+      final Supplier<Limit> limitSupplier, final CommandClasses commandClasses) {
+    limiterSupplier =
+        i ->
+            CommandRateLimiter.builder()
+                .limit(limitSupplier.get())
+                .commandClasses(commandClasses)
+                .build(i);
   }
 
   public static PartitionAwareRequestLimiter newNoopLimiter() {
@@ -81,10 +87,12 @@ public final class PartitionAwareRequestLimiter {
         limit = () -> getVegasLimit(backpressureCfg.getVegas());
     }
 
+    final CommandClasses commandClasses = CommandClasses.of(backpressureCfg.getClasses());
     if (backpressureCfg.useWindowed()) {
-      return new PartitionAwareRequestLimiter(() -> WindowedLimit.newBuilder().build(limit.get()));
+      return new PartitionAwareRequestLimiter(
+          () -> WindowedLimit.newBuilder().build(limit.get()), commandClasses);
     } else {
-      return new PartitionAwareRequestLimiter(limit);
+      return new PartitionAwareRequestLimiter(limit, commandClasses);
     }
   }
 
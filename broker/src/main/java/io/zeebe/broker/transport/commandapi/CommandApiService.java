@@ -9,6 +9,7 @@ package io.zeebe.broker.transport.commandapi;
 
 import io.zeebe.broker.Loggers;
 import io.zeebe.broker.PartitionListener;
+import io.zeebe.broker.engine.impl.JobStreamService;
 import io.zeebe.broker.system.monitoring.DiskSpaceUsageListener;
 import io.zeebe.broker.transport.backpressure.PartitionAwareRequestLimiter;
 import io.zeebe.broker.transport.backpressure.RequestLimiter;
@@ -18,6 +19,7 @@ import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.protocol.impl.encoding.BrokerInfo;
 import io.zeebe.protocol.record.RecordType;
 import io.zeebe.protocol.record.intent.Intent;
+import io.zeebe.transport.ServerOutput;
 import io.zeebe.transport.ServerTransport;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.future.ActorFuture;
@@ -30,6 +32,7 @@ public final class CommandApiService extends Actor
 
   private final PartitionAwareRequestLimiter limiter;
   private final ServerTransport serverTransport;
+  private final ServerOutput responseOutput;
   private final CommandApiRequestHandler requestHandler;
   private final IntHashSet leadPartitions = new IntHashSet();
   private final String actorName;
@@ -38,7 +41,20 @@ public final class CommandApiService extends Actor
       final ServerTransport serverTransport,
       final BrokerInfo localBroker,
       final PartitionAwareRequestLimiter limiter) {
+    this(serverTransport, serverTransport, localBroker, limiter);
+  }
+
+  /**
+   * @param serverTransport the transport which receives the requests
+   * @param responseOutput the output of the responses which are written by the stream processors
+   */
+  public CommandApiService(
+      final ServerTransport serverTransport,
+      final ServerOutput responseOutput,
+      final BrokerInfo localBroker,
+      final PartitionAwareRequestLimiter limiter) {
     this.serverTransport = serverTransport;
+    this.responseOutput = responseOutput;
     this.limiter = limiter;
     requestHandler = new CommandApiRequestHandler();
     actorName = buildActorName(localBroker.getNodeId(), "CommandApiService");
@@ -108,13 +124,15 @@ public final class CommandApiService extends Actor
   }
 
   public CommandResponseWriter newCommandResponseWriter() {
-    return new CommandResponseWriterImpl(serverTransport);
+    return new CommandResponseWriterImpl(responseOutput);
   }
 
   public Consumer<TypedRecord> getOnProcessedListener(final int partitionId) {
     final RequestLimiter<Intent> partitionLimiter = limiter.getLimiter(partitionId);
     return typedRecord -> {
-      if (typedRecord.getRecordType() == RecordType.COMMAND && typedRecord.hasRequestMetadata()) {
+      if (typedRecord.getRecordType() == RecordType.COMMAND
+          && typedRecord.hasRequestMetadata()
+          && typedRecord.getRequestStreamId() != JobStreamService.PUSH_REQUEST_STREAM_ID) {
         partitionLimiter.onResponse(typedRecord.getRequestStreamId(), typedRecord.getRequestId());
       }
     };
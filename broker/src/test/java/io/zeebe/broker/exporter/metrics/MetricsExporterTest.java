@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.zeebe.broker.exporter.context.ExporterConfiguration;
+import io.zeebe.broker.exporter.context.ExporterContext;
+import io.zeebe.broker.exporter.metrics.MetricsExporter.MetricsExporterConfiguration;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.Test;
+import org.slf4j.LoggerFactory;
+
+public final class MetricsExporterTest {
+
+  @Test
+  public void shouldRememberBoundedTimesByDefault() {
+    // given
+    final var configuration = createConfiguration(null);
+
+    // when
+    final var exporterConfiguration =
+        configuration.instantiate(MetricsExporterConfiguration.class);
+
+    // then
+    assertThat(exporterConfiguration.getTimeToLive())
+        .isEqualTo(Duration.ofMinutes(1).toSeconds());
+    assertThat(exporterConfiguration.getMaxEntries()).isEqualTo(100_000);
+  }
+
+  @Test
+  public void shouldConfigureMaxEntries() {
+    // given
+    final var configuration = createConfiguration(Map.of("maxEntries", 1000));
+
+    // when
+    final var exporterConfiguration =
+        configuration.instantiate(MetricsExporterConfiguration.class);
+
+    // then
+    assertThat(exporterConfiguration.getMaxEntries()).isEqualTo(1000);
+  }
+
+  @Test
+  public void shouldRejectNonPositiveMaxEntries() {
+    // given
+    final var exporter = new MetricsExporter();
+    final var context =
+        new ExporterContext(
+            LoggerFactory.getLogger(MetricsExporterTest.class),
+            createConfiguration(Map.of("maxEntries", 0)));
+
+    // when - then
+    assertThatThrownBy(() -> exporter.configure(context))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxEntries");
+  }
+
+  @Test
+  public void shouldConfigureTimeToLive() {
+    // given
+    final var configuration = createConfiguration(Map.of("timeToLive", 3600));
+
+    // when
+    final var exporterConfiguration =
+        configuration.instantiate(MetricsExporterConfiguration.class);
+
+    // then
+    assertThat(exporterConfiguration.getTimeToLive()).isEqualTo(3600);
+  }
+
+  @Test
+  public void shouldRejectNonPositiveTimeToLive() {
+    // given
+    final var exporter = new MetricsExporter();
+    final var context =
+        new ExporterContext(
+            LoggerFactory.getLogger(MetricsExporterTest.class),
+            createConfiguration(Map.of("timeToLive", 0)));
+
+    // when - then
+    assertThatThrownBy(() -> exporter.configure(context))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("timeToLive");
+  }
+
+  private static ExporterConfiguration createConfiguration(final Map<String, Object> arguments) {
+    return new ExporterConfiguration(MetricsExporter.defaultExporterId(), arguments);
+  }
+}
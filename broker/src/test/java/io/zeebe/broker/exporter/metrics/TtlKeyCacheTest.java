@@ -0,0 +1,113 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.broker.exporter.metrics;
+
+import static io.zeebe.broker.exporter.metrics.TtlKeyCache.MISSING_TIMESTAMP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import org.junit.Test;
+
+public final class TtlKeyCacheTest {
+
+  private final TtlKeyCache cache =
+      new TtlKeyCache(Duration.ofSeconds(10), Duration.ofSeconds(1), 100);
+
+  @Test
+  public void shouldKeepKeysWithSameTimestamp() {
+    // given
+    cache.put(1, 1_000);
+    cache.put(2, 1_000);
+
+    // when
+    cache.expire(5_000);
+
+    // then
+    assertThat(cache.get(1)).isEqualTo(1_000);
+    assertThat(cache.get(2)).isEqualTo(1_000);
+  }
+
+  @Test
+  public void shouldExpireKeysOlderThanTimeToLive() {
+    // given
+    cache.put(1, 1_000);
+    cache.put(2, 1_000);
+    cache.put(3, 9_000);
+
+    // when
+    cache.expire(12_000);
+
+    // then
+    assertThat(cache.get(1)).isEqualTo(MISSING_TIMESTAMP);
+    assertThat(cache.get(2)).isEqualTo(MISSING_TIMESTAMP);
+    assertThat(cache.get(3)).isEqualTo(9_000);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldExpireKeysWhenBucketIsReused() {
+    // given
+    cache.put(1, 1_000);
+
+    // when - the ring has wrapped around to the bucket of the first key
+    cache.put(2, 12_000);
+
+    // then
+    assertThat(cache.get(1)).isEqualTo(MISSING_TIMESTAMP);
+    assertThat(cache.get(2)).isEqualTo(12_000);
+  }
+
+  @Test
+  public void shouldNotExpireRemovedKey() {
+    // given
+    cache.put(1, 1_000);
+
+    // when
+    final long timestamp = cache.remove(1);
+    cache.put(1, 5_000);
+    cache.expire(12_000);
+
+    // then
+    assertThat(timestamp).isEqualTo(1_000);
+    assertThat(cache.get(1)).isEqualTo(5_000);
+  }
+
+  @Test
+  public void shouldNotExpireOverwrittenKey() {
+    // given
+    cache.put(1, 1_000);
+
+    // when
+    cache.put(1, 5_000);
+    cache.expire(12_000);
+
+    // then
+    assertThat(cache.get(1)).isEqualTo(5_000);
+    assertThat(cache.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldDropOldestBucketWhenExceedingMaxEntries() {
+    // given
+    final TtlKeyCache boundedCache =
+        new TtlKeyCache(Duration.ofSeconds(10), Duration.ofSeconds(1), 3);
+    boundedCache.put(1, 1_000);
+    boundedCache.put(2, 1_500);
+    boundedCache.put(3, 2_000);
+
+    // when
+    boundedCache.put(4, 3_000);
+
+    // then
+    assertThat(boundedCache.get(1)).isEqualTo(MISSING_TIMESTAMP);
+    assertThat(boundedCache.get(2)).isEqualTo(MISSING_TIMESTAMP);
+    assertThat(boundedCache.get(3)).isEqualTo(2_000);
+    assertThat(boundedCache.get(4)).isEqualTo(3_000);
+    assertThat(boundedCache.size()).isEqualTo(2);
+  }
+}
@@ -124,6 +124,20 @@ public final class AtomixLogDeletionServiceTest {
     assertThat(entries).isNotEmpty().hasSize(1).extracting(Indexed::index).containsExactly(3L);
   }
 
+  @Test
+  public void shouldOffloadUpToProcessedPosition() throws Exception {
+    // given
+    logStorageRule.appendEntry(1, 1, DATA).index();
+    logStorageRule.appendEntry(2, 2, DATA).index();
+    logStorageRule.appendEntry(3, 3, DATA).index();
+
+    // when
+    persistedSnapshotStore.takeNewSnapshot(1, 3);
+
+    // then
+    assertThat(compactor.offloadedPosition.get(5, TimeUnit.SECONDS)).isEqualTo(3L);
+  }
+
   private void createSnapshot(final long index) {
     persistedSnapshotStore.takeNewSnapshot(index);
   }
@@ -154,6 +168,7 @@ public final class AtomixLogDeletionServiceTest {
 
   private final class Compactor implements LogCompactor {
     private final Map<Long, CompletableFuture<Void>> compactions = new ConcurrentHashMap<>();
+    private final CompletableFuture<Long> offloadedPosition = new CompletableFuture<>();
 
     private void awaitCompaction(final long compactionBound, final Duration timeout) {
       final var future =
@@ -186,5 +201,10 @@ public final class AtomixLogDeletionServiceTest {
 
       return compactionResult;
     }
+
+    @Override
+    public void offloadLog(final long processedPosition) {
+      offloadedPosition.complete(processedPosition);
+    }
   }
 }
@@ -23,6 +23,10 @@ public class NoopSnapshotStore implements PersistedSnapshotStore {
   private final List<PersistedSnapshotListener> listeners = new ArrayList<>();
 
   public void takeNewSnapshot(final long index) {
+    takeNewSnapshot(index, index);
+  }
+
+  public void takeNewSnapshot(final long index, final long processedPosition) {
     listeners.forEach(
         l ->
             l.onNewSnapshot(
@@ -67,7 +71,8 @@ public class NoopSnapshotStore implements PersistedSnapshotStore {
 
                   @Override
                   public String getId() {
-                    return null;
+                    return String.format(
+                        "%d-0-0-%d-%d", index, processedPosition, processedPosition);
                   }
 
                   @Override
@@ -11,6 +11,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import io.zeebe.broker.system.configuration.backpressure.BackpressureCfg;
 import io.zeebe.broker.system.configuration.backpressure.BackpressureCfg.LimitAlgorithm;
+import io.zeebe.broker.system.configuration.backpressure.CommandClassCfg;
 import io.zeebe.broker.system.configuration.backpressure.FixedCfg;
 import io.zeebe.broker.system.configuration.backpressure.Gradient2Cfg;
 import io.zeebe.broker.system.configuration.backpressure.GradientCfg;
@@ -99,6 +100,20 @@ public final class BackpressureCfgTest {
     assertThat(gradient2Cfg.getLongWindow()).isEqualTo(300);
   }
 
+  @Test
+  public void shouldSetCommandClassesCfg() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("backpressure-cfg", environment);
+    final Map<String, CommandClassCfg> classes = cfg.getBackpressure().getClasses();
+
+    // then
+    assertThat(classes).containsOnlyKeys("default", "priority");
+    assertThat(classes.get("default").getWeight()).isEqualTo(2);
+    assertThat(classes.get("priority").getWeight()).isEqualTo(3);
+    assertThat(classes.get("priority").getValueTypes()).containsExactly("JOB");
+    assertThat(classes.get("priority").getIntents()).containsExactly("MESSAGE:PUBLISH");
+  }
+
   @Test
   public void shouldUseConfiguredBackpressureAlgorithms() {
 
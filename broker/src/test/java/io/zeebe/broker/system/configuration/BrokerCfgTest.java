@@ -21,6 +21,7 @@ import static io.zeebe.broker.system.configuration.NetworkCfg.DEFAULT_MONITORING
 import static io.zeebe.protocol.Protocol.START_PARTITION_ID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.zeebe.broker.exporter.debug.DebugLogExporter;
@@ -63,8 +64,25 @@ public final class BrokerCfgTest {
       "zeebe.broker.experimental.maxAppendBatchSize";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DETECT_REPROCESSING_INCONSISTENCY =
       "zeebe.broker.experimental.detectReprocessingInconsistency";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_ENABLE_HOT_STANDBY =
+      "zeebe.broker.experimental.enableHotStandby";
   private static final String ZEEBE_BROKER_EXPERIMENTAL_DISABLEEXPLICITRAFTFLUSH =
       "zeebe.broker.experimental.disableExplicitRaftFlush";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_WORKFLOW_CACHE_CAPACITY =
+      "zeebe.broker.experimental.workflowCacheCapacity";
+  private static final String ZEEBE_BROKER_EXPERIMENTAL_ENABLE_LEGACY_JOBS_AVAILABLE_NOTIFICATION =
+      "zeebe.broker.experimental.enableLegacyJobsAvailableNotification";
+
+  private static final String ZEEBE_BROKER_THREADS_ACTOR_METRICS_ENABLED =
+      "zeebe.broker.threads.actorMetricsEnabled";
+  private static final String ZEEBE_BROKER_THREADS_ACTOR_NAME_LOGGING_ENABLED =
+      "zeebe.broker.threads.actorNameLoggingEnabled";
+  private static final String ZEEBE_BROKER_THREADS_ACTOR_AFFINITY_ENABLED =
+      "zeebe.broker.threads.actorAffinityEnabled";
+  private static final String ZEEBE_BROKER_THREADS_MAX_IO_THREAD_COUNT =
+      "zeebe.broker.threads.maxIoThreadCount";
+  private static final String ZEEBE_BROKER_THREADS_IO_SUBSYSTEM_CONCURRENCY_EXPORTER =
+      "zeebe.broker.threads.ioSubsystemConcurrency.exporter";
 
   private static final String ZEEBE_BROKER_DATA_DIRECTORIES = "zeebe.broker.data.directories";
 
@@ -90,6 +108,27 @@ public final class BrokerCfgTest {
     assertDefaultClusterName("test-cluster");
   }
 
+  @Test
+  public void shouldDisableFlushConsolidationByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // then
+    assertThat(cfg.getCluster().isFlushConsolidationEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldEnableFlushConsolidationFromEnvironment() {
+    // given
+    environment.put("zeebe.broker.cluster.flushConsolidationEnabled", "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // then
+    assertThat(cfg.getCluster().isFlushConsolidationEnabled()).isTrue();
+  }
+
   @Test
   public void shouldUseDefaultStepTimeout() {
     assertDefaultStepTimeout(Duration.ofMinutes(5));
@@ -490,6 +529,162 @@ public final class BrokerCfgTest {
     assertThat(experimentalCfg.isDetectReprocessingInconsistency()).isTrue();
   }
 
+  @Test
+  public void shouldDisableHotStandbyPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableHotStandby()).isFalse();
+  }
+
+  @Test
+  public void shouldOverrideEnableHotStandbyViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_ENABLE_HOT_STANDBY, "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableHotStandby()).isTrue();
+  }
+
+  @Test
+  public void shouldDisableLegacyJobsAvailableNotificationPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableLegacyJobsAvailableNotification()).isFalse();
+  }
+
+  @Test
+  public void shouldOverrideEnableLegacyJobsAvailableNotificationViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_ENABLE_LEGACY_JOBS_AVAILABLE_NOTIFICATION, "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableLegacyJobsAvailableNotification()).isTrue();
+  }
+
+  @Test
+  public void shouldDisableActorMetricsPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ThreadsCfg threadsCfg = cfg.getThreads();
+
+    // then
+    assertThat(threadsCfg.isActorMetricsEnabled()).isFalse();
+    assertThat(threadsCfg.isActorNameLoggingEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldOverrideActorInstrumentationViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_THREADS_ACTOR_METRICS_ENABLED, "true");
+    environment.put(ZEEBE_BROKER_THREADS_ACTOR_NAME_LOGGING_ENABLED, "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final ThreadsCfg threadsCfg = cfg.getThreads();
+
+    // then
+    assertThat(threadsCfg.isActorMetricsEnabled()).isTrue();
+    assertThat(threadsCfg.isActorNameLoggingEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldDisableActorAffinityPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ThreadsCfg threadsCfg = cfg.getThreads();
+
+    // then
+    assertThat(threadsCfg.isActorAffinityEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldOverrideActorAffinityViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_THREADS_ACTOR_AFFINITY_ENABLED, "true");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final ThreadsCfg threadsCfg = cfg.getThreads();
+
+    // then
+    assertThat(threadsCfg.isActorAffinityEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldUseFixedIoThreadsPerDefault() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ThreadsCfg threadsCfg = cfg.getThreads();
+
+    // then
+    assertThat(threadsCfg.getMaxIoThreadCount()).isEqualTo(threadsCfg.getIoThreadCount());
+    assertThat(threadsCfg.getIoSubsystemConcurrency()).isEmpty();
+  }
+
+  @Test
+  public void shouldOverrideIoThreadLimitsViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_THREADS_MAX_IO_THREAD_COUNT, "8");
+    environment.put(ZEEBE_BROKER_THREADS_IO_SUBSYSTEM_CONCURRENCY_EXPORTER, "3");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final ThreadsCfg threadsCfg = cfg.getThreads();
+
+    // then
+    assertThat(threadsCfg.getMaxIoThreadCount()).isEqualTo(8);
+    assertThat(threadsCfg.getIoSubsystemConcurrency()).containsOnly(entry("exporter", 3));
+  }
+
+  @Test
+  public void shouldUseDefaultWorkflowCacheCapacity() {
+    // given
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+
+    // when
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getWorkflowCacheCapacity()).isEqualTo(1_000);
+  }
+
+  @Test
+  public void shouldOverrideWorkflowCacheCapacityViaEnvironment() {
+    // given
+    environment.put(ZEEBE_BROKER_EXPERIMENTAL_WORKFLOW_CACHE_CAPACITY, "50");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("default", environment);
+    final ExperimentalCfg experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.getWorkflowCacheCapacity()).isEqualTo(50);
+  }
+
   @Test
   public void
       shouldThrowExceptionWhenInvalidValueIsUsedForDetectReprocessingInconsistencySettingViaEnvironment() {
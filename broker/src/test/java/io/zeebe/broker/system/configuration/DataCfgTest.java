@@ -10,9 +10,11 @@ package io.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.storage.StorageLevel;
+import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import org.junit.Test;
+import org.springframework.util.unit.DataSize;
 
 public class DataCfgTest {
 
@@ -84,4 +86,62 @@ public class DataCfgTest {
     assertThat(dataCfg.getDiskUsageCommandWatermark()).isEqualTo(1.0);
     assertThat(dataCfg.getDiskUsageReplicationWatermark()).isEqualTo(1.0);
   }
+
+  @Test
+  public void shouldNotLimitSegmentDeletionRatePerDefault() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // then
+    assertThat(dataCfg.getLogSegmentDeletionRateInBytes()).isZero();
+  }
+
+  @Test
+  public void shouldGetSegmentDeletionRateInBytes() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.setLogSegmentDeletionRate(DataSize.ofMegabytes(64));
+
+    // then
+    assertThat(dataCfg.getLogSegmentDeletionRateInBytes()).isEqualTo(64L * 1024 * 1024);
+  }
+
+  @Test
+  public void shouldNotOffloadSegmentsPerDefault() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getLogColdDirectory()).isNull();
+  }
+
+  @Test
+  public void shouldIgnoreBlankColdDirectory() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+
+    // when
+    dataCfg.setLogColdDirectory(" ");
+
+    // then
+    assertThat(dataCfg.getLogColdDirectory()).isNull();
+  }
+
+  @Test
+  public void shouldResolveColdDirectoryAgainstBrokerBase() {
+    // given
+    final DataCfg dataCfg = new DataCfg();
+    dataCfg.setLogColdDirectory("cold");
+
+    // when
+    dataCfg.init(new BrokerCfg(), "/base");
+
+    // then
+    assertThat(dataCfg.getLogColdDirectory()).isEqualTo(Paths.get("/base", "cold").toString());
+  }
 }
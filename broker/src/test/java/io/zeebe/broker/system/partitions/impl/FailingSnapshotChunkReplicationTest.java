@@ -61,7 +61,8 @@ public final class FailingSnapshotChunkReplicationTest {
             l ->
                 Optional.of(
                     new Indexed(l, new ZeebeEntry(1, System.currentTimeMillis(), 1, 10, null), 0)),
-            db -> Long.MAX_VALUE);
+            db -> Long.MAX_VALUE,
+            db -> -1L);
     senderStore.addSnapshotListener(replicatorSnapshotController);
 
     receiverSnapshotController =
@@ -75,7 +76,8 @@ public final class FailingSnapshotChunkReplicationTest {
             l ->
                 Optional.ofNullable(
                     new Indexed(l, new ZeebeEntry(1, System.currentTimeMillis(), 1, 10, null), 0)),
-            db -> Long.MAX_VALUE);
+            db -> Long.MAX_VALUE,
+            db -> -1L);
     receiverStore.addSnapshotListener(receiverSnapshotController);
 
     autoCloseableRule.manage(replicatorSnapshotController);
@@ -69,7 +69,8 @@ public final class ReplicateStateControllerTest {
             l ->
                 Optional.of(
                     new Indexed(l, new ZeebeEntry(1, System.currentTimeMillis(), 1, 10, null), 0)),
-            db -> Long.MAX_VALUE);
+            db -> Long.MAX_VALUE,
+            db -> -1L);
     senderStore.addSnapshotListener(replicatorSnapshotController);
 
     receiverSnapshotController =
@@ -83,7 +84,8 @@ public final class ReplicateStateControllerTest {
             l ->
                 Optional.of(
                     new Indexed(l, new ZeebeEntry(1, System.currentTimeMillis(), 1, 10, null), 0)),
-            db -> Long.MAX_VALUE);
+            db -> Long.MAX_VALUE,
+            db -> -1L);
     receiverStore.addSnapshotListener(receiverSnapshotController);
 
     autoCloseableRule.manage(replicatorSnapshotController);
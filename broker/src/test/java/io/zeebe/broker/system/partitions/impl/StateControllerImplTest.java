@@ -28,6 +28,7 @@ import java.nio.file.Files;
 import java.nio.file.StandardOpenOption;
 import java.util.Comparator;
 import java.util.Optional;
+import java.util.function.LongUnaryOperator;
 import org.agrona.collections.MutableLong;
 import org.junit.Before;
 import org.junit.Rule;
@@ -40,6 +41,8 @@ public final class StateControllerImplTest {
   @Rule public final AutoCloseableRule autoCloseableRule = new AutoCloseableRule();
 
   private final MutableLong exporterPosition = new MutableLong(Long.MAX_VALUE);
+  private final MutableLong processedPosition = new MutableLong(-1L);
+  private LongUnaryOperator positionToIndex = LongUnaryOperator.identity();
   private StateControllerImpl snapshotController;
   private ConstructableSnapshotStore store;
 
@@ -61,8 +64,12 @@ public final class StateControllerImplTest {
             new NoneSnapshotReplication(),
             l ->
                 Optional.ofNullable(
-                    new Indexed(l, new ZeebeEntry(1, System.currentTimeMillis(), 1, 10, null), 0)),
-            db -> exporterPosition.get());
+                    new Indexed(
+                        positionToIndex.applyAsLong(l),
+                        new ZeebeEntry(1, System.currentTimeMillis(), 1, 10, null),
+                        0)),
+            db -> exporterPosition.get(),
+            db -> processedPosition.get());
 
     autoCloseableRule.manage(snapshotController);
     autoCloseableRule.manage(store);
@@ -259,6 +266,75 @@ public final class StateControllerImplTest {
     assertThat(wrapper.getInt("x")).isEqualTo(3);
   }
 
+  @Test
+  public void shouldReuseRuntimeIfNotBehindLatestSnapshot() throws Exception {
+    // given - the snapshot index is far ahead of the positions
+    positionToIndex = position -> position + 100;
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    wrapper.wrap(snapshotController.openDb());
+    exporterPosition.set(10);
+    wrapper.putInt("x", 1);
+    takeSnapshot(10);
+
+    wrapper.putInt("x", 2);
+    processedPosition.set(20);
+    exporterPosition.set(20);
+    snapshotController.close();
+
+    // when
+    snapshotController.recoverFromRuntime();
+    wrapper.wrap(snapshotController.openDb());
+
+    // then
+    assertThat(wrapper.getInt("x")).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRecoverFromSnapshotIfRuntimeIsBehind() throws Exception {
+    // given - the snapshot index is far behind the positions
+    positionToIndex = position -> position / 10;
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    wrapper.wrap(snapshotController.openDb());
+    exporterPosition.set(30);
+    wrapper.putInt("x", 3);
+    takeSnapshot(30);
+
+    wrapper.putInt("x", 4);
+    processedPosition.set(20);
+    snapshotController.close();
+
+    // when
+    snapshotController.recoverFromRuntime();
+    wrapper.wrap(snapshotController.openDb());
+
+    // then
+    assertThat(wrapper.getInt("x")).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldRecoverFromSnapshotIfRuntimeExportersAreBehind() throws Exception {
+    // given
+    positionToIndex = position -> position / 10;
+    final RocksDBWrapper wrapper = new RocksDBWrapper();
+    wrapper.wrap(snapshotController.openDb());
+    exporterPosition.set(30);
+    wrapper.putInt("x", 3);
+    takeSnapshot(30);
+
+    // the runtime processed further, but its exporter positions are older than the snapshot's
+    wrapper.putInt("x", 4);
+    processedPosition.set(40);
+    exporterPosition.set(10);
+    snapshotController.close();
+
+    // when
+    snapshotController.recoverFromRuntime();
+    wrapper.wrap(snapshotController.openDb());
+
+    // then
+    assertThat(wrapper.getInt("x")).isEqualTo(3);
+  }
+
   @Test
   public void shouldFailToRecoverIfAllSnapshotsAreCorrupted() throws Exception {
     // given two snapshots
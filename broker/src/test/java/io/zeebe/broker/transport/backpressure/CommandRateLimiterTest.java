@@ -8,11 +8,16 @@
 package io.zeebe.broker.transport.backpressure;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.netflix.concurrency.limits.limit.SettableLimit;
+import io.zeebe.broker.system.configuration.backpressure.CommandClassCfg;
 import io.zeebe.protocol.record.intent.Intent;
 import io.zeebe.protocol.record.intent.JobIntent;
+import io.zeebe.protocol.record.intent.MessageIntent;
 import io.zeebe.protocol.record.intent.WorkflowInstanceCreationIntent;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.IntStream;
 import org.junit.Test;
 
@@ -100,4 +105,92 @@ public final class CommandRateLimiterTest {
     // then
     assertThat(rateLimiter.getInflightCount()).isEqualTo(0);
   }
+
+  @Test
+  public void shouldAcquireWithinClassShareAfterLimit() {
+    // given
+    final CommandRateLimiter classLimiter = newClassLimiter(10);
+    IntStream.range(0, 5)
+        .forEach(i -> assertThat(classLimiter.tryAcquire(0, i, context)).isTrue());
+    assertThat(classLimiter.tryAcquire(0, 100, context)).isFalse();
+
+    // then
+    IntStream.range(0, 5)
+        .forEach(
+            i -> assertThat(classLimiter.tryAcquire(1, i, MessageIntent.PUBLISH)).isTrue());
+    assertThat(classLimiter.tryAcquire(1, 100, MessageIntent.PUBLISH)).isFalse();
+    assertThat(classLimiter.getInflightCount("messages")).isEqualTo(5);
+    assertThat(classLimiter.getInflightCount()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldReserveShareForOtherClasses() {
+    // given
+    final CommandRateLimiter classLimiter = newClassLimiter(10);
+    IntStream.range(0, 5)
+        .forEach(
+            i -> assertThat(classLimiter.tryAcquire(1, i, MessageIntent.PUBLISH)).isTrue());
+
+    // then
+    assertThat(classLimiter.tryAcquire(1, 100, MessageIntent.PUBLISH)).isFalse();
+    assertThat(classLimiter.tryAcquire(0, 1, context)).isTrue();
+  }
+
+  @Test
+  public void shouldBorrowCapacityNotReservedByOtherClasses() {
+    // given - both classes have a share of 5, which leaves 1 unreserved
+    final CommandRateLimiter classLimiter = newClassLimiter(11);
+    IntStream.range(0, 5)
+        .forEach(i -> assertThat(classLimiter.tryAcquire(0, i, context)).isTrue());
+
+    // then
+    assertThat(classLimiter.tryAcquire(0, 5, context)).isTrue();
+    assertThat(classLimiter.tryAcquire(0, 100, context)).isFalse();
+    IntStream.range(0, 5)
+        .forEach(
+            i -> assertThat(classLimiter.tryAcquire(1, i, MessageIntent.PUBLISH)).isTrue());
+    assertThat(classLimiter.getInflightCount()).isEqualTo(11);
+  }
+
+  @Test
+  public void shouldReleaseClassShareOnResponse() {
+    // given
+    final CommandRateLimiter classLimiter = newClassLimiter(10);
+    IntStream.range(0, 5)
+        .forEach(i -> assertThat(classLimiter.tryAcquire(0, i, context)).isTrue());
+    IntStream.range(0, 5)
+        .forEach(
+            i -> assertThat(classLimiter.tryAcquire(1, i, MessageIntent.PUBLISH)).isTrue());
+
+    // when
+    classLimiter.onResponse(1, 3);
+
+    // then
+    assertThat(classLimiter.getInflightCount("messages")).isEqualTo(4);
+    assertThat(classLimiter.getInflightCount(CommandClasses.DEFAULT_CLASS)).isEqualTo(5);
+    assertThat(classLimiter.tryAcquire(0, 100, context)).isFalse();
+    assertThat(classLimiter.tryAcquire(1, 100, MessageIntent.PUBLISH)).isTrue();
+  }
+
+  @Test
+  public void shouldRejectIntentInMultipleClasses() {
+    // given
+    final CommandClassCfg messages = new CommandClassCfg();
+    messages.setValueTypes(List.of("MESSAGE"));
+    final CommandClassCfg publish = new CommandClassCfg();
+    publish.setIntents(List.of("MESSAGE:PUBLISH"));
+
+    // then
+    assertThatThrownBy(() -> CommandClasses.of(Map.of("messages", messages, "publish", publish)))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private CommandRateLimiter newClassLimiter(final int limit) {
+    final CommandClassCfg messages = new CommandClassCfg();
+    messages.setValueTypes(List.of("MESSAGE"));
+    return CommandRateLimiter.builder()
+        .limit(new SettableLimit(limit))
+        .commandClasses(CommandClasses.of(Map.of("messages", messages)))
+        .build(0);
+  }
 }
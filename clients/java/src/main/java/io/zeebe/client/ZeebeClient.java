@@ -20,6 +20,7 @@ import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.TopologyRequestStep1;
@@ -155,6 +156,27 @@ public interface ZeebeClient extends AutoCloseable, JobClient {
    */
   PublishMessageCommandStep1 newPublishMessageCommand();
 
+  /**
+   * Command to publish many messages with a single request.
+   *
+   * <pre>
+   * zeebeClient
+   *  .newPublishMessagesCommand()
+   *  .addMessage("order canceled", orderId)
+   *  .variables(json)
+   *  .addMessage("order canceled", otherOrderId)
+   *  .send();
+   * </pre>
+   *
+   * <p>Each message is published as by {@link #newPublishMessageCommand()}, and the result of each
+   * publication is returned individually, such that one failed publication doesn't fail the
+   * others. Note that the gateway still sends one command per message to the broker, and that it
+   * rejects commands with more than 1000 messages.
+   *
+   * @return a builder for the command
+   */
+  PublishMessagesCommandStep1 newPublishMessagesCommand();
+
   /**
    * Command to resolve an existing incident.
    *
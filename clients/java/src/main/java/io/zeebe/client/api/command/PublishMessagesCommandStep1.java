@@ -0,0 +1,93 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.command;
+
+import io.zeebe.client.api.response.PublishMessagesResponse;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.Map;
+
+public interface PublishMessagesCommandStep1 extends FinalCommandStep<PublishMessagesResponse> {
+
+  /**
+   * Adds a message to publish.
+   *
+   * @param messageName the name of the message
+   * @param correlationKey the correlation key value of the message
+   * @return the builder for this command. Call {@link #send()} to complete the command and send it
+   *     to the broker.
+   */
+  PublishMessagesCommandStep2 addMessage(String messageName, String correlationKey);
+
+  interface PublishMessagesCommandStep2 extends PublishMessagesCommandStep1 {
+
+    /**
+     * Set the id of the last added message. The message is rejected if another message is already
+     * published with the same id, name and correlation-key.
+     *
+     * @param messageId the id of the message
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessagesCommandStep2 messageId(String messageId);
+
+    /**
+     * Set the time-to-live of the last added message. If no duration is set then the default is
+     * used from the configuration.
+     *
+     * @param timeToLive the time-to-live of the message
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessagesCommandStep2 timeToLive(Duration timeToLive);
+
+    /**
+     * Set the variables of the last added message.
+     *
+     * @param variables the variables (JSON) as stream
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessagesCommandStep2 variables(InputStream variables);
+
+    /**
+     * Set the variables of the last added message.
+     *
+     * @param variables the variables (JSON) as String
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessagesCommandStep2 variables(String variables);
+
+    /**
+     * Set the variables of the last added message.
+     *
+     * @param variables the variables as map
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessagesCommandStep2 variables(Map<String, Object> variables);
+
+    /**
+     * Set the variables of the last added message.
+     *
+     * @param variables the variables as object
+     * @return the builder for this command. Call {@link #send()} to complete the command and send
+     *     it to the broker.
+     */
+    PublishMessagesCommandStep2 variables(Object variables);
+  }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.response;
+
+public interface CommandResult {
+
+  /**
+   * Returns the gRPC status code of the command, which is 0 (OK) if the command was processed
+   * successfully.
+   *
+   * @return the status code of the command
+   */
+  int getCode();
+
+  /**
+   * Returns why the command failed.
+   *
+   * @return the reason of the failure, or an empty string if the command was successful
+   */
+  String getMessage();
+
+  /**
+   * Returns the key of the record written for the command, e.g. the key of the published message.
+   *
+   * @return the record key of the command
+   */
+  long getKey();
+
+  /** @return true if the command was processed successfully */
+  boolean isSuccessful();
+}
@@ -16,6 +16,7 @@
 package io.zeebe.client.api.worker;
 
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
 
@@ -47,6 +48,27 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(long jobKey);
 
+  /**
+   * Command to complete many jobs with a single request.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey)
+   *  .variables(json)
+   *  .addJob(otherJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>Each job is completed as by {@link #newCompleteCommand(long)}, and the result of each
+   * completion is returned individually, such that one failed completion doesn't fail the others.
+   * Note that the gateway still sends one command per job to the broker, and that it rejects
+   * commands with more than 1000 jobs.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
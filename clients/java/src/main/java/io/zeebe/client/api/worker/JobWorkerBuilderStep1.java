@@ -18,6 +18,7 @@ package io.zeebe.client.api.worker;
 import io.zeebe.client.ZeebeClientConfiguration;
 import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 public interface JobWorkerBuilderStep1 {
   /**
@@ -176,6 +177,58 @@ public interface JobWorkerBuilderStep1 {
      */
     JobWorkerBuilderStep3 fetchVariables(String... fetchVariables);
 
+    /**
+     * Enable the adaptive activation of jobs.
+     *
+     * <p>By default, the worker activates new jobs when the remaining jobs drop to 30% of {@link
+     * #maxJobsActive(int)}. In adaptive mode, the worker measures the throughput of the job handler
+     * and the latency of the activation requests. It activates new jobs early enough that they
+     * arrive before the remaining jobs are handled, and it limits the active jobs to the number of
+     * jobs that can be handled within half of the {@link #timeout(Duration)}. The {@link
+     * #maxJobsActive(int)} is never exceeded.
+     *
+     * @param adaptiveActivation {@code true} to enable the adaptive activation
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 adaptiveActivation(boolean adaptiveActivation);
+
+    /**
+     * Set the maximum number of activate jobs requests which the worker sends concurrently.
+     *
+     * <p>The capacity of the worker ({@link #maxJobsActive(int)}) is split between the requests.
+     * Multiple requests can be useful if the jobs are spread over many partitions.
+     *
+     * <p>If no maximum is set then only one request is sent at a time.
+     *
+     * @param maxConcurrentPolls the maximum number of concurrent activate jobs requests
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 maxConcurrentPolls(int maxConcurrentPolls);
+
+    /**
+     * Set the executor which invokes the job handler.
+     *
+     * <p>This can be used to isolate the job handlers of a worker, or to run them on virtual
+     * threads when the runtime supports it, e.g. with {@code
+     * Executors.newVirtualThreadPerTaskExecutor()}. The worker doesn't shut down the given
+     * executor.
+     *
+     * <p>If no executor is set then the job handler is invoked by the threads of the client (see
+     * {@link ZeebeClientConfiguration#getNumJobWorkerExecutionThreads()}).
+     *
+     * @param handlerExecutor the executor which invokes the job handler
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 handlerExecutor(Executor handlerExecutor);
+
+    /**
+     * Set the metrics hook which observes the activation and the handling of jobs.
+     *
+     * @param metrics the metrics hook of this worker
+     * @return the builder for this worker
+     */
+    JobWorkerBuilderStep3 metrics(JobWorkerMetrics metrics);
+
     /**
      * Open the worker and start to work on available tasks.
      *
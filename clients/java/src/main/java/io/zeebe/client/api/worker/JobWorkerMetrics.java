@@ -0,0 +1,54 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.api.worker;
+
+import java.time.Duration;
+
+/**
+ * A hook to observe a job worker, e.g. to expose its throughput with a metrics library of choice.
+ *
+ * <p>The methods are invoked from the threads of the worker and the job handlers, possibly
+ * concurrently. Implementations MUST be thread-safe and should not block. Exceptions thrown by
+ * the methods are logged and otherwise ignored.
+ */
+public interface JobWorkerMetrics {
+
+  /**
+   * Invoked when the worker sends a request to activate jobs.
+   *
+   * @param maxJobsToActivate the maximum number of jobs that are requested
+   */
+  default void jobsRequested(final int maxJobsToActivate) {}
+
+  /**
+   * Invoked when a request to activate jobs is completed.
+   *
+   * @param activatedJobs the number of jobs that were activated by the request
+   */
+  default void jobsActivated(final int activatedJobs) {}
+
+  /**
+   * Invoked when the job handler is done with a job, also if it failed to handle the job.
+   *
+   * @param handlingTime the time that the job handler needed for the job
+   */
+  default void jobHandled(final Duration handlingTime) {}
+
+  /** @return metrics that ignore all events */
+  static JobWorkerMetrics noop() {
+    return new JobWorkerMetrics() {};
+  }
+}
@@ -29,10 +29,12 @@ import io.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.zeebe.client.api.command.CancelWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.ClientException;
 import io.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.zeebe.client.api.command.CreateWorkflowInstanceCommandStep1;
 import io.zeebe.client.api.command.DeployWorkflowCommandStep1;
 import io.zeebe.client.api.command.FailJobCommandStep1;
 import io.zeebe.client.api.command.PublishMessageCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
 import io.zeebe.client.api.command.ResolveIncidentCommandStep1;
 import io.zeebe.client.api.command.SetVariablesCommandStep1;
 import io.zeebe.client.api.command.ThrowErrorCommandStep1;
@@ -46,6 +48,7 @@ import io.zeebe.client.impl.command.CreateWorkflowInstanceCommandImpl;
 import io.zeebe.client.impl.command.DeployWorkflowCommandImpl;
 import io.zeebe.client.impl.command.JobUpdateRetriesCommandImpl;
 import io.zeebe.client.impl.command.PublishMessageCommandImpl;
+import io.zeebe.client.impl.command.PublishMessagesCommandImpl;
 import io.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.zeebe.client.impl.command.TopologyRequestImpl;
@@ -269,6 +272,12 @@ public final class ZeebeClientImpl implements ZeebeClient {
         asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
   }
 
+  @Override
+  public PublishMessagesCommandStep1 newPublishMessagesCommand() {
+    return new PublishMessagesCommandImpl(
+        asyncStub, config, objectMapper, credentialsProvider::shouldRetryRequest);
+  }
+
   @Override
   public ResolveIncidentCommandStep1 newResolveIncidentCommand(final long incidentKey) {
     return new ResolveIncidentCommandImpl(
@@ -315,6 +324,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return jobClient.newCompleteCommand(jobKey);
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
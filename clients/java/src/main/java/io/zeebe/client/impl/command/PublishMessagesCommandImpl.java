@@ -0,0 +1,124 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.command;
+
+import io.grpc.stub.StreamObserver;
+import io.zeebe.client.ZeebeClientConfiguration;
+import io.zeebe.client.api.ZeebeFuture;
+import io.zeebe.client.api.command.FinalCommandStep;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1;
+import io.zeebe.client.api.command.PublishMessagesCommandStep1.PublishMessagesCommandStep2;
+import io.zeebe.client.api.response.PublishMessagesResponse;
+import io.zeebe.client.impl.RetriableClientFutureImpl;
+import io.zeebe.client.impl.ZeebeObjectMapper;
+import io.zeebe.client.impl.response.PublishMessagesResponseImpl;
+import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+public final class PublishMessagesCommandImpl
+    extends CommandWithVariables<PublishMessagesCommandImpl>
+    implements PublishMessagesCommandStep1, PublishMessagesCommandStep2 {
+
+  private final GatewayStub asyncStub;
+  private final Predicate<Throwable> retryPredicate;
+  private final Duration defaultTimeToLive;
+  private final List<PublishMessageRequest.Builder> messages = new ArrayList<>();
+  private Duration requestTimeout;
+
+  public PublishMessagesCommandImpl(
+      final GatewayStub asyncStub,
+      final ZeebeClientConfiguration configuration,
+      final ZeebeObjectMapper objectMapper,
+      final Predicate<Throwable> retryPredicate) {
+    super(objectMapper);
+    this.asyncStub = asyncStub;
+    this.retryPredicate = retryPredicate;
+    requestTimeout = configuration.getDefaultRequestTimeout();
+    defaultTimeToLive = configuration.getDefaultMessageTimeToLive();
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 addMessage(
+      final String messageName, final String correlationKey) {
+    messages.add(
+        PublishMessageRequest.newBuilder()
+            .setName(messageName)
+            .setCorrelationKey(correlationKey)
+            .setTimeToLive(defaultTimeToLive.toMillis()));
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 messageId(final String messageId) {
+    lastMessage().setMessageId(messageId);
+    return this;
+  }
+
+  @Override
+  public PublishMessagesCommandStep2 timeToLive(final Duration timeToLive) {
+    lastMessage().setTimeToLive(timeToLive.toMillis());
+    return this;
+  }
+
+  @Override
+  protected PublishMessagesCommandImpl setVariablesInternal(final String variables) {
+    lastMessage().setVariables(variables);
+    return this;
+  }
+
+  @Override
+  public FinalCommandStep<PublishMessagesResponse> requestTimeout(final Duration requestTimeout) {
+    this.requestTimeout = requestTimeout;
+    return this;
+  }
+
+  @Override
+  public ZeebeFuture<PublishMessagesResponse> send() {
+    final PublishMessagesRequest.Builder builder = PublishMessagesRequest.newBuilder();
+    messages.forEach(builder::addMessages);
+    final PublishMessagesRequest request = builder.build();
+
+    final RetriableClientFutureImpl<
+            PublishMessagesResponse, GatewayOuterClass.PublishMessagesResponse>
+        future =
+            new RetriableClientFutureImpl<>(
+                PublishMessagesResponseImpl::new,
+                retryPredicate,
+                streamObserver -> send(request, streamObserver));
+
+    send(request, future);
+    return future;
+  }
+
+  private PublishMessageRequest.Builder lastMessage() {
+    return messages.get(messages.size() - 1);
+  }
+
+  private void send(
+      final PublishMessagesRequest request,
+      final StreamObserver<GatewayOuterClass.PublishMessagesResponse> streamObserver) {
+    asyncStub
+        .withDeadlineAfter(requestTimeout.toMillis(), TimeUnit.MILLISECONDS)
+        .publishMessages(request, streamObserver);
+  }
+}
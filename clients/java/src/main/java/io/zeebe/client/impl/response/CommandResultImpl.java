@@ -0,0 +1,66 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.response;
+
+import io.grpc.Status.Code;
+import io.zeebe.client.api.response.CommandResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass;
+
+public final class CommandResultImpl implements CommandResult {
+
+  private final int code;
+  private final String message;
+  private final long key;
+
+  public CommandResultImpl(final GatewayOuterClass.CommandResult result) {
+    code = result.getCode();
+    message = result.getMessage();
+    key = result.getKey();
+  }
+
+  @Override
+  public int getCode() {
+    return code;
+  }
+
+  @Override
+  public String getMessage() {
+    return message;
+  }
+
+  @Override
+  public long getKey() {
+    return key;
+  }
+
+  @Override
+  public boolean isSuccessful() {
+    return code == Code.OK.value();
+  }
+
+  @Override
+  public String toString() {
+    return "CommandResultImpl{"
+        + "code="
+        + code
+        + ", message='"
+        + message
+        + '\''
+        + ", key="
+        + key
+        + '}';
+  }
+}
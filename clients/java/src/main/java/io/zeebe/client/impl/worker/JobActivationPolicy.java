@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.impl.worker;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Decides when a job worker activates new jobs and how many.
+ *
+ * <p>By default, the worker activates new jobs when the remaining jobs drop to 30% of {@code
+ * maxJobsActive} and fills up the free capacity. In adaptive mode, the policy measures the
+ * throughput of the job handler and the latency of the activation requests and derives from them:
+ *
+ * <ul>
+ *   <li>the activation threshold: the jobs that are handled while an activation request is in
+ *       flight, such that the new jobs arrive before the remaining ones are handled
+ *   <li>the maximum number of active jobs: the jobs that can be handled within half of the job
+ *       timeout, such that slow handlers don't buffer jobs which time out before they are handled
+ * </ul>
+ *
+ * <p>Until the first measurements are available, the default values are used.
+ */
+public final class JobActivationPolicy {
+
+  private static final float DEFAULT_THRESHOLD_FACTOR = 0.3f;
+  // the weight of a new sample for the moving averages
+  private static final double SMOOTHING_FACTOR = 0.2;
+  private static final long THROUGHPUT_WINDOW_NANOS = Duration.ofMillis(100).toNanos();
+
+  private final boolean adaptive;
+  private final int maxJobsActive;
+  private final int defaultThreshold;
+  private final long jobTimeoutNanos;
+  private final LongSupplier nanoClock;
+
+  // exponentially weighted moving averages, 0 if not measured yet
+  private double throughputPerNano;
+  private double activationLatencyNanos;
+
+  private long windowStart = -1;
+  private int windowHandledJobs;
+
+  private JobActivationPolicy(
+      final boolean adaptive,
+      final int maxJobsActive,
+      final Duration jobTimeout,
+      final LongSupplier nanoClock) {
+    this.adaptive = adaptive;
+    this.maxJobsActive = maxJobsActive;
+    defaultThreshold = Math.round(maxJobsActive * DEFAULT_THRESHOLD_FACTOR);
+    jobTimeoutNanos = jobTimeout.toNanos();
+    this.nanoClock = nanoClock;
+  }
+
+  public static JobActivationPolicy fixed(final int maxJobsActive) {
+    return new JobActivationPolicy(false, maxJobsActive, Duration.ZERO, System::nanoTime);
+  }
+
+  public static JobActivationPolicy adaptive(
+      final int maxJobsActive, final Duration jobTimeout, final LongSupplier nanoClock) {
+    return new JobActivationPolicy(true, maxJobsActive, jobTimeout, nanoClock);
+  }
+
+  /**
+   * @return the number of remaining jobs at which (or below which) the worker should activate new
+   *     jobs
+   */
+  public synchronized int getActivationThreshold() {
+    if (!adaptive || throughputPerNano <= 0 || activationLatencyNanos <= 0) {
+      return defaultThreshold;
+    }
+
+    final long jobsHandledDuringActivation =
+        (long) Math.ceil(throughputPerNano * activationLatencyNanos);
+    return (int) Math.min(jobsHandledDuringActivation, maxJobsActive - 1);
+  }
+
+  /**
+   * @param activeJobs the jobs which are activated or requested by the worker but not handled yet
+   * @param freeCapacity the number of jobs which can be requested at most
+   * @return the number of jobs to request, or 0 if no jobs should be requested
+   */
+  public synchronized int getMaxJobsToActivate(final int activeJobs, final int freeCapacity) {
+    if (!adaptive || throughputPerNano <= 0) {
+      return Math.max(freeCapacity, 0);
+    }
+
+    final long jobsHandledWithinTimeout = (long) (throughputPerNano * jobTimeoutNanos / 2);
+    final long maxActiveJobs = Math.max(1, Math.min(jobsHandledWithinTimeout, maxJobsActive));
+    return (int) Math.max(0, Math.min(freeCapacity, maxActiveJobs - activeJobs));
+  }
+
+  public synchronized void onActivationCompleted(
+      final long activationLatencyNanos, final int activatedJobs) {
+    // empty responses are not representative since the request may wait for jobs (long polling)
+    if (adaptive && activatedJobs > 0) {
+      this.activationLatencyNanos = average(this.activationLatencyNanos, activationLatencyNanos);
+
+      if (windowStart < 0) {
+        windowStart = nanoClock.getAsLong();
+      }
+    }
+  }
+
+  /**
+   * @param remainingJobs the jobs which are activated but not handled yet, after handling the job
+   */
+  public synchronized void onJobHandled(final int remainingJobs) {
+    if (!adaptive || windowStart < 0) {
+      return;
+    }
+
+    final long now = nanoClock.getAsLong();
+    windowHandledJobs += 1;
+
+    final long windowLength = now - windowStart;
+    if (windowLength >= THROUGHPUT_WINDOW_NANOS) {
+      throughputPerNano = average(throughputPerNano, (double) windowHandledJobs / windowLength);
+      windowStart = now;
+      windowHandledJobs = 0;
+    }
+
+    if (remainingJobs <= 0) {
+      // the worker is idle until new jobs are activated, which must not count as handling time
+      windowStart = -1;
+      windowHandledJobs = 0;
+    }
+  }
+
+  private static double average(final double average, final double sample) {
+    if (average <= 0) {
+      return sample;
+    }
+    return average + SMOOTHING_FACTOR * (sample - average);
+  }
+}
@@ -26,14 +26,17 @@ import io.zeebe.client.api.worker.JobWorker;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep2;
 import io.zeebe.client.api.worker.JobWorkerBuilderStep1.JobWorkerBuilderStep3;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.ZeebeObjectMapper;
 import io.zeebe.gateway.protocol.GatewayGrpc.GatewayStub;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest.Builder;
 import java.io.Closeable;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Predicate;
 
@@ -56,6 +59,10 @@ public final class JobWorkerBuilderImpl
   private Duration pollInterval;
   private Duration requestTimeout;
   private List<String> fetchVariables;
+  private boolean adaptiveActivation;
+  private int maxConcurrentPolls = 1;
+  private Executor handlerExecutor;
+  private JobWorkerMetrics metrics = JobWorkerMetrics.noop();
 
   public JobWorkerBuilderImpl(
       final ZeebeClientConfiguration configuration,
@@ -69,6 +76,7 @@ public final class JobWorkerBuilderImpl
     this.jobClient = jobClient;
     this.objectMapper = objectMapper;
     this.executorService = executorService;
+    handlerExecutor = executorService;
     this.closeables = closeables;
 
     timeout = configuration.getDefaultJobTimeout().toMillis();
@@ -136,6 +144,30 @@ public final class JobWorkerBuilderImpl
     return fetchVariables(Arrays.asList(fetchVariables));
   }
 
+  @Override
+  public JobWorkerBuilderStep3 adaptiveActivation(final boolean adaptiveActivation) {
+    this.adaptiveActivation = adaptiveActivation;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 maxConcurrentPolls(final int maxConcurrentPolls) {
+    this.maxConcurrentPolls = maxConcurrentPolls;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 handlerExecutor(final Executor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    return this;
+  }
+
+  @Override
+  public JobWorkerBuilderStep3 metrics(final JobWorkerMetrics metrics) {
+    this.metrics = metrics;
+    return this;
+  }
+
   @Override
   public JobWorker open() {
     ensureNotNullNorEmpty("jobType", jobType);
@@ -143,6 +175,9 @@ public final class JobWorkerBuilderImpl
     ensureGreaterThan("timeout", timeout, 0L);
     ensureNotNullNorEmpty("workerName", workerName);
     ensureGreaterThan("maxJobsActive", maxJobsActive, 0);
+    ensureGreaterThan("maxConcurrentPolls", maxConcurrentPolls, 0);
+    ensureNotNull("handlerExecutor", handlerExecutor);
+    ensureNotNull("metrics", metrics);
 
     final Builder requestBuilder =
         ActivateJobsRequest.newBuilder()
@@ -159,12 +194,30 @@ public final class JobWorkerBuilderImpl
     final Duration deadline = requestTimeout.plus(DEADLINE_OFFSET);
 
     final JobRunnableFactory jobRunnableFactory = new JobRunnableFactory(jobClient, handler);
-    final JobPoller jobPoller =
-        new JobPoller(gatewayStub, requestBuilder, objectMapper, deadline, retryPredicate);
+    final List<JobPoller> jobPollers = new ArrayList<>(maxConcurrentPolls);
+    for (int i = 0; i < maxConcurrentPolls; i++) {
+      // every poller modifies its request builder
+      jobPollers.add(
+          new JobPoller(
+              gatewayStub, requestBuilder.clone(), objectMapper, deadline, retryPredicate));
+    }
+
+    final JobActivationPolicy activationPolicy =
+        adaptiveActivation
+            ? JobActivationPolicy.adaptive(
+                maxJobsActive, Duration.ofMillis(timeout), System::nanoTime)
+            : JobActivationPolicy.fixed(maxJobsActive);
 
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
-            maxJobsActive, executorService, pollInterval, jobRunnableFactory, jobPoller);
+            maxJobsActive,
+            executorService,
+            handlerExecutor,
+            pollInterval,
+            jobRunnableFactory,
+            jobPollers,
+            activationPolicy,
+            metrics);
     closeables.add(jobWorker);
     return jobWorker;
   }
@@ -17,15 +17,19 @@ package io.zeebe.client.impl.worker;
 
 import io.zeebe.client.api.response.ActivatedJob;
 import io.zeebe.client.api.worker.JobWorker;
+import io.zeebe.client.api.worker.JobWorkerMetrics;
 import io.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
-import java.util.concurrent.ExecutorService;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicReference;
 import org.slf4j.Logger;
 
 public final class JobWorkerImpl implements JobWorker, Closeable {
@@ -34,16 +38,22 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   // job queue state
   private final int maxJobsActive;
-  private final int activationThreshold;
-  private final AtomicInteger remainingJobs;
+  private final int maxJobsPerPoll;
+  private final JobActivationPolicy activationPolicy;
+  // jobs which are activated but not handled yet
+  private final AtomicInteger remainingJobs = new AtomicInteger(0);
+  // remaining jobs plus the jobs which are requested by the pending polls
+  private final AtomicInteger activeJobs = new AtomicInteger(0);
 
   // job execution facilities
-  private final ExecutorService executor;
+  private final Executor handlerExecutor;
   private final JobRunnableFactory jobRunnableFactory;
+  private final JobWorkerMetrics metrics;
 
   // state synchronization
   private final AtomicBoolean acquiringJobs = new AtomicBoolean(true);
-  private final AtomicReference<JobPoller> jobPoller;
+  private final Queue<JobPoller> idleJobPollers;
+  private final int jobPollersCount;
 
   public JobWorkerImpl(
       final int maxJobsActive,
@@ -51,15 +61,38 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
       final Duration pollInterval,
       final JobRunnableFactory jobRunnableFactory,
       final JobPoller jobPoller) {
+    this(
+        maxJobsActive,
+        executor,
+        executor,
+        pollInterval,
+        jobRunnableFactory,
+        Collections.singletonList(jobPoller),
+        JobActivationPolicy.fixed(maxJobsActive),
+        JobWorkerMetrics.noop());
+  }
+
+  public JobWorkerImpl(
+      final int maxJobsActive,
+      final ScheduledExecutorService executor,
+      final Executor handlerExecutor,
+      final Duration pollInterval,
+      final JobRunnableFactory jobRunnableFactory,
+      final List<JobPoller> jobPollers,
+      final JobActivationPolicy activationPolicy,
+      final JobWorkerMetrics metrics) {
 
     this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
-    remainingJobs = new AtomicInteger(0);
+    // split the capacity between the pollers, otherwise the first poll claims all of it
+    maxJobsPerPoll = (maxJobsActive + jobPollers.size() - 1) / jobPollers.size();
+    this.activationPolicy = activationPolicy;
 
-    this.executor = executor;
+    this.handlerExecutor = handlerExecutor;
     this.jobRunnableFactory = jobRunnableFactory;
+    this.metrics = metrics;
 
-    this.jobPoller = new AtomicReference<>(jobPoller);
+    idleJobPollers = new ConcurrentLinkedQueue<>(jobPollers);
+    jobPollersCount = jobPollers.size();
 
     executor.scheduleWithFixedDelay(
         this::tryActivateJobs, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
@@ -72,7 +105,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   @Override
   public boolean isClosed() {
-    return !isOpen() && jobPoller.get() != null && remainingJobs.get() <= 0;
+    return !isOpen() && idleJobPollers.size() == jobPollersCount && remainingJobs.get() <= 0;
   }
 
   @Override
@@ -81,51 +114,100 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private void tryActivateJobs() {
-    final int remainingJobs = this.remainingJobs.get();
-    if (shouldActivateJobs(remainingJobs)) {
-      activateJobs();
+    boolean activated = true;
+    while (activated && shouldActivateJobs(remainingJobs.get())) {
+      activated = activateJobs();
     }
   }
 
-  private void activateJobs() {
-    final JobPoller jobPoller = this.jobPoller.getAndSet(null);
-    if (jobPoller != null) {
-      // check the condition again within the critical section
-      // to avoid race conditions that would let us exceed the buffer size
-      final int currentRemainingJobs = remainingJobs.get();
-      if (shouldActivateJobs(currentRemainingJobs)) {
-        final int maxActivatedJobs = maxJobsActive - currentRemainingJobs;
-        try {
-          jobPoller.poll(
-              maxActivatedJobs,
-              this::submitJob,
-              activatedJobs -> {
-                remainingJobs.addAndGet(activatedJobs);
-                this.jobPoller.set(jobPoller);
-              },
-              this::isOpen);
-        } catch (final Exception e) {
-          LOG.warn("Failed to activate jobs", e);
-          this.jobPoller.set(jobPoller);
-        }
-      } else {
-        this.jobPoller.set(jobPoller);
+  private boolean activateJobs() {
+    final JobPoller jobPoller = idleJobPollers.poll();
+    if (jobPoller == null) {
+      return false;
+    }
+
+    // check the condition again within the critical section
+    // to avoid race conditions that would let us exceed the buffer size
+    final int maxActivatedJobs = shouldActivateJobs(remainingJobs.get()) ? reserveJobs() : 0;
+    if (maxActivatedJobs <= 0) {
+      idleJobPollers.add(jobPoller);
+      return false;
+    }
+
+    final long startTime = System.nanoTime();
+    recordMetrics(() -> metrics.jobsRequested(maxActivatedJobs));
+    try {
+      jobPoller.poll(
+          maxActivatedJobs,
+          this::submitJob,
+          activatedJobs -> {
+            // release the capacity which was requested but not used
+            activeJobs.addAndGet(activatedJobs - maxActivatedJobs);
+            activationPolicy.onActivationCompleted(System.nanoTime() - startTime, activatedJobs);
+            idleJobPollers.add(jobPoller);
+            recordMetrics(() -> metrics.jobsActivated(activatedJobs));
+          },
+          this::isOpen);
+      return true;
+    } catch (final Exception e) {
+      LOG.warn("Failed to activate jobs", e);
+      activeJobs.addAndGet(-maxActivatedJobs);
+      idleJobPollers.add(jobPoller);
+      return false;
+    }
+  }
+
+  private int reserveJobs() {
+    while (true) {
+      final int currentActiveJobs = activeJobs.get();
+      final int freeCapacity = Math.min(maxJobsActive - currentActiveJobs, maxJobsPerPoll);
+      final int jobs = activationPolicy.getMaxJobsToActivate(currentActiveJobs, freeCapacity);
+
+      if (jobs <= 0) {
+        return 0;
+      } else if (activeJobs.compareAndSet(currentActiveJobs, currentActiveJobs + jobs)) {
+        return jobs;
       }
     }
   }
 
   private boolean shouldActivateJobs(final int remainingJobs) {
-    return acquiringJobs.get() && remainingJobs <= activationThreshold;
+    return acquiringJobs.get() && remainingJobs <= activationPolicy.getActivationThreshold();
   }
 
   private void submitJob(final ActivatedJob job) {
-    executor.execute(jobRunnableFactory.create(job, this::jobHandlerFinished));
+    remainingJobs.incrementAndGet();
+    handlerExecutor.execute(
+        () -> {
+          final long startTime = System.nanoTime();
+          jobRunnableFactory.create(job, () -> jobHandlerFinished(startTime)).run();
+        });
   }
 
-  private void jobHandlerFinished() {
+  private void jobHandlerFinished(final long startTime) {
+    final Duration handlingTime = Duration.ofNanos(System.nanoTime() - startTime);
+
+    activeJobs.decrementAndGet();
     final int remainingJobs = this.remainingJobs.decrementAndGet();
+    activationPolicy.onJobHandled(remainingJobs);
+
     if (shouldActivateJobs(remainingJobs)) {
       activateJobs();
     }
+
+    recordMetrics(() -> metrics.jobHandled(handlingTime));
+  }
+
+  /**
+   * The metrics are supplied by the user. They are recorded after the worker updated its own
+   * state, and a failure is only logged, such that it can't prevent the worker from activating
+   * jobs.
+   */
+  private void recordMetrics(final Runnable recording) {
+    try {
+      recording.run();
+    } catch (final Exception e) {
+      LOG.warn("Failed to record job worker metrics", e);
+    }
   }
 }
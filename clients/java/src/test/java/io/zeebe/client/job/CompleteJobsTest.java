@@ -0,0 +1,81 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static io.zeebe.client.util.RecordingGatewayService.commandResult;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.client.api.response.CommandResult;
+import io.zeebe.client.api.response.CompleteJobsResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.client.util.JsonUtil;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends ClientTest {
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    final Map<String, Object> variables = Collections.singletonMap("key", "val");
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).variables(variables).addJob(13).send().join();
+
+    // then
+    final CompleteJobsRequest request = gatewayService.getLastRequest();
+    assertThat(request.getJobsList())
+        .extracting(CompleteJobRequest::getJobKey)
+        .containsExactly(12L, 13L);
+    JsonUtil.assertEquality(request.getJobs(0).getVariables(), JsonUtil.toJson(variables));
+    assertThat(request.getJobs(1).getVariables()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachJob() {
+    // given
+    gatewayService.onCompleteJobsRequest(
+        commandResult(0, "", 12), commandResult(5, "job not found", 0));
+
+    // when
+    final CompleteJobsResponse response =
+        client.newCompleteJobsCommand().addJob(12).addJob(13).send().join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(CommandResult::isSuccessful, CommandResult::getKey, CommandResult::getMessage)
+        .containsExactly(tuple(true, 12L, ""), tuple(false, 0L, "job not found"));
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client.newCompleteJobsCommand().addJob(12).requestTimeout(requestTimeout).send().join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
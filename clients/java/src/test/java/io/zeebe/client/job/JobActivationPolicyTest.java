@@ -0,0 +1,125 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import io.zeebe.client.impl.worker.JobActivationPolicy;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public final class JobActivationPolicyTest {
+
+  private final AtomicLong clock = new AtomicLong();
+
+  @Test
+  public void shouldActivateJobsAtFixedThreshold() {
+    // given
+    final JobActivationPolicy policy = JobActivationPolicy.fixed(32);
+
+    // when
+    policy.onActivationCompleted(Duration.ofMillis(200).toNanos(), 32);
+    handleJobs(policy, 10, Duration.ofMillis(10), 22);
+
+    // then
+    assertThat(policy.getActivationThreshold()).isEqualTo(10);
+    assertThat(policy.getMaxJobsToActivate(10, 22)).isEqualTo(22);
+  }
+
+  @Test
+  public void shouldUseDefaultsUntilMeasured() {
+    // given
+    final JobActivationPolicy policy = adaptivePolicy(32, Duration.ofMinutes(5));
+
+    // then
+    assertThat(policy.getActivationThreshold()).isEqualTo(10);
+    assertThat(policy.getMaxJobsToActivate(10, 22)).isEqualTo(22);
+  }
+
+  @Test
+  public void shouldAdaptThresholdToThroughputAndActivationLatency() {
+    // given
+    final JobActivationPolicy policy = adaptivePolicy(100, Duration.ofMinutes(5));
+
+    // when - 100 jobs per second and 200 ms to activate jobs
+    policy.onActivationCompleted(Duration.ofMillis(200).toNanos(), 50);
+    handleJobs(policy, 10, Duration.ofMillis(10), 40);
+
+    // then
+    assertThat(policy.getActivationThreshold()).isCloseTo(20, within(1));
+  }
+
+  @Test
+  public void shouldNotExceedMaxJobsActiveWithThreshold() {
+    // given
+    final JobActivationPolicy policy = adaptivePolicy(10, Duration.ofMinutes(5));
+
+    // when
+    policy.onActivationCompleted(Duration.ofSeconds(10).toNanos(), 10);
+    handleJobs(policy, 5, Duration.ofMillis(20), 5);
+
+    // then
+    assertThat(policy.getActivationThreshold()).isEqualTo(9);
+  }
+
+  @Test
+  public void shouldLimitActiveJobsToJobsHandledWithinTimeout() {
+    // given
+    final JobActivationPolicy policy = adaptivePolicy(100, Duration.ofSeconds(1));
+
+    // when - 100 jobs per second, so 50 jobs can be handled in half of the timeout
+    policy.onActivationCompleted(Duration.ofMillis(10).toNanos(), 50);
+    handleJobs(policy, 10, Duration.ofMillis(10), 40);
+
+    // then
+    assertThat(policy.getMaxJobsToActivate(40, 60)).isCloseTo(10, within(1));
+    assertThat(policy.getMaxJobsToActivate(60, 40)).isZero();
+  }
+
+  @Test
+  public void shouldNotCountIdleTimeAsHandlingTime() {
+    // given
+    final JobActivationPolicy policy = adaptivePolicy(100, Duration.ofMinutes(5));
+    policy.onActivationCompleted(Duration.ofMillis(200).toNanos(), 10);
+    handleJobs(policy, 10, Duration.ofMillis(10), 0);
+    final int threshold = policy.getActivationThreshold();
+
+    // when
+    clock.addAndGet(Duration.ofMinutes(1).toNanos());
+    policy.onActivationCompleted(Duration.ofMillis(200).toNanos(), 10);
+    handleJobs(policy, 10, Duration.ofMillis(10), 0);
+
+    // then
+    assertThat(policy.getActivationThreshold()).isEqualTo(threshold);
+  }
+
+  private JobActivationPolicy adaptivePolicy(final int maxJobsActive, final Duration jobTimeout) {
+    return JobActivationPolicy.adaptive(maxJobsActive, jobTimeout, clock::get);
+  }
+
+  private void handleJobs(
+      final JobActivationPolicy policy,
+      final int jobs,
+      final Duration handlingTime,
+      final int remainingJobsAfterwards) {
+    for (int i = 1; i <= jobs; i++) {
+      clock.addAndGet(handlingTime.toNanos());
+      policy.onJobHandled(remainingJobsAfterwards + jobs - i);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.zeebe.client.workflow;
+
+import static io.zeebe.client.util.JsonUtil.fromJsonAsMap;
+import static io.zeebe.client.util.RecordingGatewayService.commandResult;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.tuple;
+
+import io.zeebe.client.api.response.CommandResult;
+import io.zeebe.client.api.response.PublishMessagesResponse;
+import io.zeebe.client.util.ClientTest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import java.time.Duration;
+import org.junit.Test;
+
+public final class PublishMessagesTest extends ClientTest {
+
+  @Test
+  public void shouldPublishMessages() {
+    // when
+    client
+        .newPublishMessagesCommand()
+        .addMessage("name", "key")
+        .messageId("theId")
+        .timeToLive(Duration.ofDays(1))
+        .variables("{\"foo\":\"bar\"}")
+        .addMessage("other", "otherKey")
+        .send()
+        .join();
+
+    // then
+    final PublishMessagesRequest request = gatewayService.getLastRequest();
+    assertThat(request.getMessagesList())
+        .extracting(PublishMessageRequest::getName, PublishMessageRequest::getCorrelationKey)
+        .containsExactly(tuple("name", "key"), tuple("other", "otherKey"));
+
+    final PublishMessageRequest first = request.getMessages(0);
+    assertThat(first.getMessageId()).isEqualTo("theId");
+    assertThat(first.getTimeToLive()).isEqualTo(Duration.ofDays(1).toMillis());
+    assertThat(fromJsonAsMap(first.getVariables())).contains(entry("foo", "bar"));
+
+    final PublishMessageRequest second = request.getMessages(1);
+    assertThat(second.getMessageId()).isEmpty();
+    assertThat(second.getTimeToLive())
+        .isEqualTo(client.getConfiguration().getDefaultMessageTimeToLive().toMillis());
+    assertThat(second.getVariables()).isEmpty();
+
+    rule.verifyDefaultRequestTimeout();
+  }
+
+  @Test
+  public void shouldReturnResultOfEachMessage() {
+    // given
+    gatewayService.onPublishMessagesRequest(
+        commandResult(0, "", 123), commandResult(6, "message already published", 0));
+
+    // when
+    final PublishMessagesResponse response =
+        client
+            .newPublishMessagesCommand()
+            .addMessage("name", "key")
+            .addMessage("name", "key")
+            .send()
+            .join();
+
+    // then
+    assertThat(response.getResults())
+        .extracting(CommandResult::isSuccessful, CommandResult::getKey, CommandResult::getMessage)
+        .containsExactly(tuple(true, 123L, ""), tuple(false, 0L, "message already published"));
+  }
+
+  @Test
+  public void shouldSetRequestTimeout() {
+    // given
+    final Duration requestTimeout = Duration.ofHours(124);
+
+    // when
+    client
+        .newPublishMessagesCommand()
+        .addMessage("name", "key")
+        .requestTimeout(requestTimeout)
+        .send()
+        .join();
+
+    // then
+    rule.verifyRequestTimeout(requestTimeout);
+  }
+}
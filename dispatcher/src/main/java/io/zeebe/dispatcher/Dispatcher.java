@@ -20,7 +20,6 @@ import io.zeebe.util.sched.ActorCondition;
 import io.zeebe.util.sched.FutureUtil;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
-import java.util.function.BiFunction;
 import org.slf4j.Logger;
 
 /** Component for sending and receiving messages between different threads. */
@@ -140,12 +139,8 @@ public class Dispatcher extends Actor {
    */
   public long claimSingleFragment(
       final ClaimedFragment claim, final int length, final int streamId) {
-    return offer(
-        (partition, activePartitionId) ->
-            logAppender.claim(
-                partition, activePartitionId, claim, length, streamId, onClaimComplete),
-        1,
-        LogBufferAppender.claimedFragmentLength(length));
+    ensureClaimableLength(LogBufferAppender.claimedFragmentLength(length));
+    return claim(claim, null, 1, length, streamId);
   }
 
   /**
@@ -161,48 +156,78 @@ public class Dispatcher extends Actor {
    */
   public long claimFragmentBatch(
       final ClaimedFragmentBatch batch, final int fragmentCount, final int batchLength) {
-    return offer(
-        (partition, activePartitionId) ->
-            logAppender.claim(
-                partition, activePartitionId, batch, fragmentCount, batchLength, onClaimComplete),
-        fragmentCount,
-        LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
+    ensureClaimableLength(LogBufferAppender.claimedBatchLength(fragmentCount, batchLength));
+    return claim(null, batch, fragmentCount, batchLength, 0);
   }
 
-  private synchronized long offer(
-      final BiFunction<LogBufferPartition, Integer, Integer> claimer,
+  /**
+   * Claims the given fragment, or the given batch if it is not null. The publishers only serialize
+   * on the claim of the buffer and the assignment of the record position, which must increase in
+   * the order of the fragments in the buffer. Everything else, like signaling the subscriptions, is
+   * done outside of the lock.
+   */
+  private long claim(
+      final ClaimedFragment fragment,
+      final ClaimedFragmentBatch batch,
       final int fragmentCount,
-      final int length) {
-    long newPosition = -1;
-
-    if (!isClosed) {
-      final long limit = publisherLimit.get();
+      final int length,
+      final int streamId) {
+    final long newPosition;
+    synchronized (this) {
+      if (isClosed) {
+        return -1;
+      }
 
       final int activePartitionId = logBuffer.getActivePartitionIdVolatile();
       final LogBufferPartition partition = logBuffer.getPartition(activePartitionId);
+      if (isPublisherLimitReached(activePartitionId, partition)) {
+        return -1;
+      }
 
-      final int partitionOffset = partition.getTailCounterVolatile();
-      final long position = position(activePartitionId, partitionOffset);
+      final int newOffset;
+      if (batch == null) {
+        newOffset =
+            logAppender.claim(
+                partition, activePartitionId, fragment, length, streamId, onClaimComplete);
+      } else {
+        newOffset =
+            logAppender.claim(
+                partition, activePartitionId, batch, fragmentCount, length, onClaimComplete);
+      }
+      newPosition = nextRecordPosition(activePartitionId, newOffset, fragmentCount);
+    }
 
-      if (position < limit) {
-        final int newOffset;
+    signalSubscriptions();
+    return newPosition;
+  }
 
-        if (length < maxFragmentLength) {
-          newOffset = claimer.apply(partition, activePartitionId);
-        } else {
-          throw new IllegalArgumentException(
-              String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
-        }
+  private void ensureClaimableLength(final int length) {
+    if (length >= maxFragmentLength) {
+      throw new IllegalArgumentException(
+          String.format(ERROR_MESSAGE_CLAIM_FAILED, length, maxFragmentLength));
+    }
+  }
 
-        newPosition = updatePublisherPosition(activePartitionId, newOffset);
+  /** Must be called while holding the lock of the dispatcher. */
+  private boolean isPublisherLimitReached(
+      final int activePartitionId, final LogBufferPartition partition) {
+    final long limit = publisherLimit.get();
 
-        // if successful, replace internal publisher position with simple counter and return it
-        if (newPosition > 0) {
-          newPosition = recordPosition;
-          recordPosition += fragmentCount;
-        }
-        signalSubscriptions();
-      }
+    final int partitionOffset = partition.getTailCounterVolatile();
+    final long position = position(activePartitionId, partitionOffset);
+
+    return position >= limit;
+  }
+
+  /** Must be called while holding the lock of the dispatcher. */
+  private long nextRecordPosition(
+      final int activePartitionId, final int newOffset, final int fragmentCount) {
+    long newPosition = updatePublisherPosition(activePartitionId, newOffset);
+
+    // if successful, replace internal publisher position with simple counter and return it
+    if (newPosition > 0) {
+      newPosition = recordPosition;
+      recordPosition += fragmentCount;
     }
 
     return newPosition;
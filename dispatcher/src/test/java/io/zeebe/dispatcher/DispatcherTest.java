@@ -27,6 +27,10 @@ import io.zeebe.dispatcher.impl.log.LogBufferPartition;
 import io.zeebe.util.sched.ActorCondition;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -313,4 +317,82 @@ public final class DispatcherTest {
         dispatcher.claimFragmentBatch(claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
     assertThat(newPosition).isEqualTo(INITIAL_POSITION + fragmentCount);
   }
+
+  @Test
+  public void shouldAssignUniquePositionsOnConcurrentClaims() throws Exception {
+    // given
+    final int threadCount = 4;
+    final int claimsPerThread = 1_000;
+    final int fragmentCount = 3;
+    when(publisherLimit.get()).thenReturn(Long.MAX_VALUE);
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragment),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            eq(A_STREAM_ID),
+            any()))
+        .thenReturn(A_FRAGMENT_LENGTH);
+    when(logAppender.claim(
+            eq(logBufferPartition0),
+            eq(0),
+            eq(claimedFragmentBatch),
+            eq(fragmentCount),
+            eq(A_MSG_PAYLOAD_LENGTH),
+            any()))
+        .thenReturn(A_FRAGMENT_LENGTH);
+
+    final List<Long> positions = Collections.synchronizedList(new ArrayList<>());
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      final boolean claimBatches = i % 2 == 0;
+      final Thread thread =
+          new Thread(
+              () -> {
+                try {
+                  startLatch.await();
+                } catch (final InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                  return;
+                }
+
+                for (int claim = 0; claim < claimsPerThread; claim++) {
+                  if (claimBatches) {
+                    final long position =
+                        dispatcher.claimFragmentBatch(
+                            claimedFragmentBatch, fragmentCount, A_MSG_PAYLOAD_LENGTH);
+                    for (int fragment = 0; fragment < fragmentCount; fragment++) {
+                      positions.add(position + fragment);
+                    }
+                  } else {
+                    positions.add(
+                        dispatcher.claimSingleFragment(
+                            claimedFragment, A_MSG_PAYLOAD_LENGTH, A_STREAM_ID));
+                  }
+                }
+              });
+      thread.start();
+      threads.add(thread);
+    }
+
+    // when
+    startLatch.countDown();
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+
+    // then
+    final int batchThreadCount = (threadCount + 1) / 2;
+    final int expectedPositionCount =
+        batchThreadCount * claimsPerThread * fragmentCount
+            + (threadCount - batchThreadCount) * claimsPerThread;
+    assertThat(positions)
+        .hasSize(expectedPositionCount)
+        .doesNotHaveDuplicates()
+        .allSatisfy(
+            position ->
+                assertThat(position)
+                    .isBetween(INITIAL_POSITION, INITIAL_POSITION + expectedPositionCount - 1));
+  }
 }
@@ -78,6 +78,7 @@ public class StandaloneGateway {
                     .withNodes(Address.from(clusterCfg.getContactPoint()))
                     .build())
             .withMembershipProtocol(membershipProtocol)
+            .withFlushConsolidation(clusterCfg.isFlushConsolidationEnabled())
             .build();
 
     atomix.start();
@@ -11,6 +11,9 @@ import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.Intent;
+import java.util.Locale;
 
 public final class StreamProcessorMetrics {
 
@@ -47,6 +50,25 @@ public final class StreamProcessorMetrics {
           .labelNames("partition")
           .register();
 
+  private static final Gauge REPROCESSING_RATE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_reprocessing_rate")
+          .help("Number of events reprocessed per second on the last recovery")
+          .labelNames("partition")
+          .register();
+
+  private static final Histogram PROCESSING_PHASE_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_phase_latency")
+          .help("Latency of the single phases of processing a record in seconds")
+          .labelNames("phase", "valueType", "intent", "partition")
+          .exponentialBuckets(0.00001, 4, 10)
+          .register();
+
+  private static volatile boolean phaseMetricsEnabled;
+
   private final String partitionIdLabel;
 
   public StreamProcessorMetrics(final int partitionId) {
@@ -64,6 +86,16 @@ public final class StreamProcessorMetrics {
         .observe((processed - written) / 1000f);
   }
 
+  public void processingPhaseLatency(
+      final ProcessingPhase phase,
+      final ValueType valueType,
+      final Intent intent,
+      final long durationNanos) {
+    PROCESSING_PHASE_LATENCY
+        .labels(phase.label, valueType.name(), intent.name(), partitionIdLabel)
+        .observe(durationNanos / 1_000_000_000d);
+  }
+
   public void eventProcessed() {
     event("processed");
   }
@@ -76,6 +108,16 @@ public final class StreamProcessorMetrics {
     event("skipped");
   }
 
+  public void eventsReprocessed(final int count) {
+    STREAM_PROCESSOR_EVENTS.labels("reprocessed", partitionIdLabel).inc(count);
+  }
+
+  public void reprocessingRate(final long reprocessedEvents, final long durationMillis) {
+    REPROCESSING_RATE
+        .labels(partitionIdLabel)
+        .set(reprocessedEvents * 1000d / Math.max(1, durationMillis));
+  }
+
   public void recoveryTime(final long durationMillis) {
     STARTUP_RECOVERY_TIME.labels(partitionIdLabel).set(durationMillis);
   }
@@ -83,4 +125,27 @@ public final class StreamProcessorMetrics {
   public void setLastProcessedPosition(final long position) {
     LAST_PROCESSED_POSITION.labels(partitionIdLabel).set(position);
   }
+
+  /**
+   * Enables or disables the measurement of the single processing phases on all partitions. The
+   * measurement is disabled by default, since it takes a few timestamps per processed record.
+   */
+  public static void setPhaseMetricsEnabled(final boolean enabled) {
+    phaseMetricsEnabled = enabled;
+  }
+
+  public static boolean isPhaseMetricsEnabled() {
+    return phaseMetricsEnabled;
+  }
+
+  public enum ProcessingPhase {
+    READ,
+    DECODE,
+    PROCESS,
+    WRITE,
+    COMMIT,
+    SIDE_EFFECTS;
+
+    private final String label = name().toLowerCase(Locale.ROOT);
+  }
 }
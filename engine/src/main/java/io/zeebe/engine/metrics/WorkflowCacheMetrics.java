@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+
+public final class WorkflowCacheMetrics {
+
+  private static final Counter WORKFLOW_CACHE_LOOKUPS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_lookups_total")
+          .help("Number of deployed workflow lookups, by whether they hit the in-memory cache")
+          .labelNames("result", "partition")
+          .register();
+
+  private static final Counter WORKFLOW_CACHE_EVICTIONS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("workflow_cache_evictions_total")
+          .help("Number of deployed workflows evicted from the in-memory cache")
+          .labelNames("partition")
+          .register();
+
+  private static final Gauge WORKFLOW_CACHE_SIZE =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("workflow_cache_size")
+          .help("Number of deployed workflows in the in-memory cache")
+          .labelNames("partition")
+          .register();
+
+  private final String partitionIdLabel;
+
+  public WorkflowCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void cacheHit() {
+    WORKFLOW_CACHE_LOOKUPS.labels("hit", partitionIdLabel).inc();
+  }
+
+  public void cacheMiss() {
+    WORKFLOW_CACHE_LOOKUPS.labels("miss", partitionIdLabel).inc();
+  }
+
+  public void workflowEvicted() {
+    WORKFLOW_CACHE_EVICTIONS.labels(partitionIdLabel).inc();
+  }
+
+  public void setCacheSize(final int size) {
+    WORKFLOW_CACHE_SIZE.labels(partitionIdLabel).set(size);
+  }
+}
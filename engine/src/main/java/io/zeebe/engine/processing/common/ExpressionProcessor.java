@@ -18,11 +18,13 @@ import io.zeebe.engine.processing.message.MessageCorrelationKeyException;
 import io.zeebe.model.bpmn.util.time.Interval;
 import io.zeebe.protocol.record.value.ErrorType;
 import io.zeebe.util.Either;
+import io.zeebe.util.buffer.BufferUtil;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.function.Function;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class ExpressionProcessor {
@@ -335,7 +337,11 @@ public final class ExpressionProcessor {
 
   private static class VariableStateEvaluationContext implements EvaluationContext {
 
-    private final DirectBuffer variableNameBuffer = new UnsafeBuffer();
+    // the names are taken from the expressions of the deployed workflows, but keep it bounded
+    private static final int MAX_INTERNED_VARIABLE_NAMES = 1024;
+
+    private final Object2ObjectHashMap<String, DirectBuffer> internedVariableNames =
+        new Object2ObjectHashMap<>();
 
     private final VariablesLookup lookup;
 
@@ -349,9 +355,22 @@ public final class ExpressionProcessor {
     public DirectBuffer getVariable(final String variableName) {
       ensureGreaterThan("variable scope key", variableScopeKey, 0);
 
-      variableNameBuffer.wrap(variableName.getBytes());
+      return lookup.getVariable(variableScopeKey, internVariableName(variableName));
+    }
+
+    private DirectBuffer internVariableName(final String variableName) {
+      DirectBuffer nameBuffer = internedVariableNames.get(variableName);
+
+      if (nameBuffer == null) {
+        if (internedVariableNames.size() >= MAX_INTERNED_VARIABLE_NAMES) {
+          internedVariableNames.clear();
+        }
+
+        nameBuffer = BufferUtil.wrapString(variableName);
+        internedVariableNames.put(variableName, nameBuffer);
+      }
 
-      return lookup.getVariable(variableScopeKey, variableNameBuffer);
+      return nameBuffer;
     }
   }
 
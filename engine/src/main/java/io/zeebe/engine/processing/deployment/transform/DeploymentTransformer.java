@@ -12,6 +12,7 @@ import static io.zeebe.util.buffer.BufferUtil.wrapString;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.common.ExpressionProcessor;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
+import io.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
 import io.zeebe.engine.processing.deployment.model.yaml.BpmnYamlParser;
 import io.zeebe.engine.state.KeyGenerator;
 import io.zeebe.engine.state.ZeebeState;
@@ -25,23 +26,40 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.record.RejectionType;
 import io.zeebe.protocol.record.value.deployment.ResourceType;
 import io.zeebe.util.buffer.BufferUtil;
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
-import org.agrona.io.DirectBufferInputStream;
 import org.slf4j.Logger;
 
 public final class DeploymentTransformer {
   private static final Logger LOG = Loggers.WORKFLOW_PROCESSOR_LOGGER;
 
+  private static final int VALIDATED_RESOURCE_CACHE_CAPACITY = 32;
+
+  // parsing a resource doesn't depend on any state, so the resources of a deployment can be
+  // parsed in parallel; the pool is shared by all partitions to bound the number of threads
+  private static final ForkJoinPool PARSER_POOL =
+      new ForkJoinPool(Math.min(4, Runtime.getRuntime().availableProcessors()));
+
   private final BpmnValidator validator;
-  private final BpmnYamlParser yamlParser = new BpmnYamlParser();
+  private final BpmnTransformer transformer = BpmnFactory.createTransformer();
+  private final ValidatedResourceCache validatedResources =
+      new ValidatedResourceCache(VALIDATED_RESOURCE_CACHE_CAPACITY);
+  private final List<DirectBuffer> resourceDigests = new ArrayList<>();
+  private final List<CompletableFuture<BpmnModelInstance>> parsedResources = new ArrayList<>();
   private final WorkflowState workflowState;
   private final KeyGenerator keyGenerator;
   private final MessageDigest digestGenerator;
@@ -76,9 +94,18 @@ public final class DeploymentTransformer {
       return false;
     }
 
-    while (resourceIterator.hasNext()) {
-      final DeploymentResource deploymentResource = resourceIterator.next();
-      success &= transformResource(deploymentEvent, errors, deploymentResource);
+    parseResources(resourceIterator);
+
+    int resourceIndex = 0;
+    for (final DeploymentResource deploymentResource : deploymentEvent.resources()) {
+      success &=
+          transformResource(
+              deploymentEvent,
+              errors,
+              deploymentResource,
+              resourceDigests.get(resourceIndex),
+              parsedResources.get(resourceIndex));
+      resourceIndex += 1;
     }
 
     if (!success) {
@@ -92,25 +119,57 @@ public final class DeploymentTransformer {
     return success;
   }
 
+  private void parseResources(final Iterator<DeploymentResource> resourceIterator) {
+    resourceDigests.clear();
+    parsedResources.clear();
+
+    while (resourceIterator.hasNext()) {
+      final DeploymentResource deploymentResource = resourceIterator.next();
+      final ResourceType resourceType = deploymentResource.getResourceType();
+      // the resource is copied since the iterator reuses the resource instance
+      final byte[] resource = deploymentResource.getResource();
+      final DirectBuffer resourceDigest = new UnsafeBuffer(digestGenerator.digest(resource));
+      resourceDigests.add(resourceDigest);
+
+      final BpmnModelInstance validatedModel =
+          validatedResources.get(resourceDigest, resourceType);
+      if (validatedModel != null) {
+        parsedResources.add(CompletableFuture.completedFuture(validatedModel));
+      } else {
+        parsedResources.add(
+            CompletableFuture.supplyAsync(
+                () -> readWorkflowDefinition(resourceType, resource), PARSER_POOL));
+      }
+    }
+  }
+
   private boolean transformResource(
       final DeploymentRecord deploymentEvent,
       final StringBuilder errors,
-      final DeploymentResource deploymentResource) {
+      final DeploymentResource deploymentResource,
+      final DirectBuffer resourceDigest,
+      final CompletableFuture<BpmnModelInstance> parsedResource) {
     boolean success = false;
     final String resourceName = deploymentResource.getResourceName();
+    final ResourceType resourceType = deploymentResource.getResourceType();
 
     try {
-      final BpmnModelInstance definition = readWorkflowDefinition(deploymentResource);
-      final String validationError = validator.validate(definition);
+      final BpmnModelInstance definition = awaitParsedResource(parsedResource);
+      final boolean isValidated = validatedResources.get(resourceDigest, resourceType) != null;
+      final String validationError = isValidated ? null : validator.validate(definition);
 
       if (validationError == null) {
-        // transform the model to avoid unexpected failures that are not covered by the validator
-        BpmnFactory.createTransformer().transformDefinitions(definition);
+        if (!isValidated) {
+          // transform the model to avoid unexpected failures that are not covered by the validator
+          transformer.transformDefinitions(definition);
+          validatedResources.put(resourceDigest, resourceType, definition);
+        }
 
         final String bpmnIdDuplicateError = checkForDuplicateBpmnId(definition, resourceName);
 
         if (bpmnIdDuplicateError == null) {
-          transformWorkflowResource(deploymentEvent, deploymentResource, definition);
+          transformWorkflowResource(
+              deploymentEvent, deploymentResource, resourceDigest, definition);
           success = true;
         } else {
           errors.append("\n").append(bpmnIdDuplicateError);
@@ -143,9 +202,23 @@ public final class DeploymentTransformer {
     return null;
   }
 
+  private BpmnModelInstance awaitParsedResource(
+      final CompletableFuture<BpmnModelInstance> parsedResource) {
+    try {
+      return parsedResource.join();
+    } catch (final CompletionException e) {
+      final Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw e;
+    }
+  }
+
   private void transformWorkflowResource(
       final DeploymentRecord deploymentEvent,
       final DeploymentResource deploymentResource,
+      final DirectBuffer resourceDigest,
       final BpmnModelInstance definition) {
     final Collection<Process> processes =
         definition.getDefinitions().getChildElementsByType(Process.class);
@@ -160,8 +233,6 @@ public final class DeploymentTransformer {
 
         final DirectBuffer lastDigest =
             workflowState.getLatestVersionDigest(wrapString(bpmnProcessId));
-        final DirectBuffer resourceDigest =
-            new UnsafeBuffer(digestGenerator.digest(deploymentResource.getResource()));
 
         if (isDuplicateOfLatest(deploymentResource, resourceDigest, lastWorkflow, lastDigest)) {
           key = lastWorkflow.getKey();
@@ -196,13 +267,13 @@ public final class DeploymentTransformer {
         && lastWorkflow.getResourceName().equals(deploymentResource.getResourceNameBuffer());
   }
 
-  private BpmnModelInstance readWorkflowDefinition(final DeploymentResource deploymentResource) {
-    final DirectBuffer resource = deploymentResource.getResourceBuffer();
-    final DirectBufferInputStream resourceStream = new DirectBufferInputStream(resource);
+  private static BpmnModelInstance readWorkflowDefinition(
+      final ResourceType resourceType, final byte[] resource) {
+    final InputStream resourceStream = new ByteArrayInputStream(resource);
 
-    switch (deploymentResource.getResourceType()) {
+    switch (resourceType) {
       case YAML_WORKFLOW:
-        return yamlParser.readFromStream(resourceStream);
+        return new BpmnYamlParser().readFromStream(resourceStream);
       case BPMN_XML:
       default:
         return Bpmn.readModelFromStream(resourceStream);
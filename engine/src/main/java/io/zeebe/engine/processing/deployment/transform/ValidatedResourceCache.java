@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.processing.deployment.transform;
+
+import io.zeebe.model.bpmn.BpmnModelInstance;
+import io.zeebe.protocol.record.value.deployment.ResourceType;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Keeps the parsed models of the most recently deployed resources which passed the validation,
+ * keyed by the digest of the resource. A re-deployment of an unchanged resource can reuse the
+ * model instead of parsing, validating and transforming the resource again.
+ *
+ * <p>The models are only read after they were cached, so they can be shared between deployments.
+ */
+final class ValidatedResourceCache {
+
+  private final Map<DirectBuffer, CachedResource> resourcesByDigest;
+
+  ValidatedResourceCache(final int capacity) {
+    resourcesByDigest =
+        new LinkedHashMap<>(capacity, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(
+              final Map.Entry<DirectBuffer, CachedResource> eldest) {
+            return size() > capacity;
+          }
+        };
+  }
+
+  BpmnModelInstance get(final DirectBuffer digest, final ResourceType resourceType) {
+    final CachedResource cachedResource = resourcesByDigest.get(digest);
+    if (cachedResource != null && cachedResource.resourceType == resourceType) {
+      return cachedResource.model;
+    }
+    return null;
+  }
+
+  void put(
+      final DirectBuffer digest, final ResourceType resourceType, final BpmnModelInstance model) {
+    final UnsafeBuffer digestCopy = new UnsafeBuffer(new byte[digest.capacity()]);
+    digestCopy.putBytes(0, digest, 0, digest.capacity());
+
+    resourcesByDigest.put(digestCopy, new CachedResource(resourceType, model));
+  }
+
+  private static final class CachedResource {
+    private final ResourceType resourceType;
+    private final BpmnModelInstance model;
+
+    private CachedResource(final ResourceType resourceType, final BpmnModelInstance model) {
+      this.resourceType = resourceType;
+      this.model = model;
+    }
+  }
+}
@@ -12,6 +12,7 @@ import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopTypedStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
 import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.logstreams.log.LogStream;
 import io.zeebe.logstreams.log.LogStreamReader;
 import io.zeebe.util.sched.ActorControl;
@@ -36,6 +37,7 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   private Consumer<TypedRecord> onProcessedListener = record -> {};
   private int maxFragmentSize;
   private boolean detectReprocessingInconsistency;
+  private int workflowCacheCapacity = WorkflowPersistenceCache.DEFAULT_CACHE_CAPACITY;
 
   public ProcessingContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -109,6 +111,11 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
     return this;
   }
 
+  public ProcessingContext workflowCacheCapacity(final int workflowCacheCapacity) {
+    this.workflowCacheCapacity = workflowCacheCapacity;
+    return this;
+  }
+
   @Override
   public ActorControl getActor() {
     return actor;
@@ -176,4 +183,8 @@ public final class ProcessingContext implements ReadonlyProcessingContext {
   public boolean isDetectReprocessingInconsistency() {
     return detectReprocessingInconsistency;
   }
+
+  public int getWorkflowCacheCapacity() {
+    return workflowCacheCapacity;
+  }
 }
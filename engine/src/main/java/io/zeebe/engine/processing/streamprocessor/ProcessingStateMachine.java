@@ -10,6 +10,7 @@ package io.zeebe.engine.processing.streamprocessor;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDbTransaction;
 import io.zeebe.engine.metrics.StreamProcessorMetrics;
+import io.zeebe.engine.metrics.StreamProcessorMetrics.ProcessingPhase;
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriterImpl;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedStreamWriter;
@@ -32,6 +33,7 @@ import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
 import org.slf4j.Logger;
@@ -103,6 +105,7 @@ public final class ProcessingStateMachine {
       "Error record was written at {}, we will continue with processing if event was committed. Current commit position is {}.";
 
   private static final Duration PROCESSING_RETRY_DELAY = Duration.ofMillis(250);
+  private static final ProcessingPhase[] PROCESSING_PHASES = ProcessingPhase.values();
   protected final ZeebeState zeebeState;
   protected final RecordMetadata metadata = new RecordMetadata();
   protected final TypedResponseWriterImpl responseWriter;
@@ -123,6 +126,7 @@ public final class ProcessingStateMachine {
   private final TypedEventImpl typedEvent;
   private final StreamProcessorMetrics metrics;
   private final Consumer<TypedRecord> onProcessed;
+  private final long[] phaseDurations = new long[PROCESSING_PHASES.length];
 
   // current iteration
   private SideEffectProducer sideEffectProducer;
@@ -136,6 +140,8 @@ public final class ProcessingStateMachine {
   private long errorRecordPosition = StreamProcessor.UNSET_POSITION;
   private volatile boolean onErrorHandlingLoop;
   private int onErrorRetries;
+  private boolean tracePhases;
+  private long phaseStartNanos;
 
   public ProcessingStateMachine(
       final ProcessingContext context, final BooleanSupplier shouldProcessNext) {
@@ -197,7 +203,9 @@ public final class ProcessingStateMachine {
 
   private void tryToReadNextEvent() {
     if (shouldProcessNext.getAsBoolean() && logStreamReader.hasNext() && currentProcessor == null) {
+      startPhaseTracing();
       currentEvent = logStreamReader.next();
+      endPhase(ProcessingPhase.READ);
 
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         processEvent(currentEvent);
@@ -208,6 +216,7 @@ public final class ProcessingStateMachine {
   }
 
   private void processEvent(final LoggedEvent event) {
+    startPhase();
     metadata.reset();
     event.readMetadata(metadata);
 
@@ -223,8 +232,10 @@ public final class ProcessingStateMachine {
     try {
       final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
       typedEvent.wrap(event, metadata, value);
+      endPhase(ProcessingPhase.DECODE);
 
       processInTransaction(typedEvent);
+      endPhase(ProcessingPhase.PROCESS);
 
       metrics.eventProcessed();
 
@@ -259,6 +270,7 @@ public final class ProcessingStateMachine {
         () -> {
           final long position = typedRecord.getPosition();
           resetOutput(position);
+          zeebeState.clearRecordCaches();
 
           // default side effect is responses; can be changed by processor
           sideEffectProducer = responseWriter;
@@ -322,6 +334,7 @@ public final class ProcessingStateMachine {
         () -> {
           final long position = typedEvent.getPosition();
           resetOutput(position);
+          zeebeState.clearRecordCaches();
 
           writeRejectionOnCommand(processingException);
           errorRecord.initErrorRecord(processingException, position);
@@ -346,6 +359,7 @@ public final class ProcessingStateMachine {
   }
 
   private void writeEvent() {
+    startPhase();
     final ActorFuture<Boolean> retryFuture =
         writeRetryStrategy.runWithRetry(
             () -> {
@@ -361,6 +375,7 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_WRITE_EVENT_ABORTED, currentEvent, t);
             onError(t, this::writeEvent);
           } else {
+            endPhase(ProcessingPhase.WRITE);
             updateState();
             metrics.eventWritten();
           }
@@ -368,6 +383,7 @@ public final class ProcessingStateMachine {
   }
 
   private void updateState() {
+    startPhase();
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
@@ -400,6 +416,7 @@ public final class ProcessingStateMachine {
             LOG.error(ERROR_MESSAGE_UPDATE_STATE_FAILED, currentEvent, throwable);
             onError(throwable, this::updateState);
           } else {
+            endPhase(ProcessingPhase.COMMIT);
             executeSideEffects();
           }
         });
@@ -414,6 +431,7 @@ public final class ProcessingStateMachine {
   }
 
   private void executeSideEffects() {
+    startPhase();
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(sideEffectProducer::flush, abortCondition);
 
@@ -423,6 +441,8 @@ public final class ProcessingStateMachine {
           if (throwable != null) {
             LOG.error(ERROR_MESSAGE_EXECUTE_SIDE_EFFECT_ABORTED, currentEvent, throwable);
           }
+          endPhase(ProcessingPhase.SIDE_EFFECTS);
+          observePhases();
 
           notifyListener();
 
@@ -432,6 +452,38 @@ public final class ProcessingStateMachine {
         });
   }
 
+  private void startPhaseTracing() {
+    tracePhases = StreamProcessorMetrics.isPhaseMetricsEnabled();
+    if (tracePhases) {
+      Arrays.fill(phaseDurations, 0);
+      phaseStartNanos = System.nanoTime();
+    }
+  }
+
+  private void startPhase() {
+    if (tracePhases) {
+      phaseStartNanos = System.nanoTime();
+    }
+  }
+
+  private void endPhase(final ProcessingPhase phase) {
+    if (tracePhases) {
+      final long now = System.nanoTime();
+      // retried phases sum up, such that the time spent on retries is part of the phase
+      phaseDurations[phase.ordinal()] += now - phaseStartNanos;
+      phaseStartNanos = now;
+    }
+  }
+
+  private void observePhases() {
+    if (tracePhases) {
+      for (final ProcessingPhase phase : PROCESSING_PHASES) {
+        metrics.processingPhaseLatency(
+            phase, metadata.getValueType(), metadata.getIntent(), phaseDurations[phase.ordinal()]);
+      }
+    }
+  }
+
   public long getLastSuccessfulProcessedEventPosition() {
     return lastSuccessfulProcessedEventPosition;
   }
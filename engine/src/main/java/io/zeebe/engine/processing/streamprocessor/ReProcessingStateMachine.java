@@ -10,6 +10,7 @@ package io.zeebe.engine.processing.streamprocessor;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.TransactionOperation;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.engine.metrics.StreamProcessorMetrics;
 import io.zeebe.engine.processing.streamprocessor.writers.NoopResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.ReprocessingStreamWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -27,47 +28,43 @@ import io.zeebe.util.retry.RetryStrategy;
 import io.zeebe.util.sched.ActorControl;
 import io.zeebe.util.sched.future.ActorFuture;
 import io.zeebe.util.sched.future.CompletableActorFuture;
-import java.util.HashSet;
-import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
+import org.agrona.collections.LongHashSet;
 import org.slf4j.Logger;
 
 /**
  * Represents the reprocessing state machine, which is executed on reprocessing.
  *
+ * <p>The events are reprocessed in batches. All events of a batch are applied in one transaction,
+ * which is committed without the write-ahead log - the state is rebuilt from the snapshot and the
+ * log on every recovery anyway. If the processing of an event fails, the whole batch is rolled back
+ * and reprocessed again.
+ *
  * <pre>
- * +------------------+   +-------------+           +------------------------+
- * |                  |   |             |           |                        |
- * |  startRecover()  |--->  scanLog()  |---------->|  reprocessNextEvent()  |
- * |                  |   |             |           |                        |
- * +------------------+   +---+---------+           +-----^------+-----------+
- *                            |                           |      |
- * +-----------------+        | no source events          |      |
- * |                 |        |                           |      |
- * |  onRecovered()  <--------+                           |      |    +--------------------+
- * |                 |                                    |      |    |                    |
- * +--------^--------+                hasNext             |      +--->|  reprocessEvent()  |
- *          |            +--------------------------------+           |                    |
- *          |            |                                            +----+----------+----+
- *          |            |                                                 |          |
- *   +------+------------+-----+                                           |          |
- *   |                         |               no event processor          |          |
- *   |  onRecordReprocessed()  |<------------------------------------------+          |
- *   |                         |                                                      |
- *   +---------^---------------+                                                      |
- *             |                                                                      |
- *             |      +--------------------------+       +----------------------+     |
- *             |      |                          |       |                      |     |
- *             +------+  updateStateUntilDone()  <-------+  processUntilDone()  |<----+
- *                    |                          |       |                      |
- *                    +------^------------+------+       +---^------------+-----+
- *                           |            |                  |            |
- *                           +------------+                  +------------+
- *                             exception                       exception
+ * +------------------+   +-------------+          +------------------------+
+ * |                  |   |             |          |                        |  exception
+ * |  startRecover()  |--->  scanLog()  |--------->|  reprocessNextBatch()  |<-----------+
+ * |                  |   |             |          |                        |            |
+ * +------------------+   +------+------+          +---^-------+-------+----+------------+
+ *                               |                     |       |       |
+ *                               | no source events    |       |       | inconsistent log
+ *                               |                     |       |       |
+ * +-----------------+           |          has next   |       |   +---v-----------+
+ * |                 |<----------+          batch      |       |   |               |
+ * |  onRecovered()  |                                 |       |   |  onFailure()  |
+ * |                 |<-------------+                  |       |   |               |
+ * +-----------------+              | reached last     |       |   +---------------+
+ *                                  | follow-up event  |       |
+ *                          +-------+------------------+--+    |
+ *                          |                             |    |
+ *                          |  updateStateUntilDone()     |<---+
+ *                          |                             |
+ *                          +------^---------------+------+
+ *                                 |               |
+ *                                 +---------------+
+ *                                     exception
  * </pre>
- *
- * See https://textik.com/#773271ce7ea2096a
  */
 public final class ReProcessingStateMachine {
 
@@ -87,6 +84,8 @@ public final class ReProcessingStateMachine {
   private static final String ERROR_INCONSISTENT_LOG =
       "Expected that position '%d' of current event is higher then position '%d' of last event, but was not. Inconsistent log detected!";
 
+  private static final int REPROCESSING_BATCH_SIZE = 1_000;
+
   private static final Consumer<Long> NOOP_LONG_CONSUMER = (instanceKey) -> {};
   protected final RecordMetadata metadata = new RecordMetadata();
   private final ZeebeState zeebeState;
@@ -105,13 +104,21 @@ public final class ReProcessingStateMachine {
   private final DbContext dbContext;
   private final RetryStrategy updateStateRetryStrategy;
   private final RetryStrategy processRetryStrategy;
+  private final StreamProcessorMetrics metrics;
 
   private final BooleanSupplier abortCondition;
-  private final Set<Long> failedEventPositions = new HashSet<>();
+  private final LongHashSet failedEventPositions = new LongHashSet();
   // current iteration
   private long lastSourceEventPosition;
   private long lastFollowUpEventPosition;
   private long snapshotPosition;
+  // current batch
+  private long lastCommittedPosition;
+  private int batchEventCount;
+  private boolean reachedLastFollowUpEvent;
+  private RuntimeException reprocessingFailure;
+  private long reprocessedEventCount;
+  private long reprocessingStartTime;
 
   private ActorFuture<Long> recoveryFuture;
   private LoggedEvent currentEvent;
@@ -129,6 +136,7 @@ public final class ReProcessingStateMachine {
     zeebeState = context.getZeebeState();
     abortCondition = context.getAbortCondition();
     typedEvent = new TypedEventImpl(context.getLogStream().getPartitionId());
+    metrics = new StreamProcessorMetrics(context.getLogStream().getPartitionId());
 
     updateStateRetryStrategy = new EndlessRetryStrategy(actor);
     processRetryStrategy = new EndlessRetryStrategy(actor);
@@ -155,8 +163,11 @@ public final class ReProcessingStateMachine {
       LOG.info(
           "Processor starts reprocessing, until last source event position {}",
           lastSourceEventPosition);
+      dbContext.setWriteAheadLogEnabled(false);
+      reprocessingStartTime = System.currentTimeMillis();
+      lastCommittedPosition = snapshotPosition;
       logStreamReader.seekToNextEvent(snapshotPosition);
-      reprocessNextEvent();
+      reprocessNextBatch();
     } else if (snapshotPosition > 0) {
       recoveryFuture.complete(snapshotPosition);
     } else {
@@ -232,23 +243,63 @@ public final class ReProcessingStateMachine {
     }
   }
 
-  private void reprocessNextEvent() {
-    try {
-      readNextEvent();
+  private void reprocessNextBatch() {
+    final ActorFuture<Boolean> resultFuture =
+        processRetryStrategy.runWithRetry(
+            () -> {
+              final boolean onRetry = zeebeDbTransaction != null;
+              if (onRetry) {
+                zeebeDbTransaction.rollback();
+                // all changes of the batch are rolled back, so start again with its first event
+                logStreamReader.seekToNextEvent(lastCommittedPosition);
+              }
+              batchEventCount = 0;
+              reachedLastFollowUpEvent = false;
+              zeebeDbTransaction = dbContext.getCurrentTransaction();
+              zeebeDbTransaction.run(this::reprocessBatch);
+              return true;
+            },
+            abortCondition);
 
-      if (eventFilter == null || eventFilter.applies(currentEvent)) {
-        reprocessEvent(currentEvent);
-      } else {
-        onRecordReprocessed(currentEvent);
+    actor.runOnCompletion(
+        resultFuture,
+        (completed, t) -> {
+          // processing should be retried endless until it worked
+          assert t == null : "On reprocessing there shouldn't be any exception thrown.";
+          if (reprocessingFailure != null) {
+            onFailure(reprocessingFailure);
+          } else if (completed) {
+            updateStateUntilDone();
+          }
+        });
+  }
+
+  private void reprocessBatch() throws Exception {
+    while (batchEventCount < REPROCESSING_BATCH_SIZE && !reachedLastFollowUpEvent) {
+      final TransactionOperation operationOnProcessing;
+      try {
+        readNextEvent();
+        operationOnProcessing = chooseOperationForEvent(currentEvent);
+      } catch (final RuntimeException e) {
+        // the log is inconsistent - retrying the batch would fail again
+        reprocessingFailure = e;
+        return;
       }
 
-    } catch (final RuntimeException e) {
-      recoveryFuture.completeExceptionally(e);
+      if (operationOnProcessing != null) {
+        zeebeState.clearRecordCaches();
+        operationOnProcessing.run();
+      }
+      onRecordReprocessed(currentEvent);
     }
   }
 
-  private void reprocessEvent(final LoggedEvent currentEvent) {
+  private TransactionOperation chooseOperationForEvent(final LoggedEvent currentEvent) {
+    if (eventFilter != null && !eventFilter.applies(currentEvent)) {
+      return null;
+    }
 
+    eventProcessor = null;
     try {
       metadata.reset();
       currentEvent.readMetadata(metadata);
@@ -261,8 +312,7 @@ public final class ReProcessingStateMachine {
     }
 
     if (eventProcessor == null) {
-      onRecordReprocessed(currentEvent);
-      return;
+      return null;
     }
 
     final UnifiedRecordValue value =
@@ -273,64 +323,41 @@ public final class ReProcessingStateMachine {
       verifyRecordMatchesToReprocessing(typedEvent);
     }
 
-    if (currentEvent.getPosition() <= lastSourceEventPosition) {
+    if (currentEvent.getPosition() > lastSourceEventPosition) {
       // don't reprocess records after the last source event
-      reprocessingStreamWriter.configureSourceContext(currentEvent.getPosition());
-      processUntilDone(currentEvent.getPosition(), typedEvent);
-
-    } else {
-      onRecordReprocessed(currentEvent);
+      return null;
     }
-  }
 
-  private void processUntilDone(final long position, final TypedRecord<?> currentEvent) {
-    final TransactionOperation operationOnProcessing =
-        chooseOperationForEvent(position, currentEvent);
+    final long position = currentEvent.getPosition();
+    reprocessingStreamWriter.configureSourceContext(position);
 
-    final ActorFuture<Boolean> resultFuture =
-        processRetryStrategy.runWithRetry(
-            () -> {
-              final boolean onRetry = zeebeDbTransaction != null;
-              if (onRetry) {
-                zeebeDbTransaction.rollback();
-              }
-              zeebeDbTransaction = dbContext.getCurrentTransaction();
-              zeebeDbTransaction.run(operationOnProcessing);
-              return true;
-            },
-            abortCondition);
+    if (failedEventPositions.contains(position)) {
+      LOG.info(LOG_STMT_FAILED_ON_PROCESSING, typedEvent);
+      return () -> zeebeState.tryToBlacklist(typedEvent, NOOP_LONG_CONSUMER);
+    }
 
-    actor.runOnCompletion(
-        resultFuture,
-        (v, t) -> {
-          // processing should be retried endless until it worked
-          assert t == null : "On reprocessing there shouldn't be any exception thrown.";
-          updateStateUntilDone();
-        });
+    return () -> {
+      final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedEvent);
+      if (isNotOnBlacklist) {
+        eventProcessor.processRecord(
+            position,
+            typedEvent,
+            noopResponseWriter,
+            reprocessingStreamWriter,
+            NOOP_SIDE_EFFECT_CONSUMER);
+      }
+      zeebeState.markAsProcessed(position);
+    };
   }
 
-  private TransactionOperation chooseOperationForEvent(
-      final long position, final TypedRecord<?> currentEvent) {
-    final TransactionOperation operationOnProcessing;
-    if (failedEventPositions.contains(position)) {
-      LOG.info(LOG_STMT_FAILED_ON_PROCESSING, currentEvent);
-      operationOnProcessing = () -> zeebeState.tryToBlacklist(currentEvent, NOOP_LONG_CONSUMER);
-    } else {
-      operationOnProcessing =
-          () -> {
-            final boolean isNotOnBlacklist = !zeebeState.isOnBlacklist(typedEvent);
-            if (isNotOnBlacklist) {
-              eventProcessor.processRecord(
-                  position,
-                  typedEvent,
-                  noopResponseWriter,
-                  reprocessingStreamWriter,
-                  NOOP_SIDE_EFFECT_CONSUMER);
-            }
-            zeebeState.markAsProcessed(position);
-          };
-    }
-    return operationOnProcessing;
+  private void onRecordReprocessed(final LoggedEvent currentEvent) {
+    reprocessingStreamWriter.removeRecord(
+        currentEvent.getKey(), currentEvent.getSourceEventPosition());
+    batchEventCount++;
+
+    // do reprocessing until the last source event but read until the last follow-up event to check
+    // for inconsistent reprocessing records
+    reachedLastFollowUpEvent = currentEvent.getPosition() >= lastFollowUpEventPosition;
   }
 
   private void updateStateUntilDone() {
@@ -348,17 +375,16 @@ public final class ReProcessingStateMachine {
         (bool, throwable) -> {
           // update state should be retried endless until it worked
           assert throwable == null : "On reprocessing there shouldn't be any exception thrown.";
-          onRecordReprocessed(currentEvent);
+          onBatchReprocessed();
         });
   }
 
-  private void onRecordReprocessed(final LoggedEvent currentEvent) {
-    reprocessingStreamWriter.removeRecord(
-        currentEvent.getKey(), currentEvent.getSourceEventPosition());
+  private void onBatchReprocessed() {
+    lastCommittedPosition = currentEvent.getPosition();
+    reprocessedEventCount += batchEventCount;
+    metrics.eventsReprocessed(batchEventCount);
 
-    // do reprocessing until the last source event but read until the last follow-up event to check
-    // for inconsistent reprocessing records
-    if (currentEvent.getPosition() >= lastFollowUpEventPosition) {
+    if (reachedLastFollowUpEvent) {
       LOG.info(LOG_STMT_REPROCESSING_FINISHED, currentEvent.getPosition());
 
       // reset the position to the first event where the processing should start
@@ -366,15 +392,31 @@ public final class ReProcessingStateMachine {
 
       onRecovered(lastSourceEventPosition);
     } else {
-      actor.submit(this::reprocessNextEvent);
+      actor.submit(this::reprocessNextBatch);
     }
   }
 
   private void onRecovered(final long lastProcessedPosition) {
+    dbContext.setWriteAheadLogEnabled(true);
+    metrics.reprocessingRate(
+        reprocessedEventCount, System.currentTimeMillis() - reprocessingStartTime);
+
     recoveryFuture.complete(lastProcessedPosition);
     failedEventPositions.clear();
   }
 
+  private void onFailure(final RuntimeException failure) {
+    try {
+      zeebeDbTransaction.rollback();
+    } catch (final Exception e) {
+      failure.addSuppressed(e);
+    }
+    zeebeDbTransaction = null;
+    dbContext.setWriteAheadLogEnabled(true);
+
+    recoveryFuture.completeExceptionally(failure);
+  }
+
   private void verifyRecordMatchesToReprocessing(final TypedRecord<?> currentEvent) {
 
     if (currentEvent.getSourceRecordPosition() < 0
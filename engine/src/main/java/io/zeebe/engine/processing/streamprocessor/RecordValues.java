@@ -28,6 +28,10 @@ public final class RecordValues {
     eventCache = Collections.unmodifiableMap(cache);
   }
 
+  public boolean hasRecordValue(final ValueType valueType) {
+    return eventCache.containsKey(valueType);
+  }
+
   public UnifiedRecordValue readRecordValue(final LoggedEvent event, final ValueType valueType) {
     final UnifiedRecordValue value = eventCache.get(valueType);
     if (value != null) {
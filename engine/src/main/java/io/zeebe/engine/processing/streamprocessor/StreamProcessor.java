@@ -33,9 +33,12 @@ import org.slf4j.Logger;
 public class StreamProcessor extends Actor implements HealthMonitorable {
   public static final long UNSET_POSITION = -1L;
   public static final Duration HEALTH_CHECK_TICK_DURATION = Duration.ofSeconds(5);
+  public static final Duration REPLAY_INTERVAL = Duration.ofSeconds(1);
 
   private static final String ERROR_MESSAGE_RECOVER_FROM_SNAPSHOT_FAILED =
       "Expected to find event with the snapshot position %s in log stream, but nothing was found. Failed to recover '%s'.";
+  private static final String ERROR_MESSAGE_REPLAY_FAILED =
+      "Expected to find event with the last replayed position %s in log stream, but nothing was found. Failed to replay '%s'.";
   private static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
   private final ActorScheduler actorScheduler;
   private final AtomicBoolean isOpened = new AtomicBoolean(false);
@@ -50,10 +53,12 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
   private final ProcessingContext processingContext;
   private final TypedRecordProcessorFactory typedRecordProcessorFactory;
   private final String actorName;
+  private final boolean replayOnly;
   private LogStreamReader logStreamReader;
   private ActorCondition onCommitPositionUpdatedCondition;
   private long snapshotPosition = -1L;
   private ProcessingStateMachine processingStateMachine;
+  private long lastReplayedPosition = UNSET_POSITION;
 
   private volatile Phase phase = Phase.REPROCESSING;
 
@@ -71,6 +76,7 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
     typedRecordProcessorFactory = processorBuilder.getTypedRecordProcessorFactory();
     zeebeDb = processorBuilder.getZeebeDb();
+    replayOnly = processorBuilder.isReplayOnly();
 
     processingContext =
         processorBuilder
@@ -92,6 +98,11 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     return actorName;
   }
 
+  @Override
+  public int getAffinity() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.runOnCompletionBlockingCurrentPhase(
@@ -124,6 +135,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
             if (throwable != null) {
               LOG.error("Unexpected error on recovery happens.", throwable);
               onFailure(throwable);
+            } else if (replayOnly) {
+              onReplayed(lastReprocessedPosition);
             } else {
               onRecovered(lastReprocessedPosition);
               new StreamProcessorMetrics(partitionId)
@@ -148,7 +161,8 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   @Override
   protected void onActorCloseRequested() {
-    if (!isFailed()) {
+    // in replay-only mode the listeners are never recovered
+    if (!isFailed() && !replayOnly) {
       lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onClose);
     }
   }
@@ -260,7 +274,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
 
   private ZeebeState recoverState() {
     final DbContext dbContext = zeebeDb.createContext();
-    final ZeebeState zeebeState = new ZeebeState(partitionId, zeebeDb, dbContext);
+    final ZeebeState zeebeState =
+        new ZeebeState(
+            partitionId, zeebeDb, dbContext, processingContext.getWorkflowCacheCapacity());
 
     processingContext.dbContext(dbContext);
     processingContext.zeebeState(zeebeState);
@@ -280,6 +296,44 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     processingStateMachine.startProcessing(lastReprocessedPosition);
   }
 
+  private void onReplayed(final long lastReplayedPosition) {
+    if (shouldProcess) {
+      phase = Phase.REPLAY;
+    }
+    if (lastReplayedPosition != UNSET_POSITION) {
+      this.lastReplayedPosition = lastReplayedPosition;
+    }
+    actor.runDelayed(REPLAY_INTERVAL, this::replayNextEvents);
+  }
+
+  private void replayNextEvents() {
+    if (!shouldProcess) {
+      actor.runDelayed(REPLAY_INTERVAL, this::replayNextEvents);
+      return;
+    }
+
+    // if the log was reset, e.g. by installing a snapshot, the state can't be replayed anymore
+    if (!logStreamReader.seekToNextEvent(lastReplayedPosition)) {
+      onFailure(
+          new IllegalStateException(
+              String.format(ERROR_MESSAGE_REPLAY_FAILED, lastReplayedPosition, getName())));
+      return;
+    }
+
+    final ReProcessingStateMachine replayStateMachine =
+        new ReProcessingStateMachine(processingContext);
+    actor.runOnCompletion(
+        replayStateMachine.startRecover(lastReplayedPosition),
+        (lastReprocessedPosition, throwable) -> {
+          if (throwable != null) {
+            LOG.error("Unexpected error on replay happens.", throwable);
+            onFailure(throwable);
+          } else {
+            onReplayed(lastReprocessedPosition);
+          }
+        });
+  }
+
   private void onFailure(final Throwable throwable) {
     LOG.error("Actor {} failed in phase {}.", actorName, actor.getLifecyclePhase(), throwable);
     actor.fail();
@@ -346,7 +400,9 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
             recoverFuture.onComplete(
                 (v, t) -> {
                   if (shouldProcess) {
-                    lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onPaused);
+                    if (!replayOnly) {
+                      lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onPaused);
+                    }
                     shouldProcess = false;
                     phase = Phase.PAUSED;
                     LOG.debug("Paused processing for partition {}", partitionId);
@@ -360,10 +416,14 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
             recoverFuture.onComplete(
                 (v, t) -> {
                   if (!shouldProcess) {
-                    lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onResumed);
                     shouldProcess = true;
-                    phase = Phase.PROCESSING;
-                    actor.submit(processingStateMachine::readNextEvent);
+                    if (replayOnly) {
+                      phase = Phase.REPLAY;
+                    } else {
+                      lifecycleAwareListeners.forEach(StreamProcessorLifecycleAware::onResumed);
+                      phase = Phase.PROCESSING;
+                      actor.submit(processingStateMachine::readNextEvent);
+                    }
                     LOG.debug("Resumed processing for partition {}", partitionId);
                   }
                 }));
@@ -374,5 +434,6 @@ public class StreamProcessor extends Actor implements HealthMonitorable {
     PROCESSING,
     FAILED,
     PAUSED,
+    REPLAY,
   }
 }
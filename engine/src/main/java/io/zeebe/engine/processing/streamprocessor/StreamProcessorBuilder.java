@@ -27,6 +27,7 @@ public final class StreamProcessorBuilder {
   private ActorScheduler actorScheduler;
   private ZeebeDb zeebeDb;
   private int nodeId;
+  private boolean replayOnly;
 
   public StreamProcessorBuilder() {
     processingContext = new ProcessingContext();
@@ -75,6 +76,21 @@ public final class StreamProcessorBuilder {
     return this;
   }
 
+  /** Limits the number of deployed workflows which are kept in memory per partition. */
+  public StreamProcessorBuilder workflowCacheCapacity(final int workflowCacheCapacity) {
+    processingContext.workflowCacheCapacity(workflowCacheCapacity);
+    return this;
+  }
+
+  /**
+   * In replay-only mode the stream processor never processes new commands, but keeps applying the
+   * committed records of the log to its state - e.g. to keep a follower's state up to date.
+   */
+  public StreamProcessorBuilder replayOnly(final boolean replayOnly) {
+    this.replayOnly = replayOnly;
+    return this;
+  }
+
   public TypedRecordProcessorFactory getTypedRecordProcessorFactory() {
     return typedRecordProcessorFactory;
   }
@@ -99,6 +115,10 @@ public final class StreamProcessorBuilder {
     return nodeId;
   }
 
+  public boolean isReplayOnly() {
+    return replayOnly;
+  }
+
   public StreamProcessor build() {
     validate();
 
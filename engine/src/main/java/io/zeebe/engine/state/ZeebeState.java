@@ -12,6 +12,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.engine.Loggers;
 import io.zeebe.engine.processing.streamprocessor.TypedRecord;
 import io.zeebe.engine.state.deployment.DeploymentsState;
+import io.zeebe.engine.state.deployment.WorkflowPersistenceCache;
 import io.zeebe.engine.state.deployment.WorkflowState;
 import io.zeebe.engine.state.instance.IncidentState;
 import io.zeebe.engine.state.instance.JobState;
@@ -55,10 +56,19 @@ public class ZeebeState {
 
   public ZeebeState(
       final int partitionId, final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+    this(partitionId, zeebeDb, dbContext, WorkflowPersistenceCache.DEFAULT_CACHE_CAPACITY);
+  }
+
+  public ZeebeState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int workflowCacheCapacity) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     keyState = new KeyState(partitionId, zeebeDb, dbContext);
-    workflowState = new WorkflowState(zeebeDb, dbContext, keyState);
+    workflowState =
+        new WorkflowState(zeebeDb, dbContext, keyState, partitionId, workflowCacheCapacity);
     deploymentState = new DeploymentsState(zeebeDb, dbContext);
     jobState = new JobState(zeebeDb, dbContext, partitionId);
     messageState = new MessageState(zeebeDb, dbContext);
@@ -150,6 +160,15 @@ public class ZeebeState {
     }
   }
 
+  /**
+   * Clears the caches of the state that are only valid while processing a single record. Must be
+   * called before a record is processed because the caches don't notice a rollback of the
+   * transaction.
+   */
+  public void clearRecordCaches() {
+    workflowState.getElementInstanceState().getVariablesState().clearCache();
+  }
+
   public void markAsProcessed(final long position) {
     lastProcessedPositionState.setPosition(position);
   }
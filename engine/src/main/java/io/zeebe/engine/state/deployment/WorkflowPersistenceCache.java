@@ -13,6 +13,7 @@ import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.impl.DbCompositeKey;
 import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DbString;
+import io.zeebe.engine.metrics.WorkflowCacheMetrics;
 import io.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.zeebe.engine.processing.deployment.model.element.ExecutableWorkflow;
 import io.zeebe.engine.processing.deployment.model.transformation.BpmnTransformer;
@@ -23,13 +24,14 @@ import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
 import io.zeebe.protocol.impl.record.value.deployment.DeploymentResource;
 import io.zeebe.protocol.impl.record.value.deployment.Workflow;
 import io.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -37,6 +39,15 @@ import org.agrona.io.DirectBufferInputStream;
 
 public final class WorkflowPersistenceCache {
 
+  /**
+   * The maximum number of deployed workflows which are kept in memory by default. Every cached
+   * workflow holds its resource and the transformed executable workflow, so the cache must not
+   * grow with the number of deployed versions.
+   */
+  public static final int DEFAULT_CACHE_CAPACITY = 1_000;
+
+  private static final long NOT_ACCESSED = -1L;
+
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
 
   private final Map<DirectBuffer, Long2ObjectHashMap<DeployedWorkflow>>
@@ -44,6 +55,12 @@ public final class WorkflowPersistenceCache {
   private final LongHashSet deployments;
   private final Long2ObjectHashMap<DeployedWorkflow> workflowsByKey;
 
+  // the cache is bounded - on a miss the least recently used workflow is evicted
+  private final int cacheCapacity;
+  private final Long2LongHashMap lastAccessByKey = new Long2LongHashMap(NOT_ACCESSED);
+  private final WorkflowCacheMetrics metrics;
+  private long accessCounter;
+
   // workflow
   private final ColumnFamily<DbLong, PersistedWorkflow> workflowColumnFamily;
   private final DbLong workflowKey;
@@ -61,7 +78,22 @@ public final class WorkflowPersistenceCache {
   private final Digest digest = new Digest();
 
   public WorkflowPersistenceCache(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb, final DbContext dbContext, final int partitionId) {
+    this(zeebeDb, dbContext, partitionId, DEFAULT_CACHE_CAPACITY);
+  }
+
+  public WorkflowPersistenceCache(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final DbContext dbContext,
+      final int partitionId,
+      final int cacheCapacity) {
+    if (cacheCapacity < 1) {
+      throw new IllegalArgumentException(
+          "Expected the workflow cache capacity to be at least 1, but was " + cacheCapacity);
+    }
+    this.cacheCapacity = cacheCapacity;
+    metrics = new WorkflowCacheMetrics(partitionId);
+
     workflowKey = new DbLong();
     persistedWorkflow = new PersistedWorkflow();
     workflowColumnFamily =
@@ -133,8 +165,16 @@ public final class WorkflowPersistenceCache {
 
   // is called on getters, if workflow is not in memory
   private DeployedWorkflow updateInMemoryState(final PersistedWorkflow persistedWorkflow) {
+    metrics.cacheMiss();
+
+    final DeployedWorkflow deployedWorkflow = toDeployedWorkflow(persistedWorkflow);
+    addWorkflowToInMemoryState(deployedWorkflow);
+
+    return deployedWorkflow;
+  }
 
-    // we have to copy to store this in cache
+  private DeployedWorkflow toDeployedWorkflow(final PersistedWorkflow persistedWorkflow) {
+    // we have to copy, as the persisted workflow is only a view on the current db value
     final byte[] bytes = new byte[persistedWorkflow.getLength()];
     final MutableDirectBuffer buffer = new UnsafeBuffer(bytes);
     persistedWorkflow.write(buffer, 0);
@@ -152,12 +192,7 @@ public final class WorkflowPersistenceCache {
             .findFirst()
             .get();
 
-    final DeployedWorkflow deployedWorkflow =
-        new DeployedWorkflow(executableWorkflow, copiedWorkflow);
-
-    addWorkflowToInMemoryState(deployedWorkflow);
-
-    return deployedWorkflow;
+    return new DeployedWorkflow(executableWorkflow, copiedWorkflow);
   }
 
   private BpmnModelInstance readModelInstanceFromBuffer(final DirectBuffer buffer) {
@@ -168,7 +203,14 @@ public final class WorkflowPersistenceCache {
 
   private void addWorkflowToInMemoryState(final DeployedWorkflow deployedWorkflow) {
     final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
-    workflowsByKey.put(deployedWorkflow.getKey(), deployedWorkflow);
+    final long key = deployedWorkflow.getKey();
+
+    if (!workflowsByKey.containsKey(key) && workflowsByKey.size() >= cacheCapacity) {
+      evictLeastRecentlyUsedWorkflow();
+    }
+
+    workflowsByKey.put(key, deployedWorkflow);
+    touch(key);
 
     Long2ObjectHashMap<DeployedWorkflow> versionMap =
         workflowsByProcessIdAndVersion.get(bpmnProcessId);
@@ -180,6 +222,60 @@ public final class WorkflowPersistenceCache {
 
     final int version = deployedWorkflow.getVersion();
     versionMap.put(version, deployedWorkflow);
+
+    metrics.setCacheSize(workflowsByKey.size());
+  }
+
+  private void evictLeastRecentlyUsedWorkflow() {
+    // a linear scan is fine - the eviction happens only on a cache miss, which has to parse and
+    // transform the BPMN resource anyway
+    long evictedKey = NOT_ACCESSED;
+    long oldestAccess = Long.MAX_VALUE;
+
+    final Long2LongHashMap.EntryIterator iterator = lastAccessByKey.entrySet().iterator();
+    while (iterator.hasNext()) {
+      iterator.next();
+      final long lastAccess = iterator.getLongValue();
+      if (lastAccess < oldestAccess) {
+        oldestAccess = lastAccess;
+        evictedKey = iterator.getLongKey();
+      }
+    }
+
+    if (evictedKey != NOT_ACCESSED) {
+      removeWorkflowFromInMemoryState(evictedKey);
+      metrics.workflowEvicted();
+    }
+  }
+
+  private void removeWorkflowFromInMemoryState(final long key) {
+    lastAccessByKey.remove(key);
+    final DeployedWorkflow deployedWorkflow = workflowsByKey.remove(key);
+
+    if (deployedWorkflow != null) {
+      final DirectBuffer bpmnProcessId = deployedWorkflow.getBpmnProcessId();
+      final Long2ObjectHashMap<DeployedWorkflow> versionMap =
+          workflowsByProcessIdAndVersion.get(bpmnProcessId);
+
+      if (versionMap != null) {
+        versionMap.remove(deployedWorkflow.getVersion());
+        if (versionMap.isEmpty()) {
+          workflowsByProcessIdAndVersion.remove(bpmnProcessId);
+        }
+      }
+    }
+  }
+
+  private DeployedWorkflow touch(final DeployedWorkflow deployedWorkflow) {
+    if (deployedWorkflow != null) {
+      metrics.cacheHit();
+      touch(deployedWorkflow.getKey());
+    }
+    return deployedWorkflow;
+  }
+
+  private void touch(final long key) {
+    lastAccessByKey.put(key, accessCounter++);
   }
 
   public DeployedWorkflow getLatestWorkflowVersionByProcessId(final DirectBuffer processId) {
@@ -193,7 +289,7 @@ public final class WorkflowPersistenceCache {
     if (versionMap == null) {
       deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
     } else {
-      deployedWorkflow = versionMap.get(latestVersion.get());
+      deployedWorkflow = touch(versionMap.get(latestVersion.get()));
       if (deployedWorkflow == null) {
         deployedWorkflow = lookupWorkflowByIdAndPersistedVersion(latestVersion);
       }
@@ -222,7 +318,7 @@ public final class WorkflowPersistenceCache {
         workflowsByProcessIdAndVersion.get(processId);
 
     if (versionMap != null) {
-      final DeployedWorkflow deployedWorkflow = versionMap.get(version);
+      final DeployedWorkflow deployedWorkflow = touch(versionMap.get(version));
       return deployedWorkflow != null
           ? deployedWorkflow
           : lookupPersistenceState(processId, version);
@@ -239,21 +335,14 @@ public final class WorkflowPersistenceCache {
         workflowByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final Long2ObjectHashMap<DeployedWorkflow> newVersionMap =
-          workflowsByProcessIdAndVersion.get(processId);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public DeployedWorkflow getWorkflowByKey(final long key) {
-    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(key);
+    final DeployedWorkflow deployedWorkflow = touch(workflowsByKey.get(key));
 
     if (deployedWorkflow != null) {
       return deployedWorkflow;
@@ -267,35 +356,41 @@ public final class WorkflowPersistenceCache {
 
     final PersistedWorkflow persistedWorkflow = workflowColumnFamily.get(this.workflowKey);
     if (persistedWorkflow != null) {
-      updateInMemoryState(persistedWorkflow);
-
-      final DeployedWorkflow deployedWorkflow = workflowsByKey.get(workflowKey);
-      return deployedWorkflow;
+      return updateInMemoryState(persistedWorkflow);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
   public Collection<DeployedWorkflow> getWorkflows() {
-    updateCompleteInMemoryState();
-    return workflowsByKey.values();
+    // the cache may not hold all workflows, so they are collected from the persisted state
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+    workflowColumnFamily.forEach(
+        (workflow) -> workflows.add(getCachedOrDeployedWorkflow(workflow)));
+    return workflows;
   }
 
   public Collection<DeployedWorkflow> getWorkflowsByBpmnProcessId(
       final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedWorkflow> workflowsByVersions =
-        workflowsByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (workflowsByVersions != null) {
-      return workflowsByVersions.values();
-    }
-    return Collections.emptyList();
+    final List<DeployedWorkflow> workflows = new ArrayList<>();
+
+    workflowId.wrapBuffer(bpmnProcessId);
+    workflowByIdAndVersionColumnFamily.whileEqualPrefix(
+        workflowId,
+        (key, workflow) -> {
+          workflows.add(getCachedOrDeployedWorkflow(workflow));
+        });
+    return workflows;
   }
 
-  private void updateCompleteInMemoryState() {
-    workflowColumnFamily.forEach((workflow) -> updateInMemoryState(persistedWorkflow));
+  /**
+   * Returns the cached workflow, or the workflow read from the persisted state. Bulk reads neither
+   * add workflows to the cache nor mark them as used, such that they don't evict the workflows
+   * which are actually in use.
+   */
+  private DeployedWorkflow getCachedOrDeployedWorkflow(final PersistedWorkflow persistedWorkflow) {
+    final DeployedWorkflow deployedWorkflow = workflowsByKey.get(persistedWorkflow.getKey());
+    return deployedWorkflow != null ? deployedWorkflow : toDeployedWorkflow(persistedWorkflow);
   }
 
   public void putLatestVersionDigest(final DirectBuffer processId, final DirectBuffer digest) {
@@ -33,9 +33,12 @@ public final class WorkflowState {
   public WorkflowState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final DbContext dbContext,
-      final KeyGenerator keyGenerator) {
+      final KeyGenerator keyGenerator,
+      final int partitionId,
+      final int workflowCacheCapacity) {
     versionManager = new NextValueManager(zeebeDb, dbContext, ZbColumnFamilies.WORKFLOW_VERSION);
-    workflowPersistenceCache = new WorkflowPersistenceCache(zeebeDb, dbContext);
+    workflowPersistenceCache =
+        new WorkflowPersistenceCache(zeebeDb, dbContext, partitionId, workflowCacheCapacity);
     timerInstanceState = new TimerInstanceState(zeebeDb, dbContext);
     elementInstanceState = new ElementInstanceState(zeebeDb, dbContext, keyGenerator);
     eventScopeInstanceState = new EventScopeInstanceState(zeebeDb, dbContext);
@@ -8,6 +8,8 @@
 package io.zeebe.engine.state.instance;
 
 import io.zeebe.db.DbValue;
+import io.zeebe.db.impl.CompactValueReader;
+import io.zeebe.db.impl.CompactValueWriter;
 import io.zeebe.engine.processing.bpmn.WorkflowInstanceLifecycle;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.IntegerProperty;
@@ -15,9 +17,18 @@ import io.zeebe.msgpack.property.LongProperty;
 import io.zeebe.msgpack.property.ObjectProperty;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class ElementInstance extends UnpackedObject implements DbValue {
 
+  private static final byte COMPACT_VERSION = 1;
+  // parentKey, jobKey, interruptingEventKey, calledChildInstanceKey, record key
+  // + childCount, activeTokens, multiInstanceLoopCounter + record state
+  private static final int COMPACT_FIXED_LENGTH =
+      CompactValueReader.HEADER_LENGTH + 5 * Long.BYTES + 3 * Integer.BYTES + Short.BYTES;
+
   private final LongProperty parentKeyProp = new LongProperty("parentKey", -1L);
   private final IntegerProperty childCountProp = new IntegerProperty("childCount", 0);
   private final LongProperty jobKeyProp = new LongProperty("jobKey", 0L);
@@ -31,6 +42,10 @@ public final class ElementInstance extends UnpackedObject implements DbValue {
   private final ObjectProperty<IndexedRecord> recordProp =
       new ObjectProperty<>("elementRecord", new IndexedRecord());
 
+  private final CompactValueReader compactReader = new CompactValueReader();
+  private final CompactValueWriter compactWriter = new CompactValueWriter();
+  private final DirectBuffer recordView = new UnsafeBuffer(0, 0);
+
   ElementInstance() {
     declareProperty(parentKeyProp)
         .declareProperty(childCountProp)
@@ -176,4 +191,58 @@ public final class ElementInstance extends UnpackedObject implements DbValue {
   public long getParentKey() {
     return parentKeyProp.getValue();
   }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    if (!CompactValueReader.isCompact(buffer, offset, length)) {
+      // written in the msgpack layout of previous versions - it is migrated on the next update
+      super.wrap(buffer, offset, length);
+      return;
+    }
+
+    compactReader.wrap(buffer, offset, length);
+    if (compactReader.getVersion() != COMPACT_VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected element instance with version %d, but found version %d",
+              COMPACT_VERSION, compactReader.getVersion()));
+    }
+
+    reset();
+    parentKeyProp.setValue(compactReader.readLong());
+    jobKeyProp.setValue(compactReader.readLong());
+    interruptingEventKeyProp.setValue(compactReader.readLong());
+    calledChildInstanceKeyProp.setValue(compactReader.readLong());
+    childCountProp.setValue(compactReader.readInt());
+    activeTokensProp.setValue(compactReader.readInt());
+    multiInstanceLoopCounterProp.setValue(compactReader.readInt());
+
+    final IndexedRecord record = recordProp.getValue();
+    record.setKey(compactReader.readLong());
+    final short state = compactReader.readShort();
+    record.setState((WorkflowInstanceIntent) WorkflowInstanceIntent.from(state));
+    compactReader.readBuffer(recordView);
+    record.getValue().wrap(recordView);
+  }
+
+  @Override
+  public int getLength() {
+    return COMPACT_FIXED_LENGTH + CompactValueWriter.bufferLength(getValue().getLength());
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    compactWriter
+        .wrap(buffer, offset, COMPACT_VERSION)
+        .writeLong(parentKeyProp.getValue())
+        .writeLong(jobKeyProp.getValue())
+        .writeLong(interruptingEventKeyProp.getValue())
+        .writeLong(calledChildInstanceKeyProp.getValue())
+        .writeInt(childCountProp.getValue())
+        .writeInt(activeTokensProp.getValue())
+        .writeInt(multiInstanceLoopCounterProp.getValue())
+        .writeLong(getKey())
+        .writeShort(getState().value())
+        .writeBuffer(getValue());
+  }
 }
@@ -8,14 +8,27 @@
 package io.zeebe.engine.state.instance;
 
 import io.zeebe.db.DbValue;
+import io.zeebe.db.impl.CompactValueReader;
+import io.zeebe.db.impl.CompactValueWriter;
+import io.zeebe.engine.state.instance.JobState.State;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.EnumProperty;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 
 public class JobStateValue extends UnpackedObject implements DbValue {
 
+  private static final byte COMPACT_VERSION = 1;
+  private static final int COMPACT_LENGTH = CompactValueReader.HEADER_LENGTH + Byte.BYTES;
+  // the value of a state is its ordinal
+  private static final State[] STATES = State.values();
+
   private final EnumProperty<JobState.State> stateProp =
       new EnumProperty<>("jobState", JobState.State.class);
 
+  private final CompactValueReader compactReader = new CompactValueReader();
+  private final CompactValueWriter compactWriter = new CompactValueWriter();
+
   public JobStateValue() {
     declareProperty(stateProp);
   }
@@ -27,4 +40,33 @@ public class JobStateValue extends UnpackedObject implements DbValue {
   public void setState(final JobState.State state) {
     stateProp.setValue(state);
   }
+
+  @Override
+  public void wrap(final DirectBuffer buffer, final int offset, final int length) {
+    if (!CompactValueReader.isCompact(buffer, offset, length)) {
+      // written in the msgpack layout of previous versions - it is migrated on the next update
+      super.wrap(buffer, offset, length);
+      return;
+    }
+
+    compactReader.wrap(buffer, offset, length);
+    if (compactReader.getVersion() != COMPACT_VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected job state with version %d, but found version %d",
+              COMPACT_VERSION, compactReader.getVersion()));
+    }
+
+    stateProp.setValue(STATES[compactReader.readByte()]);
+  }
+
+  @Override
+  public int getLength() {
+    return COMPACT_LENGTH;
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    compactWriter.wrap(buffer, offset, COMPACT_VERSION).writeByte(getState().value);
+  }
 }
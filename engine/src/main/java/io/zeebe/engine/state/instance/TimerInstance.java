@@ -8,17 +8,24 @@
 package io.zeebe.engine.state.instance;
 
 import io.zeebe.db.DbValue;
+import io.zeebe.db.impl.CompactValueReader;
+import io.zeebe.db.impl.CompactValueWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.IntegerProperty;
 import io.zeebe.msgpack.property.LongProperty;
 import io.zeebe.msgpack.property.StringProperty;
 import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public final class TimerInstance extends UnpackedObject implements DbValue {
 
   public static final int NO_ELEMENT_INSTANCE = -1;
 
+  private static final byte COMPACT_VERSION = 1;
+  private static final int COMPACT_FIXED_LENGTH =
+      CompactValueReader.HEADER_LENGTH + 5 * Long.BYTES + Integer.BYTES;
+
   private final StringProperty handlerNodeIdProp = new StringProperty("handlerNodeId", "");
   private final LongProperty workflowKeyProp = new LongProperty("workflowKey", 0L);
   private final LongProperty keyProp = new LongProperty("key", 0L);
@@ -27,6 +34,10 @@ public final class TimerInstance extends UnpackedObject implements DbValue {
   private final LongProperty dueDateProp = new LongProperty("dueDate", 0L);
   private final IntegerProperty repetitionsProp = new IntegerProperty("repetitions", 0);
 
+  private final CompactValueReader compactReader = new CompactValueReader();
+  private final CompactValueWriter compactWriter = new CompactValueWriter();
+  private final DirectBuffer handlerNodeIdView = new UnsafeBuffer(0, 0);
+
   public TimerInstance() {
     declareProperty(handlerNodeIdProp)
         .declareProperty(workflowKeyProp)
@@ -98,6 +109,47 @@ public final class TimerInstance extends UnpackedObject implements DbValue {
     final byte[] bytes = new byte[length];
     final UnsafeBuffer mutableBuffer = new UnsafeBuffer(bytes);
     buffer.getBytes(offset, bytes, 0, length);
-    super.wrap(mutableBuffer, 0, length);
+
+    if (!CompactValueReader.isCompact(mutableBuffer, 0, length)) {
+      // written in the msgpack layout of previous versions - it is migrated on the next update
+      super.wrap(mutableBuffer, 0, length);
+      return;
+    }
+
+    compactReader.wrap(mutableBuffer, 0, length);
+    if (compactReader.getVersion() != COMPACT_VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected timer instance with version %d, but found version %d",
+              COMPACT_VERSION, compactReader.getVersion()));
+    }
+
+    reset();
+    workflowKeyProp.setValue(compactReader.readLong());
+    keyProp.setValue(compactReader.readLong());
+    elementInstanceKeyProp.setValue(compactReader.readLong());
+    workflowInstanceKeyProp.setValue(compactReader.readLong());
+    dueDateProp.setValue(compactReader.readLong());
+    repetitionsProp.setValue(compactReader.readInt());
+    compactReader.readBuffer(handlerNodeIdView);
+    handlerNodeIdProp.setValue(handlerNodeIdView);
+  }
+
+  @Override
+  public int getLength() {
+    return COMPACT_FIXED_LENGTH + CompactValueWriter.bufferLength(getHandlerNodeId().capacity());
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    compactWriter
+        .wrap(buffer, offset, COMPACT_VERSION)
+        .writeLong(workflowKeyProp.getValue())
+        .writeLong(keyProp.getValue())
+        .writeLong(elementInstanceKeyProp.getValue())
+        .writeLong(workflowInstanceKeyProp.getValue())
+        .writeLong(dueDateProp.getValue())
+        .writeInt(repetitionsProp.getValue())
+        .writeBuffer(getHandlerNodeId());
   }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import io.zeebe.util.buffer.BufferUtil;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Object2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Caches the local variables and the parent of the variable scopes which are visited when a
+ * variable is resolved in the scope hierarchy. It avoids reading the same variables and parents
+ * multiple times while processing a record, for example, when multiple expressions are evaluated.
+ *
+ * <p>The cache is not aware of transaction rollbacks, so it must be cleared before a record is
+ * processed.
+ */
+final class VariableScopeCache {
+
+  /** Marks a variable which is not present in the scope. */
+  static final DirectBuffer NOT_PRESENT = new UnsafeBuffer(0, 0);
+
+  static final long NOT_CACHED = Long.MIN_VALUE;
+
+  // (scope key) => (variable name => variable value)
+  private final Long2ObjectHashMap<Object2ObjectHashMap<DirectBuffer, DirectBuffer>>
+      variablesByScope = new Long2ObjectHashMap<>();
+
+  // (scope key) => (parent scope key)
+  private final Long2LongHashMap parentByScope = new Long2LongHashMap(NOT_CACHED);
+
+  private final UnsafeBuffer nameView = new UnsafeBuffer(0, 0);
+
+  /**
+   * @return the cached value of the variable, {@link #NOT_PRESENT} if the variable is cached as
+   *     not present in the scope, or {@code null} if it is not cached
+   */
+  DirectBuffer getVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var variables = variablesByScope.get(scopeKey);
+    if (variables == null) {
+      return null;
+    }
+
+    nameView.wrap(name, nameOffset, nameLength);
+    return variables.get(nameView);
+  }
+
+  /**
+   * Caches the given value of the variable. The name and the value are copied.
+   *
+   * @return the cached value, or {@link #NOT_PRESENT} if the given value is {@code null}
+   */
+  DirectBuffer putVariable(
+      final long scopeKey,
+      final DirectBuffer name,
+      final int nameOffset,
+      final int nameLength,
+      final DirectBuffer value) {
+    final var variables =
+        variablesByScope.computeIfAbsent(scopeKey, key -> new Object2ObjectHashMap<>());
+
+    // the name must be an UnsafeBuffer to be equal to the name view on lookups
+    final var cachedName = new UnsafeBuffer(new byte[nameLength]);
+    cachedName.putBytes(0, name, nameOffset, nameLength);
+    final var cachedValue = value != null ? BufferUtil.cloneBuffer(value) : NOT_PRESENT;
+    variables.put(cachedName, cachedValue);
+
+    return cachedValue;
+  }
+
+  void removeVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final var variables = variablesByScope.get(scopeKey);
+    if (variables != null) {
+      nameView.wrap(name, nameOffset, nameLength);
+      variables.remove(nameView);
+    }
+  }
+
+  /** @return the cached key of the parent scope, or {@link #NOT_CACHED} if it is not cached */
+  long getParent(final long scopeKey) {
+    return parentByScope.get(scopeKey);
+  }
+
+  void putParent(final long scopeKey, final long parentKey) {
+    parentByScope.put(scopeKey, parentKey);
+  }
+
+  void removeScope(final long scopeKey) {
+    variablesByScope.remove(scopeKey);
+    parentByScope.remove(scopeKey);
+  }
+
+  void clear() {
+    variablesByScope.clear();
+    parentByScope.clear();
+  }
+}
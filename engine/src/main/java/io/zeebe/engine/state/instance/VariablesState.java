@@ -68,6 +68,8 @@ public class VariablesState {
   private final IndexedDocument indexedDocument = new IndexedDocument();
   private final KeyGenerator keyGenerator;
 
+  private final VariableScopeCache cache = new VariableScopeCache();
+
   private VariableListener listener;
   private int variableCount = 0;
 
@@ -155,6 +157,7 @@ public class VariablesState {
 
     final VariableInstance currentVariable =
         getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    cache.removeVariable(scopeKey, name, nameOffset, nameLength);
 
     if (currentVariable == null) {
       newVariable.setKey(keyGenerator.nextKey());
@@ -246,11 +249,11 @@ public class VariablesState {
 
     long currentScopeKey = scopeKey;
     do {
-      final VariableInstance variable =
-          getVariableLocal(currentScopeKey, name, nameOffset, nameLength);
+      final DirectBuffer value =
+          getCachedVariableLocal(currentScopeKey, name, nameOffset, nameLength);
 
-      if (variable != null) {
-        return variable.getValue();
+      if (value != VariableScopeCache.NOT_PRESENT) {
+        return value;
       }
 
       currentScopeKey = getParent(currentScopeKey);
@@ -259,6 +262,27 @@ public class VariablesState {
     return null;
   }
 
+  private DirectBuffer getCachedVariableLocal(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    final DirectBuffer cachedValue = cache.getVariable(scopeKey, name, nameOffset, nameLength);
+    if (cachedValue != null) {
+      return cachedValue;
+    }
+
+    final VariableInstance variable = getVariableLocal(scopeKey, name, nameOffset, nameLength);
+    final DirectBuffer value = variable != null ? variable.getValue() : null;
+    return cache.putVariable(scopeKey, name, nameOffset, nameLength, value);
+  }
+
+  /**
+   * Clears the cached variables and scopes. The cache is used to resolve variables in the scope
+   * hierarchy and is kept while processing a record. Since a rollback of the transaction is not
+   * visible to the cache, it must be cleared before a record is processed.
+   */
+  public void clearCache() {
+    cache.clear();
+  }
+
   public void setVariablesFromDocument(
       final long scopeKey, final long workflowKey, final DirectBuffer document) {
     // 1. index entries in the document
@@ -320,10 +344,18 @@ public class VariablesState {
   }
 
   private long getParent(final long childKey) {
+    final long cachedParentKey = cache.getParent(childKey);
+    if (cachedParentKey != VariableScopeCache.NOT_CACHED) {
+      return cachedParentKey;
+    }
+
     this.childKey.wrapLong(childKey);
 
     final ParentScopeKey parentKey = childParentColumnFamily.get(this.childKey);
-    return parentKey != null ? parentKey.get() : NO_PARENT;
+    final long parentScopeKey = parentKey != null ? parentKey.get() : NO_PARENT;
+
+    cache.putParent(childKey, parentScopeKey);
+    return parentScopeKey;
   }
 
   public DirectBuffer getVariablesAsDocument(final long scopeKey) {
@@ -462,6 +494,7 @@ public class VariablesState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.put(this.childKey, this.parentKey);
+    cache.removeScope(childKey);
   }
 
   public void removeScope(final long scopeKey) {
@@ -470,6 +503,7 @@ public class VariablesState {
     removeAllVariables(scopeKey);
 
     childParentColumnFamily.delete(this.scopeKey);
+    cache.removeScope(scopeKey);
   }
 
   public void removeAllVariables(final long scopeKey) {
@@ -478,6 +512,7 @@ public class VariablesState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.delete(scopeKeyVariableNameKey),
         () -> false);
+    cache.removeScope(scopeKey);
   }
 
   public void setTemporaryVariables(final long scopeKey, final DirectBuffer variables) {
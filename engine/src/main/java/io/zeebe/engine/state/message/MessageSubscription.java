@@ -8,6 +8,8 @@
 package io.zeebe.engine.state.message;
 
 import io.zeebe.db.DbValue;
+import io.zeebe.db.impl.CompactValueReader;
+import io.zeebe.db.impl.CompactValueWriter;
 import io.zeebe.msgpack.UnpackedObject;
 import io.zeebe.msgpack.property.BooleanProperty;
 import io.zeebe.msgpack.property.LongProperty;
@@ -18,6 +20,10 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public final class MessageSubscription extends UnpackedObject implements DbValue {
 
+  private static final byte COMPACT_VERSION = 1;
+  private static final int COMPACT_FIXED_LENGTH =
+      CompactValueReader.HEADER_LENGTH + 4 * Long.BYTES + Byte.BYTES;
+
   private final StringProperty bpmnProcessIdProp = new StringProperty("bpmnProcessId");
   private final StringProperty messageNameProp = new StringProperty("messageName");
   private final StringProperty correlationKeyProp = new StringProperty("correlationKey");
@@ -30,6 +36,10 @@ public final class MessageSubscription extends UnpackedObject implements DbValue
   private final BooleanProperty closeOnCorrelateProp =
       new BooleanProperty("closeOnCorrelate", false);
 
+  private final CompactValueReader compactReader = new CompactValueReader();
+  private final CompactValueWriter compactWriter = new CompactValueWriter();
+  private final DirectBuffer bufferView = new UnsafeBuffer(0, 0);
+
   public MessageSubscription() {
     declareProperty(bpmnProcessIdProp)
         .declareProperty(messageNameProp)
@@ -123,7 +133,60 @@ public final class MessageSubscription extends UnpackedObject implements DbValue
   public void wrap(final DirectBuffer buffer, int offset, final int length) {
     final byte[] bytes = new byte[length];
     final MutableDirectBuffer newBuffer = new UnsafeBuffer(bytes);
-    buffer.getBytes(0, bytes, 0, length);
-    super.wrap(newBuffer, 0, length);
+    buffer.getBytes(offset, bytes, 0, length);
+
+    if (!CompactValueReader.isCompact(newBuffer, 0, length)) {
+      // written in the msgpack layout of previous versions - it is migrated on the next update
+      super.wrap(newBuffer, 0, length);
+      return;
+    }
+
+    compactReader.wrap(newBuffer, 0, length);
+    if (compactReader.getVersion() != COMPACT_VERSION) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected message subscription with version %d, but found version %d",
+              COMPACT_VERSION, compactReader.getVersion()));
+    }
+
+    reset();
+    workflowInstanceKeyProp.setValue(compactReader.readLong());
+    elementInstanceKeyProp.setValue(compactReader.readLong());
+    messageKeyProp.setValue(compactReader.readLong());
+    commandSentTimeProp.setValue(compactReader.readLong());
+    closeOnCorrelateProp.setValue(compactReader.readBoolean());
+    readBuffer(bpmnProcessIdProp);
+    readBuffer(messageNameProp);
+    readBuffer(correlationKeyProp);
+    readBuffer(messageVariablesProp);
+  }
+
+  private void readBuffer(final StringProperty property) {
+    compactReader.readBuffer(bufferView);
+    property.setValue(bufferView);
+  }
+
+  @Override
+  public int getLength() {
+    return COMPACT_FIXED_LENGTH
+        + CompactValueWriter.bufferLength(getBpmnProcessId().capacity())
+        + CompactValueWriter.bufferLength(getMessageName().capacity())
+        + CompactValueWriter.bufferLength(getCorrelationKey().capacity())
+        + CompactValueWriter.bufferLength(getMessageVariables().capacity());
+  }
+
+  @Override
+  public void write(final MutableDirectBuffer buffer, final int offset) {
+    compactWriter
+        .wrap(buffer, offset, COMPACT_VERSION)
+        .writeLong(getWorkflowInstanceKey())
+        .writeLong(getElementInstanceKey())
+        .writeLong(getMessageKey())
+        .writeLong(getCommandSentTime())
+        .writeBoolean(shouldCloseOnCorrelate())
+        .writeBuffer(getBpmnProcessId())
+        .writeBuffer(getMessageName())
+        .writeBuffer(getCorrelationKey())
+        .writeBuffer(getMessageVariables());
   }
 }
@@ -561,6 +561,33 @@ public final class CreateDeploymentTest {
                 + "Duplicated process id in resources 'p2.bpmn' and 'p3.bpmn'");
   }
 
+  @Test
+  public void shouldRejectRedeploymentOfValidatedResourceWithDuplicateResource() {
+    // given
+    final BpmnModelInstance definition =
+        Bpmn.createExecutableProcess("redeployed").startEvent().done();
+    final BpmnModelInstance duplicateDefinition =
+        Bpmn.createExecutableProcess("redeployed").startEvent().endEvent().done();
+
+    ENGINE.deployment().withXmlResource("redeployed.bpmn", definition).deploy();
+
+    // when
+    final Record<DeploymentRecordValue> deploymentRejection =
+        ENGINE
+            .deployment()
+            .withXmlResource("redeployed.bpmn", definition)
+            .withXmlResource("duplicate.bpmn", duplicateDefinition)
+            .expectRejection()
+            .deploy();
+
+    // then
+    Assertions.assertThat(deploymentRejection)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT)
+        .hasRejectionReason(
+            "Expected to deploy new resources, but encountered the following errors:\n"
+                + "Duplicated process id in resources 'redeployed.bpmn' and 'duplicate.bpmn'");
+  }
+
   @Test
   public void shouldRejectDeploymentWithInvalidTimerStartEventExpression() {
     // given
@@ -32,7 +32,9 @@ import io.zeebe.test.util.stream.StreamWrapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.stream.IntStream;
@@ -393,6 +395,77 @@ public final class StreamProcessorReprocessingTest {
     inOrder.verifyNoMoreInteractions();
   }
 
+  @Test
+  public void shouldRollbackAndReplayBatchOnExceptionInTheMiddleOfTheBatch() throws Exception {
+    // given
+    final long firstPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    final long secondPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    final long thirdPosition =
+        streamProcessorRule.writeWorkflowInstanceEvent(ELEMENT_ACTIVATING, 1);
+    streamProcessorRule.writeWorkflowInstanceEventWithSource(ELEMENT_ACTIVATED, 1, thirdPosition);
+
+    waitUntil(
+        () ->
+            streamProcessorRule
+                .events()
+                .onlyWorkflowInstanceRecords()
+                .withIntent(ELEMENT_ACTIVATED)
+                .exists());
+
+    // when
+    final List<Long> processedPositions = new CopyOnWriteArrayList<>();
+    final List<Long> generatedKeys = new CopyOnWriteArrayList<>();
+    final AtomicBoolean failed = new AtomicBoolean();
+    final CountDownLatch onRecoveredLatch = new CountDownLatch(1);
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors
+                .onEvent(
+                    ValueType.WORKFLOW_INSTANCE,
+                    ELEMENT_ACTIVATING,
+                    new TypedRecordProcessor<UnifiedRecordValue>() {
+                      @Override
+                      public void processRecord(
+                          final long position,
+                          final TypedRecord<UnifiedRecordValue> record,
+                          final TypedResponseWriter responseWriter,
+                          final TypedStreamWriter streamWriter,
+                          final Consumer<SideEffectProducer> sideEffect) {
+                        processedPositions.add(position);
+                        generatedKeys.add(context.getZeebeState().getKeyGenerator().nextKey());
+
+                        if (position == thirdPosition && failed.compareAndSet(false, true)) {
+                          throw new RuntimeException("recoverable");
+                        }
+                      }
+                    })
+                .withListener(
+                    new StreamProcessorLifecycleAware() {
+                      @Override
+                      public void onRecovered(final ReadonlyProcessingContext processingContext) {
+                        onRecoveredLatch.countDown();
+                      }
+                    }));
+
+    // then
+    assertThat(onRecoveredLatch.await(15, TimeUnit.SECONDS)).isTrue();
+
+    // the whole batch is replayed exactly once after the failure
+    assertThat(processedPositions)
+        .containsExactly(
+            firstPosition,
+            secondPosition,
+            thirdPosition,
+            firstPosition,
+            secondPosition,
+            thirdPosition);
+
+    // the state changes of the failed attempt are rolled back
+    assertThat(generatedKeys.subList(3, 6)).isEqualTo(generatedKeys.subList(0, 3));
+  }
+
   @Test
   public void shouldIgnoreRecordWhenNoProcessorExistForThisType() {
     // given
@@ -20,6 +20,9 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.times;
 
+import io.prometheus.client.CollectorRegistry;
+import io.zeebe.engine.metrics.StreamProcessorMetrics;
+import io.zeebe.engine.metrics.StreamProcessorMetrics.ProcessingPhase;
 import io.zeebe.engine.processing.streamprocessor.sideeffect.SideEffectProducer;
 import io.zeebe.engine.processing.streamprocessor.writers.CommandResponseWriter;
 import io.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
@@ -592,6 +595,32 @@ public final class StreamProcessorTest {
     assertThat(onProcessedListener.lastProcessedRecord.getPosition()).isEqualTo(position);
   }
 
+  @Test
+  public void shouldMeasureProcessingPhasesIfEnabled() throws InterruptedException {
+    // given
+    final var onProcessedListener = new AwaitableProcessedListener();
+    streamProcessorRule.startTypedStreamProcessor(
+        (processors, context) ->
+            processors.onEvent(
+                ValueType.WORKFLOW_INSTANCE,
+                WorkflowInstanceIntent.ELEMENT_ACTIVATING,
+                mock(TypedRecordProcessor.class)),
+        onProcessedListener.expect(1));
+    final double observedBefore = getProcessingPhaseCount(ProcessingPhase.COMMIT);
+    StreamProcessorMetrics.setPhaseMetricsEnabled(true);
+
+    try {
+      // when
+      streamProcessorRule.writeWorkflowInstanceEvent(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+
+      // then
+      assertThat(onProcessedListener.await()).isTrue();
+      assertThat(getProcessingPhaseCount(ProcessingPhase.COMMIT)).isEqualTo(observedBefore + 1);
+    } finally {
+      StreamProcessorMetrics.setPhaseMetricsEnabled(false);
+    }
+  }
+
   @Test
   public void shouldNotifyLifecycleListenersOnPauseAndResume() throws InterruptedException {
     // given
@@ -673,6 +702,20 @@ public final class StreamProcessorTest {
         .isEqualTo(positionProcessedAfterResume);
   }
 
+  private static double getProcessingPhaseCount(final ProcessingPhase phase) {
+    final Double count =
+        CollectorRegistry.defaultRegistry.getSampleValue(
+            "zeebe_stream_processor_phase_latency_count",
+            new String[] {"phase", "valueType", "intent", "partition"},
+            new String[] {
+              phase.name().toLowerCase(),
+              ValueType.WORKFLOW_INSTANCE.name(),
+              WorkflowInstanceIntent.ELEMENT_ACTIVATING.name(),
+              "0"
+            });
+    return count == null ? 0 : count;
+  }
+
   /**
    * A simple listener which allows you to wait for specific amount of records to be processed.
    *
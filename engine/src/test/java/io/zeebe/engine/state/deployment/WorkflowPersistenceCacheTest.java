@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.deployment;
+
+import static io.zeebe.engine.state.deployment.WorkflowStateTest.creatingDeploymentRecord;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.db.DbContext;
+import io.zeebe.db.ZeebeDb;
+import io.zeebe.engine.state.ZbColumnFamilies;
+import io.zeebe.engine.state.ZeebeState;
+import io.zeebe.engine.util.ZeebeStateRule;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.record.value.deployment.DeploymentRecord;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class WorkflowPersistenceCacheTest {
+
+  private static final int CACHE_CAPACITY = 2;
+
+  @Rule public final ZeebeStateRule stateRule = new ZeebeStateRule();
+
+  private ZeebeDb<ZbColumnFamilies> db;
+  private ZeebeState zeebeState;
+  private WorkflowPersistenceCache cache;
+
+  @Before
+  public void setUp() {
+    db = stateRule.createNewDb();
+    final DbContext dbContext = db.createContext();
+    zeebeState = new ZeebeState(db, dbContext);
+    cache =
+        new WorkflowPersistenceCache(db, dbContext, Protocol.DEPLOYMENT_PARTITION, CACHE_CAPACITY);
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    db.close();
+  }
+
+  @Test
+  public void shouldReturnEvictedWorkflow() {
+    // given
+    final long firstKey = deploy("first");
+    final long secondKey = deploy("second");
+    final DeployedWorkflow firstWorkflow = cache.getWorkflowByKey(firstKey);
+    cache.getWorkflowByKey(secondKey);
+
+    // when
+    final long thirdKey = deploy("third");
+    cache.getWorkflowByKey(thirdKey);
+
+    // then
+    final DeployedWorkflow reloadedWorkflow = cache.getWorkflowByKey(firstKey);
+    assertThat(reloadedWorkflow).isNotNull().isNotSameAs(firstWorkflow);
+    assertThat(reloadedWorkflow.getBpmnProcessId()).isEqualTo(wrapString("first"));
+    assertThat(reloadedWorkflow.getWorkflow().getId()).isEqualTo(wrapString("first"));
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedWorkflow() {
+    // given
+    final long firstKey = deploy("first");
+    final long secondKey = deploy("second");
+    final DeployedWorkflow firstWorkflow = cache.getWorkflowByKey(firstKey);
+    final DeployedWorkflow secondWorkflow = cache.getWorkflowByKey(secondKey);
+    cache.getWorkflowByKey(firstKey);
+
+    // when
+    final long thirdKey = deploy("third");
+    cache.getWorkflowByKey(thirdKey);
+
+    // then
+    assertThat(cache.getWorkflowByKey(firstKey)).isSameAs(firstWorkflow);
+    assertThat(cache.getWorkflowByKey(secondKey)).isNotSameAs(secondWorkflow);
+  }
+
+  @Test
+  public void shouldRemoveEvictedWorkflowFromAllLookups() {
+    // given
+    final long firstKey = deploy("first");
+    final DeployedWorkflow firstWorkflow =
+        cache.getWorkflowByProcessIdAndVersion(wrapString("first"), 1);
+    cache.getWorkflowByKey(deploy("second"));
+
+    // when
+    cache.getWorkflowByKey(deploy("third"));
+
+    // then
+    assertThat(cache.getLatestWorkflowVersionByProcessId(wrapString("first")))
+        .isNotSameAs(firstWorkflow)
+        .extracting(DeployedWorkflow::getKey)
+        .isEqualTo(firstKey);
+  }
+
+  @Test
+  public void shouldReturnAllWorkflowsExceedingCapacity() {
+    // given
+    deploy("first");
+    deploy("second");
+    deploy("third");
+
+    // when / then
+    assertThat(cache.getWorkflows())
+        .extracting(w -> w.getWorkflow().getId())
+        .containsExactlyInAnyOrder(wrapString("first"), wrapString("second"), wrapString("third"));
+  }
+
+  @Test
+  public void shouldReturnAllVersionsExceedingCapacity() {
+    // given
+    deploy("process");
+    deploy("process");
+    deploy("process");
+    deploy("other");
+
+    // when / then
+    assertThat(cache.getWorkflowsByBpmnProcessId(wrapString("process")))
+        .extracting(DeployedWorkflow::getVersion)
+        .containsExactlyInAnyOrder(1, 2, 3);
+  }
+
+  @Test
+  public void shouldNotEvictCachedWorkflowsWhenReturningAllWorkflows() {
+    // given
+    final long firstKey = deploy("first");
+    final long secondKey = deploy("second");
+    deploy("third");
+    final DeployedWorkflow firstWorkflow = cache.getWorkflowByKey(firstKey);
+    final DeployedWorkflow secondWorkflow = cache.getWorkflowByKey(secondKey);
+
+    // when
+    cache.getWorkflows();
+    cache.getWorkflowsByBpmnProcessId(wrapString("third"));
+
+    // then
+    assertThat(cache.getWorkflowByKey(firstKey)).isSameAs(firstWorkflow);
+    assertThat(cache.getWorkflowByKey(secondKey)).isSameAs(secondWorkflow);
+  }
+
+  private long deploy(final String processId) {
+    final DeploymentRecord deploymentRecord = creatingDeploymentRecord(zeebeState, processId);
+    final long workflowKey = deploymentRecord.workflows().iterator().next().getKey();
+    cache.putDeployment(workflowKey, deploymentRecord);
+    return workflowKey;
+  }
+}
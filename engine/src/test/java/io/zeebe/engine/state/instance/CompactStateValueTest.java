@@ -0,0 +1,212 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.engine.state.instance;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.engine.state.instance.JobState.State;
+import io.zeebe.engine.state.message.MessageSubscription;
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
+import io.zeebe.protocol.record.intent.WorkflowInstanceIntent;
+import io.zeebe.protocol.record.value.BpmnElementType;
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class CompactStateValueTest {
+
+  @Test
+  public void shouldWriteAndReadCompactElementInstance() {
+    // given
+    final ElementInstance elementInstance = createElementInstance();
+
+    // when
+    final ElementInstance readInstance = new ElementInstance();
+    final DirectBuffer buffer = write(elementInstance);
+    readInstance.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(buffer.capacity()).isLessThan(elementInstance.getEncodedLength());
+    assertElementInstance(readInstance);
+  }
+
+  @Test
+  public void shouldReadMsgPackElementInstance() {
+    // given
+    final ElementInstance elementInstance = createElementInstance();
+    final DirectBuffer msgPack = writeMsgPack(elementInstance);
+
+    // when
+    final ElementInstance readInstance = new ElementInstance();
+    readInstance.wrap(msgPack, 0, msgPack.capacity());
+
+    // then
+    assertElementInstance(readInstance);
+  }
+
+  @Test
+  public void shouldMigrateMsgPackElementInstanceOnWrite() {
+    // given
+    final DirectBuffer msgPack = writeMsgPack(createElementInstance());
+    final ElementInstance legacyInstance = new ElementInstance();
+    legacyInstance.wrap(msgPack, 0, msgPack.capacity());
+
+    // when
+    final DirectBuffer buffer = write(legacyInstance);
+    final ElementInstance readInstance = new ElementInstance();
+    readInstance.wrap(buffer, 0, buffer.capacity());
+
+    // then
+    assertThat(buffer.capacity()).isLessThan(msgPack.capacity());
+    assertElementInstance(readInstance);
+  }
+
+  @Test
+  public void shouldReadCompactAndMsgPackTimerInstance() {
+    // given
+    final TimerInstance timer = new TimerInstance();
+    timer.setKey(1L);
+    timer.setWorkflowKey(2L);
+    timer.setElementInstanceKey(3L);
+    timer.setWorkflowInstanceKey(4L);
+    timer.setDueDate(5L);
+    timer.setRepetitions(6);
+    timer.setHandlerNodeId(wrapString("timer"));
+
+    // when
+    final DirectBuffer compact = write(timer);
+    final DirectBuffer msgPack = writeMsgPack(timer);
+
+    // then
+    for (final DirectBuffer buffer : new DirectBuffer[] {compact, msgPack}) {
+      final TimerInstance readTimer = new TimerInstance();
+      readTimer.wrap(buffer, 0, buffer.capacity());
+
+      assertThat(readTimer.getKey()).isEqualTo(1L);
+      assertThat(readTimer.getWorkflowKey()).isEqualTo(2L);
+      assertThat(readTimer.getElementInstanceKey()).isEqualTo(3L);
+      assertThat(readTimer.getWorkflowInstanceKey()).isEqualTo(4L);
+      assertThat(readTimer.getDueDate()).isEqualTo(5L);
+      assertThat(readTimer.getRepetitions()).isEqualTo(6);
+      assertThat(readTimer.getHandlerNodeId()).isEqualTo(wrapString("timer"));
+    }
+    assertThat(compact.capacity()).isLessThan(msgPack.capacity());
+  }
+
+  @Test
+  public void shouldReadCompactAndMsgPackJobState() {
+    // given
+    final JobStateValue jobState = new JobStateValue();
+    jobState.setState(State.ERROR_THROWN);
+
+    // when
+    final DirectBuffer compact = write(jobState);
+    final DirectBuffer msgPack = writeMsgPack(jobState);
+
+    // then
+    for (final DirectBuffer buffer : new DirectBuffer[] {compact, msgPack}) {
+      final JobStateValue readState = new JobStateValue();
+      readState.wrap(buffer, 0, buffer.capacity());
+
+      assertThat(readState.getState()).isEqualTo(State.ERROR_THROWN);
+    }
+    assertThat(compact.capacity()).isLessThan(msgPack.capacity());
+  }
+
+  @Test
+  public void shouldReadCompactAndMsgPackMessageSubscription() {
+    // given
+    final MessageSubscription subscription =
+        new MessageSubscription(
+            1L, 2L, wrapString("process"), wrapString("message"), wrapString("key"), true);
+    subscription.setMessageKey(3L);
+    subscription.setCommandSentTime(4L);
+    subscription.setMessageVariables(wrapString("variables"));
+
+    // when
+    final DirectBuffer compact = write(subscription);
+    final DirectBuffer msgPack = writeMsgPack(subscription);
+
+    // then
+    for (final DirectBuffer buffer : new DirectBuffer[] {compact, msgPack}) {
+      final MessageSubscription readSubscription = new MessageSubscription();
+      readSubscription.wrap(buffer, 0, buffer.capacity());
+
+      assertThat(readSubscription.getWorkflowInstanceKey()).isEqualTo(1L);
+      assertThat(readSubscription.getElementInstanceKey()).isEqualTo(2L);
+      assertThat(readSubscription.getBpmnProcessId()).isEqualTo(wrapString("process"));
+      assertThat(readSubscription.getMessageName()).isEqualTo(wrapString("message"));
+      assertThat(readSubscription.getCorrelationKey()).isEqualTo(wrapString("key"));
+      assertThat(readSubscription.shouldCloseOnCorrelate()).isTrue();
+      assertThat(readSubscription.getMessageKey()).isEqualTo(3L);
+      assertThat(readSubscription.getCommandSentTime()).isEqualTo(4L);
+      assertThat(readSubscription.getMessageVariables()).isEqualTo(wrapString("variables"));
+    }
+    assertThat(compact.capacity()).isLessThan(msgPack.capacity());
+  }
+
+  private static ElementInstance createElementInstance() {
+    final WorkflowInstanceRecord record = new WorkflowInstanceRecord();
+    record.setElementId("task");
+    record.setBpmnProcessId(wrapString("process"));
+    record.setWorkflowInstanceKey(1000L);
+    record.setFlowScopeKey(1001L);
+    record.setVersion(1);
+    record.setWorkflowKey(2);
+    record.setBpmnElementType(BpmnElementType.SERVICE_TASK);
+
+    final ElementInstance parent =
+        new ElementInstance(1001L, WorkflowInstanceIntent.ELEMENT_ACTIVATED, record);
+    final ElementInstance elementInstance =
+        new ElementInstance(1002L, parent, WorkflowInstanceIntent.ELEMENT_ACTIVATING, record);
+    elementInstance.setJobKey(12L);
+    elementInstance.spawnToken();
+    elementInstance.setMultiInstanceLoopCounter(3);
+    elementInstance.setInterruptingEventKey(13L);
+    elementInstance.setCalledChildInstanceKey(14L);
+    return elementInstance;
+  }
+
+  private static void assertElementInstance(final ElementInstance elementInstance) {
+    assertThat(elementInstance.getKey()).isEqualTo(1002L);
+    assertThat(elementInstance.getParentKey()).isEqualTo(1001L);
+    assertThat(elementInstance.getState()).isEqualTo(WorkflowInstanceIntent.ELEMENT_ACTIVATING);
+    assertThat(elementInstance.getJobKey()).isEqualTo(12L);
+    assertThat(elementInstance.getNumberOfActiveTokens()).isEqualTo(1);
+    assertThat(elementInstance.getNumberOfActiveElementInstances()).isZero();
+    assertThat(elementInstance.getMultiInstanceLoopCounter()).isEqualTo(3);
+    assertThat(elementInstance.getInterruptingEventKey()).isEqualTo(13L);
+    assertThat(elementInstance.getCalledChildInstanceKey()).isEqualTo(14L);
+
+    final WorkflowInstanceRecord record = elementInstance.getValue();
+    assertThat(record.getElementIdBuffer()).isEqualTo(wrapString("task"));
+    assertThat(record.getBpmnProcessIdBuffer()).isEqualTo(wrapString("process"));
+    assertThat(record.getWorkflowInstanceKey()).isEqualTo(1000L);
+    assertThat(record.getFlowScopeKey()).isEqualTo(1001L);
+    assertThat(record.getBpmnElementType()).isEqualTo(BpmnElementType.SERVICE_TASK);
+  }
+
+  private static DirectBuffer write(final BufferWriter value) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[value.getLength()]);
+    value.write(buffer, 0);
+    return buffer;
+  }
+
+  /** Writes the value in the msgpack layout of previous versions. */
+  private static DirectBuffer writeMsgPack(final UnpackedObject value) {
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[value.getEncodedLength()]);
+    final MsgPackWriter writer = new MsgPackWriter();
+    writer.wrap(buffer, 0);
+    value.write(writer);
+    return buffer;
+  }
+}
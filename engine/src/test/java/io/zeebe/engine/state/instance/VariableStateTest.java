@@ -533,6 +533,83 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldGetUpdatedVariableFromParentScope() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variablesState.getVariable(child, wrapString("a")), "1");
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variablesState.getVariable(child, wrapString("a")), "2");
+  }
+
+  @Test
+  public void shouldGetVariableFromLocalScopeAfterItWasSet() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variablesState.getVariable(child, wrapString("a")), "1");
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+
+    // then
+    assertEquality(variablesState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variablesState.getVariable(parent, wrapString("a")), "1");
+  }
+
+  @Test
+  public void shouldGetVariableAfterItWasNotPresent() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    assertThat(variablesState.getVariable(child, wrapString("a"))).isNull();
+
+    // when
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+
+    // then
+    assertEquality(variablesState.getVariable(child, wrapString("a")), "1");
+  }
+
+  @Test
+  public void shouldNotGetVariableOfRemovedScope() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    assertEquality(variablesState.getVariable(parent, wrapString("a")), "1");
+
+    // when
+    variablesState.removeAllVariables(parent);
+
+    // then
+    assertThat(variablesState.getVariable(parent, wrapString("a"))).isNull();
+  }
+
+  @Test
+  public void shouldKeepVariableValueOnNextLookup() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+
+    // when
+    final DirectBuffer a = variablesState.getVariable(parent, wrapString("a"));
+    final DirectBuffer b = variablesState.getVariable(parent, wrapString("b"));
+
+    // then
+    assertEquality(a, "1");
+    assertEquality(b, "2");
+  }
+
   @Test
   public void shouldInvokeListenerOnCreate() {
     // given
@@ -13,7 +13,10 @@ import io.zeebe.el.EvaluationContext;
 import io.zeebe.el.EvaluationResult;
 import io.zeebe.el.Expression;
 import io.zeebe.el.ExpressionLanguage;
+import io.zeebe.el.impl.feel.CompiledExpressionEvaluator;
+import io.zeebe.el.impl.feel.CompiledFeelExpression;
 import io.zeebe.el.impl.feel.FeelEvaluationResult;
+import io.zeebe.el.impl.feel.FeelExpressionCompiler;
 import io.zeebe.el.impl.feel.FeelFunctionProvider;
 import io.zeebe.el.impl.feel.FeelToMessagePackTransformer;
 import io.zeebe.el.impl.feel.FeelVariableContext;
@@ -24,6 +27,7 @@ import org.camunda.feel.FeelEngine;
 import org.camunda.feel.FeelEngine.Failure;
 import org.camunda.feel.syntaxtree.ParsedExpression;
 import org.camunda.feel.syntaxtree.Val;
+import scala.Option;
 import scala.util.Either;
 
 /**
@@ -40,6 +44,9 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
+  private final CompiledExpressionEvaluator compiledExpressionEvaluator =
+      new CompiledExpressionEvaluator(messagePackTransformer);
+
   private final FeelEngine feelEngine;
 
   public FeelExpressionLanguage(final ActorClock clock) {
@@ -79,6 +86,10 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
       final var staticExpression = (StaticExpression) expression;
       return staticExpression;
 
+    } else if (expression instanceof CompiledFeelExpression) {
+      final var compiledExpression = (CompiledFeelExpression) expression;
+      return evaluateCompiledExpression(expression, context, compiledExpression);
+
     } else if (expression instanceof FeelExpression) {
       final var feelExpression = (FeelExpression) expression;
       return evaluateFeelExpression(expression, context, feelExpression);
@@ -97,8 +108,25 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     } else {
       final var parsedExpression = parseResult.right().get();
-      return new FeelExpression(parsedExpression);
+      final var feelExpression = new FeelExpression(parsedExpression);
+      return FeelExpressionCompiler.compile(feelExpression);
+    }
+  }
+
+  private EvaluationResult evaluateCompiledExpression(
+      final Expression expression,
+      final EvaluationContext context,
+      final CompiledFeelExpression compiledExpression) {
+
+    final Option<EvaluationResult> result =
+        compiledExpressionEvaluator.evaluate(compiledExpression, context);
+
+    if (result.isDefined()) {
+      return result.get();
     }
+
+    // the variables don't fit the fast-path - fall back to the FEEL engine
+    return evaluateFeelExpression(expression, context, compiledExpression.feelExpression());
   }
 
   private EvaluationResult evaluateFeelExpression(
@@ -0,0 +1,178 @@
+/**
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl.feel
+
+import java.time.{Duration, Period, ZonedDateTime}
+import java.util
+
+import io.zeebe.el.{EvaluationContext, EvaluationResult, Expression, ResultType}
+import io.zeebe.msgpack.spec.{MsgPackFormat, MsgPackReader, MsgPackType}
+import io.zeebe.util.buffer.BufferUtil
+import io.zeebe.util.buffer.BufferUtil.bufferAsString
+import org.agrona.concurrent.UnsafeBuffer
+import org.agrona.{DirectBuffer, ExpandableArrayBuffer}
+import org.camunda.feel.syntaxtree._
+
+/**
+ * Evaluates a [[CompiledFeelExpression]] directly on the MessagePack encoded variables. Only the
+ * accessed variable is read and only the properties on the path are decoded, instead of
+ * transforming the variables into FEEL values and invoking the FEEL engine.
+ *
+ * The evaluation returns `None` if the variables don't fit the fast-path, for example, if a
+ * variable or a property doesn't exist or has a type that is not handled here. In this case, the
+ * expression must be evaluated by the FEEL engine to get the result (or failure) with the regular
+ * FEEL semantics.
+ *
+ * The evaluator reuses its buffers and must not be shared between threads.
+ */
+class CompiledExpressionEvaluator(messagePackTransformer: FeelToMessagePackTransformer) {
+
+  private val reader = new MsgPackReader
+
+  private val objectBuffer = new ExpandableArrayBuffer
+  private val objectView = new UnsafeBuffer
+
+  def evaluate(
+                expression: CompiledFeelExpression,
+                context: EvaluationContext): Option[EvaluationResult] = expression match {
+
+    case LiteralExpression(_, value) => Some(toResult(expression, value))
+
+    case VariablePathExpression(_, path) =>
+      if (readPath(path, context)) {
+        readObject().map(toObjectResult(expression, _))
+          .orElse(readValue().map(toResult(expression, _)))
+      } else {
+        None
+      }
+
+    case ComparisonExpression(_, path, operator, value) =>
+      if (readPath(path, context)) {
+        readValue()
+          .flatMap(compare(_, value, operator))
+          .map(result => toResult(expression, ValBoolean(result)))
+      } else {
+        None
+      }
+  }
+
+  private def toResult(expression: Expression, value: Val): EvaluationResult =
+    new FeelEvaluationResult(expression, value, messagePackTransformer.toMessagePack)
+
+  private def toObjectResult(expression: Expression, value: DirectBuffer): EvaluationResult =
+    new MessagePackObjectResult(expression, value)
+
+  /**
+   * Wraps the variable and moves the reader to the value of the path.
+   *
+   * @return `true` if the variable and all properties on the path exist
+   */
+  private def readPath(path: VariablePath, context: EvaluationContext): Boolean = {
+    val variable = context.getVariable(path.variableName)
+
+    if (variable == null || variable.capacity == 0) {
+      false
+    } else {
+      reader.wrap(variable, 0, variable.capacity)
+      path.keys.forall(readProperty)
+    }
+  }
+
+  private def readProperty(key: DirectBuffer): Boolean = {
+    val token = reader.readToken()
+
+    if (token.getType != MsgPackType.MAP) {
+      false
+    } else {
+      var remainingEntries = token.getSize
+      var found = false
+
+      while (!found && remainingEntries > 0) {
+        val keyToken = reader.readToken()
+
+        if (keyToken.getType == MsgPackType.STRING && BufferUtil.equals(keyToken.getValueBuffer, key)) {
+          found = true
+        } else {
+          reader.skipValue()
+          remainingEntries -= 1
+        }
+      }
+
+      found
+    }
+  }
+
+  // must be called before reading the value because it only peeks at the next token
+  private def readObject(): Option[DirectBuffer] = {
+    val offset = reader.getOffset
+    val buffer = reader.getBuffer
+
+    if (MsgPackFormat.valueOf(buffer.getByte(offset)).getType != MsgPackType.MAP) {
+      None
+    } else {
+      reader.skipValue()
+      val length = reader.getOffset - offset
+
+      objectBuffer.putBytes(0, buffer, offset, length)
+      objectView.wrap(objectBuffer, 0, length)
+      Some(objectView)
+    }
+  }
+
+  // arrays are not handled here because FEEL transforms each of its items
+  private def readValue(): Option[Val] = {
+    val token = reader.readToken()
+
+    token.getType match {
+      case MsgPackType.NIL => Some(ValNull)
+      case MsgPackType.BOOLEAN => Some(ValBoolean(token.getBooleanValue))
+      case MsgPackType.INTEGER => Some(ValNumber(token.getIntegerValue))
+      case MsgPackType.FLOAT => Some(ValNumber(token.getFloatValue))
+      case MsgPackType.STRING => Some(ValString(bufferAsString(token.getValueBuffer)))
+      case _ => None
+    }
+  }
+
+  private def compare(x: Val, y: Val, operator: ComparisonOperator): Option[Boolean] =
+    (x, y) match {
+      case (ValNumber(a), ValNumber(b)) => Some(operator.test(a.compare(b)))
+      case (ValString(a), ValString(b)) => Some(operator.test(a.compareTo(b)))
+      case (ValBoolean(a), ValBoolean(b)) if operator.isEquality =>
+        Some(operator.test(a.compare(b)))
+      case _ => None
+    }
+
+  /** The result of a variable path that points to a MessagePack map. */
+  private class MessagePackObjectResult(expression: Expression, messagePackMap: DirectBuffer)
+    extends EvaluationResult {
+
+    override def getExpression: String = expression.getExpression
+
+    override def isFailure: Boolean = false
+
+    override def getFailureMessage: String = null
+
+    override def getType: ResultType = ResultType.OBJECT
+
+    override def toBuffer: DirectBuffer = messagePackMap
+
+    override def getString: String = null
+
+    override def getBoolean: java.lang.Boolean = null
+
+    override def getNumber: Number = null
+
+    override def getDuration: Duration = null
+
+    override def getPeriod: Period = null
+
+    override def getDateTime: ZonedDateTime = null
+
+    override def getList: util.List[DirectBuffer] = null
+  }
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl.feel
+
+import java.util.Optional
+
+import io.zeebe.el.Expression
+import io.zeebe.el.impl.FeelExpression
+import org.agrona.DirectBuffer
+import org.camunda.feel.syntaxtree.Val
+
+/**
+ * A FEEL expression that is simple enough to be evaluated directly on the MessagePack encoded
+ * variables by the [[CompiledExpressionEvaluator]], without invoking the FEEL engine. It keeps the
+ * parsed FEEL expression to fall back to the FEEL engine if the variables don't fit the fast-path.
+ */
+sealed abstract class CompiledFeelExpression extends Expression {
+
+  def feelExpression: FeelExpression
+
+  override def getExpression: String = feelExpression.getExpression
+
+  override def getVariableName: Optional[String] = feelExpression.getVariableName
+
+  override def isStatic: Boolean = false
+
+  override def isValid: Boolean = true
+
+  override def getFailureMessage: String = null
+
+  override def toString: String = s"CompiledFeelExpression{expression=${getExpression}}"
+}
+
+/** A literal, e.g. `"foo"`, `42`, `true` or `null`. */
+case class LiteralExpression(feelExpression: FeelExpression, value: Val)
+  extends CompiledFeelExpression
+
+/** A variable or a nested property of a variable, e.g. `orderId` or `customer.id`. */
+case class VariablePathExpression(feelExpression: FeelExpression, path: VariablePath)
+  extends CompiledFeelExpression
+
+/** A comparison of a variable path with a literal, e.g. `x > 5` or `status = "open"`. */
+case class ComparisonExpression(
+                                 feelExpression: FeelExpression,
+                                 path: VariablePath,
+                                 operator: ComparisonOperator,
+                                 value: Val)
+  extends CompiledFeelExpression
+
+/**
+ * The name of the variable and the (MessagePack encoded) keys of the nested properties.
+ */
+case class VariablePath(variableName: String, keys: List[DirectBuffer])
+
+sealed abstract class ComparisonOperator(val test: Int => Boolean, val isEquality: Boolean) {
+
+  /** @return the operator to use if the operands are swapped */
+  def mirrored: ComparisonOperator = this match {
+    case ComparisonOperator.LessThan => ComparisonOperator.GreaterThan
+    case ComparisonOperator.LessOrEqual => ComparisonOperator.GreaterOrEqual
+    case ComparisonOperator.GreaterThan => ComparisonOperator.LessThan
+    case ComparisonOperator.GreaterOrEqual => ComparisonOperator.LessOrEqual
+    case other => other
+  }
+}
+
+object ComparisonOperator {
+
+  case object Equal extends ComparisonOperator(_ == 0, isEquality = true)
+
+  case object NotEqual extends ComparisonOperator(_ != 0, isEquality = true)
+
+  case object LessThan extends ComparisonOperator(_ < 0, isEquality = false)
+
+  case object LessOrEqual extends ComparisonOperator(_ <= 0, isEquality = false)
+
+  case object GreaterThan extends ComparisonOperator(_ > 0, isEquality = false)
+
+  case object GreaterOrEqual extends ComparisonOperator(_ >= 0, isEquality = false)
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el.impl.feel
+
+import io.zeebe.el.Expression
+import io.zeebe.el.impl.FeelExpression
+import io.zeebe.util.buffer.BufferUtil.wrapString
+import org.camunda.feel.syntaxtree._
+
+/**
+ * Classifies parsed FEEL expressions. Expressions which are only a literal, a variable path or a
+ * comparison of a variable path with a literal are compiled into a [[CompiledFeelExpression]].
+ * All other expressions are returned as they are and evaluated by the FEEL engine.
+ */
+object FeelExpressionCompiler {
+
+  def compile(expression: FeelExpression): Expression =
+    compile(expression, expression.getParsedExpression.expression).getOrElse(expression)
+
+  private def compile(expression: FeelExpression, exp: Exp): Option[CompiledFeelExpression] =
+    toLiteral(exp).map(LiteralExpression(expression, _))
+      .orElse(toVariablePath(exp).map(VariablePathExpression(expression, _)))
+      .orElse(compileComparison(expression, exp))
+
+  private def compileComparison(expression: FeelExpression, exp: Exp): Option[CompiledFeelExpression] =
+    exp match {
+      case Equal(x, y) => compileComparison(expression, x, y, ComparisonOperator.Equal)
+      case Not(Equal(x, y)) => compileComparison(expression, x, y, ComparisonOperator.NotEqual)
+      case LessThan(x, y) => compileComparison(expression, x, y, ComparisonOperator.LessThan)
+      case LessOrEqual(x, y) => compileComparison(expression, x, y, ComparisonOperator.LessOrEqual)
+      case GreaterThan(x, y) => compileComparison(expression, x, y, ComparisonOperator.GreaterThan)
+      case GreaterOrEqual(x, y) =>
+        compileComparison(expression, x, y, ComparisonOperator.GreaterOrEqual)
+      case _ => None
+    }
+
+  private def compileComparison(
+                                 expression: FeelExpression,
+                                 x: Exp,
+                                 y: Exp,
+                                 operator: ComparisonOperator): Option[CompiledFeelExpression] =
+    (toVariablePath(x), toLiteral(y), toVariablePath(y), toLiteral(x)) match {
+      case (Some(path), Some(value), _, _) if isComparable(value, operator) =>
+        Some(ComparisonExpression(expression, path, operator, value))
+      case (_, _, Some(path), Some(value)) if isComparable(value, operator) =>
+        Some(ComparisonExpression(expression, path, operator.mirrored, value))
+      case _ => None
+    }
+
+  // comparisons with null or of booleans by order have special semantics which are left to FEEL
+  private def isComparable(value: Val, operator: ComparisonOperator): Boolean = value match {
+    case _: ValNumber => true
+    case _: ValString => true
+    case _: ValBoolean => operator.isEquality
+    case _ => false
+  }
+
+  private def toLiteral(exp: Exp): Option[Val] = exp match {
+    case ConstNull => Some(ValNull)
+    case ConstBool(value) => Some(ValBoolean(value))
+    case ConstNumber(value) => Some(ValNumber(value))
+    case ConstString(value) => Some(ValString(value))
+    case _ => None
+  }
+
+  private def toVariablePath(exp: Exp): Option[VariablePath] = exp match {
+    case Ref(name :: keys) => Some(VariablePath(name, keys.map(key => wrapString(key))))
+    case PathExpression(path, key) =>
+      toVariablePath(path).map(path => path.copy(keys = path.keys :+ wrapString(key)))
+    case _ => None
+  }
+}
@@ -0,0 +1,163 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.el;
+
+import static io.zeebe.test.util.MsgPackUtil.asMsgPack;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.el.impl.FeelExpression;
+import io.zeebe.el.impl.FeelExpressionLanguage;
+import io.zeebe.el.impl.feel.CompiledFeelExpression;
+import io.zeebe.util.sched.clock.ControlledActorClock;
+import java.util.Map;
+import org.junit.Test;
+
+public class CompiledFeelExpressionTest {
+
+  private static final EvaluationContext EMPTY_CONTEXT = name -> null;
+
+  private final ExpressionLanguage expressionLanguage =
+      new FeelExpressionLanguage(new ControlledActorClock());
+
+  @Test
+  public void shouldCompileTrivialExpressions() {
+    assertThat(expressionLanguage.parseExpression("=\"static\""))
+        .isInstanceOf(CompiledFeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=orderId"))
+        .isInstanceOf(CompiledFeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=customer.id"))
+        .isInstanceOf(CompiledFeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=x > 5"))
+        .isInstanceOf(CompiledFeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=5 <= x"))
+        .isInstanceOf(CompiledFeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=status != \"open\""))
+        .isInstanceOf(CompiledFeelExpression.class);
+  }
+
+  @Test
+  public void shouldNotCompileOtherExpressions() {
+    assertThat(expressionLanguage.parseExpression("=x + 1")).isInstanceOf(FeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=x = null")).isInstanceOf(FeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=x < y")).isInstanceOf(FeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=x > true"))
+        .isInstanceOf(FeelExpression.class);
+    assertThat(expressionLanguage.parseExpression("=x and y")).isInstanceOf(FeelExpression.class);
+  }
+
+  @Test
+  public void shouldKeepVariableName() {
+    final var expression = expressionLanguage.parseExpression("=customer.id");
+
+    assertThat(expression.getExpression()).isEqualTo("customer.id");
+    assertThat(expression.getVariableName()).contains("customer");
+    assertThat(expression.isValid()).isTrue();
+    assertThat(expression.isStatic()).isFalse();
+  }
+
+  @Test
+  public void shouldEvaluateLiterals() {
+    assertThat(evaluateExpression("\"static\"", EMPTY_CONTEXT).getString()).isEqualTo("static");
+    assertThat(evaluateExpression("2.4", EMPTY_CONTEXT).getNumber()).isEqualTo(2.4);
+    assertThat(evaluateExpression("true", EMPTY_CONTEXT).getBoolean()).isTrue();
+    assertThat(evaluateExpression("null", EMPTY_CONTEXT).getType()).isEqualTo(ResultType.NULL);
+  }
+
+  @Test
+  public void shouldEvaluateVariable() {
+    // given
+    final var context = Map.of("orderId", asMsgPack("\"order-1\""));
+
+    // when
+    final var result = evaluateExpression("orderId", context::get);
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.STRING);
+    assertThat(result.getString()).isEqualTo("order-1");
+    assertThat(result.toBuffer()).isEqualTo(asMsgPack("\"order-1\""));
+  }
+
+  @Test
+  public void shouldEvaluateNestedProperty() {
+    // given
+    final var context = Map.of("customer", asMsgPack("{'name':'x', 'address':{'zip':12345}}"));
+
+    // when
+    final var result = evaluateExpression("customer.address.zip", context::get);
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.NUMBER);
+    assertThat(result.getNumber()).isEqualTo(12345L);
+  }
+
+  @Test
+  public void shouldEvaluateObjectVariable() {
+    // given
+    final var context = Map.of("customer", asMsgPack("{'address':{'zip':12345}}"));
+
+    // when
+    final var result = evaluateExpression("customer.address", context::get);
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.OBJECT);
+    assertThat(result.toBuffer()).isEqualTo(asMsgPack("{'zip':12345}"));
+  }
+
+  @Test
+  public void shouldEvaluateComparison() {
+    // given
+    final var context = Map.of("x", asMsgPack("7"), "status", asMsgPack("\"open\""));
+
+    // then
+    assertThat(evaluateExpression("x > 5", context::get).getBoolean()).isTrue();
+    assertThat(evaluateExpression("x <= 5", context::get).getBoolean()).isFalse();
+    assertThat(evaluateExpression("5 < x", context::get).getBoolean()).isTrue();
+    assertThat(evaluateExpression("x = 7.0", context::get).getBoolean()).isTrue();
+    assertThat(evaluateExpression("status = \"open\"", context::get).getBoolean()).isTrue();
+    assertThat(evaluateExpression("status != \"open\"", context::get).getBoolean()).isFalse();
+  }
+
+  @Test
+  public void shouldFallBackToFeelIfVariableIsMissing() {
+    // given
+    final var expression = expressionLanguage.parseExpression("=x");
+
+    // when
+    final var result = expressionLanguage.evaluateExpression(expression, EMPTY_CONTEXT);
+
+    // then
+    assertThat(result.isFailure()).isTrue();
+    assertThat(result.getFailureMessage())
+        .startsWith("failed to evaluate expression 'x': no variable found for name 'x'");
+  }
+
+  @Test
+  public void shouldFallBackToFeelIfVariableIsArray() {
+    // given
+    final var context = Map.of("items", asMsgPack("[1, 2.0]"));
+
+    // when
+    final var result = evaluateExpression("items", context::get);
+
+    // then
+    assertThat(result.getType()).isEqualTo(ResultType.ARRAY);
+    assertThat(result.getList()).containsExactly(asMsgPack("1"), asMsgPack("2"));
+  }
+
+  private EvaluationResult evaluateExpression(
+      final String expression, final EvaluationContext context) {
+    final var parsedExpression = expressionLanguage.parseExpression("=" + expression);
+    final var evaluationResult = expressionLanguage.evaluateExpression(parsedExpression, context);
+
+    assertThat(evaluationResult.isFailure())
+        .describedAs(evaluationResult.getFailureMessage())
+        .isFalse();
+
+    return evaluationResult;
+  }
+}
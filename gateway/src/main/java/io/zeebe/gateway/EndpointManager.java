@@ -9,7 +9,10 @@ package io.zeebe.gateway;
 
 import io.grpc.Status;
 import io.grpc.StatusRuntimeException;
+import io.grpc.protobuf.StatusProto;
 import io.zeebe.gateway.ResponseMapper.BrokerResponseMapper;
+import io.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
+import io.zeebe.gateway.grpc.GrpcErrorMapper;
 import io.zeebe.gateway.grpc.ServerStreamObserver;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.RequestRetryHandler;
@@ -23,8 +26,11 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
 import io.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo.Builder;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CommandResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultRequest;
@@ -37,6 +43,8 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.Partition;
 import io.zeebe.gateway.protocol.GatewayOuterClass.Partition.PartitionBrokerRole;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
@@ -50,11 +58,22 @@ import io.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
 import io.zeebe.util.VersionUtil;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 public final class EndpointManager {
 
+  /**
+   * The maximum number of commands of a batch call. Each command of a batch is sent to the broker
+   * concurrently, so the cap keeps a single call from flooding the brokers with requests.
+   */
+  public static final int MAX_BATCH_SIZE = 1000;
+
+  private static final GrpcErrorMapper ERROR_MAPPER = new GrpcErrorMapper();
+
   private final BrokerClient brokerClient;
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
@@ -130,6 +149,17 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    sendBatch(
+        "jobs",
+        request.getJobsList(),
+        RequestMapper::toCompleteJobRequest,
+        ResponseMapper::toCompleteJobsResponse,
+        responseObserver);
+  }
+
   public void createWorkflowInstance(
       final CreateWorkflowInstanceRequest request,
       final ServerStreamObserver<CreateWorkflowInstanceResponse> responseObserver) {
@@ -200,6 +230,17 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void publishMessages(
+      final PublishMessagesRequest request,
+      final ServerStreamObserver<PublishMessagesResponse> responseObserver) {
+    sendBatch(
+        "messages",
+        request.getMessagesList(),
+        RequestMapper::toPublishMessageRequest,
+        ResponseMapper::toPublishMessagesResponse,
+        responseObserver);
+  }
+
   public void resolveIncident(
       final ResolveIncidentRequest request,
       final ServerStreamObserver<ResolveIncidentResponse> responseObserver) {
@@ -334,6 +375,77 @@ public final class EndpointManager {
         timeout);
   }
 
+  /**
+   * Sends the requests of a batch concurrently, each to its own partition, and responds once all of
+   * them are completed. A failed request doesn't fail the batch, but is reported in its result. A
+   * batch with more than {@link #MAX_BATCH_SIZE} commands is rejected as a whole.
+   *
+   * <p>Batching only happens between the client and the gateway: each command is still sent as its
+   * own broker request and written as its own record. Grouping the commands of a partition into a
+   * single broker request would need the command API to answer one request with many responses,
+   * which it can't do yet.
+   */
+  private <GrpcRequestT, BrokerResponseT, GrpcResponseT> void sendBatch(
+      final String batchName,
+      final List<GrpcRequestT> grpcRequests,
+      final Function<GrpcRequestT, BrokerRequest<BrokerResponseT>> requestMapper,
+      final Function<List<CommandResult>, GrpcResponseT> responseMapper,
+      final ServerStreamObserver<GrpcResponseT> streamObserver) {
+    final int batchSize = grpcRequests.size();
+    if (batchSize > MAX_BATCH_SIZE) {
+      streamObserver.onError(
+          new InvalidBrokerRequestArgumentException(
+              batchName,
+              String.format("at most %d entries", MAX_BATCH_SIZE),
+              String.format("%d entries", batchSize)));
+      return;
+    }
+
+    if (batchSize == 0) {
+      streamObserver.onNext(responseMapper.apply(List.of()));
+      streamObserver.onCompleted();
+      return;
+    }
+
+    final CommandResult[] results = new CommandResult[batchSize];
+    final AtomicInteger pendingResults = new AtomicInteger(batchSize);
+
+    for (int i = 0; i < batchSize; i++) {
+      final int index = i;
+      final Consumer<CommandResult> resultConsumer =
+          result -> {
+            results[index] = result;
+            // the last decrement happens after all results are set
+            if (pendingResults.decrementAndGet() == 0) {
+              streamObserver.onNext(responseMapper.apply(Arrays.asList(results)));
+              streamObserver.onCompleted();
+            }
+          };
+
+      final BrokerRequest<BrokerResponseT> brokerRequest;
+      try {
+        brokerRequest = requestMapper.apply(grpcRequests.get(i));
+      } catch (final Exception e) {
+        resultConsumer.accept(toCommandResult(e));
+        continue;
+      }
+
+      brokerClient.sendRequestWithRetry(
+          brokerRequest,
+          (key, response) -> resultConsumer.accept(CommandResult.newBuilder().setKey(key).build()),
+          error -> resultConsumer.accept(toCommandResult(error)));
+    }
+  }
+
+  private static CommandResult toCommandResult(final Throwable error) {
+    final com.google.rpc.Status status =
+        StatusProto.fromThrowable(ERROR_MAPPER.mapError(error));
+    return CommandResult.newBuilder()
+        .setCode(status.getCode())
+        .setMessage(status.getMessage())
+        .build();
+  }
+
   private <BrokerResponseT, GrpcResponseT> void consumeResponse(
       final BrokerResponseMapper<BrokerResponseT, GrpcResponseT> responseMapper,
       final ServerStreamObserver<GrpcResponseT> streamObserver,
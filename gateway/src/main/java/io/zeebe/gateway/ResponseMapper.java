@@ -7,18 +7,20 @@
  */
 package io.zeebe.gateway;
 
-import static io.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CancelWorkflowInstanceResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CommandResult;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.CreateWorkflowInstanceWithResultResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.DeployWorkflowResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.FailJobResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.PublishMessagesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
@@ -34,6 +36,7 @@ import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceCrea
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceRecord;
 import io.zeebe.protocol.impl.record.value.workflowinstance.WorkflowInstanceResultRecord;
 import java.util.Iterator;
+import java.util.List;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
@@ -76,6 +79,15 @@ public final class ResponseMapper {
     return ThrowErrorResponse.getDefaultInstance();
   }
 
+  public static CompleteJobsResponse toCompleteJobsResponse(final List<CommandResult> results) {
+    return CompleteJobsResponse.newBuilder().addAllResults(results).build();
+  }
+
+  public static PublishMessagesResponse toPublishMessagesResponse(
+      final List<CommandResult> results) {
+    return PublishMessagesResponse.newBuilder().addAllResults(results).build();
+  }
+
   public static CompleteJobResponse toCompleteJobResponse(
       final long key, final JobRecord brokerResponse) {
     return CompleteJobResponse.getDefaultInstance();
@@ -151,7 +163,7 @@ public final class ResponseMapper {
   }
 
   private static String bufferAsJson(final DirectBuffer customHeaders) {
-    return MsgPackConverter.convertToJson(bufferAsArray(customHeaders));
+    return MsgPackConverter.convertToJson(customHeaders);
   }
 
   @FunctionalInterface
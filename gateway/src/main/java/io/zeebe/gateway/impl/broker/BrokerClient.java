@@ -10,8 +10,11 @@ package io.zeebe.gateway.impl.broker;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.protocol.impl.encoding.JobStreamPush;
+import io.zeebe.protocol.impl.encoding.JobStreamRequest;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 public interface BrokerClient extends AutoCloseable {
@@ -82,5 +85,29 @@ public interface BrokerClient extends AutoCloseable {
 
   BrokerTopologyManager getTopologyManager();
 
-  void subscribeJobAvailableNotification(String topic, Consumer<String> handler);
+  /**
+   * Subscribes to notifications which announce that jobs of a type are available on a specific
+   * partition.
+   *
+   * @param topic the topic of the notifications
+   * @param handler consumer that will be invoked with the partition id and the job type
+   */
+  void subscribePartitionJobAvailableNotification(
+      String topic, BiConsumer<Integer, String> handler);
+
+  /**
+   * Registers, updates or removes a job stream of this gateway with all brokers.
+   *
+   * @param topic the topic of the job stream requests
+   * @param request the job stream request
+   */
+  void sendJobStreamRequest(String topic, JobStreamRequest request);
+
+  /**
+   * Subscribes to the jobs which the brokers push to the job streams of this gateway.
+   *
+   * @param topic the topic of the pushed jobs
+   * @param handler consumer that will be invoked with the pushed jobs
+   */
+  void subscribeJobStreamPush(String topic, Consumer<JobStreamPush> handler);
 }
@@ -18,16 +18,22 @@ import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.impl.configuration.ClusterCfg;
 import io.zeebe.gateway.impl.configuration.GatewayCfg;
+import io.zeebe.protocol.impl.encoding.JobStreamPush;
+import io.zeebe.protocol.impl.encoding.JobStreamRequest;
 import io.zeebe.transport.impl.AtomixClientTransportAdapter;
 import io.zeebe.util.exception.UncheckedExecutionException;
 import io.zeebe.util.sched.ActorScheduler;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.slf4j.Logger;
 
 public final class BrokerClientImpl implements BrokerClient {
@@ -41,7 +47,8 @@ public final class BrokerClientImpl implements BrokerClient {
   private final boolean ownsActorScheduler;
   private final BrokerRequestManager requestManager;
   private boolean isClosed;
-  private Subscription jobAvailableSubscription;
+  private final List<Subscription> jobAvailableSubscriptions = new ArrayList<>();
+  private final List<String> jobStreamPushTopics = new ArrayList<>();
 
   public BrokerClientImpl(final GatewayCfg configuration, final AtomixCluster atomixCluster) {
     this(configuration, atomixCluster, null);
@@ -91,10 +98,7 @@ public final class BrokerClientImpl implements BrokerClient {
     actorScheduler.submitActor(atomixTransportAdapter);
     requestManager =
         new BrokerRequestManager(
-            atomixTransportAdapter,
-            topologyManager,
-            new RoundRobinDispatchStrategy(topologyManager),
-            clusterCfg.getRequestTimeout());
+            atomixTransportAdapter, topologyManager, clusterCfg.getRequestTimeout());
     actorScheduler.submitActor(requestManager);
   }
 
@@ -111,9 +115,10 @@ public final class BrokerClientImpl implements BrokerClient {
     doAndLogException(topologyManager::close);
     LOG.debug("topology manager closed");
 
-    if (jobAvailableSubscription != null) {
-      jobAvailableSubscription.close();
-    }
+    jobAvailableSubscriptions.forEach(Subscription::close);
+    jobAvailableSubscriptions.clear();
+    jobStreamPushTopics.forEach(atomixCluster.getCommunicationService()::unsubscribe);
+    jobStreamPushTopics.clear();
 
     if (ownsActorScheduler) {
       try {
@@ -175,18 +180,41 @@ public final class BrokerClientImpl implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobAvailableSubscription =
+  public void subscribePartitionJobAvailableNotification(
+      final String topic, final BiConsumer<Integer, String> handler) {
+    final Subscription subscription =
         atomixCluster
             .getEventService()
             .subscribe(
                 topic,
                 msg -> {
-                  handler.accept((String) msg);
+                  // the payload is [partitionId, jobType]
+                  final String[] notification = (String[]) msg;
+                  handler.accept(Integer.parseInt(notification[0]), notification[1]);
                   return CompletableFuture.completedFuture(null);
                 })
             .join();
+    jobAvailableSubscriptions.add(subscription);
+  }
+
+  @Override
+  public void sendJobStreamRequest(final String topic, final JobStreamRequest request) {
+    final byte[] bytes = new byte[request.getLength()];
+    request.write(new UnsafeBuffer(bytes), 0);
+    // include this member, which is also a broker if the gateway is embedded
+    atomixCluster.getCommunicationService().broadcastIncludeSelf(topic, bytes);
+  }
+
+  @Override
+  public void subscribeJobStreamPush(final String topic, final Consumer<JobStreamPush> handler) {
+    final Consumer<byte[]> pushHandler =
+        bytes -> {
+          final JobStreamPush push = new JobStreamPush();
+          push.wrap(new UnsafeBuffer(bytes));
+          handler.accept(push);
+        };
+    atomixCluster.getCommunicationService().subscribe(topic, pushHandler, Runnable::run).join();
+    jobStreamPushTopics.add(topic);
   }
 
   public <T> void sendRequestWithRetry(
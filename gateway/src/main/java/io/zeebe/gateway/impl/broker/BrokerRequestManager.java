@@ -17,8 +17,10 @@ import io.zeebe.gateway.cmd.PartitionNotFoundException;
 import io.zeebe.gateway.impl.ErrorResponseHandler;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManagerImpl;
+import io.zeebe.gateway.impl.broker.request.BrokerCreateWorkflowInstanceWithResultRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerPublishMessageRequest;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerError;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.gateway.metrics.GatewayMetrics;
 import io.zeebe.protocol.Protocol;
@@ -41,20 +43,24 @@ final class BrokerRequestManager extends Actor {
   private static final TransportRequestSender SENDER_WITH_RETRY =
       (c, s, r, t) -> c.sendRequestWithRetry(s, BrokerRequestManager::responseValidation, r, t);
   private static final TransportRequestSender SENDER_WITHOUT_RETRY = ClientTransport::sendRequest;
+  private static final String PARTITION_OVERLOADED_MESSAGE =
+      "Expected to send request to partition %d, but the partition is overloaded. "
+          + "Reached the estimated maximum of %d concurrent requests.";
   private final ClientTransport clientTransport;
   private final RequestDispatchStrategy dispatchStrategy;
   private final BrokerTopologyManagerImpl topologyManager;
   private final Duration requestTimeout;
+  private final PartitionRequestLimits requestLimits;
 
   BrokerRequestManager(
       final ClientTransport clientTransport,
       final BrokerTopologyManagerImpl topologyManager,
-      final RequestDispatchStrategy dispatchStrategy,
       final Duration requestTimeout) {
     this.clientTransport = clientTransport;
-    this.dispatchStrategy = dispatchStrategy;
     this.topologyManager = topologyManager;
     this.requestTimeout = requestTimeout;
+    requestLimits = new PartitionRequestLimits();
+    dispatchStrategy = new LoadAwareDispatchStrategy(topologyManager, requestLimits);
   }
 
   private static boolean responseValidation(final DirectBuffer responseContent) {
@@ -122,6 +128,18 @@ final class BrokerRequestManager extends Actor {
       return;
     }
 
+    final boolean isLimited = isLimited(request);
+    if (isLimited && !requestLimits.tryAcquire(request.getPartitionId())) {
+      final int partitionId = request.getPartitionId();
+      final String message =
+          String.format(
+              PARTITION_OVERLOADED_MESSAGE, partitionId, requestLimits.getLimit(partitionId));
+      returnFuture.completeExceptionally(
+          new BrokerErrorException(new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, message)));
+      GatewayMetrics.registerRejectedRequest(partitionId, request.getType());
+      return;
+    }
+
     final ActorFuture<DirectBuffer> responseFuture =
         sender.send(clientTransport, nodeIdProvider, request, requestTimeout);
     final long startTime = System.currentTimeMillis();
@@ -139,6 +157,9 @@ final class BrokerRequestManager extends Actor {
                 final long elapsedTime = System.currentTimeMillis() - startTime;
                 GatewayMetrics.registerSuccessfulRequest(
                     request.getPartitionId(), request.getType(), elapsedTime);
+                if (isLimited) {
+                  requestLimits.onResponse(request.getPartitionId(), elapsedTime);
+                }
                 return;
               }
             } else {
@@ -149,9 +170,35 @@ final class BrokerRequestManager extends Actor {
           }
 
           registerFailure(request, result, error);
+          if (isLimited) {
+            releaseLimit(request.getPartitionId(), result, error, startTime);
+          }
         });
   }
 
+  /**
+   * Requests which wait for the workflow instance to complete are not limited, since they are
+   * still inflight long after the broker processed the command.
+   */
+  private static boolean isLimited(final BrokerRequest<?> request) {
+    return (request.addressesSpecificPartition() || request.requiresPartitionId())
+        && !(request instanceof BrokerCreateWorkflowInstanceWithResultRequest);
+  }
+
+  private void releaseLimit(
+      final int partitionId,
+      final RequestResult result,
+      final Throwable error,
+      final long startTime) {
+    final boolean isResourceExhausted =
+        result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED;
+    if (isResourceExhausted || error instanceof TimeoutException) {
+      requestLimits.onOverload(partitionId, startTime);
+    } else {
+      requestLimits.onFailure(partitionId);
+    }
+  }
+
   private <T> void registerFailure(
       final BrokerRequest<T> request, final RequestResult result, final Throwable error) {
     if (result != null && result.getErrorCode() == ErrorCode.RESOURCE_EXHAUSTED) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Returns the partition with the lowest estimated load, skipping the partitions where there is no
+ * leader at the moment. The partitions are compared in round robin order, so that the requests are
+ * still spread evenly while all partitions are equally loaded.
+ */
+final class LoadAwareDispatchStrategy implements RequestDispatchStrategy {
+
+  private final BrokerTopologyManager topologyManager;
+  private final PartitionRequestLimits requestLimits;
+  private final AtomicInteger partitions = new AtomicInteger(0);
+
+  LoadAwareDispatchStrategy(
+      final BrokerTopologyManager topologyManager, final PartitionRequestLimits requestLimits) {
+    this.topologyManager = topologyManager;
+    this.requestLimits = requestLimits;
+  }
+
+  @Override
+  public int determinePartition() {
+    final BrokerClusterState topology = topologyManager.getTopology();
+    int selectedPartition = BrokerClusterState.PARTITION_ID_NULL;
+
+    if (topology != null) {
+      final int offset = partitions.getAndIncrement();
+      double lowestLoad = Double.MAX_VALUE;
+
+      for (int i = 0; i < topology.getPartitionsCount(); i++) {
+        final int partition = topology.getPartition(offset + i);
+        if (topology.getLeaderForPartition(partition) != BrokerClusterState.NODE_ID_NULL) {
+          final double load = requestLimits.getLoad(partition);
+          if (load < lowestLoad) {
+            lowestLoad = load;
+            selectedPartition = partition;
+          }
+        }
+      }
+    }
+
+    return selectedPartition;
+  }
+}
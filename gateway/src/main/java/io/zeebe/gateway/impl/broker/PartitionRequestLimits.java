@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import io.zeebe.gateway.metrics.GatewayMetrics;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Estimates how many concurrent requests each partition can handle, based on the latencies of its
+ * responses and on its brokers rejecting requests due to backpressure. The estimate grows
+ * additively with successful responses and shrinks multiplicatively, at most once per round-trip,
+ * when a broker signals backpressure or a request times out. Requests exceeding the estimate are
+ * rejected by the gateway instead of adding more load to an already saturated partition.
+ *
+ * <p>The limits must only be updated by the {@link BrokerRequestManager} actor, but the load can be
+ * read from any thread.
+ */
+final class PartitionRequestLimits {
+
+  static final int INITIAL_LIMIT = 1_000;
+  static final int MIN_LIMIT = 1;
+  private static final double BACKOFF_RATIO = 0.5;
+  private static final double LATENCY_SMOOTHING = 0.1;
+
+  private final Map<Integer, PartitionLimit> limits = new ConcurrentHashMap<>();
+
+  boolean tryAcquire(final int partitionId) {
+    final PartitionLimit partitionLimit = getPartitionLimit(partitionId);
+    if (partitionLimit.inflight >= (int) partitionLimit.limit) {
+      return false;
+    }
+
+    partitionLimit.inflight++;
+    return true;
+  }
+
+  void onResponse(final int partitionId, final long latencyMs) {
+    final PartitionLimit partitionLimit = getPartitionLimit(partitionId);
+    final double limit = partitionLimit.limit;
+
+    // only grow the limit if it is actually used, otherwise it grows unbounded when idle
+    if (partitionLimit.inflight >= limit / 2) {
+      setLimit(partitionId, partitionLimit, Math.min(INITIAL_LIMIT, limit + 1 / limit));
+    }
+
+    partitionLimit.latency =
+        partitionLimit.latency == 0
+            ? latencyMs
+            : partitionLimit.latency + LATENCY_SMOOTHING * (latencyMs - partitionLimit.latency);
+    partitionLimit.inflight--;
+  }
+
+  void onOverload(final int partitionId, final long requestStartTime) {
+    final PartitionLimit partitionLimit = getPartitionLimit(partitionId);
+
+    // all requests which were sent before the last decrease observed the same overload
+    if (requestStartTime > partitionLimit.lastDecreaseTime) {
+      partitionLimit.lastDecreaseTime = System.currentTimeMillis();
+      setLimit(
+          partitionId, partitionLimit, Math.max(MIN_LIMIT, partitionLimit.limit * BACKOFF_RATIO));
+    }
+    partitionLimit.inflight--;
+  }
+
+  void onFailure(final int partitionId) {
+    getPartitionLimit(partitionId).inflight--;
+  }
+
+  int getLimit(final int partitionId) {
+    return (int) getPartitionLimit(partitionId).limit;
+  }
+
+  /**
+   * @return the estimated time a new request has to wait for the partition, relative to the other
+   *     partitions; a partition without any observed latency is treated as having a latency of 1ms
+   */
+  double getLoad(final int partitionId) {
+    final PartitionLimit partitionLimit = limits.get(partitionId);
+    if (partitionLimit == null) {
+      return 0;
+    }
+
+    return (partitionLimit.inflight + 1)
+        * Math.max(1, partitionLimit.latency)
+        / partitionLimit.limit;
+  }
+
+  private void setLimit(
+      final int partitionId, final PartitionLimit partitionLimit, final double newLimit) {
+    partitionLimit.limit = newLimit;
+    GatewayMetrics.setPartitionRequestLimit(partitionId, (int) newLimit);
+  }
+
+  private PartitionLimit getPartitionLimit(final int partitionId) {
+    return limits.computeIfAbsent(partitionId, p -> new PartitionLimit());
+  }
+
+  private static final class PartitionLimit {
+    private volatile int inflight;
+    private volatile double limit = INITIAL_LIMIT;
+    private volatile double latency;
+    private long lastDecreaseTime;
+  }
+}
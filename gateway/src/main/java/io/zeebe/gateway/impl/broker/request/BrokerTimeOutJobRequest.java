@@ -0,0 +1,40 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker.request;
+
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobIntent;
+import org.agrona.DirectBuffer;
+
+/**
+ * Times out an activated job right away, such that it can be activated again. Used to give back
+ * jobs which were pushed to a job stream that can't take them anymore.
+ */
+public final class BrokerTimeOutJobRequest extends BrokerExecuteCommand<JobRecord> {
+
+  private final JobRecord requestDto = new JobRecord();
+
+  public BrokerTimeOutJobRequest(final long key, final JobRecord job) {
+    super(ValueType.JOB, JobIntent.TIME_OUT);
+    request.setKey(key);
+    requestDto.wrap(job);
+  }
+
+  @Override
+  public JobRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected JobRecord toResponseDto(final DirectBuffer buffer) {
+    final JobRecord responseDto = new JobRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+}
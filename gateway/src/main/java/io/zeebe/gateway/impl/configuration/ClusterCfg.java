@@ -13,6 +13,7 @@ import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CLUSTER_PORT;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_HOST;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_CONTACT_POINT_PORT;
+import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_FLUSH_CONSOLIDATION_ENABLED;
 import static io.zeebe.gateway.impl.configuration.ConfigurationDefaults.DEFAULT_REQUEST_TIMEOUT;
 
 import java.time.Duration;
@@ -27,6 +28,7 @@ public final class ClusterCfg {
   private String host = DEFAULT_CLUSTER_HOST;
   private int port = DEFAULT_CLUSTER_PORT;
   private MembershipCfg membership = new MembershipCfg();
+  private boolean flushConsolidationEnabled = DEFAULT_FLUSH_CONSOLIDATION_ENABLED;
 
   public String getMemberId() {
     return memberId;
@@ -90,9 +92,25 @@ public final class ClusterCfg {
     this.membership = membership;
   }
 
+  public boolean isFlushConsolidationEnabled() {
+    return flushConsolidationEnabled;
+  }
+
+  public ClusterCfg setFlushConsolidationEnabled(final boolean flushConsolidationEnabled) {
+    this.flushConsolidationEnabled = flushConsolidationEnabled;
+    return this;
+  }
+
   @Override
   public int hashCode() {
-    return Objects.hash(contactPoint, requestTimeout, clusterName, memberId, host, port);
+    return Objects.hash(
+        contactPoint,
+        requestTimeout,
+        clusterName,
+        memberId,
+        host,
+        port,
+        flushConsolidationEnabled);
   }
 
   @Override
@@ -105,6 +123,7 @@ public final class ClusterCfg {
     }
     final ClusterCfg that = (ClusterCfg) o;
     return port == that.port
+        && flushConsolidationEnabled == that.flushConsolidationEnabled
         && Objects.equals(contactPoint, that.contactPoint)
         && Objects.equals(requestTimeout, that.requestTimeout)
         && Objects.equals(clusterName, that.clusterName)
@@ -131,6 +150,8 @@ public final class ClusterCfg {
         + '\''
         + ", port="
         + port
+        + ", flushConsolidationEnabled="
+        + flushConsolidationEnabled
         + '}';
   }
 }
@@ -84,6 +84,10 @@ public final class InFlightLongPollingActivateJobsRequestsState {
     removeObsoleteRequestsAndUpdateMetrics();
   }
 
+  public boolean isPendingRequest(final LongPollingActivateJobsRequest request) {
+    return pendingRequests.contains(request);
+  }
+
   public LongPollingActivateJobsRequest getNextPendingRequest() {
     removeObsoleteRequestsAndUpdateMetrics();
     final LongPollingActivateJobsRequest request = pendingRequests.poll();
@@ -7,35 +7,56 @@
  */
 package io.zeebe.gateway.impl.job;
 
+import static io.zeebe.util.buffer.BufferUtil.bufferAsString;
 import static io.zeebe.util.sched.clock.ActorClock.currentTimeMillis;
 
 import com.google.rpc.Code;
 import com.google.rpc.Status;
 import io.grpc.protobuf.StatusProto;
 import io.zeebe.gateway.Loggers;
+import io.zeebe.gateway.ResponseMapper;
 import io.zeebe.gateway.grpc.ServerStreamObserver;
 import io.zeebe.gateway.impl.broker.BrokerClient;
 import io.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
+import io.zeebe.gateway.impl.broker.request.BrokerTimeOutJobRequest;
 import io.zeebe.gateway.metrics.LongPollingMetrics;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.msgpack.value.LongValue;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.encoding.JobStreamPush;
+import io.zeebe.protocol.impl.encoding.JobStreamRequest;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.zeebe.protocol.record.RecordType;
 import io.zeebe.util.sched.Actor;
 import io.zeebe.util.sched.ScheduledTimer;
 import io.zeebe.util.sched.clock.ActorClock;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
 
 /**
  * Adds long polling to the handling of activate job requests. When there are no jobs available to
  * activate, the response will be kept open.
+ *
+ * <p>While a request is kept open, a job stream is registered for it with the brokers. The
+ * brokers activate new jobs of its type on behalf of the stream and push them to this gateway,
+ * without waiting for the request to poll the partitions again.
  */
 public final class LongPollingActivateJobsHandler extends Actor implements ActivateJobsHandler {
 
-  private static final String JOBS_AVAILABLE_TOPIC = "jobsAvailable";
+  private static final String PARTITION_JOBS_AVAILABLE_TOPIC = "partitionJobsAvailable";
+  private static final String JOB_STREAMS_TOPIC = "jobStreams";
+  private static final String JOB_STREAM_PUSH_TOPIC = "jobStreamPush";
+  private static final int NO_PARTITION = -1;
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
   private static final String ERROR_MSG_ACTIVATED_EXHAUSTED =
       "Expected to activate jobs of type '%s', but no jobs available and at least one broker returned 'RESOURCE_EXHAUSTED'. Please try again later.";
@@ -46,11 +67,14 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   // jobType -> state
   private final Map<String, InFlightLongPollingActivateJobsRequestsState> jobTypeState =
       new HashMap<>();
+  // streamId -> request
+  private final Map<Long, LongPollingActivateJobsRequest> jobStreams = new HashMap<>();
   private final Duration longPollingTimeout;
   private final long probeTimeoutMillis;
   private final int failedAttemptThreshold;
 
   private final LongPollingMetrics metrics;
+  private long nextStreamId;
 
   private LongPollingActivateJobsHandler(
       final BrokerClient brokerClient,
@@ -72,7 +96,9 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
 
   @Override
   protected void onActorStarted() {
-    brokerClient.subscribeJobAvailableNotification(JOBS_AVAILABLE_TOPIC, this::onNotification);
+    brokerClient.subscribePartitionJobAvailableNotification(
+        PARTITION_JOBS_AVAILABLE_TOPIC, this::onNotification);
+    brokerClient.subscribeJobStreamPush(JOB_STREAM_PUSH_TOPIC, this::onJobStreamPush);
     actor.runAtFixedRate(Duration.ofMillis(probeTimeoutMillis), this::probe);
   }
 
@@ -86,13 +112,18 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   }
 
   public void activateJobs(final LongPollingActivateJobsRequest request) {
+    activateJobs(request, NO_PARTITION);
+  }
+
+  private void activateJobs(
+      final LongPollingActivateJobsRequest request, final int startPartitionId) {
     actor.run(
         () -> {
           final InFlightLongPollingActivateJobsRequestsState state =
               getJobTypeState(request.getType());
 
           if (state.getFailedAttempts() < failedAttemptThreshold) {
-            activateJobsUnchecked(state, request);
+            activateJobsUnchecked(state, request, startPartitionId);
           } else {
             completeOrEnqueueRequest(state, request);
           }
@@ -107,27 +138,53 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
   private void activateJobsUnchecked(
       final InFlightLongPollingActivateJobsRequestsState state,
       final LongPollingActivateJobsRequest request) {
+    activateJobsUnchecked(state, request, NO_PARTITION);
+  }
+
+  private void activateJobsUnchecked(
+      final InFlightLongPollingActivateJobsRequestsState state,
+      final LongPollingActivateJobsRequest request,
+      final int startPartitionId) {
 
     final BrokerClusterState topology = brokerClient.getTopologyManager().getTopology();
     if (topology != null) {
       state.addActiveRequest(request);
 
       final int partitionsCount = topology.getPartitionsCount();
-      activateJobsHandler.activateJobs(
-          partitionsCount,
-          request.getRequest(),
-          request.getMaxJobsToActivate(),
-          request.getType(),
-          response -> onResponse(request, response),
+      final Consumer<ActivateJobsResponse> onResponse = response -> onResponse(request, response);
+      final BiConsumer<Integer, Boolean> onCompleted =
           (remainingAmount, containedResourceExhaustedResponse) ->
-              onCompleted(state, request, remainingAmount, containedResourceExhaustedResponse));
+              onCompleted(state, request, remainingAmount, containedResourceExhaustedResponse);
+
+      if (startPartitionId == NO_PARTITION) {
+        activateJobsHandler.activateJobs(
+            partitionsCount,
+            request.getRequest(),
+            request.getMaxJobsToActivate(),
+            request.getType(),
+            onResponse,
+            onCompleted);
+      } else {
+        // start with the partition which has the jobs to avoid empty activations on the others
+        activateJobsHandler.activateJobs(
+            partitionsCount,
+            startPartitionId,
+            request.getRequest(),
+            request.getMaxJobsToActivate(),
+            request.getType(),
+            onResponse,
+            onCompleted);
+      }
     }
   }
 
-  private void onNotification(final String jobType) {
-    LOG.trace("Received jobs available notification for type {}.", jobType);
+  private void onNotification(final int partitionId, final String jobType) {
+    LOG.trace(
+        "Received jobs available notification for type {} on partition {}.",
+        jobType,
+        partitionId);
 
-    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType));
+    actor.run(() -> resetFailedAttemptsAndHandlePendingRequests(jobType, partitionId));
   }
 
   private void onCompleted(
@@ -150,6 +207,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
                       .build();
 
               request.getResponseObserver().onError(StatusProto.toStatusException(status));
+              closeJobStream(request);
             });
       } else {
         actor.submit(
@@ -171,7 +229,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           () -> {
             request.complete();
             state.removeActiveRequest(request);
-            resetFailedAttemptsAndHandlePendingRequests(request.getType());
+            closeJobStream(request);
+            resetFailedAttemptsAndHandlePendingRequests(request.getType(), NO_PARTITION);
           });
     }
   }
@@ -182,7 +241,8 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
     actor.submit(() -> request.onResponse(activateJobsResponse));
   }
 
-  private void resetFailedAttemptsAndHandlePendingRequests(final String jobType) {
+  private void resetFailedAttemptsAndHandlePendingRequests(
+      final String jobType, final int startPartitionId) {
     final InFlightLongPollingActivateJobsRequestsState state = getJobTypeState(jobType);
 
     state.resetFailedAttempts();
@@ -194,7 +254,7 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
           .forEach(
               nextPendingRequest -> {
                 LOG.trace("Unblocking ActivateJobsRequest {}", nextPendingRequest.getRequest());
-                activateJobs(nextPendingRequest);
+                activateJobs(nextPendingRequest, startPartitionId);
               });
     } else {
       if (!state.hasActiveRequests()) {
@@ -222,6 +282,9 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
       if (!request.hasScheduledTimer()) {
         addTimeOut(state, request);
       }
+      if (!request.hasStream()) {
+        openJobStream(request);
+      }
     }
   }
 
@@ -241,10 +304,116 @@ public final class LongPollingActivateJobsHandler extends Actor implements Activ
                   requestTimeout);
               state.removeRequest(request);
               request.timeout();
+              closeJobStream(request);
             });
     request.setScheduledTimer(timeout);
   }
 
+  private void openJobStream(final LongPollingActivateJobsRequest request) {
+    final long streamId = nextStreamId++;
+    request.setStreamId(streamId);
+    jobStreams.put(streamId, request);
+    sendJobStreamRequest(request, request.getMaxJobsToActivate());
+  }
+
+  private void closeJobStream(final LongPollingActivateJobsRequest request) {
+    if (request.hasStream()) {
+      jobStreams.remove(request.getStreamId());
+      sendJobStreamRequest(request, 0);
+      request.clearStream();
+    }
+  }
+
+  private void sendJobStreamRequest(
+      final LongPollingActivateJobsRequest request, final int credits) {
+    final JobStreamRequest streamRequest =
+        new JobStreamRequest()
+            .setStreamId(request.getStreamId())
+            .setJobBatch(request.getRequest().getRequestWriter());
+    streamRequest.getJobBatch().setMaxJobsToActivate(credits);
+
+    brokerClient.sendJobStreamRequest(JOB_STREAMS_TOPIC, streamRequest);
+  }
+
+  private void onJobStreamPush(final JobStreamPush push) {
+    final long streamId = push.getStreamId();
+    final ExecuteCommandResponse response = new ExecuteCommandResponse();
+    final DirectBuffer responseBuffer = push.getResponse();
+    response.wrap(responseBuffer, 0, responseBuffer.capacity());
+
+    if (response.getRecordType() != RecordType.EVENT) {
+      LOG.debug(
+          "Expected to receive activated jobs for stream {}, but the activation was rejected: {}",
+          streamId,
+          bufferAsString(response.getRejectionReason()));
+      // don't register the stream again, the request falls back to polling
+      actor.run(() -> onJobStreamRejected(streamId));
+      return;
+    }
+
+    final JobBatchRecord jobBatch = new JobBatchRecord();
+    jobBatch.wrap(response.getValue());
+    actor.run(() -> onJobsPushed(streamId, response.getKey(), jobBatch));
+  }
+
+  private void onJobStreamRejected(final long streamId) {
+    final LongPollingActivateJobsRequest request = jobStreams.get(streamId);
+    if (request != null) {
+      closeJobStream(request);
+    }
+  }
+
+  private void onJobsPushed(final long streamId, final long key, final JobBatchRecord jobBatch) {
+    final LongPollingActivateJobsRequest request = jobStreams.get(streamId);
+    final ActivateJobsResponse grpcResponse = ResponseMapper.toActivateJobsResponse(key, jobBatch);
+    final int jobsCount = grpcResponse.getJobsCount();
+
+    if (request == null) {
+      // the request was completed in the meantime
+      yieldJobs(jobBatch);
+      return;
+    }
+
+    final InFlightLongPollingActivateJobsRequestsState state =
+        getJobTypeState(request.getType());
+    if (request.isCanceled()) {
+      yieldJobs(jobBatch);
+      closeJobStream(request);
+    } else if (jobsCount == 0 || !state.isPendingRequest(request)) {
+      // the jobs were taken by someone else or the request polls for jobs right now
+      yieldJobs(jobBatch);
+      sendJobStreamRequest(request, request.getMaxJobsToActivate());
+    } else {
+      LOG.trace("Received {} pushed jobs for stream {}", jobsCount, streamId);
+      state.removeRequest(request);
+      request.onResponse(grpcResponse);
+      request.complete();
+      closeJobStream(request);
+
+      if (jobsCount == request.getMaxJobsToActivate()) {
+        // there may be more jobs available for the other pending requests
+        resetFailedAttemptsAndHandlePendingRequests(request.getType(), NO_PARTITION);
+      }
+    }
+  }
+
+  private void yieldJobs(final JobBatchRecord jobBatch) {
+    final Iterator<LongValue> jobKeys = jobBatch.jobKeys().iterator();
+    final Iterator<JobRecord> jobs = jobBatch.jobs().iterator();
+
+    while (jobKeys.hasNext() && jobs.hasNext()) {
+      final long jobKey = jobKeys.next().getValue();
+      brokerClient
+          .sendRequest(new BrokerTimeOutJobRequest(jobKey, jobs.next()))
+          .whenComplete(
+              (response, error) -> {
+                if (error != null) {
+                  LOG.debug("Failed to yield pushed job {}", jobKey, error);
+                }
+              });
+    }
+  }
+
   private void probe() {
     final long now = currentTimeMillis();
     jobTypeState.forEach(
@@ -20,6 +20,7 @@ import org.slf4j.Logger;
 public final class LongPollingActivateJobsRequest {
 
   private static final Logger LOG = Loggers.GATEWAY_LOGGER;
+  private static final long NO_STREAM = -1;
   private final BrokerActivateJobsRequest request;
   private final ServerStreamObserver<ActivateJobsResponse> responseObserver;
   private final String jobType;
@@ -30,6 +31,7 @@ public final class LongPollingActivateJobsRequest {
   private ScheduledTimer scheduledTimer;
   private boolean isTimedOut;
   private boolean isCompleted;
+  private long streamId = NO_STREAM;
 
   public LongPollingActivateJobsRequest(
       final ActivateJobsRequest request,
@@ -139,4 +141,20 @@ public final class LongPollingActivateJobsRequest {
   public boolean isLongPollingDisabled() {
     return longPollingTimeout != null && longPollingTimeout.isNegative();
   }
+
+  public long getStreamId() {
+    return streamId;
+  }
+
+  public void setStreamId(final long streamId) {
+    this.streamId = streamId;
+  }
+
+  public boolean hasStream() {
+    return streamId != NO_STREAM;
+  }
+
+  public void clearStream() {
+    streamId = NO_STREAM;
+  }
 }
@@ -76,6 +76,27 @@ public final class RoundRobinActivateJobsHandler implements ActivateJobsHandler
         onCompleted);
   }
 
+  /**
+   * Activates jobs starting with the given partition, e.g. a partition which notified that jobs
+   * are available. The remaining partitions are polled afterwards, as usual.
+   */
+  public void activateJobs(
+      final int partitionsCount,
+      final int startPartitionId,
+      final BrokerActivateJobsRequest request,
+      final int maxJobsToActivate,
+      final String type,
+      final Consumer<ActivateJobsResponse> onResponse,
+      final BiConsumer<Integer, Boolean> onCompleted) {
+    activateJobs(
+        request,
+        new PartitionIdIterator(startPartitionId, partitionsCount, topologyManager),
+        maxJobsToActivate,
+        type,
+        onResponse,
+        onCompleted);
+  }
+
   private void activateJobs(
       final BrokerActivateJobsRequest request,
       final PartitionIdIterator partitionIdIterator,
@@ -8,6 +8,7 @@
 package io.zeebe.gateway.metrics;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 
 public final class GatewayMetrics {
@@ -36,6 +37,22 @@ public final class GatewayMetrics {
           .labelNames("partition", "requestType")
           .register();
 
+  private static final Counter REJECTED_REQUESTS =
+      Counter.build()
+          .namespace("zeebe")
+          .name("gateway_rejected_requests")
+          .help("Number of requests rejected by the gateway because the partition is overloaded")
+          .labelNames("partition", "requestType")
+          .register();
+
+  private static final Gauge PARTITION_REQUEST_LIMIT =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("gateway_partition_request_limit")
+          .help("Estimated maximum of concurrent requests the gateway sends to a partition")
+          .labelNames("partition")
+          .register();
+
   private GatewayMetrics() {}
 
   public static void registerSuccessfulRequest(
@@ -49,4 +66,12 @@ public final class GatewayMetrics {
     FAILED_REQUESTS.labels(Long.toString(partition), requestType, error).inc();
     TOTAL_REQUESTS.labels(Long.toString(partition), requestType).inc();
   }
+
+  public static void registerRejectedRequest(final long partition, final String requestType) {
+    REJECTED_REQUESTS.labels(Long.toString(partition), requestType).inc();
+  }
+
+  public static void setPartitionRequestLimit(final long partition, final int limit) {
+    PARTITION_REQUEST_LIMIT.labels(Long.toString(partition)).set(limit);
+  }
 }
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.api.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.google.rpc.Code;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.zeebe.gateway.EndpointManager;
+import io.zeebe.gateway.api.util.GatewayTest;
+import io.zeebe.gateway.api.util.StubbedBrokerClient.RequestHandler;
+import io.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.zeebe.gateway.impl.broker.response.BrokerError;
+import io.zeebe.gateway.impl.broker.response.BrokerErrorResponse;
+import io.zeebe.gateway.impl.broker.response.BrokerResponse;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CommandResult;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
+import io.zeebe.protocol.record.ErrorCode;
+import org.junit.Test;
+
+public final class CompleteJobsTest extends GatewayTest {
+
+  @Test
+  public void shouldCompleteAllJobs() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(2))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CommandResult::getCode, CommandResult::getKey)
+        .containsExactly(tuple(Code.OK_VALUE, 1L), tuple(Code.OK_VALUE, 2L));
+  }
+
+  @Test
+  public void shouldReportFailedCompletionIndividually() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    final RequestHandler<BrokerCompleteJobRequest, BrokerResponse<?>> handler =
+        brokerRequest -> {
+          if (brokerRequest.getKey() == 2) {
+            return new BrokerErrorResponse<>(
+                new BrokerError(ErrorCode.RESOURCE_EXHAUSTED, "backpressure"));
+          }
+          return stub.handle(brokerRequest);
+        };
+    brokerClient.registerHandler(BrokerCompleteJobRequest.class, handler);
+
+    final CompleteJobsRequest request =
+        CompleteJobsRequest.newBuilder()
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(1))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(2))
+            .addJobs(CompleteJobRequest.newBuilder().setJobKey(3))
+            .build();
+
+    // when
+    final CompleteJobsResponse response = client.completeJobs(request);
+
+    // then
+    assertThat(response.getResultsList())
+        .extracting(CommandResult::getCode)
+        .containsExactly(Code.OK_VALUE, Code.RESOURCE_EXHAUSTED_VALUE, Code.OK_VALUE);
+    assertThat(response.getResults(1).getMessage()).isEqualTo("backpressure");
+  }
+
+  @Test
+  public void shouldRespondToEmptyBatch() {
+    // when
+    final CompleteJobsResponse response =
+        client.completeJobs(CompleteJobsRequest.getDefaultInstance());
+
+    // then
+    assertThat(response.getResultsList()).isEmpty();
+  }
+
+  @Test
+  public void shouldRejectBatchExceedingMaxSize() {
+    // given
+    final CompleteJobStub stub = new CompleteJobStub();
+    stub.registerWith(brokerClient);
+
+    final CompleteJobsRequest.Builder request = CompleteJobsRequest.newBuilder();
+    for (int i = 0; i <= EndpointManager.MAX_BATCH_SIZE; i++) {
+      request.addJobs(CompleteJobRequest.newBuilder().setJobKey(i));
+    }
+
+    // when - then
+    assertThatThrownBy(() -> client.completeJobs(request.build()))
+        .isInstanceOf(StatusRuntimeException.class)
+        .extracting(error -> ((StatusRuntimeException) error).getStatus().getCode())
+        .isEqualTo(Status.Code.INVALID_ARGUMENT);
+  }
+}
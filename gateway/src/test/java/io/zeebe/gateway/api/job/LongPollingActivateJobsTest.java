@@ -30,16 +30,26 @@ import io.zeebe.gateway.impl.job.LongPollingActivateJobsHandler;
 import io.zeebe.gateway.impl.job.LongPollingActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.ExecuteCommandResponse;
+import io.zeebe.protocol.impl.encoding.JobStreamPush;
+import io.zeebe.protocol.impl.encoding.JobStreamRequest;
 import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
 import io.zeebe.protocol.record.ErrorCode;
+import io.zeebe.protocol.record.RecordType;
+import io.zeebe.protocol.record.ValueType;
+import io.zeebe.protocol.record.intent.JobBatchIntent;
 import io.zeebe.util.sched.clock.ControlledActorClock;
 import io.zeebe.util.sched.testing.ActorSchedulerRule;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -108,6 +118,32 @@ public final class LongPollingActivateJobsTest {
     verify(responseSpy, timeout(1000).times(1)).onCompleted();
   }
 
+  @Test
+  public void shouldActivateJobsOnNotifiedPartitionFirst() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    final List<Integer> requestedPartitions = new CopyOnWriteArrayList<>();
+    brokerClient.registerHandler(
+        BrokerActivateJobsRequest.class,
+        (RequestHandler<BrokerActivateJobsRequest, BrokerResponse<JobBatchRecord>>)
+            brokerRequest -> {
+              requestedPartitions.add(brokerRequest.getPartitionId());
+              return stub.handle(brokerRequest);
+            });
+
+    handler.activateJobs(request);
+    waitUntil(request::hasScheduledTimer);
+    requestedPartitions.clear();
+
+    // when
+    stub.addAvailableJobs(TYPE, request.getMaxJobsToActivate());
+    brokerClient.notifyJobsAvailable(TYPE, 3);
+
+    // then
+    waitUntil(request::isCompleted);
+    assertThat(requestedPartitions).containsExactly(3);
+  }
+
   @Test
   public void shouldBlockOnlyAfterForwardingUntilThreshold() throws Exception {
     // when
@@ -510,6 +546,61 @@ public final class LongPollingActivateJobsTest {
     assertThat(response.getJobsList()).hasSize(10);
   }
 
+  @Test
+  public void shouldRegisterJobStreamForBlockedRequest() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+
+    // when
+    handler.activateJobs(request);
+
+    // then
+    waitUntil(() -> !brokerClient.getJobStreamRequests().isEmpty());
+    final JobStreamRequest streamRequest = brokerClient.getJobStreamRequests().get(0);
+    assertThat(streamRequest.getJobBatch().getType()).isEqualTo(TYPE);
+    assertThat(streamRequest.getCredits()).isEqualTo(request.getMaxJobsToActivate());
+  }
+
+  @Test
+  public void shouldCompleteRequestWithPushedJobs() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> !brokerClient.getJobStreamRequests().isEmpty());
+    final long streamId = brokerClient.getJobStreamRequests().get(0).getStreamId();
+
+    // when
+    brokerClient.pushJobs(newJobStreamPush(streamId, request.getMaxJobsToActivate()));
+
+    // then
+    final ArgumentCaptor<ActivateJobsResponse> responseCaptor =
+        ArgumentCaptor.forClass(ActivateJobsResponse.class);
+    verify(request.getResponseObserver(), timeout(1000).times(1)).onNext(responseCaptor.capture());
+    verify(request.getResponseObserver(), timeout(1000).times(1)).onCompleted();
+    assertThat(responseCaptor.getValue().getJobsList()).hasSize(request.getMaxJobsToActivate());
+
+    waitUntil(() -> brokerClient.getJobStreamRequests().size() == 2);
+    final JobStreamRequest closeRequest = brokerClient.getJobStreamRequests().get(1);
+    assertThat(closeRequest.getStreamId()).isEqualTo(streamId);
+    assertThat(closeRequest.getCredits()).isZero();
+  }
+
+  @Test
+  public void shouldCloseJobStreamAfterRequestTimeout() {
+    // given
+    final LongPollingActivateJobsRequest request = getLongPollingActivateJobsRequest();
+    handler.activateJobs(request);
+    waitUntil(() -> !brokerClient.getJobStreamRequests().isEmpty());
+
+    // when
+    actorClock.addTime(Duration.ofMillis(LONG_POLLING_TIMEOUT));
+    waitUntil(request::isTimedOut);
+
+    // then
+    waitUntil(() -> brokerClient.getJobStreamRequests().size() == 2);
+    assertThat(brokerClient.getJobStreamRequests().get(1).getCredits()).isZero();
+  }
+
   private List<LongPollingActivateJobsRequest> activateJobsAndWaitUntilBlocked(final int amount) {
     return IntStream.range(0, amount)
         .boxed()
@@ -538,4 +629,35 @@ public final class LongPollingActivateJobsTest {
 
     return new LongPollingActivateJobsRequest(request, responseSpy);
   }
+
+  private JobStreamPush newJobStreamPush(final long streamId, final int amount) {
+    final JobBatchRecord jobBatch = new JobBatchRecord();
+    jobBatch.setType(TYPE).setMaxJobsToActivate(amount);
+    LongStream.range(0, amount)
+        .forEach(
+            key -> {
+              jobBatch.jobKeys().add().setValue(Protocol.encodePartitionId(1, key));
+              jobBatch
+                  .jobs()
+                  .add()
+                  .setType(TYPE)
+                  .setCustomHeaders(ActivateJobsStub.CUSTOM_HEADERS_MSGPACK)
+                  .setVariables(ActivateJobsStub.VARIABLES_MSGPACK);
+            });
+    final UnsafeBuffer value = new UnsafeBuffer(new byte[jobBatch.getLength()]);
+    jobBatch.write(value, 0);
+
+    final ExecuteCommandResponse response =
+        new ExecuteCommandResponse()
+            .setPartitionId(1)
+            .setKey(Protocol.encodePartitionId(1, ActivateJobsStub.JOB_BATCH_KEY))
+            .setRecordType(RecordType.EVENT)
+            .setValueType(ValueType.JOB_BATCH)
+            .setIntent(JobBatchIntent.ACTIVATED)
+            .setValue(value, 0, value.capacity());
+    final UnsafeBuffer responseBuffer = new UnsafeBuffer(new byte[response.getLength()]);
+    response.write(responseBuffer, 0);
+
+    return new JobStreamPush().setStreamId(streamId).setResponse(responseBuffer);
+  }
 }
@@ -19,23 +19,31 @@ import io.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
 import io.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.zeebe.protocol.Protocol;
+import io.zeebe.protocol.impl.encoding.JobStreamPush;
+import io.zeebe.protocol.impl.encoding.JobStreamRequest;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
+import org.agrona.concurrent.UnsafeBuffer;
 
 public final class StubbedBrokerClient implements BrokerClient {
 
   final BrokerTopologyManager topologyManager = new StubbedTopologyManager();
-  private Consumer<String> jobsAvailableHandler;
+  private BiConsumer<Integer, String> partitionJobsAvailableHandler;
+  private Consumer<JobStreamPush> jobStreamPushHandler;
 
   private final Map<Class<?>, RequestHandler> requestHandlers = new HashMap<>();
 
   private final List<BrokerRequest> brokerRequests = new ArrayList<>();
 
+  private final List<JobStreamRequest> jobStreamRequests = new CopyOnWriteArrayList<>();
+
   public StubbedBrokerClient() {}
 
   @Override
@@ -105,9 +113,23 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   @Override
-  public void subscribeJobAvailableNotification(
-      final String topic, final Consumer<String> handler) {
-    jobsAvailableHandler = handler;
+  public void subscribePartitionJobAvailableNotification(
+      final String topic, final BiConsumer<Integer, String> handler) {
+    partitionJobsAvailableHandler = handler;
+  }
+
+  @Override
+  public void sendJobStreamRequest(final String topic, final JobStreamRequest request) {
+    final var buffer = new UnsafeBuffer(new byte[request.getLength()]);
+    request.write(buffer, 0);
+    final JobStreamRequest copy = new JobStreamRequest();
+    copy.wrap(buffer);
+    jobStreamRequests.add(copy);
+  }
+
+  @Override
+  public void subscribeJobStreamPush(final String topic, final Consumer<JobStreamPush> handler) {
+    jobStreamPushHandler = handler;
   }
 
   public <RequestT extends BrokerRequest<?>, ResponseT extends BrokerResponse<?>>
@@ -117,7 +139,19 @@ public final class StubbedBrokerClient implements BrokerClient {
   }
 
   public void notifyJobsAvailable(final String type) {
-    jobsAvailableHandler.accept(type);
+    notifyJobsAvailable(type, Protocol.START_PARTITION_ID);
+  }
+
+  public void notifyJobsAvailable(final String type, final int partitionId) {
+    partitionJobsAvailableHandler.accept(partitionId, type);
+  }
+
+  public void pushJobs(final JobStreamPush push) {
+    jobStreamPushHandler.accept(push);
+  }
+
+  public List<JobStreamRequest> getJobStreamRequests() {
+    return jobStreamRequests;
   }
 
   public <T extends BrokerRequest<?>> T getSingleBrokerRequest() {
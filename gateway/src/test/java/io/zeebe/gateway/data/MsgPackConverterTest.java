@@ -139,6 +139,88 @@ public final class MsgPackConverterTest {
     MsgPackConverter.convertToMsgPack("}");
   }
 
+  @Test
+  public void shouldConvertNestedDocumentToMsgPack() {
+    // given
+    final String json =
+        "{\"a\":[1,-2,3.5,\"x\",true,false,null],\"b\":{\"c\":{}},\"d\":[]}";
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // then
+    final byte[] expected =
+        MsgPackUtil.encodeMsgPack(
+                b ->
+                    b.packMapHeader(3)
+                        .packString("a")
+                        .packArrayHeader(7)
+                        .packInt(1)
+                        .packInt(-2)
+                        .packFloat(3.5f)
+                        .packString("x")
+                        .packBoolean(true)
+                        .packBoolean(false)
+                        .packNil()
+                        .packString("b")
+                        .packMapHeader(1)
+                        .packString("c")
+                        .packMapHeader(0)
+                        .packString("d")
+                        .packArrayHeader(0))
+            .byteArray();
+    assertThat(msgPack).isEqualTo(expected);
+  }
+
+  @Test
+  public void shouldConvertLargeDocumentToMsgPack() {
+    // given
+    final StringBuilder json = new StringBuilder("{");
+    for (int i = 0; i < 20; i++) {
+      json.append(i > 0 ? "," : "").append("\"key").append(i).append("\":\"");
+      json.append("v".repeat(40)).append("\"");
+    }
+    json.append("}");
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json.toString());
+
+    // then
+    assertThat(MsgPackConverter.convertToJson(msgPack)).isEqualTo(json.toString());
+  }
+
+  @Test
+  public void shouldConvertEscapedAndUnicodeStrings() {
+    // given
+    final String json = "{\"k\\\"ey\":\"line\\nbreak \\u0001 \\\\ \u00e4\u20ac\ud83d\ude00\"}";
+
+    // when
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // then
+    final byte[] expected =
+        MsgPackUtil.encodeMsgPack(
+                b ->
+                    b.packMapHeader(1)
+                        .packString("k\"ey")
+                        .packString("line\nbreak \u0001 \\ \u00e4\u20ac\ud83d\ude00"))
+            .byteArray();
+    assertThat(msgPack).isEqualTo(expected);
+    assertThat(MsgPackConverter.convertToJson(msgPack)).isEqualTo(json);
+  }
+
+  @Test
+  public void shouldConvertFloatsFromMsgPackToJsonString() {
+    // when
+    final String json =
+        MsgPackConverter.convertToJson(
+            MsgPackUtil.encodeMsgPack(b -> b.packArrayHeader(2).packFloat(0.1f).packDouble(0.1))
+                .byteArray());
+
+    // then
+    assertThat(json).isEqualTo("[0.1,0.1]");
+  }
+
   private static byte[] createMsgPack() {
     byte[] msgPack = null;
 
@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.gateway.impl.broker;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public final class PartitionRequestLimitsTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private final PartitionRequestLimits requestLimits = new PartitionRequestLimits();
+
+  @Test
+  public void shouldRejectRequestsAboveLimit() {
+    // given
+    IntStream.range(0, PartitionRequestLimits.INITIAL_LIMIT)
+        .forEach(i -> assertThat(requestLimits.tryAcquire(PARTITION_ID)).isTrue());
+
+    // then
+    assertThat(requestLimits.tryAcquire(PARTITION_ID)).isFalse();
+    assertThat(requestLimits.tryAcquire(PARTITION_ID + 1)).isTrue();
+  }
+
+  @Test
+  public void shouldDecreaseLimitOnOverload() {
+    // given
+    requestLimits.tryAcquire(PARTITION_ID);
+
+    // when
+    requestLimits.onOverload(PARTITION_ID, System.currentTimeMillis());
+
+    // then
+    assertThat(requestLimits.getLimit(PARTITION_ID))
+        .isEqualTo(PartitionRequestLimits.INITIAL_LIMIT / 2);
+  }
+
+  @Test
+  public void shouldDecreaseLimitOncePerRoundTrip() {
+    // given
+    final long startTime = System.currentTimeMillis();
+    requestLimits.tryAcquire(PARTITION_ID);
+    requestLimits.tryAcquire(PARTITION_ID);
+
+    // when
+    requestLimits.onOverload(PARTITION_ID, startTime);
+    requestLimits.onOverload(PARTITION_ID, startTime);
+
+    // then
+    assertThat(requestLimits.getLimit(PARTITION_ID))
+        .isEqualTo(PartitionRequestLimits.INITIAL_LIMIT / 2);
+  }
+
+  @Test
+  public void shouldNotDecreaseLimitBelowMinimum() {
+    // when
+    for (int i = 0; i < 20; i++) {
+      requestLimits.tryAcquire(PARTITION_ID);
+      requestLimits.onOverload(PARTITION_ID, Long.MAX_VALUE);
+    }
+
+    // then
+    assertThat(requestLimits.getLimit(PARTITION_ID)).isEqualTo(PartitionRequestLimits.MIN_LIMIT);
+    assertThat(requestLimits.tryAcquire(PARTITION_ID)).isTrue();
+    assertThat(requestLimits.tryAcquire(PARTITION_ID)).isFalse();
+  }
+
+  @Test
+  public void shouldIncreaseLimitWhenUsed() {
+    // given
+    for (int i = 0; i < 20; i++) {
+      requestLimits.tryAcquire(PARTITION_ID);
+      requestLimits.onOverload(PARTITION_ID, Long.MAX_VALUE);
+    }
+    requestLimits.tryAcquire(PARTITION_ID);
+
+    // when
+    requestLimits.onResponse(PARTITION_ID, 1);
+
+    // then
+    assertThat(requestLimits.getLimit(PARTITION_ID))
+        .isGreaterThan(PartitionRequestLimits.MIN_LIMIT);
+  }
+
+  @Test
+  public void shouldEstimateHigherLoadForSlowerPartition() {
+    // given
+    requestLimits.tryAcquire(PARTITION_ID);
+    requestLimits.onResponse(PARTITION_ID, 50);
+    requestLimits.tryAcquire(PARTITION_ID + 1);
+    requestLimits.onResponse(PARTITION_ID + 1, 5);
+
+    // then
+    assertThat(requestLimits.getLoad(PARTITION_ID))
+        .isGreaterThan(requestLimits.getLoad(PARTITION_ID + 1));
+  }
+}
@@ -39,7 +39,8 @@ public final class GatewayCfgTest {
         .setClusterName("testCluster")
         .setMemberId("testMember")
         .setHost("1.2.3.4")
-        .setPort(12321);
+        .setPort(12321)
+        .setFlushConsolidationEnabled(true);
     CUSTOM_CFG
         .getSecurity()
         .setEnabled(true)
@@ -150,6 +151,7 @@ public final class GatewayCfgTest {
     setEnv("zeebe.gateway.cluster.memberId", "envMember");
     setEnv("zeebe.gateway.cluster.host", "envHost");
     setEnv("zeebe.gateway.cluster.port", "12345");
+    setEnv("zeebe.gateway.cluster.flushConsolidationEnabled", "false");
     setEnv("zeebe.gateway.monitoring.enabled", "true");
     setEnv("zeebe.gateway.monitoring.host", "monitorHost");
     setEnv("zeebe.gateway.monitoring.port", "231");
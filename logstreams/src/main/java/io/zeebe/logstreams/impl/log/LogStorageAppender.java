@@ -43,6 +43,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
       Map.of("vegas", new AppenderVegasCfg(), "gradient2", new AppenderGradient2Cfg());
 
   private final String name;
+  private final int partitionId;
   private final Subscription writeBufferSubscription;
   private final int maxAppendBlockSize;
   private final LogStorage logStorage;
@@ -66,6 +67,7 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     this.commitPositionListener = commitPositionListener;
     env = new Environment();
     this.name = name;
+    this.partitionId = partitionId;
     this.logStorage = logStorage;
     this.writeBufferSubscription = writeBufferSubscription;
     maxAppendBlockSize = maxBlockSize;
@@ -135,6 +137,11 @@ public class LogStorageAppender extends Actor implements HealthMonitorable {
     return name;
   }
 
+  @Override
+  public int getAffinity() {
+    return partitionId;
+  }
+
   @Override
   protected void onActorStarting() {
     actor.consume(writeBufferSubscription, this::onWriteBufferAvailable);
@@ -94,6 +94,11 @@ public final class LogStreamImpl extends Actor implements LogStream, FailureList
     return partitionId;
   }
 
+  @Override
+  public int getAffinity() {
+    return partitionId;
+  }
+
   @Override
   public String getLogName() {
     return logName;
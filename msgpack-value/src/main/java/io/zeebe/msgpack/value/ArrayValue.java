@@ -93,16 +93,12 @@ public final class ArrayValue<T extends BaseValue> extends BaseValue
 
     elementCount = reader.readArrayHeader();
 
-    writer.wrap(buffer, 0);
+    // the elements are only decoded when they are accessed - copy them without decoding
+    final int offset = reader.getOffset();
+    reader.skipValues(elementCount);
+    bufferLength = reader.getOffset() - offset;
 
-    for (int i = 0; i < elementCount; i++) {
-      innerValue.read(reader);
-      innerValue.write(writer);
-    }
-
-    resetInnerValue();
-
-    bufferLength = writer.getOffset();
+    buffer.putBytes(0, reader.getBuffer(), offset, bufferLength);
   }
 
   @Override
@@ -214,7 +210,9 @@ public final class ArrayValue<T extends BaseValue> extends BaseValue
 
     innerValueState = InnerValueState.Modify;
     innerValue.read(reader);
-    oldInnerValueLength = innerValue.getEncodedLength();
+    // the encoded element may differ from the element written by the inner value, e.g. if it
+    // omits properties with default values
+    oldInnerValueLength = reader.getOffset() - cursorOffset;
   }
 
   private void flushAndResetInnerValue() {
@@ -14,19 +14,89 @@ import io.zeebe.msgpack.spec.MsgPackWriter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import org.agrona.DirectBuffer;
 
 public class ObjectValue extends BaseValue {
+  private static final int INITIAL_LOOKUP_TABLE_SIZE = 16;
+  private static final int EMPTY_SLOT = 0;
+
   private final List<BaseProperty<? extends BaseValue>> declaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> undeclaredProperties = new ArrayList<>();
   private final List<UndeclaredProperty> recycledProperties = new ArrayList<>();
 
   private final StringValue decodedKey = new StringValue();
 
+  // open addressing table of the declared properties by key; a slot contains the index of the
+  // property + 1, or EMPTY_SLOT
+  private int[] propertyLookupTable = new int[INITIAL_LOOKUP_TABLE_SIZE];
+
   public ObjectValue declareProperty(final BaseProperty<? extends BaseValue> prop) {
     declaredProperties.add(prop);
+
+    // keep the load factor at most 0.5 to have short probe sequences
+    if (declaredProperties.size() * 2 > propertyLookupTable.length) {
+      propertyLookupTable = new int[propertyLookupTable.length * 2];
+      for (int i = 0; i < declaredProperties.size(); i++) {
+        insertIntoLookupTable(i);
+      }
+    } else {
+      insertIntoLookupTable(declaredProperties.size() - 1);
+    }
+
     return this;
   }
 
+  private void insertIntoLookupTable(final int propertyIndex) {
+    final StringValue key = declaredProperties.get(propertyIndex).getKey();
+    final int mask = propertyLookupTable.length - 1;
+
+    int slot = lookupHash(key) & mask;
+    while (propertyLookupTable[slot] != EMPTY_SLOT) {
+      slot = (slot + 1) & mask;
+    }
+    propertyLookupTable[slot] = propertyIndex + 1;
+  }
+
+  /**
+   * @return the index of the declared property with the given key, or -1 if no property is
+   *     declared with this key
+   */
+  private int findDeclaredProperty(final StringValue key, final int expectedIndex) {
+    // fast path: the properties are usually encoded in the order of their declaration
+    if (expectedIndex < declaredProperties.size()
+        && declaredProperties.get(expectedIndex).getKey().equals(key)) {
+      return expectedIndex;
+    }
+
+    final int mask = propertyLookupTable.length - 1;
+    int slot = lookupHash(key) & mask;
+    int entry;
+    while ((entry = propertyLookupTable[slot]) != EMPTY_SLOT) {
+      final int propertyIndex = entry - 1;
+      if (declaredProperties.get(propertyIndex).getKey().equals(key)) {
+        return propertyIndex;
+      }
+      slot = (slot + 1) & mask;
+    }
+
+    return -1;
+  }
+
+  /**
+   * A cheap hash which doesn't read the whole key - the length and the first and last bytes
+   * distinguish most property names. Collisions are resolved by comparing the keys.
+   */
+  private static int lookupHash(final StringValue key) {
+    final int length = key.getLength();
+    if (length == 0) {
+      return 0;
+    }
+
+    final DirectBuffer bytes = key.getValue();
+    final int hash = (length * 31 + bytes.getByte(0)) * 31 + bytes.getByte(length - 1);
+    return hash ^ (hash >>> 16);
+  }
+
   @Override
   public void reset() {
     for (int i = 0; i < declaredProperties.size(); ++i) {
@@ -86,23 +156,18 @@ public class ObjectValue extends BaseValue {
   @Override
   public void read(final MsgPackReader reader) {
     final int mapSize = reader.readMapHeader();
+    int expectedPropertyIndex = 0;
 
     for (int i = 0; i < mapSize; ++i) {
       decodedKey.read(reader);
 
-      BaseProperty<? extends BaseValue> prop = null;
-
-      for (int k = 0; k < declaredProperties.size(); ++k) {
-        final BaseProperty<?> declaredProperty = declaredProperties.get(k);
-        final StringValue declaredKey = declaredProperty.getKey();
-
-        if (declaredKey.equals(decodedKey)) {
-          prop = declaredProperty;
-          break;
-        }
-      }
+      final BaseProperty<? extends BaseValue> prop;
+      final int propertyIndex = findDeclaredProperty(decodedKey, expectedPropertyIndex);
 
-      if (prop == null) {
+      if (propertyIndex >= 0) {
+        prop = declaredProperties.get(propertyIndex);
+        expectedPropertyIndex = propertyIndex + 1;
+      } else {
         prop = newUndeclaredProperty(decodedKey);
       }
 
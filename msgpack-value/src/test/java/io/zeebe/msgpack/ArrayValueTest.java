@@ -17,6 +17,7 @@ import io.zeebe.msgpack.value.BaseValue;
 import io.zeebe.msgpack.value.IntegerValue;
 import io.zeebe.msgpack.value.StringValue;
 import io.zeebe.util.buffer.BufferUtil;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
@@ -194,6 +195,37 @@ public final class ArrayValueTest {
     assertIntValues(array);
   }
 
+  @Test
+  public void shouldRemoveValueAfterReadingNonCanonicalEncoding() {
+    // given
+    decode(array, encodeAsInt64(1, 2, 3));
+
+    // when
+    final Iterator<IntegerValue> iterator = array.iterator();
+    iterator.next();
+    iterator.next();
+    iterator.remove();
+
+    // then
+    encodeAndDecode(array);
+    assertIntValues(array, 1, 3);
+  }
+
+  @Test
+  public void shouldUpdateValueAfterReadingNonCanonicalEncoding() {
+    // given
+    decode(array, encodeAsInt64(1, 2, 3));
+
+    // when
+    final Iterator<IntegerValue> iterator = array.iterator();
+    iterator.next();
+    iterator.next().setValue(4);
+
+    // then
+    encodeAndDecode(array);
+    assertIntValues(array, 1, 4, 3);
+  }
+
   @Test
   public void shouldNotInvalidElementOnRemove() {
     // given
@@ -403,6 +435,21 @@ public final class ArrayValueTest {
     assertThat(values).containsExactly(expected);
   }
 
+  protected DirectBuffer encodeAsInt64(final long... values) {
+    // writes every value as int64 instead of the shortest representation
+    final MutableDirectBuffer buffer = new UnsafeBuffer(new byte[1 + values.length * 9]);
+    buffer.putByte(0, (byte) (0x90 | values.length));
+
+    int offset = 1;
+    for (final long value : values) {
+      buffer.putByte(offset, (byte) 0xd3);
+      buffer.putLong(offset + 1, value, ByteOrder.BIG_ENDIAN);
+      offset += 9;
+    }
+
+    return buffer;
+  }
+
   protected void encodeAndDecode(final BaseValue value) {
     final DirectBuffer buffer = encode(value);
     decode(value, buffer);
@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.msgpack;
+
+import static io.zeebe.msgpack.MsgPackUtil.asMap;
+import static io.zeebe.msgpack.MsgPackUtil.encodeMsgPack;
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.zeebe.msgpack.property.LongProperty;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class ObjectValuePropertyLookupTest {
+
+  // more keys than the initial lookup table can hold, with the same length, first and last byte
+  private static final List<String> KEYS = new ArrayList<>();
+
+  static {
+    for (char c = 'a'; c <= 't'; c++) {
+      KEYS.add("key" + c + "X");
+    }
+  }
+
+  @Test
+  public void shouldReadPropertiesInDeclarationOrder() {
+    // given
+    final ManyPropertiesPOJO pojo = new ManyPropertiesPOJO();
+
+    // when
+    pojo.wrap(encode(KEYS));
+
+    // then
+    assertValues(pojo);
+  }
+
+  @Test
+  public void shouldReadPropertiesInReversedOrder() {
+    // given
+    final ManyPropertiesPOJO pojo = new ManyPropertiesPOJO();
+    final List<String> keys = new ArrayList<>(KEYS);
+    Collections.reverse(keys);
+
+    // when
+    pojo.wrap(encode(keys));
+
+    // then
+    assertValues(pojo);
+  }
+
+  @Test
+  public void shouldReadPropertiesInShuffledOrder() {
+    // given
+    final ManyPropertiesPOJO pojo = new ManyPropertiesPOJO();
+    final List<String> keys = new ArrayList<>(KEYS);
+    Collections.rotate(keys, 7);
+    Collections.swap(keys, 2, 15);
+
+    // when
+    pojo.wrap(encode(keys));
+
+    // then
+    assertValues(pojo);
+  }
+
+  @Test
+  public void shouldReadUndeclaredPropertyWithCollidingKey() {
+    // given
+    final ManyPropertiesPOJO pojo = new ManyPropertiesPOJO();
+    final List<String> keys = new ArrayList<>(KEYS);
+    keys.add(10, "keyzX");
+
+    // when
+    pojo.wrap(encode(keys));
+
+    // then
+    assertValues(pojo);
+
+    final UnsafeBuffer buffer = new UnsafeBuffer(new byte[pojo.getLength()]);
+    pojo.write(buffer, 0);
+    assertThat(asMap(buffer)).contains(entry("keyzX", (long) "keyzX".hashCode()));
+  }
+
+  private static DirectBuffer encode(final List<String> keys) {
+    return encodeMsgPack(
+        (w) -> {
+          w.writeMapHeader(keys.size());
+          for (final String key : keys) {
+            w.writeString(wrapString(key));
+            w.writeInteger(key.hashCode());
+          }
+        });
+  }
+
+  private static void assertValues(final ManyPropertiesPOJO pojo) {
+    for (int i = 0; i < KEYS.size(); i++) {
+      assertThat(pojo.properties.get(i).getValue()).isEqualTo((long) KEYS.get(i).hashCode());
+    }
+  }
+
+  private static final class ManyPropertiesPOJO extends UnpackedObject {
+    private final List<LongProperty> properties = new ArrayList<>();
+
+    ManyPropertiesPOJO() {
+      for (final String key : KEYS) {
+        final LongProperty property = new LongProperty(key);
+        properties.add(property);
+        declareProperty(property);
+      }
+    }
+  }
+}
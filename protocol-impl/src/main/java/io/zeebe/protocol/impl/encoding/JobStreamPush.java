@@ -0,0 +1,45 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.BinaryProperty;
+import io.zeebe.msgpack.property.LongProperty;
+import org.agrona.DirectBuffer;
+
+/**
+ * Pushes the response of a job batch activation, which a broker wrote on behalf of a job stream,
+ * to the gateway of the stream. The response is an encoded {@link ExecuteCommandResponse}.
+ */
+public final class JobStreamPush extends UnpackedObject {
+
+  private final LongProperty streamIdProp = new LongProperty("streamId");
+  private final BinaryProperty responseProp = new BinaryProperty("response");
+
+  public JobStreamPush() {
+    declareProperty(streamIdProp).declareProperty(responseProp);
+  }
+
+  public long getStreamId() {
+    return streamIdProp.getValue();
+  }
+
+  public JobStreamPush setStreamId(final long streamId) {
+    streamIdProp.setValue(streamId);
+    return this;
+  }
+
+  public DirectBuffer getResponse() {
+    return responseProp.getValue();
+  }
+
+  public JobStreamPush setResponse(final DirectBuffer response) {
+    responseProp.setValue(response);
+    return this;
+  }
+}
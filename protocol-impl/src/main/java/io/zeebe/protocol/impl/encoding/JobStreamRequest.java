@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import io.zeebe.msgpack.UnpackedObject;
+import io.zeebe.msgpack.property.LongProperty;
+import io.zeebe.msgpack.property.ObjectProperty;
+import io.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * Registers, updates or removes a job stream of a gateway. The job batch holds the type, worker,
+ * timeout and variables of the jobs to activate on behalf of the stream. Its {@code
+ * maxJobsToActivate} are the credits of the stream; a stream without credits is removed.
+ */
+public final class JobStreamRequest extends UnpackedObject {
+
+  private final LongProperty streamIdProp = new LongProperty("streamId");
+  private final ObjectProperty<JobBatchRecord> jobBatchProp =
+      new ObjectProperty<>("jobBatch", new JobBatchRecord());
+
+  public JobStreamRequest() {
+    declareProperty(streamIdProp).declareProperty(jobBatchProp);
+  }
+
+  public long getStreamId() {
+    return streamIdProp.getValue();
+  }
+
+  public JobStreamRequest setStreamId(final long streamId) {
+    streamIdProp.setValue(streamId);
+    return this;
+  }
+
+  public JobBatchRecord getJobBatch() {
+    return jobBatchProp.getValue();
+  }
+
+  public JobStreamRequest setJobBatch(final JobBatchRecord jobBatch) {
+    final var buffer = new UnsafeBuffer(new byte[jobBatch.getLength()]);
+    jobBatch.write(buffer, 0);
+    jobBatchProp.getValue().wrap(buffer);
+    return this;
+  }
+
+  public int getCredits() {
+    return getJobBatch().getMaxJobsToActivate();
+  }
+}
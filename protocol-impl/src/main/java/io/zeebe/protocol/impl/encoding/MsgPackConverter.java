@@ -7,36 +7,26 @@
  */
 package io.zeebe.protocol.impl.encoding;
 
-import static io.zeebe.util.StringUtil.getBytes;
-
-import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
-import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonParser.Feature;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.MappingJsonFactory;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.zeebe.protocol.record.JsonSerializable;
 import io.zeebe.util.buffer.BufferUtil;
 import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
-import java.nio.charset.Charset;
-import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
 import org.msgpack.jackson.dataformat.MessagePackFactory;
 
 public final class MsgPackConverter {
 
-  private static final JsonEncoding JSON_ENCODING = JsonEncoding.UTF8;
-  private static final Charset JSON_CHARSET = StandardCharsets.UTF_8;
   private static final TypeReference<HashMap<String, Object>> OBJECT_MAP_TYPE_REFERENCE =
       new TypeReference<>() {};
   private static final TypeReference<HashMap<String, String>> STRING_MAP_TYPE_REFERENCE =
@@ -58,6 +48,10 @@ public final class MsgPackConverter {
   private static final ObjectMapper MESSSAGE_PACK_OBJECT_MAPPER =
       new ObjectMapper(MESSAGE_PACK_FACTORY);
 
+  // the transcoders reuse their buffers, so every thread gets its own one
+  private static final ThreadLocal<MsgPackJsonTranscoder> TRANSCODER =
+      ThreadLocal.withInitial(MsgPackJsonTranscoder::new);
+
   // prevent instantiation
   private MsgPackConverter() {}
 
@@ -66,16 +60,16 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static byte[] convertToMsgPack(final String json) {
-    final byte[] jsonBytes = getBytes(json, JSON_CHARSET);
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(jsonBytes);
-    return convertToMsgPack(inputStream);
+    try (final JsonParser parser = JSON_FACTORY.createParser(json)) {
+      return TRANSCODER.get().convertToMsgPack(parser);
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert JSON to MessagePack", e);
+    }
   }
 
   public static byte[] convertToMsgPack(final InputStream inputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(inputStream, outputStream, JSON_FACTORY, MESSAGE_PACK_FACTORY);
-
-      return outputStream.toByteArray();
+    try (final JsonParser parser = JSON_FACTORY.createParser(inputStream)) {
+      return TRANSCODER.get().convertToMsgPack(parser);
     } catch (final Exception e) {
       throw new RuntimeException("Failed to convert JSON to MessagePack", e);
     }
@@ -86,58 +80,30 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    try {
+      return TRANSCODER.get().convertToJson(buffer, 0, buffer.capacity());
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
   }
 
   public static String convertToJson(final byte[] msgPack) {
-    return convertToJson(new ByteArrayInputStream(msgPack));
-  }
-
-  private static String convertToJson(final InputStream msgPackInputStream) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPackInputStream);
-    return new String(jsonBytes, JSON_CHARSET);
+    return convertToJson(new UnsafeBuffer(msgPack));
   }
 
   public static InputStream convertToJsonInputStream(final byte[] msgPack) {
-    final byte[] jsonBytes = convertToJsonBytes(msgPack);
+    final byte[] jsonBytes = convertToJsonBytes(new UnsafeBuffer(msgPack));
     return new ByteArrayInputStream(jsonBytes);
   }
 
-  private static byte[] convertToJsonBytes(final byte[] msgPack) {
-    final InputStream inputStream = new ByteArrayInputStream(msgPack);
-    return convertToJsonBytes(inputStream);
-  }
-
-  private static byte[] convertToJsonBytes(final InputStream msgPackInputStream) {
-    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-      convert(msgPackInputStream, outputStream, MESSAGE_PACK_FACTORY, JSON_FACTORY);
-
-      return outputStream.toByteArray();
+  private static byte[] convertToJsonBytes(final DirectBuffer buffer) {
+    try {
+      return TRANSCODER.get().convertToJsonBytes(buffer, 0, buffer.capacity());
     } catch (final Exception e) {
       throw new RuntimeException("Failed to convert MessagePack to JSON", e);
     }
   }
 
-  private static void convert(
-      final InputStream in,
-      final OutputStream out,
-      final JsonFactory inFormat,
-      final JsonFactory outFormat)
-      throws Exception {
-    try (final JsonParser parser = inFormat.createParser(in);
-        final JsonGenerator generator = outFormat.createGenerator(out, JSON_ENCODING)) {
-
-      final JsonToken token = parser.nextToken();
-      if (!token.isStructStart() && !token.isScalarValue()) {
-        throw new RuntimeException(
-            "Document does not begin with an object, an array, or a scalar value");
-      }
-
-      generator.copyCurrentStructure(parser);
-      generator.flush();
-    }
-  }
-
   ////////////////////////////////////////////////////////////////////////////////////////////////
   ///////////////////////////////////// MSGPACK to MAP ///////////////////////////////////////////
   ////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,418 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.protocol.impl.encoding;
+
+import static io.zeebe.msgpack.spec.MsgPackCodes.FLOAT32;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import io.zeebe.msgpack.spec.MsgPackReader;
+import io.zeebe.msgpack.spec.MsgPackToken;
+import io.zeebe.msgpack.spec.MsgPackWriter;
+import io.zeebe.msgpack.spec.MsgpackException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+
+/**
+ * Transcodes between JSON and MessagePack without an intermediate object model. The JSON side is
+ * tokenized by a Jackson streaming parser and the MessagePack side is written and read with {@link
+ * MsgPackWriter} and {@link MsgPackReader}. The output is written into a buffer which is reused
+ * between conversions, so an instance must not be shared between threads.
+ */
+final class MsgPackJsonTranscoder {
+
+  // the size of a map32 or array32 header, which is reserved if the size is not known yet
+  private static final int RESERVED_HEADER_LENGTH = 5;
+  // don't keep buffers of huge documents around
+  private static final int MAX_RETAINED_BUFFER_CAPACITY = 1024 * 1024;
+  private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+
+  private final MsgPackWriter writer = new MsgPackWriter();
+  private final MsgPackReader reader = new MsgPackReader();
+  private ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+  private int jsonLength;
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// JSON to MSGPACK //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  byte[] convertToMsgPack(final JsonParser parser) throws IOException {
+    final JsonToken token = parser.nextToken();
+    if (token == null || (!token.isStructStart() && !token.isScalarValue())) {
+      throw new IllegalArgumentException(
+          "Document does not begin with an object, an array, or a scalar value");
+    }
+
+    writer.wrap(buffer, 0);
+    writeValue(parser, token);
+
+    return copyAndRelease(writer.getOffset());
+  }
+
+  private void writeValue(final JsonParser parser, final JsonToken token) throws IOException {
+    switch (token) {
+      case START_OBJECT:
+        writeObject(parser);
+        break;
+      case START_ARRAY:
+        writeArray(parser);
+        break;
+      case VALUE_STRING:
+        writeString(parser);
+        break;
+      case VALUE_NUMBER_INT:
+        writeInteger(parser);
+        break;
+      case VALUE_NUMBER_FLOAT:
+        writer.writeFloat(parser.getDoubleValue());
+        break;
+      case VALUE_TRUE:
+        writer.writeBoolean(true);
+        break;
+      case VALUE_FALSE:
+        writer.writeBoolean(false);
+        break;
+      case VALUE_NULL:
+        writer.writeNil();
+        break;
+      default:
+        throw new IllegalArgumentException(String.format("Unexpected JSON token '%s'", token));
+    }
+  }
+
+  private void writeObject(final JsonParser parser) throws IOException {
+    final int headerOffset = reserveHeader();
+
+    int size = 0;
+    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+      writeString(parser);
+      writeValue(parser, parser.nextToken());
+      size += 1;
+    }
+
+    final int contentOffset = headerOffset + RESERVED_HEADER_LENGTH;
+    final int contentLength = writer.getOffset() - contentOffset;
+    final int headerLength = MsgPackWriter.getEncodedMapHeaderLenght(size);
+
+    moveContent(contentOffset, contentLength, headerOffset + headerLength);
+    writer.wrap(buffer, headerOffset);
+    writer.writeMapHeader(size);
+    writer.wrap(buffer, headerOffset + headerLength + contentLength);
+  }
+
+  private void writeArray(final JsonParser parser) throws IOException {
+    final int headerOffset = reserveHeader();
+
+    int size = 0;
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+      writeValue(parser, token);
+      size += 1;
+    }
+
+    final int contentOffset = headerOffset + RESERVED_HEADER_LENGTH;
+    final int contentLength = writer.getOffset() - contentOffset;
+    final int headerLength = MsgPackWriter.getEncodedArrayHeaderLenght(size);
+
+    moveContent(contentOffset, contentLength, headerOffset + headerLength);
+    writer.wrap(buffer, headerOffset);
+    writer.writeArrayHeader(size);
+    writer.wrap(buffer, headerOffset + headerLength + contentLength);
+  }
+
+  private int reserveHeader() {
+    // the size is only known after the content is written, so the largest header is reserved and
+    // the content is moved to the front afterwards if a shorter header is sufficient
+    final int headerOffset = writer.getOffset();
+    writer.wrap(buffer, headerOffset + RESERVED_HEADER_LENGTH);
+    return headerOffset;
+  }
+
+  private void moveContent(final int fromOffset, final int length, final int toOffset) {
+    if (fromOffset != toOffset && length > 0) {
+      buffer.putBytes(toOffset, buffer, fromOffset, length);
+    }
+  }
+
+  private void writeInteger(final JsonParser parser) throws IOException {
+    final JsonParser.NumberType numberType = parser.getNumberType();
+    if (numberType == JsonParser.NumberType.BIG_INTEGER) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected an integer between %d and %d, but was %s",
+              Long.MIN_VALUE, Long.MAX_VALUE, parser.getText()));
+    }
+
+    writer.writeInteger(parser.getLongValue());
+  }
+
+  private void writeString(final JsonParser parser) throws IOException {
+    final char[] chars = parser.getTextCharacters();
+    final int offset = parser.getTextOffset();
+    final int limit = offset + parser.getTextLength();
+
+    writer.writeStringHeader(getUtf8Length(chars, offset, limit));
+
+    int position = writer.getOffset();
+    for (int i = offset; i < limit; i++) {
+      final char c = chars[i];
+
+      if (c < 0x80) {
+        buffer.putByte(position++, (byte) c);
+      } else if (c < 0x800) {
+        buffer.putByte(position++, (byte) (0xc0 | (c >> 6)));
+        buffer.putByte(position++, (byte) (0x80 | (c & 0x3f)));
+      } else if (Character.isSurrogate(c)) {
+        if (isSurrogatePair(chars, i, limit)) {
+          final int codePoint = Character.toCodePoint(c, chars[++i]);
+          buffer.putByte(position++, (byte) (0xf0 | (codePoint >> 18)));
+          buffer.putByte(position++, (byte) (0x80 | ((codePoint >> 12) & 0x3f)));
+          buffer.putByte(position++, (byte) (0x80 | ((codePoint >> 6) & 0x3f)));
+          buffer.putByte(position++, (byte) (0x80 | (codePoint & 0x3f)));
+        } else {
+          // like String#getBytes, replace a malformed surrogate
+          buffer.putByte(position++, (byte) '?');
+        }
+      } else {
+        buffer.putByte(position++, (byte) (0xe0 | (c >> 12)));
+        buffer.putByte(position++, (byte) (0x80 | ((c >> 6) & 0x3f)));
+        buffer.putByte(position++, (byte) (0x80 | (c & 0x3f)));
+      }
+    }
+
+    writer.wrap(buffer, position);
+  }
+
+  private static int getUtf8Length(final char[] chars, final int offset, final int limit) {
+    int length = 0;
+    for (int i = offset; i < limit; i++) {
+      final char c = chars[i];
+
+      if (c < 0x80) {
+        length += 1;
+      } else if (c < 0x800) {
+        length += 2;
+      } else if (Character.isSurrogate(c)) {
+        if (isSurrogatePair(chars, i, limit)) {
+          length += 4;
+          i += 1;
+        } else {
+          length += 1;
+        }
+      } else {
+        length += 3;
+      }
+    }
+    return length;
+  }
+
+  private static boolean isSurrogatePair(final char[] chars, final int index, final int limit) {
+    return Character.isHighSurrogate(chars[index])
+        && index + 1 < limit
+        && Character.isLowSurrogate(chars[index + 1]);
+  }
+
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+  ///////////////////////////////////// MSGPACK to JSON //////////////////////////////////////////
+  ////////////////////////////////////////////////////////////////////////////////////////////////
+
+  String convertToJson(final DirectBuffer msgPack, final int offset, final int length) {
+    convertToJsonBuffer(msgPack, offset, length);
+
+    final String json = new String(buffer.byteArray(), 0, jsonLength, StandardCharsets.UTF_8);
+    releaseBuffer();
+    return json;
+  }
+
+  byte[] convertToJsonBytes(final DirectBuffer msgPack, final int offset, final int length) {
+    convertToJsonBuffer(msgPack, offset, length);
+    return copyAndRelease(jsonLength);
+  }
+
+  private void convertToJsonBuffer(final DirectBuffer msgPack, final int offset, final int length) {
+    reader.wrap(msgPack, offset, length);
+    jsonLength = 0;
+
+    if (!reader.hasNext()) {
+      throw new MsgpackException("Expected a MessagePack value, but the document is empty");
+    }
+
+    writeJsonValue();
+  }
+
+  private void writeJsonValue() {
+    final boolean isFloat32 = reader.getBuffer().getByte(reader.getOffset()) == FLOAT32;
+    final MsgPackToken token = reader.readToken();
+
+    switch (token.getType()) {
+      case MAP:
+        writeJsonObject(token.getSize());
+        break;
+      case ARRAY:
+        writeJsonArray(token.getSize());
+        break;
+      case STRING:
+        writeJsonString(token.getValueBuffer());
+        break;
+      case INTEGER:
+        jsonLength += buffer.putLongAscii(jsonLength, token.getIntegerValue());
+        break;
+      case FLOAT:
+        writeJsonFloat(token.getFloatValue(), isFloat32);
+        break;
+      case BOOLEAN:
+        writeBytes(token.getBooleanValue() ? TRUE : FALSE);
+        break;
+      case NIL:
+        writeBytes(NULL);
+        break;
+      case BINARY:
+        writeJsonBinary(token.getValueBuffer());
+        break;
+      default:
+        throw new MsgpackException(
+            String.format("Unexpected MessagePack type '%s'", token.getType()));
+    }
+  }
+
+  private void writeJsonObject(final int size) {
+    writeByte('{');
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        writeByte(',');
+      }
+      writeJsonKey();
+      writeByte(':');
+      writeJsonValue();
+    }
+    writeByte('}');
+  }
+
+  private void writeJsonKey() {
+    final MsgPackToken token = reader.readToken();
+
+    switch (token.getType()) {
+      case STRING:
+        writeJsonString(token.getValueBuffer());
+        break;
+      case INTEGER:
+        writeByte('"');
+        jsonLength += buffer.putLongAscii(jsonLength, token.getIntegerValue());
+        writeByte('"');
+        break;
+      default:
+        throw new MsgpackException(
+            String.format(
+                "Expected a string or integer as object key, but was '%s'", token.getType()));
+    }
+  }
+
+  private void writeJsonArray(final int size) {
+    writeByte('[');
+    for (int i = 0; i < size; i++) {
+      if (i > 0) {
+        writeByte(',');
+      }
+      writeJsonValue();
+    }
+    writeByte(']');
+  }
+
+  private void writeJsonString(final DirectBuffer utf8) {
+    writeByte('"');
+
+    final int length = utf8.capacity();
+    for (int i = 0; i < length; i++) {
+      final byte b = utf8.getByte(i);
+
+      if (b == '"' || b == '\\') {
+        writeByte('\\');
+        writeByte(b);
+      } else if (b >= 0 && b < 0x20) {
+        writeControlCharacter(b);
+      } else {
+        // multi-byte UTF-8 sequences are copied as they are
+        writeByte(b);
+      }
+    }
+
+    writeByte('"');
+  }
+
+  private void writeControlCharacter(final byte b) {
+    writeByte('\\');
+    switch (b) {
+      case '\b':
+        writeByte('b');
+        break;
+      case '\t':
+        writeByte('t');
+        break;
+      case '\n':
+        writeByte('n');
+        break;
+      case '\f':
+        writeByte('f');
+        break;
+      case '\r':
+        writeByte('r');
+        break;
+      default:
+        writeByte('u');
+        writeByte('0');
+        writeByte('0');
+        writeByte(HEX_DIGITS[b >> 4]);
+        writeByte(HEX_DIGITS[b & 0xf]);
+        break;
+    }
+  }
+
+  private void writeJsonFloat(final double value, final boolean isFloat32) {
+    // print floats like Jackson does, with the precision of the encoded value
+    final String json = isFloat32 ? Float.toString((float) value) : Double.toString(value);
+    jsonLength += buffer.putStringWithoutLengthAscii(jsonLength, json);
+  }
+
+  private void writeJsonBinary(final DirectBuffer binary) {
+    final byte[] bytes = new byte[binary.capacity()];
+    binary.getBytes(0, bytes);
+
+    writeByte('"');
+    writeBytes(Base64.getEncoder().encode(bytes));
+    writeByte('"');
+  }
+
+  private void writeBytes(final byte[] bytes) {
+    buffer.putBytes(jsonLength, bytes);
+    jsonLength += bytes.length;
+  }
+
+  private void writeByte(final int b) {
+    buffer.putByte(jsonLength, (byte) b);
+    jsonLength += 1;
+  }
+
+  private byte[] copyAndRelease(final int length) {
+    final byte[] bytes = new byte[length];
+    buffer.getBytes(0, bytes);
+    releaseBuffer();
+    return bytes;
+  }
+
+  private void releaseBuffer() {
+    if (buffer.capacity() > MAX_RETAINED_BUFFER_CAPACITY) {
+      buffer = new ExpandableArrayBuffer();
+    }
+  }
+}
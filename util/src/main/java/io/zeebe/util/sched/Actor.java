@@ -15,6 +15,9 @@ import java.util.function.Consumer;
 
 public abstract class Actor implements CloseableSilently, AsyncClosable {
 
+  /** Returned by {@link #getAffinity()} if the actor has no preferred thread. */
+  public static final int NO_AFFINITY = -1;
+
   private static final int MAX_CLOSE_TIMEOUT = 300;
   protected final ActorControl actor = new ActorControl(this);
 
@@ -22,6 +25,27 @@ public abstract class Actor implements CloseableSilently, AsyncClosable {
     return getClass().getName();
   }
 
+  /**
+   * If the scheduler runs with affinity enabled, actors returning the same non-negative affinity
+   * are preferably executed on the same thread, for example all actors of one partition. Other
+   * threads only steal them if the preferred thread is busy.
+   *
+   * @return the affinity of this actor, or {@link #NO_AFFINITY}
+   */
+  public int getAffinity() {
+    return NO_AFFINITY;
+  }
+
+  /**
+   * I/O bound actors of the same subsystem share a concurrency limit, if one is configured for it
+   * on the scheduler, such that a subsystem which blocks on I/O cannot occupy all I/O threads.
+   *
+   * @return the I/O subsystem of this actor, or null if it belongs to none
+   */
+  public String getIoSubsystem() {
+    return null;
+  }
+
   public boolean isActorClosed() {
     return actor.isClosed();
   }
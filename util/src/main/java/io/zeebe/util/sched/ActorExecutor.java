@@ -10,6 +10,8 @@ package io.zeebe.util.sched;
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
 import io.zeebe.util.sched.ActorTask.ActorLifecyclePhase;
 import io.zeebe.util.sched.future.ActorFuture;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -57,6 +59,12 @@ public final class ActorExecutor {
     return CompletableFuture.allOf(ioBoundThreads.closeAsync(), cpuBoundThreads.closeAsync());
   }
 
+  public List<ActorThreadStatus> getThreadStatuses() {
+    final List<ActorThreadStatus> statuses = new ArrayList<>(cpuBoundThreads.getThreadStatuses());
+    statuses.addAll(ioBoundThreads.getThreadStatuses());
+    return statuses;
+  }
+
   public ActorThreadGroup getCpuBoundThreads() {
     return cpuBoundThreads;
   }
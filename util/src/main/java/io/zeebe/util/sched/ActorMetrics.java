@@ -0,0 +1,122 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Histogram;
+
+/**
+ * Metrics of the actor scheduler. To keep the overhead on the hot path low, the labelled children
+ * are resolved once per actor and thread, and are kept on the {@link ActorTask} and {@link
+ * ActorThread}.
+ */
+final class ActorMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final double NANOS_PER_SECOND = 1_000_000_000d;
+
+  private static final Histogram EXECUTION_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("actor_task_execution_latency")
+          .help("Time an actor occupies a thread each time it is executed, in seconds")
+          .labelNames("actorName")
+          .exponentialBuckets(0.000001, 4, 12)
+          .register();
+
+  private static final Histogram QUEUE_WAIT_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("actor_task_queue_wait_latency")
+          .help("Time an actor waits in the queue of a thread until it is executed, in seconds")
+          .labelNames("actorName")
+          .exponentialBuckets(0.000001, 4, 12)
+          .register();
+
+  private static final Counter EXECUTED_JOBS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("actor_jobs_executed_total")
+          .help("Number of jobs executed by an actor")
+          .labelNames("actorName")
+          .register();
+
+  private static final Counter THREAD_BUSY_TIME =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("actor_thread_busy_time_seconds_total")
+          .help("Time an actor thread spent executing actors, in seconds")
+          .labelNames("thread")
+          .register();
+
+  private static final Counter THREAD_STOLEN_TASKS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("actor_thread_stolen_tasks_total")
+          .help("Number of actors an actor thread stole from the queues of other threads")
+          .labelNames("thread")
+          .register();
+
+  private ActorMetrics() {}
+
+  static TaskMetrics forTask(final String actorName) {
+    return new TaskMetrics(
+        EXECUTION_LATENCY.labels(actorName),
+        QUEUE_WAIT_LATENCY.labels(actorName),
+        EXECUTED_JOBS.labels(actorName));
+  }
+
+  static ThreadMetrics forThread(final String threadName) {
+    return new ThreadMetrics(
+        THREAD_BUSY_TIME.labels(threadName), THREAD_STOLEN_TASKS.labels(threadName));
+  }
+
+  static final class TaskMetrics {
+    private final Histogram.Child executionLatency;
+    private final Histogram.Child queueWaitLatency;
+    private final Counter.Child executedJobs;
+
+    private TaskMetrics(
+        final Histogram.Child executionLatency,
+        final Histogram.Child queueWaitLatency,
+        final Counter.Child executedJobs) {
+      this.executionLatency = executionLatency;
+      this.queueWaitLatency = queueWaitLatency;
+      this.executedJobs = executedJobs;
+    }
+
+    void observeQueueWait(final long waitNanos) {
+      queueWaitLatency.observe(waitNanos / NANOS_PER_SECOND);
+    }
+
+    void observeExecution(final long executionNanos, final int jobCount) {
+      executionLatency.observe(executionNanos / NANOS_PER_SECOND);
+      if (jobCount > 0) {
+        executedJobs.inc(jobCount);
+      }
+    }
+  }
+
+  static final class ThreadMetrics {
+    private final Counter.Child busyTime;
+    private final Counter.Child stolenTasks;
+
+    private ThreadMetrics(final Counter.Child busyTime, final Counter.Child stolenTasks) {
+      this.busyTime = busyTime;
+      this.stolenTasks = stolenTasks;
+    }
+
+    void observeBusyTime(final long busyNanos) {
+      busyTime.inc(busyNanos / NANOS_PER_SECOND);
+    }
+
+    void countStolenTask() {
+      stolenTasks.inc();
+    }
+  }
+}
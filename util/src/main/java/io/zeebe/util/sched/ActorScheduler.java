@@ -10,6 +10,10 @@ package io.zeebe.util.sched;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.future.ActorFuture;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -61,6 +65,16 @@ public final class ActorScheduler {
     return startingFuture;
   }
 
+  /**
+   * Returns what each thread of this scheduler is currently doing, e.g. to find actors which block
+   * their thread.
+   *
+   * @return the status of all actor threads
+   */
+  public List<ActorThreadStatus> getThreadStatuses() {
+    return actorTaskExecutor.getThreadStatuses();
+  }
+
   public void start() {
     if (state.compareAndSet(SchedulerState.NEW, SchedulerState.RUNNING)) {
       actorTaskExecutor.start();
@@ -89,6 +103,8 @@ public final class ActorScheduler {
     private int cpuBoundThreadsCount = Math.max(1, Runtime.getRuntime().availableProcessors() - 2);
     private ActorThreadGroup cpuBoundActorGroup;
     private int ioBoundThreadsCount = 2;
+    private int ioBoundMaxThreadsCount = 0;
+    private final Map<String, Integer> ioSubsystemConcurrency = new HashMap<>();
     private ActorThreadGroup ioBoundActorGroup;
 
     private ActorThreadFactory actorThreadFactory;
@@ -96,6 +112,10 @@ public final class ActorScheduler {
 
     private ActorTimerQueue actorTimerQueue;
 
+    private boolean metricsEnabled = false;
+    private boolean actorNameLoggingEnabled = true;
+    private boolean affinityEnabled = false;
+
     public String getSchedulerName() {
       return schedulerName;
     }
@@ -141,6 +161,82 @@ public final class ActorScheduler {
       return this;
     }
 
+    public int getIoBoundActorMaxThreadCount() {
+      return Math.max(ioBoundThreadsCount, ioBoundMaxThreadsCount);
+    }
+
+    /**
+     * Allows the I/O bound thread group to grow up to the given number of threads. An additional
+     * thread is started when an actor is submitted while all running I/O threads are busy, for
+     * example because they block on I/O. Once started, a thread keeps running until the scheduler
+     * is stopped.
+     */
+    public ActorSchedulerBuilder setIoBoundActorMaxThreadCount(final int ioBoundMaxThreadsCount) {
+      this.ioBoundMaxThreadsCount = ioBoundMaxThreadsCount;
+      return this;
+    }
+
+    public Map<String, Integer> getIoSubsystemConcurrency() {
+      return Collections.unmodifiableMap(ioSubsystemConcurrency);
+    }
+
+    /**
+     * Limits how many actors of the given {@link Actor#getIoSubsystem() I/O subsystem} can run
+     * concurrently on the I/O bound threads.
+     */
+    public ActorSchedulerBuilder setIoSubsystemConcurrency(
+        final String ioSubsystem, final int maxConcurrency) {
+      if (maxConcurrency < 1) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Expected concurrency of I/O subsystem '%s' to be at least 1, but was %d",
+                ioSubsystem, maxConcurrency));
+      }
+
+      ioSubsystemConcurrency.put(ioSubsystem, maxConcurrency);
+      return this;
+    }
+
+    public boolean isMetricsEnabled() {
+      return metricsEnabled;
+    }
+
+    /**
+     * Enables the collection of per actor execution times, job counts and queue wait times, as well
+     * as per thread busy times and work stealing counts.
+     */
+    public ActorSchedulerBuilder setMetricsEnabled(final boolean metricsEnabled) {
+      this.metricsEnabled = metricsEnabled;
+      return this;
+    }
+
+    public boolean isActorNameLoggingEnabled() {
+      return actorNameLoggingEnabled;
+    }
+
+    /**
+     * Enables putting the name of the executed actor into the log context as {@code actor-name}.
+     * This allocates on every execution of an actor, so it can be disabled on hot systems.
+     */
+    public ActorSchedulerBuilder setActorNameLoggingEnabled(final boolean actorNameLoggingEnabled) {
+      this.actorNameLoggingEnabled = actorNameLoggingEnabled;
+      return this;
+    }
+
+    public boolean isAffinityEnabled() {
+      return affinityEnabled;
+    }
+
+    /**
+     * Enables affinity aware scheduling: actors with the same {@link Actor#getAffinity() affinity}
+     * are always submitted to the same thread, and other threads only steal them from that thread
+     * while it is busy executing another actor.
+     */
+    public ActorSchedulerBuilder setAffinityEnabled(final boolean affinityEnabled) {
+      this.affinityEnabled = affinityEnabled;
+      return this;
+    }
+
     public double[] getPriorityQuotas() {
       return Arrays.copyOf(priorityQuotas, priorityQuotas.length);
     }
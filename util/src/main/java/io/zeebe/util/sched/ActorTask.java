@@ -38,6 +38,10 @@ public class ActorTask {
   boolean shouldYield;
   final AtomicReference<TaskSchedulingState> schedulingState = new AtomicReference<>();
   final AtomicLong stateCount = new AtomicLong(0);
+  /** only set if the scheduler collects metrics, see {@link ActorThread} */
+  ActorMetrics.TaskMetrics metrics;
+  long queuedAtNanos;
+  int executedJobs;
   private final CompletableActorFuture<Void> jobClosingTaskFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> startingFuture = new CompletableActorFuture<>();
   private final CompletableActorFuture<Void> jobStartingTaskFuture = new CompletableActorFuture<>();
@@ -50,6 +54,8 @@ public class ActorTask {
    * the priority class of the task. Only set if the task is scheduled as non-blocking, CPU-bound
    */
   private int priority = ActorPriority.REGULAR.getPriorityClass();
+  private int affinity = Actor.NO_AFFINITY;
+  private String ioSubsystem;
   /**
    * jobs that are submitted to this task externally. A job is submitted "internally" if it is
    * submitted from a job within the same actor while the task is in RUNNING state.
@@ -65,6 +71,8 @@ public class ActorTask {
       final ActorExecutor actorExecutor, final ActorThreadGroup actorThreadGroup) {
     this.actorExecutor = actorExecutor;
     this.actorThreadGroup = actorThreadGroup;
+    affinity = actor.getAffinity();
+    ioSubsystem = actor.getIoSubsystem();
     // reset previous state to allow re-scheduling
     closeFuture.close();
     closeFuture.setAwaitingResult();
@@ -120,6 +128,7 @@ public class ActorTask {
     boolean resubmit = false;
     while (!resubmit && (currentJob != null || poll())) {
       currentJob.execute(runner);
+      executedJobs++;
 
       switch (currentJob.schedulingState) {
         case TERMINATED:
@@ -484,6 +493,14 @@ public class ActorTask {
     this.priority = priority;
   }
 
+  public int getAffinity() {
+    return affinity;
+  }
+
+  public String getIoSubsystem() {
+    return ioSubsystem;
+  }
+
   public ActorExecutor getActorExecutor() {
     return actorExecutor;
   }
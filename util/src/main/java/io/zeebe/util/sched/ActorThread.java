@@ -25,6 +25,7 @@ package io.zeebe.util.sched;
 import io.zeebe.util.BoundedArrayQueue;
 import io.zeebe.util.sched.clock.ActorClock;
 import io.zeebe.util.sched.clock.DefaultActorClock;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.LockSupport;
@@ -60,6 +61,11 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   private final BoundedArrayQueue<ActorJob> jobs = new BoundedArrayQueue<>(2048);
   private final ActorThreadGroup actorThreadGroup;
   private volatile ActorThreadState state;
+  private boolean actorNameLoggingEnabled = true;
+  private ActorMetrics.ThreadMetrics metrics;
+  // only used to introspect the thread, written before the task is executed
+  private volatile ActorTask runningTask;
+  private volatile long runningSinceNanos;
 
   public ActorThread(
       final String name,
@@ -98,9 +104,18 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
   }
 
   private void executeCurrentTask() {
-    MDC.put("actor-name", currentTask.getName());
+    if (actorNameLoggingEnabled) {
+      MDC.put("actor-name", currentTask.getName());
+    }
     idleStrategy.onTaskExecuted();
 
+    final long startNanos = System.nanoTime();
+    runningSinceNanos = startNanos;
+    runningTask = currentTask;
+    if (metrics != null) {
+      observeQueueWait(startNanos);
+    }
+
     boolean resubmit = false;
 
     try {
@@ -113,7 +128,13 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
       // TODO: resubmit on exception?
       //                resubmit = true;
     } finally {
-      MDC.remove("actor-name");
+      runningTask = null;
+      if (metrics != null) {
+        observeExecution(System.nanoTime() - startNanos);
+      }
+      if (actorNameLoggingEnabled) {
+        MDC.remove("actor-name");
+      }
 
       clock.update();
     }
@@ -123,6 +144,56 @@ public class ActorThread extends Thread implements Consumer<Runnable> {
     }
   }
 
+  private void observeQueueWait(final long startNanos) {
+    if (currentTask.metrics == null) {
+      // the queue wait time is only known once the task was executed with metrics before
+      currentTask.metrics = ActorMetrics.forTask(currentTask.getName());
+    } else {
+      currentTask.metrics.observeQueueWait(startNanos - currentTask.queuedAtNanos);
+    }
+    currentTask.executedJobs = 0;
+  }
+
+  private void observeExecution(final long executionNanos) {
+    currentTask.metrics.observeExecution(executionNanos, currentTask.executedJobs);
+    metrics.observeBusyTime(executionNanos);
+  }
+
+  /**
+   * Enables or disables the instrumentation of this thread. Must be called before the thread is
+   * started.
+   *
+   * @param metricsEnabled whether the metrics of the executed actors and this thread are collected
+   * @param actorNameLoggingEnabled whether the name of the executed actor is put into the log
+   *     context, which costs an allocation on every execution
+   */
+  void setInstrumentation(final boolean metricsEnabled, final boolean actorNameLoggingEnabled) {
+    metrics = metricsEnabled ? ActorMetrics.forThread(getName()) : null;
+    this.actorNameLoggingEnabled = actorNameLoggingEnabled;
+  }
+
+  void onTaskStolen() {
+    if (metrics != null) {
+      metrics.countStolenTask();
+    }
+  }
+
+  /** @return true if this thread is currently executing an actor */
+  boolean isBusy() {
+    return runningTask != null;
+  }
+
+  public ActorThreadStatus getStatus() {
+    final ActorTask task = runningTask;
+    final long since = runningSinceNanos;
+    if (task == null) {
+      return new ActorThreadStatus(getName(), null, Duration.ZERO);
+    }
+
+    return new ActorThreadStatus(
+        getName(), task.getName(), Duration.ofNanos(Math.max(0, System.nanoTime() - since)));
+  }
+
   public void hintWorkAvailable() {
     idleStrategy.hintWorkAvailable();
   }
@@ -9,6 +9,8 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.Loggers;
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -21,6 +23,11 @@ public abstract class ActorThreadGroup {
   protected final ActorThread[] threads;
   protected final MultiLevelWorkstealingGroup tasks;
   protected final int numOfThreads;
+  private final boolean affinityEnabled;
+  // only the threads with an id lower than this are used, the others can be started on demand
+  private volatile int numOfActiveThreads;
+  private boolean started;
+  private boolean closed;
 
   public ActorThreadGroup(
       final String groupName,
@@ -29,6 +36,8 @@ public abstract class ActorThreadGroup {
       final ActorSchedulerBuilder builder) {
     this.groupName = groupName;
     this.numOfThreads = numOfThreads;
+    numOfActiveThreads = numOfThreads;
+    affinityEnabled = builder.isAffinityEnabled();
 
     tasks = new MultiLevelWorkstealingGroup(numOfThreads, numOfQueuesPerThread);
 
@@ -48,9 +57,16 @@ public abstract class ActorThreadGroup {
                   taskScheduler,
                   builder.getActorClock(),
                   builder.getActorTimerQueue());
+      thread.setInstrumentation(
+          builder.isMetricsEnabled(), builder.isActorNameLoggingEnabled());
 
       threads[t] = thread;
     }
+
+    if (affinityEnabled) {
+      // only steal work from a thread which is busy, otherwise it will run its own actors soon
+      tasks.setStealCondition(runnerId -> threads[runnerId].isBusy());
+    }
   }
 
   protected abstract TaskScheduler createTaskScheduler(
@@ -60,10 +76,21 @@ public abstract class ActorThreadGroup {
     final int level = getLevel(actorTask);
 
     final ActorThread current = ActorThread.current();
-    if (current != null && current.getActorThreadGroup() == this) {
+    if (affinityEnabled && actorTask.getAffinity() >= 0) {
+      // always submit to the home thread, such that the actor keeps its caches warm. The home
+      // thread is based on all threads of the group, such that activating a thread doesn't move
+      // actors whose home thread is already active. Until its home thread is activated, the actor
+      // runs on one of the active threads.
+      final int homeThreadId = actorTask.getAffinity() % numOfThreads;
+      final int threadId = homeThreadId % numOfActiveThreads;
+      tasks.submit(actorTask, level, threadId);
+      if (current != threads[threadId]) {
+        threads[threadId].hintWorkAvailable();
+      }
+    } else if (current != null && current.getActorThreadGroup() == this) {
       tasks.submit(actorTask, level, current.getRunnerId());
     } else {
-      final int threadId = ThreadLocalRandom.current().nextInt(numOfThreads);
+      final int threadId = ThreadLocalRandom.current().nextInt(numOfActiveThreads);
       tasks.submit(actorTask, level, threadId);
       threads[threadId].hintWorkAvailable();
     }
@@ -79,18 +106,62 @@ public abstract class ActorThreadGroup {
     return numOfThreads;
   }
 
-  public void start() {
-    for (final ActorThread actorThread : threads) {
-      actorThread.start();
+  public int getNumOfActiveThreads() {
+    return numOfActiveThreads;
+  }
+
+  /**
+   * Limits the threads which are used initially. The other threads are only used once they are
+   * activated by {@link #activateThread()}. Must be called before the group is started.
+   */
+  protected void setNumOfActiveThreads(final int numOfActiveThreads) {
+    this.numOfActiveThreads = Math.max(1, Math.min(numOfThreads, numOfActiveThreads));
+  }
+
+  /**
+   * Activates the next inactive thread, and starts it if the group is already started.
+   *
+   * @return true if a thread was activated, false if all threads are active already
+   */
+  protected synchronized boolean activateThread() {
+    final int threadId = numOfActiveThreads;
+    if (closed || threadId == numOfThreads) {
+      return false;
+    }
+
+    if (started) {
+      threads[threadId].start();
+    }
+    numOfActiveThreads = threadId + 1;
+    Loggers.ACTOR_LOGGER.debug(
+        "Activated thread {} of actor thread group '{}'", threadId, groupName);
+    return true;
+  }
+
+  public List<ActorThreadStatus> getThreadStatuses() {
+    final int activeThreads = numOfActiveThreads;
+    final List<ActorThreadStatus> statuses = new ArrayList<>(activeThreads);
+    for (int t = 0; t < activeThreads; t++) {
+      statuses.add(threads[t].getStatus());
+    }
+    return statuses;
+  }
+
+  public synchronized void start() {
+    started = true;
+    for (int t = 0; t < numOfActiveThreads; t++) {
+      threads[t].start();
     }
   }
 
-  public CompletableFuture<Void> closeAsync() {
+  public synchronized CompletableFuture<Void> closeAsync() {
     Loggers.ACTOR_LOGGER.debug("Closing actor thread ground '{}'", groupName);
+    closed = true;
 
-    final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[numOfThreads];
+    final int activeThreads = numOfActiveThreads;
+    final CompletableFuture<Void>[] terminationFutures = new CompletableFuture[activeThreads];
 
-    for (int i = 0; i < numOfThreads; i++) {
+    for (int i = 0; i < activeThreads; i++) {
       final ActorThread thread = threads[i];
       try {
         terminationFutures[i] = thread.close();
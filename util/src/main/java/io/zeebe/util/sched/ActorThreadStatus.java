@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of what an {@link ActorThread} is doing. Since the snapshot is taken without
+ * synchronizing with the thread, it might already be outdated when it is read.
+ */
+public final class ActorThreadStatus {
+
+  /**
+   * Actors must never block their thread. An actor which is executed for longer than this is
+   * considered to be blocked, since it most likely waits on I/O or is stuck in a loop.
+   */
+  public static final Duration BLOCKED_THRESHOLD = Duration.ofSeconds(1);
+
+  private final String threadName;
+  private final String actorName;
+  private final Duration runningFor;
+
+  ActorThreadStatus(final String threadName, final String actorName, final Duration runningFor) {
+    this.threadName = threadName;
+    this.actorName = actorName;
+    this.runningFor = runningFor;
+  }
+
+  public String getThreadName() {
+    return threadName;
+  }
+
+  /** @return the name of the actor which is currently executed, or null if the thread is idle */
+  public String getActorName() {
+    return actorName;
+  }
+
+  /** @return how long the current actor is executed already, or zero if the thread is idle */
+  public Duration getRunningFor() {
+    return runningFor;
+  }
+
+  public boolean isBlocked() {
+    return runningFor.compareTo(BLOCKED_THRESHOLD) > 0;
+  }
+
+  @Override
+  public String toString() {
+    return "ActorThreadStatus{"
+        + "threadName='"
+        + threadName
+        + '\''
+        + ", actorName='"
+        + actorName
+        + '\''
+        + ", runningFor="
+        + runningFor
+        + '}';
+  }
+}
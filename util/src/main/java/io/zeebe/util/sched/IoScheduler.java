@@ -8,22 +8,42 @@
 package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.clock.ActorClock;
+import java.util.Map;
 
 /**
- * TaskScheduler implementation of IoActors. Currently, this implementation does nothing special. In
- * the future, more sophisticated logic can be implemented such as limiting concurrency by Io Device
- * or similar schemes.
+ * TaskScheduler implementation of IoActors. Limits how many actors of the same I/O subsystem can
+ * run concurrently, such that a subsystem which blocks on I/O (e.g. exporters) does not occupy all
+ * threads and delays the actors of other subsystems (e.g. snapshots).
  */
 public final class IoScheduler implements TaskScheduler {
-
   private final MultiLevelWorkstealingGroup tasks;
+  private final IoSubsystemLimits limits;
 
   public IoScheduler(final MultiLevelWorkstealingGroup tasks) {
+    this(tasks, new IoSubsystemLimits(Map.of()));
+  }
+
+  IoScheduler(final MultiLevelWorkstealingGroup tasks, final IoSubsystemLimits limits) {
     this.tasks = tasks;
+    this.limits = limits;
   }
 
   @Override
   public ActorTask getNextTask(final ActorClock now) {
-    return tasks.getNextTask(0);
+    ActorTask nextTask = tasks.getNextTask(0);
+
+    while (nextTask != null && !limits.tryAcquire(nextTask)) {
+      // the subsystem of the task is at its limit, park it until one of the running actors of the
+      // subsystem is released and look for another one
+      limits.defer(nextTask);
+      nextTask = tasks.getNextTask(0);
+    }
+
+    return nextTask;
+  }
+
+  @Override
+  public void onTaskReleased(final ActorTask task) {
+    limits.release(task);
   }
 }
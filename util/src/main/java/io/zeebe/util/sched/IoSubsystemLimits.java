@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Counts the running actors per I/O subsystem, and allows to run another one only if the limit of
+ * its subsystem is not reached yet. Subsystems without a limit are not counted.
+ *
+ * <p>Tasks which can't run because their subsystem is at its limit wait in a queue of the subsystem
+ * and are resubmitted one by one when running actors of the subsystem are released. Resubmitting
+ * goes through the thread group of the task, such that it is queued on its home thread again.
+ */
+final class IoSubsystemLimits {
+
+  private final Map<String, Limit> limits = new HashMap<>();
+
+  IoSubsystemLimits(final Map<String, Integer> concurrency) {
+    concurrency.forEach((subsystem, limit) -> limits.put(subsystem, new Limit(limit)));
+  }
+
+  /**
+   * Attempts to acquire a slot for the given task, which must be released again with {@link
+   * #release(ActorTask)} after the task is executed.
+   *
+   * @return true if the task can be executed now
+   */
+  boolean tryAcquire(final ActorTask task) {
+    final Limit limit = getLimit(task);
+    return limit == null || limit.tryAcquire();
+  }
+
+  /**
+   * Parks the given task until a slot of its subsystem is released. Must only be called for a task
+   * for which {@link #tryAcquire(ActorTask)} failed.
+   */
+  void defer(final ActorTask task) {
+    getLimit(task).defer(task);
+  }
+
+  void release(final ActorTask task) {
+    final Limit limit = getLimit(task);
+    if (limit != null) {
+      limit.release();
+    }
+  }
+
+  private Limit getLimit(final ActorTask task) {
+    final String subsystem = task.getIoSubsystem();
+    return subsystem != null ? limits.get(subsystem) : null;
+  }
+
+  private static final class Limit {
+    private final AtomicInteger running = new AtomicInteger();
+    private final Queue<ActorTask> waitingTasks = new ConcurrentLinkedQueue<>();
+    private final int maxConcurrency;
+
+    private Limit(final int maxConcurrency) {
+      this.maxConcurrency = maxConcurrency;
+    }
+
+    private boolean tryAcquire() {
+      int current;
+      do {
+        current = running.get();
+        if (current >= maxConcurrency) {
+          return false;
+        }
+      } while (!running.compareAndSet(current, current + 1));
+
+      return true;
+    }
+
+    private void defer(final ActorTask task) {
+      waitingTasks.add(task);
+
+      // a slot may have been released after the task was rejected, which would not wake it up
+      if (running.get() < maxConcurrency) {
+        resubmitWaitingTask();
+      }
+    }
+
+    private void release() {
+      running.decrementAndGet();
+      resubmitWaitingTask();
+    }
+
+    private void resubmitWaitingTask() {
+      final ActorTask task = waitingTasks.poll();
+      if (task != null) {
+        task.resubmit();
+      }
+    }
+  }
+}
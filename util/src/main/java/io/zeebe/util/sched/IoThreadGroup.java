@@ -9,24 +9,55 @@ package io.zeebe.util.sched;
 
 import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
 
+/**
+ * Runs the I/O bound actors. The group starts with the configured number of I/O threads and grows
+ * up to the configured maximum, whenever an actor is submitted while all active threads are busy,
+ * e.g. because they block on I/O.
+ */
 public final class IoThreadGroup extends ActorThreadGroup {
 
+  // created on the first call of createTaskScheduler, which happens in the super constructor
+  private IoSubsystemLimits limits;
+
   public IoThreadGroup(final ActorSchedulerBuilder builder) {
     super(
         String.format("%s-%s", builder.getSchedulerName(), "zb-fs-workers"),
-        builder.getIoBoundActorThreadCount(),
+        builder.getIoBoundActorMaxThreadCount(),
         1,
         builder);
+    setNumOfActiveThreads(builder.getIoBoundActorThreadCount());
   }
 
   @Override
   protected TaskScheduler createTaskScheduler(
       final MultiLevelWorkstealingGroup tasks, final ActorSchedulerBuilder builder) {
-    return new IoScheduler(tasks);
+    if (limits == null) {
+      limits = new IoSubsystemLimits(builder.getIoSubsystemConcurrency());
+    }
+    return new IoScheduler(tasks, limits);
+  }
+
+  @Override
+  public void submit(final ActorTask actorTask) {
+    if (getNumOfActiveThreads() < numOfThreads && areActiveThreadsBusy()) {
+      activateThread();
+    }
+
+    super.submit(actorTask);
   }
 
   @Override
   protected int getLevel(final ActorTask actorTask) {
     return 0;
   }
+
+  private boolean areActiveThreadsBusy() {
+    final int activeThreads = getNumOfActiveThreads();
+    for (int t = 0; t < activeThreads; t++) {
+      if (!threads[t].isBusy()) {
+        return false;
+      }
+    }
+    return true;
+  }
 }
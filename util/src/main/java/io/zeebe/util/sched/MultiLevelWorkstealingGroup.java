@@ -7,6 +7,8 @@
  */
 package io.zeebe.util.sched;
 
+import java.util.function.IntPredicate;
+
 /**
  * Maintains multiple levels of queues for each thread. Levels can be used for priorities (each
  * thread maintains a queue for each priority) or other things like IO-devices.
@@ -28,4 +30,11 @@ public final class MultiLevelWorkstealingGroup {
   public void submit(final ActorTask task, final int level, final int threadId) {
     workStealingGroups[level].submit(task, threadId);
   }
+
+  /** See {@link WorkStealingGroup#setStealCondition(IntPredicate)}. */
+  void setStealCondition(final IntPredicate stealCondition) {
+    for (final WorkStealingGroup workStealingGroup : workStealingGroups) {
+      workStealingGroup.setStealCondition(stealCondition);
+    }
+  }
 }
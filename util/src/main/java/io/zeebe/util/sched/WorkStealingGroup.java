@@ -10,11 +10,13 @@ package io.zeebe.util.sched;
 import static io.zeebe.util.sched.ActorTask.TaskSchedulingState.QUEUED;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntPredicate;
 
 /** Workstealing group maintains a queue per thread. */
 public final class WorkStealingGroup {
   private final int numOfThreads;
   private final ActorTaskQueue[] taskQueues;
+  private IntPredicate stealCondition = runnerId -> true;
 
   public WorkStealingGroup(final int numOfThreads) {
     this.numOfThreads = numOfThreads;
@@ -32,9 +34,22 @@ public final class WorkStealingGroup {
    */
   public void submit(final ActorTask task, final int threadId) {
     task.schedulingState.set(QUEUED);
+    if (task.metrics != null) {
+      task.queuedAtNanos = System.nanoTime();
+    }
     taskQueues[threadId].append(task);
   }
 
+  /**
+   * Restricts from which runners tasks may be stolen. Must be set before the threads are started.
+   *
+   * @param stealCondition tested with the id of a potential victim, tasks are only stolen from it
+   *     if the condition is met
+   */
+  void setStealCondition(final IntPredicate stealCondition) {
+    this.stealCondition = stealCondition;
+  }
+
   /**
    * Attempts to acquire the next task to execute
    *
@@ -79,10 +94,11 @@ public final class WorkStealingGroup {
     for (int i = offset; i < offset + numOfThreads; i++) {
       final int runnerId = i % numOfThreads;
 
-      if (runnerId != currentThread.getRunnerId()) {
+      if (runnerId != currentThread.getRunnerId() && stealCondition.test(runnerId)) {
         final ActorTask stolenActor = taskQueues[runnerId].trySteal();
 
         if (stolenActor != null) {
+          currentThread.onTaskStolen();
           return stolenActor;
         }
       }
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static io.zeebe.util.sched.SchedulingHints.ioBound;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import io.zeebe.util.sched.future.ActorFuture;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public final class ActorAffinityTest {
+
+  private ActorScheduler scheduler;
+
+  @Before
+  public void setUp() {
+    scheduler =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(4)
+            .setIoBoundActorThreadCount(1)
+            .setAffinityEnabled(true)
+            .build();
+    scheduler.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    scheduler.stop().get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldRunActorOnHomeThread() throws Exception {
+    // given
+    final ThreadRecordingActor actor = new ThreadRecordingActor(6);
+    scheduler.submitActor(actor).get(5, TimeUnit.SECONDS);
+
+    // when
+    ActorFuture<Void> lastRun = null;
+    for (int i = 0; i < 100; i++) {
+      lastRun = actor.recordThread();
+    }
+    lastRun.get(5, TimeUnit.SECONDS);
+
+    // then
+    assertThat(actor.threadNames).hasSize(100).allMatch(name -> name.endsWith("zb-actors-2"));
+  }
+
+  @Test
+  public void shouldKeepHomeThreadWhenThreadIsActivated() throws Exception {
+    // given
+    final ActorSchedulerBuilder builder =
+        ActorScheduler.newActorScheduler()
+            .setCpuBoundActorThreadCount(1)
+            .setIoBoundActorThreadCount(2)
+            .setIoBoundActorMaxThreadCount(3)
+            .setAffinityEnabled(true);
+    final ActorScheduler ioScheduler = builder.build();
+    ioScheduler.start();
+
+    try {
+      final ThreadRecordingActor actor = new ThreadRecordingActor(4);
+      ioScheduler.submitActor(actor, ioBound()).get(5, TimeUnit.SECONDS);
+      actor.recordThread().get(5, TimeUnit.SECONDS);
+
+      // when
+      builder.getIoBoundActorThreads().activateThread();
+      actor.recordThread().get(5, TimeUnit.SECONDS);
+
+      // then
+      assertThat(actor.threadNames).hasSize(2).allMatch(name -> name.endsWith("zb-fs-workers-1"));
+    } finally {
+      ioScheduler.stop().get(5, TimeUnit.SECONDS);
+    }
+  }
+
+  private static final class ThreadRecordingActor extends Actor {
+    private final List<String> threadNames = new CopyOnWriteArrayList<>();
+    private final int affinity;
+
+    private ThreadRecordingActor(final int affinity) {
+      this.affinity = affinity;
+    }
+
+    @Override
+    public int getAffinity() {
+      return affinity;
+    }
+
+    ActorFuture<Void> recordThread() {
+      return actor.call(
+          () -> {
+            threadNames.add(Thread.currentThread().getName());
+          });
+    }
+  }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.testing.ActorSchedulerRule;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ActorThreadStatusTest {
+
+  @Rule public final ActorSchedulerRule schedulerRule = new ActorSchedulerRule(1, 1, null);
+
+  private final CountDownLatch running = new CountDownLatch(1);
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @After
+  public void tearDown() {
+    release.countDown();
+  }
+
+  @Test
+  public void shouldListRunningActor() throws InterruptedException {
+    // given
+    schedulerRule.submitActor(new BlockingActor());
+
+    // when
+    assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+    final List<ActorThreadStatus> statuses = schedulerRule.get().getThreadStatuses();
+
+    // then
+    assertThat(statuses)
+        .hasSize(2)
+        .anySatisfy(status -> assertThat(status.getActorName()).isEqualTo("blocking-actor"))
+        .anySatisfy(status -> assertThat(status.getActorName()).isNull());
+  }
+
+  @Test
+  public void shouldNotBeBlockedIfIdle() {
+    // when
+    final List<ActorThreadStatus> statuses = schedulerRule.get().getThreadStatuses();
+
+    // then
+    assertThat(statuses).noneMatch(ActorThreadStatus::isBlocked);
+  }
+
+  private final class BlockingActor extends Actor {
+
+    @Override
+    public String getName() {
+      return "blocking-actor";
+    }
+
+    @Override
+    protected void onActorStarted() {
+      actor.run(
+          () -> {
+            running.countDown();
+            try {
+              release.await();
+            } catch (final InterruptedException e) {
+              Thread.currentThread().interrupt();
+            }
+          });
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.util.sched.iobound;
+
+import static io.zeebe.util.sched.SchedulingHints.ioBound;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.zeebe.util.sched.Actor;
+import io.zeebe.util.sched.ActorScheduler;
+import io.zeebe.util.sched.ActorScheduler.ActorSchedulerBuilder;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.After;
+import org.junit.Test;
+
+public final class IoThreadGroupTest {
+
+  private static final String SUBSYSTEM = "test";
+
+  private final CountDownLatch release = new CountDownLatch(1);
+  private ActorSchedulerBuilder builder;
+  private ActorScheduler scheduler;
+
+  @After
+  public void tearDown() throws Exception {
+    release.countDown();
+    scheduler.stop().get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void shouldStartAdditionalThreadIfAllThreadsAreBusy() throws Exception {
+    // given
+    startScheduler(
+        ActorScheduler.newActorScheduler()
+            .setIoBoundActorThreadCount(1)
+            .setIoBoundActorMaxThreadCount(2));
+    final BlockingActor blockingActor = new BlockingActor(null);
+    scheduler.submitActor(blockingActor, ioBound());
+    assertThat(blockingActor.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final BlockingActor otherActor = new BlockingActor(null);
+    scheduler.submitActor(otherActor, ioBound());
+
+    // then
+    assertThat(otherActor.started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(builder.getIoBoundActorThreads().getNumOfActiveThreads()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotStartAdditionalThreadIfNotConfigured() throws Exception {
+    // given
+    startScheduler(ActorScheduler.newActorScheduler().setIoBoundActorThreadCount(1));
+    final BlockingActor blockingActor = new BlockingActor(null);
+    scheduler.submitActor(blockingActor, ioBound());
+    assertThat(blockingActor.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final BlockingActor otherActor = new BlockingActor(null);
+    scheduler.submitActor(otherActor, ioBound());
+
+    // then
+    assertThat(otherActor.started.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    assertThat(builder.getIoBoundActorThreads().getNumOfActiveThreads()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldLimitConcurrencyOfSubsystem() throws Exception {
+    // given
+    startScheduler(
+        ActorScheduler.newActorScheduler()
+            .setIoBoundActorThreadCount(2)
+            .setIoSubsystemConcurrency(SUBSYSTEM, 1));
+    final BlockingActor blockingActor = new BlockingActor(SUBSYSTEM);
+    scheduler.submitActor(blockingActor, ioBound());
+    assertThat(blockingActor.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+    // when
+    final BlockingActor sameSubsystemActor = new BlockingActor(SUBSYSTEM);
+    final BlockingActor otherActor = new BlockingActor(null);
+    scheduler.submitActor(sameSubsystemActor, ioBound());
+    scheduler.submitActor(otherActor, ioBound());
+
+    // then
+    assertThat(otherActor.started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(sameSubsystemActor.started.getCount()).isEqualTo(1);
+
+    release.countDown();
+    assertThat(sameSubsystemActor.started.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  private void startScheduler(final ActorSchedulerBuilder builder) {
+    this.builder = builder.setCpuBoundActorThreadCount(1);
+    scheduler = builder.build();
+    scheduler.start();
+  }
+
+  private final class BlockingActor extends Actor {
+    private final CountDownLatch started = new CountDownLatch(1);
+    private final String ioSubsystem;
+
+    private BlockingActor(final String ioSubsystem) {
+      this.ioSubsystem = ioSubsystem;
+    }
+
+    @Override
+    public String getIoSubsystem() {
+      return ioSubsystem;
+    }
+
+    @Override
+    protected void onActorStarting() {
+      started.countDown();
+      try {
+        release.await();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+}
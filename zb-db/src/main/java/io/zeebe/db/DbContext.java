@@ -102,4 +102,13 @@ public interface DbContext {
    * @return the transaction object
    */
   ZeebeDbTransaction getCurrentTransaction();
+
+  /**
+   * Enables or disables the write-ahead log for all following commits in this context. Changes
+   * committed without the write-ahead log are lost on a crash until the memtables are flushed, e.g.
+   * by taking a snapshot. Only disable it if the state can be rebuilt otherwise.
+   *
+   * @param enabled true to write commits to the write-ahead log, false to skip it
+   */
+  void setWriteAheadLogEnabled(boolean enabled);
 }
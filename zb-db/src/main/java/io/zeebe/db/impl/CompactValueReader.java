@@ -0,0 +1,105 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl;
+
+import static io.zeebe.db.impl.ZeebeDbConstants.ZB_DB_BYTE_ORDER;
+
+import org.agrona.DirectBuffer;
+
+/**
+ * Reads a value which is written by {@link CompactValueWriter}. The layout of a compact value is
+ *
+ * <pre>
+ * | version (1 byte) | fixed length fields | variable length fields (length + bytes) |
+ * </pre>
+ *
+ * <p>The fields have no names, so the order of the reads must be the same as the order of the
+ * writes for the given version.
+ *
+ * <p>A compact value can be distinguished from a msgpack encoded object by the first byte: the
+ * version is always positive, while a msgpack map header is negative (0x80 - 0x8f, 0xde, 0xdf).
+ * This allows values to migrate lazily, by reading both formats and writing the compact one.
+ */
+public final class CompactValueReader {
+
+  public static final int HEADER_LENGTH = Byte.BYTES;
+
+  private DirectBuffer buffer;
+  private int offset;
+  private int limit;
+  private byte version;
+
+  public static boolean isCompact(final DirectBuffer buffer, final int offset, final int length) {
+    return length >= HEADER_LENGTH && buffer.getByte(offset) > 0;
+  }
+
+  public CompactValueReader wrap(final DirectBuffer buffer, final int offset, final int length) {
+    this.buffer = buffer;
+    this.offset = offset + HEADER_LENGTH;
+    limit = offset + length;
+    version = buffer.getByte(offset);
+    return this;
+  }
+
+  public byte getVersion() {
+    return version;
+  }
+
+  public long readLong() {
+    ensureReadable(Long.BYTES);
+    final long value = buffer.getLong(offset, ZB_DB_BYTE_ORDER);
+    offset += Long.BYTES;
+    return value;
+  }
+
+  public int readInt() {
+    ensureReadable(Integer.BYTES);
+    final int value = buffer.getInt(offset, ZB_DB_BYTE_ORDER);
+    offset += Integer.BYTES;
+    return value;
+  }
+
+  public short readShort() {
+    ensureReadable(Short.BYTES);
+    final short value = buffer.getShort(offset, ZB_DB_BYTE_ORDER);
+    offset += Short.BYTES;
+    return value;
+  }
+
+  public byte readByte() {
+    ensureReadable(Byte.BYTES);
+    final byte value = buffer.getByte(offset);
+    offset += Byte.BYTES;
+    return value;
+  }
+
+  public boolean readBoolean() {
+    return readByte() != 0;
+  }
+
+  /**
+   * Wraps the given view around the next variable length field. The view is only valid as long as
+   * the underlying buffer is not modified.
+   */
+  public void readBuffer(final DirectBuffer view) {
+    final int length = readInt();
+    ensureReadable(length);
+    view.wrap(buffer, offset, length);
+    offset += length;
+  }
+
+  private void ensureReadable(final int length) {
+    if (offset + length > limit) {
+      throw new IllegalStateException(
+          String.format(
+              "Expected to read %d bytes at offset %d of compact value with version %d, but the"
+                  + " value ends at %d",
+              length, offset, version, limit));
+    }
+  }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl;
+
+import static io.zeebe.db.impl.ZeebeDbConstants.ZB_DB_BYTE_ORDER;
+
+import io.zeebe.util.buffer.BufferWriter;
+import org.agrona.DirectBuffer;
+import org.agrona.MutableDirectBuffer;
+
+/**
+ * Writes a value in the compact layout which is described in {@link CompactValueReader}. The
+ * length of a value is {@link CompactValueReader#HEADER_LENGTH} plus the length of the fixed
+ * fields plus {@link #bufferLength(int)} for each variable length field.
+ */
+public final class CompactValueWriter {
+
+  private MutableDirectBuffer buffer;
+  private int offset;
+
+  public static int bufferLength(final int length) {
+    return Integer.BYTES + length;
+  }
+
+  public CompactValueWriter wrap(
+      final MutableDirectBuffer buffer, final int offset, final byte version) {
+    if (version <= 0) {
+      throw new IllegalArgumentException(
+          String.format("Expected version to be positive, but was %d", version));
+    }
+
+    this.buffer = buffer;
+    buffer.putByte(offset, version);
+    this.offset = offset + CompactValueReader.HEADER_LENGTH;
+    return this;
+  }
+
+  public CompactValueWriter writeLong(final long value) {
+    buffer.putLong(offset, value, ZB_DB_BYTE_ORDER);
+    offset += Long.BYTES;
+    return this;
+  }
+
+  public CompactValueWriter writeInt(final int value) {
+    buffer.putInt(offset, value, ZB_DB_BYTE_ORDER);
+    offset += Integer.BYTES;
+    return this;
+  }
+
+  public CompactValueWriter writeShort(final short value) {
+    buffer.putShort(offset, value, ZB_DB_BYTE_ORDER);
+    offset += Short.BYTES;
+    return this;
+  }
+
+  public CompactValueWriter writeByte(final byte value) {
+    buffer.putByte(offset, value);
+    offset += Byte.BYTES;
+    return this;
+  }
+
+  public CompactValueWriter writeBoolean(final boolean value) {
+    return writeByte(value ? (byte) 1 : (byte) 0);
+  }
+
+  public CompactValueWriter writeBuffer(final DirectBuffer value) {
+    final int length = value.capacity();
+    writeInt(length);
+    buffer.putBytes(offset, value, 0, length);
+    offset += length;
+    return this;
+  }
+
+  /** Writes the value in place, its length must be {@link BufferWriter#getLength()}. */
+  public CompactValueWriter writeBuffer(final BufferWriter value) {
+    final int length = value.getLength();
+    writeInt(length);
+    value.write(buffer, offset);
+    offset += length;
+    return this;
+  }
+}
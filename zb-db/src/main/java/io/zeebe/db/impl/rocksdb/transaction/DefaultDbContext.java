@@ -157,6 +157,11 @@ public final class DefaultDbContext implements DbContext {
     return transaction;
   }
 
+  @Override
+  public void setWriteAheadLogEnabled(final boolean enabled) {
+    transaction.setWriteAheadLogEnabled(enabled);
+  }
+
   private void runInNewTransaction(final TransactionOperation operations) throws Exception {
     try {
       transaction.resetTransaction();
@@ -17,15 +17,23 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
 import org.rocksdb.Transaction;
+import org.rocksdb.WriteOptions;
 
 public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
 
   private final Transaction transaction;
+  private final WriteOptions defaultWriteOptions;
+  private final WriteOptions disabledWalWriteOptions;
   private final long nativeHandle;
   private boolean inCurrentTransaction;
 
-  public ZeebeTransaction(final Transaction transaction) {
+  public ZeebeTransaction(
+      final Transaction transaction,
+      final WriteOptions defaultWriteOptions,
+      final WriteOptions disabledWalWriteOptions) {
     this.transaction = transaction;
+    this.defaultWriteOptions = defaultWriteOptions;
+    this.disabledWalWriteOptions = disabledWalWriteOptions;
     try {
       nativeHandle = RocksDbInternal.nativeHandle.getLong(transaction);
     } catch (final Exception ex) {
@@ -65,6 +73,10 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     return transaction.getIterator(options, handle);
   }
 
+  void setWriteAheadLogEnabled(final boolean enabled) {
+    transaction.setWriteOptions(enabled ? defaultWriteOptions : disabledWalWriteOptions);
+  }
+
   void resetTransaction() {
     inCurrentTransaction = true;
   }
@@ -54,6 +54,7 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   private final ReadOptions prefixReadOptions;
   private final ReadOptions defaultReadOptions;
   private final WriteOptions defaultWriteOptions;
+  private final WriteOptions disabledWalWriteOptions;
 
   protected ZeebeTransactionDb(
       final OptimisticTransactionDB optimisticTransactionDB,
@@ -71,6 +72,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     closables.add(defaultReadOptions);
     defaultWriteOptions = new WriteOptions();
     closables.add(defaultWriteOptions);
+    disabledWalWriteOptions = new WriteOptions().setDisableWAL(true);
+    closables.add(disabledWalWriteOptions);
   }
 
   public static <ColumnFamilyNames extends Enum<ColumnFamilyNames>>
@@ -139,7 +142,8 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
   @Override
   public DbContext createContext() {
     final Transaction transaction = optimisticTransactionDB.beginTransaction(defaultWriteOptions);
-    final ZeebeTransaction zeebeTransaction = new ZeebeTransaction(transaction);
+    final ZeebeTransaction zeebeTransaction =
+        new ZeebeTransaction(transaction, defaultWriteOptions, disabledWalWriteOptions);
     closables.add(zeebeTransaction);
     return new DefaultDbContext(zeebeTransaction);
   }
@@ -0,0 +1,91 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.0. You may not use this file
+ * except in compliance with the Zeebe Community License 1.0.
+ */
+package io.zeebe.db.impl;
+
+import static io.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class CompactValueTest {
+
+  private final CompactValueWriter writer = new CompactValueWriter();
+  private final CompactValueReader reader = new CompactValueReader();
+
+  @Test
+  public void shouldReadWrittenFields() {
+    // given
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    writer
+        .wrap(buffer, 0, (byte) 3)
+        .writeLong(123L)
+        .writeInt(-4)
+        .writeShort((short) 5)
+        .writeByte((byte) 6)
+        .writeBoolean(true)
+        .writeBuffer(wrapString("foo"));
+    final int length =
+        CompactValueReader.HEADER_LENGTH
+            + Long.BYTES
+            + Integer.BYTES
+            + Short.BYTES
+            + Byte.BYTES * 2
+            + CompactValueWriter.bufferLength(3);
+
+    // when
+    reader.wrap(buffer, 0, length);
+
+    // then
+    final DirectBuffer view = new UnsafeBuffer(0, 0);
+    assertThat(reader.getVersion()).isEqualTo((byte) 3);
+    assertThat(reader.readLong()).isEqualTo(123L);
+    assertThat(reader.readInt()).isEqualTo(-4);
+    assertThat(reader.readShort()).isEqualTo((short) 5);
+    assertThat(reader.readByte()).isEqualTo((byte) 6);
+    assertThat(reader.readBoolean()).isTrue();
+    reader.readBuffer(view);
+    assertThat(view).isEqualTo(wrapString("foo"));
+  }
+
+  @Test
+  public void shouldDistinguishCompactValueFromMsgPackMap() {
+    // given
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    writer.wrap(buffer, 0, (byte) 1).writeLong(1L);
+
+    final UnsafeBuffer fixMap = new UnsafeBuffer(new byte[] {(byte) 0x81});
+    final UnsafeBuffer map16 = new UnsafeBuffer(new byte[] {(byte) 0xde});
+
+    // then
+    assertThat(CompactValueReader.isCompact(buffer, 0, 9)).isTrue();
+    assertThat(CompactValueReader.isCompact(fixMap, 0, 1)).isFalse();
+    assertThat(CompactValueReader.isCompact(map16, 0, 1)).isFalse();
+    assertThat(CompactValueReader.isCompact(buffer, 0, 0)).isFalse();
+  }
+
+  @Test
+  public void shouldNotReadBeyondValue() {
+    // given
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    writer.wrap(buffer, 0, (byte) 1).writeInt(1);
+    reader.wrap(buffer, 0, CompactValueReader.HEADER_LENGTH + Integer.BYTES);
+
+    // then
+    assertThatThrownBy(reader::readLong).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void shouldRejectNonPositiveVersion() {
+    assertThatThrownBy(() -> writer.wrap(new ExpandableArrayBuffer(), 0, (byte) 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
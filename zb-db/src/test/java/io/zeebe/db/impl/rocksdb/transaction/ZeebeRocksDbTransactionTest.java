@@ -7,15 +7,18 @@
  */
 package io.zeebe.db.impl.rocksdb.transaction;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 
+import io.zeebe.db.ColumnFamily;
 import io.zeebe.db.DbContext;
 import io.zeebe.db.ZeebeDb;
 import io.zeebe.db.ZeebeDbException;
 import io.zeebe.db.ZeebeDbFactory;
 import io.zeebe.db.ZeebeDbTransaction;
+import io.zeebe.db.impl.DbLong;
 import io.zeebe.db.impl.DefaultColumnFamily;
 import io.zeebe.db.impl.DefaultZeebeDbFactory;
 import io.zeebe.util.exception.RecoverableException;
@@ -34,12 +37,13 @@ public final class ZeebeRocksDbTransactionTest {
   @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
   private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
       DefaultZeebeDbFactory.getDefaultFactory(DefaultColumnFamily.class);
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
   private DbContext dbContext;
 
   @Before
   public void setup() throws Exception {
     final File pathName = temporaryFolder.newFolder();
-    final ZeebeDb<DefaultColumnFamily> zeebeDb = dbFactory.createDb(pathName);
+    zeebeDb = dbFactory.createDb(pathName);
     dbContext = zeebeDb.createContext();
   }
 
@@ -213,4 +217,23 @@ public final class ZeebeRocksDbTransactionTest {
     // when
     currentTransaction.rollback();
   }
+
+  @Test
+  public void shouldCommitWithoutWriteAheadLog() {
+    // given
+    final DbLong key = new DbLong();
+    final DbLong value = new DbLong();
+    final ColumnFamily<DbLong, DbLong> columnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, dbContext, key, value);
+    dbContext.setWriteAheadLogEnabled(false);
+
+    // when
+    key.wrapLong(1);
+    value.wrapLong(2);
+    columnFamily.put(key, value);
+    dbContext.setWriteAheadLogEnabled(true);
+
+    // then
+    assertThat(columnFamily.get(key).getValue()).isEqualTo(2);
+  }
 }